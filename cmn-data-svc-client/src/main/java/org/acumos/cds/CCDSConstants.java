@@ -26,6 +26,9 @@
 public class CCDSConstants {
 
 	public static final String JUNCTION_QUERY_PARAM = "_j";
+	public static final String CONTINUATION_QUERY_PARAM = "_c";
+	public static final String COUNT_MODE_QUERY_PARAM = "_cm";
+	public static final String FIELDS_QUERY_PARAM = "fields";
 
 	// Metadata
 	public static final String HEALTHCHECK_PATH = "healthcheck";
@@ -34,6 +37,7 @@ public class CCDSConstants {
 	// Path components
 	public static final String ACCESS_PATH = "access";
 	public static final String ARTIFACT_PATH = "artifact";
+	public static final String CACHE_PATH = "cache";
 	public static final String CATALOG_PATH = "catalog";
 	public static final String COMMENT_PATH = "comment";
 	public static final String COMPOSITE_PATH = "comp";
@@ -43,6 +47,7 @@ public class CCDSConstants {
 	public static final String DATE_PATH = "date";
 	public static final String DEPLOY_PATH = "deploy";
 	public static final String DESCRIPTION_PATH = "descr";
+	public static final String DETAIL_PATH = "detail";
 	public static final String DOCUMENT_PATH = "document";
 	public static final String DOWNLOAD_PATH = "dnld";
 	public static final String FAVORITE_PATH = "favorite";
@@ -55,6 +60,7 @@ public class CCDSConstants {
 	public static final String NOTIFICATION_PATH = "notif";
 	public static final String NOTIFICATION_PREF_PATH = "notifpref";
 	public static final String PEER_PATH = "peer";
+	public static final String PENDING_PATH = "pending";
 	public static final String PIPELINE_PATH = "ppl";
 	public static final String PICTURE_PATH = "pic";
 	public static final String PROJECT_PATH = "proj";
@@ -72,6 +78,7 @@ public class CCDSConstants {
 	public static final String TASK_PATH = "task";
 	public static final String THREAD_PATH = "thread";
 	public static final String USER_PATH = "user";
+	public static final String VALUE_PATH = "value";
 	public static final String VIEW_PATH = "view";
 	public static final String UNREAD_PATH = "unread";
 	public static final String WORKBENCH_PATH = "wkbn";
@@ -90,6 +97,13 @@ public class CCDSConstants {
 	public static final String LOGIN_API_PATH = "loginapi";
 	public static final String VERIFY_PATH = "verify";
 	public static final String CHPASS_PATH = "chgpw";
+	public static final String CHANGES_PATH = "changes";
+	public static final String CURSOR_PATH = "cursor";
+	public static final String FACET_PATH = "facets";
+	public static final String STATS_PATH = "stats";
+	public static final String SUGGEST_PATH = "suggest";
+	public static final String PURGE_PATH = "purge";
+	public static final String BATCH_PATH = "batch";
 
 	// Search interface parameters
 	public static final String SEARCH_ACCESS_TYPES = "atc";
@@ -107,4 +121,18 @@ public class CCDSConstants {
 	public static final String SEARCH_PUB = "pub";
 	public static final String SEARCH_USERS = "user";
 
+	// Change feed parameters
+	public static final String CHANGES_SINCE = "since";
+	public static final String CHANGES_LIMIT = "limit";
+
+	// Suggestion parameters
+	public static final String SUGGEST_TERM = "term";
+	public static final String SUGGEST_LIMIT = "limit";
+
+	// Batch parameters
+	public static final String BATCH_ID = "id";
+
+	// Solution detail parameters
+	public static final String DETAIL_INCLUDE = "include";
+
 }
@@ -0,0 +1,45 @@
+/*-
+ * ===============LICENSE_START=======================================================
+ * Acumos
+ * ===================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property & Tech Mahindra. All rights reserved.
+ * ===================================================================================
+ * This Acumos software file is distributed by AT&T and Tech Mahindra
+ * under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ===============LICENSE_END=========================================================
+ */
+
+package org.acumos.cds;
+
+/**
+ * Defines how the server computes the total count of elements in a page of
+ * search results.
+ */
+public enum CountMode {
+
+	/**
+	 * Run a count query; the total is exact. This is the default.
+	 */
+	EXACT,
+	/**
+	 * Look ahead a bounded number of rows past the requested page; the total is
+	 * exact if the end of the results falls within the look-ahead, otherwise it
+	 * is a lower bound.
+	 */
+	ESTIMATE,
+	/**
+	 * Fetch one row past the requested page to learn whether another page
+	 * follows; the total is not computed.
+	 */
+	NONE;
+
+}
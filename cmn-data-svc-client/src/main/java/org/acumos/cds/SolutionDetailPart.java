@@ -0,0 +1,54 @@
+/*-
+ * ===============LICENSE_START=======================================================
+ * Acumos
+ * ===================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property & Tech Mahindra. All rights reserved.
+ * ===================================================================================
+ * This Acumos software file is distributed by AT&T and Tech Mahindra
+ * under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ===============LICENSE_END=========================================================
+ */
+
+package org.acumos.cds;
+
+/**
+ * Names the parts of a solution detail that a client may request in addition
+ * to the solution itself, which always includes its tags.
+ */
+public enum SolutionDetailPart {
+
+	/**
+	 * Revisions of the solution.
+	 */
+	REVISIONS,
+	/**
+	 * Artifacts of each revision; implies revisions.
+	 */
+	ARTIFACTS,
+	/**
+	 * Descriptions of each revision for every access type; implies revisions.
+	 */
+	DESCRIPTIONS,
+	/**
+	 * Documents of each revision by access type; implies revisions.
+	 */
+	DOCUMENTS,
+	/**
+	 * One page of ratings.
+	 */
+	RATINGS,
+	/**
+	 * Whether the solution has a picture; the picture itself is not sent.
+	 */
+	PICTURE;
+
+}
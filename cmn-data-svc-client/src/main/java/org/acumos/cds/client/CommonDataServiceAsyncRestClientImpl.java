@@ -0,0 +1,596 @@
+/*-
+ * ===============LICENSE_START=======================================================
+ * Acumos
+ * ===================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property & Tech Mahindra. All rights reserved.
+ * ===================================================================================
+ * This Acumos software file is distributed by AT&T and Tech Mahindra
+ * under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ===============LICENSE_END=========================================================
+ */
+
+package org.acumos.cds.client;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.Charset;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.acumos.cds.CCDSConstants;
+import org.acumos.cds.domain.MLPArtifact;
+import org.acumos.cds.domain.MLPDocument;
+import org.acumos.cds.domain.MLPRevisionDescription;
+import org.acumos.cds.domain.MLPSolution;
+import org.acumos.cds.domain.MLPSolutionDownload;
+import org.acumos.cds.domain.MLPSolutionRating;
+import org.acumos.cds.domain.MLPSolutionRevision;
+import org.acumos.cds.domain.MLPTag;
+import org.acumos.cds.domain.MLPUser;
+import org.acumos.cds.logging.AcumosLogConstants;
+import org.acumos.cds.transport.CountTransport;
+import org.acumos.cds.transport.RestPageRequest;
+import org.acumos.cds.transport.RestPageResponse;
+import org.acumos.cds.transport.SuccessTransport;
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpResponse;
+import org.apache.http.auth.AuthScope;
+import org.apache.http.auth.UsernamePasswordCredentials;
+import org.apache.http.client.AuthCache;
+import org.apache.http.client.CredentialsProvider;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.impl.auth.BasicScheme;
+import org.apache.http.impl.client.BasicAuthCache;
+import org.apache.http.impl.client.BasicCredentialsProvider;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+import org.apache.http.impl.nio.client.HttpAsyncClients;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
+import org.apache.http.nio.reactor.IOReactorException;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.util.EntityUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.UnknownHttpStatusCodeException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * <P>
+ * Implements the asynchronous client with the Apache HttpAsyncClient, which
+ * runs all requests on a few I/O threads, so a request that awaits the server
+ * holds no thread. Bodies are parsed with a Jackson object mapper configured
+ * like the one in a default Spring RestTemplate, so they match the objects
+ * returned by {@link CommonDataServiceRestClientImpl}.
+ * </P>
+ * <P>
+ * Instances are thread safe and should be shared, and closed when no longer
+ * needed to release the connections and I/O threads. Clients should use one
+ * of the getInstance methods; e.g., {@link #getInstance(String, String, String)}.
+ * </P>
+ */
+public class CommonDataServiceAsyncRestClientImpl implements ICommonDataServiceAsyncRestClient, Closeable {
+
+	private static final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+	private static final String ACCEPT_BYTES = MediaType.APPLICATION_OCTET_STREAM_VALUE + ", " + MediaType.ALL_VALUE;
+
+	/**
+	 * Base URL of the server
+	 */
+	private final String baseUrl;
+	/**
+	 * Target of preemptive basic authentication
+	 */
+	private final HttpHost httpHost;
+	private final PoolingNHttpClientConnectionManager connectionManager;
+	private final CloseableHttpAsyncClient httpClient;
+	/**
+	 * Closes idle connections; null if disabled. HttpAsyncClient has no thread
+	 * of its own for this.
+	 */
+	private final ScheduledExecutorService evictor;
+	/**
+	 * Parses bodies; configured like the JSON converter of a default RestTemplate
+	 */
+	private final ObjectMapper mapper = Jackson2ObjectMapperBuilder.json().build();
+	/**
+	 * Request ID optionally set by client to send to server.
+	 */
+	private volatile String requestId;
+
+	/**
+	 * Creates an instance to access the remote endpoint using the specified
+	 * credentials and connection settings, and starts its I/O threads.
+	 * 
+	 * If user and pass are both supplied, uses basic HTTP authentication; if either
+	 * one is missing, no authentication is used.
+	 * 
+	 * Clients should use the static method
+	 * {@link #getInstance(String, String, String, String, HttpClientConfig)}
+	 * instead of this constructor.
+	 * 
+	 * @param webapiUrl
+	 *                      URL of the web endpoint with hostname and port
+	 * @param user
+	 *                      user name; ignored if null
+	 * @param pass
+	 *                      password; ignored if null
+	 * @param proxyUrl
+	 *                      URL of the proxy with hostname and port; ignored if null
+	 * @param config
+	 *                      Connection pool and timeout settings. Responses are
+	 *                      never compressed.
+	 */
+	public CommonDataServiceAsyncRestClientImpl(final String webapiUrl, final String user, final String pass,
+			final String proxyUrl, final HttpClientConfig config) {
+		if (webapiUrl == null || config == null)
+			throw new IllegalArgumentException("Null not permitted");
+		URL url = null;
+		try {
+			url = new URL(webapiUrl);
+			baseUrl = url.toExternalForm();
+		} catch (MalformedURLException ex) {
+			throw new IllegalArgumentException("Failed to parse URL: " + webapiUrl, ex);
+		}
+		httpHost = new HttpHost(url.getHost(), url.getPort());
+		HttpAsyncClientBuilder builder = HttpAsyncClients.custom();
+		if (user != null && pass != null) {
+			CredentialsProvider credsProvider = new BasicCredentialsProvider();
+			credsProvider.setCredentials(new AuthScope(httpHost), new UsernamePasswordCredentials(user, pass));
+			builder.setDefaultCredentialsProvider(credsProvider);
+		}
+		if (proxyUrl != null) {
+			try {
+				url = new URL(proxyUrl);
+			} catch (MalformedURLException ex) {
+				throw new IllegalArgumentException("Failed to parse URL: " + proxyUrl, ex);
+			}
+			builder.setProxy(new HttpHost(url.getHost(), url.getPort()));
+		}
+		try {
+			connectionManager = new PoolingNHttpClientConnectionManager(
+					new DefaultConnectingIOReactor(IOReactorConfig.custom() //
+							.setConnectTimeout(config.getConnectTimeoutMs()) //
+							.setSoTimeout(config.getSocketTimeoutMs()) //
+							.build()));
+		} catch (IOReactorException ex) {
+			throw new IllegalStateException("Failed to create I/O reactor", ex);
+		}
+		connectionManager.setMaxTotal(config.getMaxConnectionsTotal());
+		connectionManager.setDefaultMaxPerRoute(config.getMaxConnectionsPerRoute());
+		builder.setConnectionManager(connectionManager);
+		builder.setKeepAliveStrategy((response, context) -> {
+			long ms = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+			return ms > 0 ? ms : config.getKeepAliveMs();
+		});
+		builder.setDefaultRequestConfig(RequestConfig.custom() //
+				.setConnectTimeout(config.getConnectTimeoutMs()) //
+				.setConnectionRequestTimeout(config.getConnectionRequestTimeoutMs()) //
+				.setSocketTimeout(config.getSocketTimeoutMs()) //
+				.build());
+		httpClient = builder.build();
+		httpClient.start();
+		final long idleMs = config.getIdleEvictionMs();
+		if (idleMs > 0) {
+			evictor = Executors.newSingleThreadScheduledExecutor(r -> {
+				Thread t = new Thread(r, "CDS async client connection evictor");
+				t.setDaemon(true);
+				return t;
+			});
+			evictor.scheduleWithFixedDelay(() -> {
+				connectionManager.closeExpiredConnections();
+				connectionManager.closeIdleConnections(idleMs, TimeUnit.MILLISECONDS);
+			}, idleMs, idleMs, TimeUnit.MILLISECONDS);
+		} else {
+			evictor = null;
+		}
+		logger.debug("ctor: {}", config);
+	}
+
+	/**
+	 * Gets an instance to access a remote endpoint using the specified URL and
+	 * credentials, with the default connection settings. This factory method
+	 * should be used instead of a constructor.
+	 * 
+	 * @param webapiUrl
+	 *                      URL of the web endpoint with host and port
+	 * @param user
+	 *                      user name; ignored if null
+	 * @param pass
+	 *                      password; ignored if null
+	 * @return Instance that the caller should close when done
+	 */
+	public static CommonDataServiceAsyncRestClientImpl getInstance(String webapiUrl, String user, String pass) {
+		return new CommonDataServiceAsyncRestClientImpl(webapiUrl, user, pass, null, new HttpClientConfig());
+	}
+
+	/**
+	 * Gets an instance to access a remote endpoint using the specified URL,
+	 * credentials, proxy and connection settings. This factory method should be
+	 * used instead of a constructor.
+	 * 
+	 * @param webapiUrl
+	 *                      URL of the web endpoint with host and port
+	 * @param user
+	 *                      user name; ignored if null
+	 * @param pass
+	 *                      password; ignored if null
+	 * @param proxyUrl
+	 *                      URL of the proxy with hostname and port; ignored if null
+	 * @param config
+	 *                      Connection pool and timeout settings
+	 * @return Instance that the caller should close when done
+	 */
+	public static CommonDataServiceAsyncRestClientImpl getInstance(String webapiUrl, String user, String pass,
+			String proxyUrl, HttpClientConfig config) {
+		return new CommonDataServiceAsyncRestClientImpl(webapiUrl, user, pass, proxyUrl, config);
+	}
+
+	/**
+	 * Gets the number of connections in the pool that are in use, idle and
+	 * awaited by requests.
+	 * 
+	 * @return Pool statistics
+	 */
+	public PoolStats getConnectionPoolStats() {
+		return connectionManager.getTotalStats();
+	}
+
+	/**
+	 * Stops the I/O threads and closes the connections. Requests in flight fail.
+	 */
+	@Override
+	public void close() throws IOException {
+		if (evictor != null)
+			evictor.shutdownNow();
+		httpClient.close();
+	}
+
+	@Override
+	public void setRequestId(String requestId) {
+		this.requestId = requestId;
+	}
+
+	/**
+	 * Sends a GET request.
+	 * 
+	 * @param uri
+	 *                   URI to fetch
+	 * @param accept
+	 *                   Value of the Accept header
+	 * @return Future of the response body, which is empty if the server sent
+	 *         none; completes exceptionally on a non-success status or I/O
+	 *         failure
+	 */
+	protected CompletableFuture<byte[]> send(URI uri, String accept) {
+		HttpGet request = new HttpGet(uri);
+		request.setHeader(HttpHeaders.ACCEPT, accept);
+		String id = requestId;
+		if (id != null)
+			request.setHeader(AcumosLogConstants.Headers.REQUEST_ID, id);
+		// Send credentials with the first request instead of after a challenge
+		AuthCache authCache = new BasicAuthCache();
+		authCache.put(httpHost, new BasicScheme());
+		HttpClientContext context = HttpClientContext.create();
+		context.setAuthCache(authCache);
+		CompletableFuture<byte[]> result = new CompletableFuture<>();
+		Future<HttpResponse> pending = httpClient.execute(request, context, new FutureCallback<HttpResponse>() {
+			@Override
+			public void completed(HttpResponse response) {
+				try {
+					result.complete(readBody(uri, response));
+				} catch (RestClientException ex) {
+					result.completeExceptionally(ex);
+				}
+			}
+
+			@Override
+			public void failed(Exception ex) {
+				result.completeExceptionally(ioError(uri, ex));
+			}
+
+			@Override
+			public void cancelled() {
+				result.cancel(false);
+			}
+		});
+		result.whenComplete((body, ex) -> {
+			if (result.isCancelled())
+				pending.cancel(true);
+		});
+		return result;
+	}
+
+	/**
+	 * Gets the resource at the specified URI and parses the JSON body off the I/O
+	 * thread.
+	 * 
+	 * @param uri
+	 *                 URI to fetch
+	 * @param type
+	 *                 Response body type
+	 * @param <T>
+	 *                 Type of the response body
+	 * @return Future of the response body; null if the body is empty
+	 */
+	protected <T> CompletableFuture<T> get(URI uri, ParameterizedTypeReference<T> type) {
+		return send(uri, MediaType.APPLICATION_JSON_VALUE).thenApplyAsync(body -> {
+			if (body.length == 0)
+				return null;
+			try {
+				return mapper.readValue(body, mapper.getTypeFactory().constructType(type.getType()));
+			} catch (IOException ex) {
+				throw new RestClientException("Failed to parse response to GET request for \"" + uri + "\"", ex);
+			}
+		});
+	}
+
+	/**
+	 * Gets the binary resource at the specified URI.
+	 * 
+	 * @param uri
+	 *                URI to fetch
+	 * @return Future of the response body; null if the body is empty
+	 */
+	protected CompletableFuture<byte[]> getBytes(URI uri) {
+		return send(uri, ACCEPT_BYTES).thenApplyAsync(body -> body.length == 0 ? null : body);
+	}
+
+	private static byte[] readBody(URI uri, HttpResponse response) {
+		int code = response.getStatusLine().getStatusCode();
+		byte[] body;
+		try {
+			HttpEntity entity = response.getEntity();
+			body = entity == null ? new byte[0] : EntityUtils.toByteArray(entity);
+		} catch (IOException ex) {
+			throw ioError(uri, ex);
+		}
+		if (code >= 200 && code < 300)
+			return body;
+		HttpHeaders headers = new HttpHeaders();
+		for (Header h : response.getAllHeaders())
+			headers.add(h.getName(), h.getValue());
+		String reason = response.getStatusLine().getReasonPhrase();
+		Charset charset = headers.getContentType() == null ? null : headers.getContentType().getCharset();
+		HttpStatus status = HttpStatus.resolve(code);
+		if (status != null && status.is4xxClientError())
+			throw HttpClientErrorException.create(status, reason, headers, body, charset);
+		if (status != null && status.is5xxServerError())
+			throw HttpServerErrorException.create(status, reason, headers, body, charset);
+		throw new UnknownHttpStatusCodeException(code, reason, headers, body, charset);
+	}
+
+	private static ResourceAccessException ioError(URI uri, Exception ex) {
+		return new ResourceAccessException("I/O error on GET request for \"" + uri + "\": " + ex.getMessage(),
+				ex instanceof IOException ? (IOException) ex : new IOException(ex));
+	}
+
+	private URI buildUri(final String[] path, RestPageRequest pageRequest) {
+		return CommonDataServiceRestClientImpl.buildUri(baseUrl, path, null, pageRequest);
+	}
+
+	@Override
+	public CompletableFuture<SuccessTransport> getHealth() {
+		URI uri = buildUri(new String[] { CCDSConstants.HEALTHCHECK_PATH }, null);
+		logger.debug("getHealth: uri {}", uri);
+		return get(uri, new ParameterizedTypeReference<SuccessTransport>() {
+		});
+	}
+
+	@Override
+	public CompletableFuture<SuccessTransport> getVersion() {
+		URI uri = buildUri(new String[] { CCDSConstants.VERSION_PATH }, null);
+		logger.debug("getVersion: uri {}", uri);
+		return get(uri, new ParameterizedTypeReference<SuccessTransport>() {
+		});
+	}
+
+	@Override
+	public CompletableFuture<Long> getSolutionCount() {
+		URI uri = buildUri(new String[] { CCDSConstants.SOLUTION_PATH, CCDSConstants.COUNT_PATH }, null);
+		logger.debug("getSolutionCount: uri {}", uri);
+		return get(uri, new ParameterizedTypeReference<CountTransport>() {
+		}).thenApply(CountTransport::getCount);
+	}
+
+	@Override
+	public CompletableFuture<RestPageResponse<MLPSolution>> getSolutions(RestPageRequest pageRequest) {
+		URI uri = buildUri(new String[] { CCDSConstants.SOLUTION_PATH }, pageRequest);
+		logger.debug("getSolutions: uri {}", uri);
+		return get(uri, new ParameterizedTypeReference<RestPageResponse<MLPSolution>>() {
+		});
+	}
+
+	@Override
+	public CompletableFuture<MLPSolution> getSolution(String solutionId) {
+		URI uri = buildUri(new String[] { CCDSConstants.SOLUTION_PATH, solutionId }, null);
+		logger.debug("getSolution: uri {}", uri);
+		return get(uri, new ParameterizedTypeReference<MLPSolution>() {
+		});
+	}
+
+	@Override
+	public CompletableFuture<byte[]> getSolutionPicture(String solutionId) {
+		URI uri = buildUri(new String[] { CCDSConstants.SOLUTION_PATH, solutionId, CCDSConstants.PICTURE_PATH },
+				null);
+		logger.debug("getSolutionPicture: uri {}", uri);
+		return getBytes(uri);
+	}
+
+	@Override
+	public CompletableFuture<List<MLPTag>> getSolutionTags(String solutionId) {
+		URI uri = buildUri(new String[] { CCDSConstants.SOLUTION_PATH, solutionId, CCDSConstants.TAG_PATH }, null);
+		logger.debug("getSolutionTags: uri {}", uri);
+		return get(uri, new ParameterizedTypeReference<List<MLPTag>>() {
+		});
+	}
+
+	@Override
+	public CompletableFuture<RestPageResponse<MLPTag>> getTags(RestPageRequest pageRequest) {
+		URI uri = buildUri(new String[] { CCDSConstants.TAG_PATH }, pageRequest);
+		logger.debug("getTags: uri {}", uri);
+		return get(uri, new ParameterizedTypeReference<RestPageResponse<MLPTag>>() {
+		});
+	}
+
+	@Override
+	public CompletableFuture<List<MLPSolutionRevision>> getSolutionRevisions(String solutionId) {
+		return getSolutionRevisions(new String[] { solutionId });
+	}
+
+	@Override
+	public CompletableFuture<List<MLPSolutionRevision>> getSolutionRevisions(String[] solutionIds) {
+		// Send solution IDs as a CSV list
+		String csvSolIds = String.join(",", solutionIds);
+		URI uri = buildUri(new String[] { CCDSConstants.SOLUTION_PATH, csvSolIds, CCDSConstants.REVISION_PATH },
+				null);
+		logger.debug("getSolutionRevisions: uri {}", uri);
+		return get(uri, new ParameterizedTypeReference<List<MLPSolutionRevision>>() {
+		});
+	}
+
+	@Override
+	public CompletableFuture<MLPSolutionRevision> getSolutionRevision(String solutionId, String revisionId) {
+		URI uri = buildUri(
+				new String[] { CCDSConstants.SOLUTION_PATH, solutionId, CCDSConstants.REVISION_PATH, revisionId },
+				null);
+		logger.debug("getSolutionRevision: uri {}", uri);
+		return get(uri, new ParameterizedTypeReference<MLPSolutionRevision>() {
+		});
+	}
+
+	@Override
+	public CompletableFuture<List<MLPArtifact>> getSolutionRevisionArtifacts(String solutionIdIgnored,
+			String revisionId) {
+		URI uri = buildUri(new String[] { CCDSConstants.REVISION_PATH, revisionId, CCDSConstants.ARTIFACT_PATH },
+				null);
+		logger.debug("getSolutionRevisionArtifacts: uri {}", uri);
+		return get(uri, new ParameterizedTypeReference<List<MLPArtifact>>() {
+		});
+	}
+
+	@Override
+	public CompletableFuture<MLPArtifact> getArtifact(String artifactId) {
+		URI uri = buildUri(new String[] { CCDSConstants.ARTIFACT_PATH, artifactId }, null);
+		logger.debug("getArtifact: uri {}", uri);
+		return get(uri, new ParameterizedTypeReference<MLPArtifact>() {
+		});
+	}
+
+	@Override
+	public CompletableFuture<MLPRevisionDescription> getRevisionDescription(String revisionId,
+			String accessTypeCode) {
+		URI uri = buildUri(new String[] { CCDSConstants.REVISION_PATH, revisionId, CCDSConstants.ACCESS_PATH,
+				accessTypeCode, CCDSConstants.DESCRIPTION_PATH }, null);
+		logger.debug("getRevisionDescription: uri {}", uri);
+		return get(uri, new ParameterizedTypeReference<MLPRevisionDescription>() {
+		});
+	}
+
+	@Override
+	public CompletableFuture<List<MLPDocument>> getSolutionRevisionDocuments(String revisionId,
+			String accessTypeCode) {
+		URI uri = buildUri(new String[] { CCDSConstants.REVISION_PATH, revisionId, CCDSConstants.ACCESS_PATH,
+				accessTypeCode, CCDSConstants.DOCUMENT_PATH }, null);
+		logger.debug("getSolutionRevisionDocuments: uri {}", uri);
+		return get(uri, new ParameterizedTypeReference<List<MLPDocument>>() {
+		});
+	}
+
+	@Override
+	public CompletableFuture<MLPDocument> getDocument(String documentId) {
+		URI uri = buildUri(new String[] { CCDSConstants.DOCUMENT_PATH, documentId }, null);
+		logger.debug("getDocument: uri {}", uri);
+		return get(uri, new ParameterizedTypeReference<MLPDocument>() {
+		});
+	}
+
+	@Override
+	public CompletableFuture<RestPageResponse<MLPSolutionRating>> getSolutionRatings(String solutionId,
+			RestPageRequest pageRequest) {
+		URI uri = buildUri(new String[] { CCDSConstants.SOLUTION_PATH, solutionId, CCDSConstants.RATING_PATH },
+				pageRequest);
+		logger.debug("getSolutionRatings: uri {}", uri);
+		return get(uri, new ParameterizedTypeReference<RestPageResponse<MLPSolutionRating>>() {
+		});
+	}
+
+	@Override
+	public CompletableFuture<MLPSolutionRating> getSolutionRating(String solutionId, String userId) {
+		URI uri = buildUri(new String[] { CCDSConstants.SOLUTION_PATH, solutionId, CCDSConstants.RATING_PATH,
+				CCDSConstants.USER_PATH, userId }, null);
+		logger.debug("getSolutionRating: uri {}", uri);
+		return get(uri, new ParameterizedTypeReference<MLPSolutionRating>() {
+		});
+	}
+
+	@Override
+	public CompletableFuture<RestPageResponse<MLPSolutionDownload>> getSolutionDownloads(String solutionId,
+			RestPageRequest pageRequest) {
+		URI uri = buildUri(new String[] { CCDSConstants.SOLUTION_PATH, solutionId, CCDSConstants.DOWNLOAD_PATH },
+				pageRequest);
+		logger.debug("getSolutionDownloads: uri {}", uri);
+		return get(uri, new ParameterizedTypeReference<RestPageResponse<MLPSolutionDownload>>() {
+		});
+	}
+
+	@Override
+	public CompletableFuture<List<MLPUser>> getSolutionAccessUsers(String solutionId) {
+		URI uri = buildUri(new String[] { CCDSConstants.SOLUTION_PATH, solutionId, CCDSConstants.USER_PATH,
+				CCDSConstants.ACCESS_PATH }, null);
+		logger.debug("getSolutionAccessUsers: uri {}", uri);
+		return get(uri, new ParameterizedTypeReference<List<MLPUser>>() {
+		});
+	}
+
+	@Override
+	public CompletableFuture<MLPUser> getUser(String userId) {
+		URI uri = buildUri(new String[] { CCDSConstants.USER_PATH, userId }, null);
+		logger.debug("getUser: uri {}", uri);
+		return get(uri, new ParameterizedTypeReference<MLPUser>() {
+		});
+	}
+
+	@Override
+	public CompletableFuture<byte[]> getUserPicture(String userId) {
+		URI uri = buildUri(new String[] { CCDSConstants.USER_PATH, userId, CCDSConstants.PICTURE_PATH }, null);
+		logger.debug("getUserPicture: uri {}", uri);
+		return getBytes(uri);
+	}
+
+}
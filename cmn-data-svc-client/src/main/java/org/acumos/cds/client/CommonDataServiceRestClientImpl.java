@@ -20,20 +20,28 @@
 
 package org.acumos.cds.client;
 
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.lang.invoke.MethodHandles;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URL;
 import java.time.Instant;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
 
 import org.acumos.cds.CCDSConstants;
 import org.acumos.cds.CodeNameType;
 import org.acumos.cds.PublishRequestStatusCode;
+import org.acumos.cds.SolutionDetailPart;
 import org.acumos.cds.domain.MLPArtifact;
 import org.acumos.cds.domain.MLPCatSolMap;
 import org.acumos.cds.domain.MLPCatalog;
@@ -83,28 +91,48 @@
 import org.acumos.cds.domain.MLPUserNotification;
 import org.acumos.cds.domain.MLPUserRoleMap;
 import org.acumos.cds.logging.AcumosLogConstants;
+import org.acumos.cds.transport.BatchTransport;
+import org.acumos.cds.transport.CacheStatsTransport;
 import org.acumos.cds.transport.CountTransport;
+import org.acumos.cds.transport.FacetCountTransport;
 import org.acumos.cds.transport.LoginTransport;
+import org.acumos.cds.transport.PurgeTaskTransport;
 import org.acumos.cds.transport.RestPageRequest;
 import org.acumos.cds.transport.RestPageResponse;
+import org.acumos.cds.transport.SolutionChangeTransport;
+import org.acumos.cds.transport.SolutionDetailTransport;
 import org.acumos.cds.transport.SuccessTransport;
+import org.acumos.cds.transport.SuggestionTransport;
 import org.acumos.cds.transport.UsersRoleRequest;
 import org.apache.http.HttpHost;
 import org.apache.http.auth.AuthScope;
 import org.apache.http.auth.UsernamePasswordCredentials;
 import org.apache.http.client.CredentialsProvider;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
 import org.apache.http.impl.client.BasicCredentialsProvider;
 import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
 import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpRequest;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.StreamingHttpOutputMessage;
+import org.springframework.http.client.ClientHttpRequest;
 import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.ResponseErrorHandler;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
@@ -123,8 +151,17 @@
  * should catch that exception and fetch error details by calling that class's
  * getResponseBodyAsString() method.
  * </P>
+ *
+ * <P>
+ * Responses to the single-item reads of solutions and revisions are kept in
+ * memory with their ETag and Last-Modified values, up to a total size set by
+ * {@link #setResponseCacheMaxBytes(long)}. Repeated reads of the same item are
+ * sent as conditional requests, and the kept copy is answered if the server
+ * reports no change. Pictures and site content, which can be large, are not
+ * kept.
+ * </P>
  */
-public class CommonDataServiceRestClientImpl implements ICommonDataServiceRestClient {
+public class CommonDataServiceRestClientImpl implements ICommonDataServiceRestClient, Closeable {
 
 	private static final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
 
@@ -136,10 +173,26 @@ public class CommonDataServiceRestClientImpl implements ICommonDataServiceRestCl
 	 * Spring REST template is constructed once and used repeatedly.
 	 */
 	private final RestTemplate restTemplate;
+	/**
+	 * Creates requests that send and receive bodies as streams, without the
+	 * buffering and message conversion of the REST template.
+	 */
+	private final ClientHttpRequestFactory streamingRequestFactory;
+	/**
+	 * HTTP client and its connection pool; null if the caller supplied the
+	 * template.
+	 */
+	private final CloseableHttpClient httpClient;
+	private final PoolingHttpClientConnectionManager connectionManager;
 	/**
 	 * Request ID optionally set by client to send to server.
 	 */
 	private String requestId;
+	/**
+	 * Responses to reads that support conditional requests.
+	 */
+	private final ValidatingResponseCache responseCache = new ValidatingResponseCache(
+			ValidatingResponseCache.DEFAULT_MAX_ENTRIES, ValidatingResponseCache.DEFAULT_MAX_BYTES);
 
 	/**
 	 * Intercepts requests sent via the RestTemplate used in this implementation.
@@ -208,6 +261,9 @@ private String encodeBase62(long n) {
 	 * If user and pass are both supplied, uses basic HTTP authentication; if either
 	 * one is missing, no authentication is used.
 	 * 
+	 * Uses the default pool sizes but, as in earlier releases, no timeouts and no
+	 * idle-connection thread, so an instance that is never closed holds no thread.
+	 * 
 	 * Clients should use the static method
 	 * {@link #getInstance(String, String, String, String)} instead of this
 	 * constructor.
@@ -223,8 +279,49 @@ private String encodeBase62(long n) {
 	 */
 	public CommonDataServiceRestClientImpl(final String webapiUrl, final String user, final String pass,
 			final String proxyUrl) {
-		if (webapiUrl == null)
-			throw new IllegalArgumentException("Null URL not permitted");
+		this(webapiUrl, user, pass, proxyUrl, buildUnmanagedConfig());
+	}
+
+	/**
+	 * Builds the connection settings used when the caller supplies none.
+	 * 
+	 * @return Default settings without timeouts or idle-connection eviction
+	 */
+	private static HttpClientConfig buildUnmanagedConfig() {
+		HttpClientConfig config = new HttpClientConfig();
+		config.setIdleEvictionMs(0);
+		config.setConnectTimeoutMs(0);
+		config.setConnectionRequestTimeoutMs(0);
+		config.setSocketTimeoutMs(0);
+		return config;
+	}
+
+	/**
+	 * Creates an instance to access the remote endpoint using the specified
+	 * credentials and connection settings.
+	 * 
+	 * If user and pass are both supplied, uses basic HTTP authentication; if either
+	 * one is missing, no authentication is used.
+	 * 
+	 * Clients should use the static method
+	 * {@link #getInstance(String, String, String, String, HttpClientConfig)}
+	 * instead of this constructor.
+	 * 
+	 * @param webapiUrl
+	 *                      URL of the web endpoint with hostname and port
+	 * @param user
+	 *                      user name; ignored if null
+	 * @param pass
+	 *                      password; ignored if null
+	 * @param proxyUrl
+	 *                      URL of the proxy with hostname and port; ignored if null
+	 * @param config
+	 *                      Connection pool and timeout settings
+	 */
+	public CommonDataServiceRestClientImpl(final String webapiUrl, final String user, final String pass,
+			final String proxyUrl, final HttpClientConfig config) {
+		if (webapiUrl == null || config == null)
+			throw new IllegalArgumentException("Null not permitted");
 
 		// Validate the URLs
 		URL url = null;
@@ -254,7 +351,31 @@ public CommonDataServiceRestClientImpl(final String webapiUrl, final String user
 		// Add proxy if supplied
 		if (proxyHost != null)
 			builder.setProxy(proxyHost);
-		CloseableHttpClient httpClient = builder.build();
+		// Share a pool of connections among all threads that use this instance
+		connectionManager = new PoolingHttpClientConnectionManager();
+		connectionManager.setMaxTotal(config.getMaxConnectionsTotal());
+		connectionManager.setDefaultMaxPerRoute(config.getMaxConnectionsPerRoute());
+		connectionManager.setValidateAfterInactivity(config.getValidateAfterInactivityMs());
+		builder.setConnectionManager(connectionManager);
+		// The default strategy keeps a connection forever if the server sends no
+		// Keep-Alive header
+		final ConnectionKeepAliveStrategy keepAlive = (response, context) -> {
+			long ms = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+			return ms > 0 ? ms : config.getKeepAliveMs();
+		};
+		builder.setKeepAliveStrategy(keepAlive);
+		if (config.getIdleEvictionMs() > 0)
+			builder.evictExpiredConnections().evictIdleConnections(config.getIdleEvictionMs(),
+					TimeUnit.MILLISECONDS);
+		builder.setDefaultRequestConfig(RequestConfig.custom() //
+				.setConnectTimeout(config.getConnectTimeoutMs()) //
+				.setConnectionRequestTimeout(config.getConnectionRequestTimeoutMs()) //
+				.setSocketTimeout(config.getSocketTimeoutMs()) //
+				.build());
+		if (!config.isCompression())
+			builder.disableContentCompression();
+		httpClient = builder.build();
+		logger.debug("ctor: {}", config);
 		// Create request factory with the client
 		HttpComponentsClientHttpRequestFactoryBasicAuth requestFactory = new HttpComponentsClientHttpRequestFactoryBasicAuth(
 				httpHost);
@@ -265,6 +386,13 @@ public CommonDataServiceRestClientImpl(final String webapiUrl, final String user
 		restTemplate.setRequestFactory(requestFactory);
 		// Add request interceptor
 		restTemplate.getInterceptors().add(new CDSClientHttpRequestInterceptor());
+
+		// Share the client with a factory that does not buffer request bodies
+		HttpComponentsClientHttpRequestFactoryBasicAuth streamingFactory = new HttpComponentsClientHttpRequestFactoryBasicAuth(
+				httpHost);
+		streamingFactory.setHttpClient(httpClient);
+		streamingFactory.setBufferRequestBody(false);
+		streamingRequestFactory = streamingFactory;
 	}
 
 	/**
@@ -290,6 +418,9 @@ public CommonDataServiceRestClientImpl(final String webapiUrl, final RestTemplat
 			throw new IllegalArgumentException("Failed to parse URL", ex);
 		}
 		this.restTemplate = restTemplate;
+		this.streamingRequestFactory = restTemplate.getRequestFactory();
+		this.httpClient = null;
+		this.connectionManager = null;
 	}
 
 	/**
@@ -328,6 +459,30 @@ public static ICommonDataServiceRestClient getInstance(String webapiUrl, String
 		return new CommonDataServiceRestClientImpl(webapiUrl, user, pass, proxyUrl);
 	}
 
+	/**
+	 * Gets an instance to access a remote endpoint using the specified URL,
+	 * credentials, proxy and connection settings. This factory method should be
+	 * used instead of a constructor.
+	 * 
+	 * @param webapiUrl
+	 *                      URL of the web endpoint with host and port
+	 * @param user
+	 *                      user name; ignored if null
+	 * @param pass
+	 *                      password; ignored if null
+	 * @param proxyUrl
+	 *                      URL of the proxy with hostname and port; ignored if null
+	 * @param config
+	 *                      Connection pool and timeout settings
+	 * @return Instance of ICommonDataServiceRestClient; unless idle-connection
+	 *         eviction is disabled in the settings, it runs a thread that the
+	 *         caller must stop by closing the instance when done
+	 */
+	public static ICommonDataServiceRestClient getInstance(String webapiUrl, String user, String pass,
+			String proxyUrl, HttpClientConfig config) {
+		return new CommonDataServiceRestClientImpl(webapiUrl, user, pass, proxyUrl, config);
+	}
+
 	/**
 	 * Gets an instance to access a remote endpoint using the specified template.
 	 * This factory method should be used instead of a constructor.
@@ -342,6 +497,41 @@ public static ICommonDataServiceRestClient getInstance(String webapiUrl, RestTem
 		return new CommonDataServiceRestClientImpl(webapiUrl, restTemplate);
 	}
 
+	/**
+	 * Gets the number of connections in the pool that are in use, idle and
+	 * awaited by requests.
+	 * 
+	 * @return Pool statistics; null if this instance was created with a template
+	 *         supplied by the caller
+	 */
+	public PoolStats getConnectionPoolStats() {
+		return connectionManager == null ? null : connectionManager.getTotalStats();
+	}
+
+	/**
+	 * Sets the bound on the memory held by responses kept for conditional
+	 * requests. The size of a response is estimated from its content.
+	 * 
+	 * @param maxBytes
+	 *                     Maximum estimated size of the responses kept; default 4
+	 *                     MiB. Zero disables the cache and discards the responses
+	 *                     kept.
+	 */
+	public void setResponseCacheMaxBytes(long maxBytes) {
+		responseCache.setMaxBytes(maxBytes);
+	}
+
+	/**
+	 * Closes the pooled connections and stops the idle-connection thread. Does
+	 * nothing if this instance was created with a template supplied by the
+	 * caller.
+	 */
+	@Override
+	public void close() throws IOException {
+		if (httpClient != null)
+			httpClient.close();
+	}
+
 	/**
 	 * Privileged access for subclasses.
 	 * 
@@ -368,7 +558,18 @@ protected RestTemplate getRestTemplate() {
 	 * @return URI with the specified path segments and query parameters
 	 */
 	protected URI buildUri(final String[] path, final Map<String, Object> queryParams, RestPageRequest pageRequest) {
-		UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(this.baseUrl);
+		return buildUri(this.baseUrl, path, queryParams, pageRequest);
+	}
+
+	/**
+	 * Builds URI by adding specified path segments and query parameters to the
+	 * specified base URL, as described in
+	 * {@link #buildUri(String[], Map, RestPageRequest)}. Shared with the
+	 * asynchronous client.
+	 */
+	static URI buildUri(final String baseUrl, final String[] path, final Map<String, Object> queryParams,
+			RestPageRequest pageRequest) {
+		UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(baseUrl);
 		for (int p = 0; p < path.length; ++p)
 			builder.pathSegment(path[p]);
 		if (queryParams != null && queryParams.size() > 0) {
@@ -402,10 +603,115 @@ else if (o instanceof Instant)
 					builder.queryParam("sort", value);
 				}
 			}
+			if (pageRequest.getCountMode() != null)
+				builder.queryParam(CCDSConstants.COUNT_MODE_QUERY_PARAM, pageRequest.getCountMode().name());
 		}
 		return builder.build().encode().toUri();
 	}
 
+	/**
+	 * Gets the resource at the specified URI with a conditional request if a
+	 * response is cached for it, so an unchanged resource costs a round trip but
+	 * no payload.
+	 * 
+	 * @param uri
+	 *                     URI to fetch
+	 * @param type
+	 *                     Response body type
+	 * @param copier
+	 *                     Function that copies a body of this type, because
+	 *                     callers may modify the objects they get
+	 * @param <T>
+	 *                     Type of the response body
+	 * @return Response body
+	 */
+	protected <T> T getValidated(URI uri, ParameterizedTypeReference<T> type, UnaryOperator<T> copier) {
+		return responseCache.get(uri,
+				headers -> restTemplate.exchange(uri, HttpMethod.GET, new HttpEntity<Void>(headers), type), copier);
+	}
+
+	/**
+	 * Sends a request with an optional body copied from the stream, and checks
+	 * the response status with the error handler of the REST template.
+	 * 
+	 * @param uri
+	 *                        URI to request
+	 * @param method
+	 *                        HTTP method
+	 * @param contentType
+	 *                        Media type of the body; ignored if body is null
+	 * @param body
+	 *                        Stream of the request body; null for none
+	 * @param length
+	 *                        Number of bytes in the body; negative if unknown
+	 * @return Response, which the caller must close
+	 */
+	protected ClientHttpResponse executeStreaming(URI uri, HttpMethod method, MediaType contentType, InputStream body,
+			long length) {
+		try {
+			ClientHttpRequest request = streamingRequestFactory.createRequest(uri, method);
+			if (requestId != null)
+				request.getHeaders().add(AcumosLogConstants.Headers.REQUEST_ID, requestId);
+			if (body != null) {
+				request.getHeaders().setContentType(contentType);
+				if (length >= 0)
+					request.getHeaders().setContentLength(length);
+				if (request instanceof StreamingHttpOutputMessage)
+					((StreamingHttpOutputMessage) request).setBody(out -> StreamUtils.copy(body, out));
+				else
+					StreamUtils.copy(body, request.getBody());
+			}
+			ClientHttpResponse response = request.execute();
+			ResponseErrorHandler errorHandler = restTemplate.getErrorHandler();
+			if (errorHandler.hasError(response)) {
+				try {
+					errorHandler.handleError(uri, method, response);
+				} finally {
+					response.close();
+				}
+			}
+			return response;
+		} catch (IOException ex) {
+			throw new ResourceAccessException(
+					"I/O error on " + method + " request for \"" + uri + "\": " + ex.getMessage(), ex);
+		}
+	}
+
+	/**
+	 * Gets the body at the specified URI as a stream that closes the response
+	 * when it is closed.
+	 * 
+	 * @param uri
+	 *                URI to fetch
+	 * @return Stream of the response body; null if the body is empty
+	 */
+	protected InputStream getStream(URI uri) {
+		ClientHttpResponse response = executeStreaming(uri, HttpMethod.GET, null, null, -1);
+		try {
+			InputStream body = new BufferedInputStream(response.getBody());
+			// The server answers an empty body if the entity is not found
+			body.mark(1);
+			if (body.read() < 0) {
+				response.close();
+				return null;
+			}
+			body.reset();
+			return new FilterInputStream(body) {
+				@Override
+				public void close() throws IOException {
+					try {
+						super.close();
+					} finally {
+						response.close();
+					}
+				}
+			};
+		} catch (IOException ex) {
+			response.close();
+			throw new ResourceAccessException("I/O error on GET request for \"" + uri + "\": " + ex.getMessage(), ex);
+		}
+	}
+
 	@Override
 	public SuccessTransport getHealth() {
 		URI uri = buildUri(new String[] { CCDSConstants.HEALTHCHECK_PATH }, null, null);
@@ -467,6 +773,44 @@ public RestPageResponse<MLPSolution> getSolutions(RestPageRequest pageRequest) {
 		return response.getBody();
 	}
 
+	@Override
+	public RestPageResponse<MLPSolution> getSolutions(RestPageRequest pageRequest, String[] fields) {
+		HashMap<String, Object> parms = new HashMap<>();
+		if (fields != null && fields.length > 0)
+			parms.put(CCDSConstants.FIELDS_QUERY_PARAM, fields);
+		URI uri = buildUri(new String[] { CCDSConstants.SOLUTION_PATH }, parms, pageRequest);
+		logger.debug("getSolutions: uri {}", uri);
+		ResponseEntity<RestPageResponse<MLPSolution>> response = restTemplate.exchange(uri, HttpMethod.GET, null,
+				new ParameterizedTypeReference<RestPageResponse<MLPSolution>>() {
+				});
+		return response.getBody();
+	}
+
+	@Override
+	public RestPageResponse<MLPSolution> getSolutionsByCursor(String continuation, RestPageRequest pageRequest) {
+		HashMap<String, Object> parms = new HashMap<>();
+		if (continuation != null)
+			parms.put(CCDSConstants.CONTINUATION_QUERY_PARAM, continuation);
+		URI uri = buildUri(new String[] { CCDSConstants.SOLUTION_PATH, CCDSConstants.CURSOR_PATH }, parms, pageRequest);
+		logger.debug("getSolutionsByCursor: uri {}", uri);
+		ResponseEntity<RestPageResponse<MLPSolution>> response = restTemplate.exchange(uri, HttpMethod.GET, null,
+				new ParameterizedTypeReference<RestPageResponse<MLPSolution>>() {
+				});
+		return response.getBody();
+	}
+
+	@Override
+	public BatchTransport<MLPSolution> getSolutionsById(String[] solutionIds) {
+		HashMap<String, Object> parms = new HashMap<>();
+		parms.put(CCDSConstants.BATCH_ID, solutionIds);
+		URI uri = buildUri(new String[] { CCDSConstants.SOLUTION_PATH, CCDSConstants.BATCH_PATH }, parms, null);
+		logger.debug("getSolutionsById: uri {}", uri);
+		ResponseEntity<BatchTransport<MLPSolution>> response = restTemplate.exchange(uri, HttpMethod.GET, null,
+				new ParameterizedTypeReference<BatchTransport<MLPSolution>>() {
+				});
+		return response.getBody();
+	}
+
 	@Override
 	public RestPageResponse<MLPSolution> findSolutionsBySearchTerm(String searchTerm, RestPageRequest pageRequest) {
 		HashMap<String, Object> parms = new HashMap<>();
@@ -481,6 +825,21 @@ public RestPageResponse<MLPSolution> findSolutionsBySearchTerm(String searchTerm
 		return response.getBody();
 	}
 
+	@Override
+	public List<SuggestionTransport> getSolutionSuggestions(String term, int limit) {
+		HashMap<String, Object> parms = new HashMap<>();
+		parms.put(CCDSConstants.SUGGEST_TERM, term);
+		parms.put(CCDSConstants.SUGGEST_LIMIT, limit);
+		URI uri = buildUri(
+				new String[] { CCDSConstants.SOLUTION_PATH, CCDSConstants.SEARCH_PATH, CCDSConstants.SUGGEST_PATH },
+				parms, null);
+		logger.debug("getSolutionSuggestions: uri {}", uri);
+		ResponseEntity<List<SuggestionTransport>> response = restTemplate.exchange(uri, HttpMethod.GET, null,
+				new ParameterizedTypeReference<List<SuggestionTransport>>() {
+				});
+		return response.getBody();
+	}
+
 	@Override
 	public RestPageResponse<MLPSolution> findSolutionsByTag(String tag, RestPageRequest pageRequest) {
 		HashMap<String, Object> parms = new HashMap<>();
@@ -575,6 +934,72 @@ public RestPageResponse<MLPSolution> findPortalSolutionsByKwAndTags(String[] key
 		return response.getBody();
 	}
 
+	@Override
+	public FacetCountTransport findPortalSolutionFacets(String[] keywords, boolean active, String[] userIds,
+			String[] accessTypeCodes, String[] modelTypeCodes, String[] allTags, String[] anyTags,
+			String[] catalogIds) {
+		HashMap<String, Object> parms = new HashMap<>();
+		// This is the only required parameter.
+		parms.put(CCDSConstants.SEARCH_ACTIVE, active);
+		if (keywords != null && keywords.length > 0)
+			parms.put(CCDSConstants.SEARCH_KW, keywords);
+		if (userIds != null && userIds.length > 0)
+			parms.put(CCDSConstants.SEARCH_USERS, userIds);
+		if (accessTypeCodes != null && accessTypeCodes.length > 0)
+			parms.put(CCDSConstants.SEARCH_ACCESS_TYPES, accessTypeCodes);
+		if (modelTypeCodes != null && modelTypeCodes.length > 0)
+			parms.put(CCDSConstants.SEARCH_MODEL_TYPES, modelTypeCodes);
+		if (allTags != null && allTags.length > 0)
+			parms.put(CCDSConstants.SEARCH_ALL_TAGS, allTags);
+		if (anyTags != null && anyTags.length > 0)
+			parms.put(CCDSConstants.SEARCH_ANY_TAGS, anyTags);
+		if (catalogIds != null && catalogIds.length > 0)
+			parms.put(CCDSConstants.SEARCH_CATALOG, catalogIds);
+		URI uri = buildUri(
+				new String[] { CCDSConstants.SOLUTION_PATH, CCDSConstants.SEARCH_PATH, CCDSConstants.FACET_PATH },
+				parms, null);
+		logger.debug("findPortalSolutionFacets: uri {}", uri);
+		ResponseEntity<FacetCountTransport> response = restTemplate.exchange(uri, HttpMethod.GET, null,
+				new ParameterizedTypeReference<FacetCountTransport>() {
+				});
+		return response.getBody();
+	}
+
+	@Override
+	public SolutionChangeTransport getSolutionChanges(long since, int limit) {
+		HashMap<String, Object> parms = new HashMap<>();
+		parms.put(CCDSConstants.CHANGES_SINCE, since);
+		parms.put(CCDSConstants.CHANGES_LIMIT, limit);
+		URI uri = buildUri(new String[] { CCDSConstants.SOLUTION_PATH, CCDSConstants.CHANGES_PATH }, parms, null);
+		logger.debug("getSolutionChanges: uri {}", uri);
+		ResponseEntity<SolutionChangeTransport> response = restTemplate.exchange(uri, HttpMethod.GET, null,
+				new ParameterizedTypeReference<SolutionChangeTransport>() {
+				});
+		return response.getBody();
+	}
+
+	@Override
+	public CacheStatsTransport getSolutionSearchCacheStats() {
+		URI uri = buildUri(
+				new String[] { CCDSConstants.SOLUTION_PATH, CCDSConstants.SEARCH_PATH, CCDSConstants.STATS_PATH },
+				null, null);
+		logger.debug("getSolutionSearchCacheStats: uri {}", uri);
+		ResponseEntity<CacheStatsTransport> response = restTemplate.exchange(uri, HttpMethod.GET, null,
+				new ParameterizedTypeReference<CacheStatsTransport>() {
+				});
+		return response.getBody();
+	}
+
+	@Override
+	public List<CacheStatsTransport> getEntityCacheStats() {
+		URI uri = buildUri(new String[] { CCDSConstants.CACHE_PATH, CCDSConstants.STATS_PATH }, null, null);
+		logger.debug("getEntityCacheStats: uri {}", uri);
+		ResponseEntity<List<CacheStatsTransport>> response = restTemplate.exchange(uri, HttpMethod.GET, null,
+				new ParameterizedTypeReference<List<CacheStatsTransport>>() {
+				});
+		return response.getBody();
+	}
+
 	@Override
 	public RestPageResponse<MLPSolution> findUserSolutions(String[] nameKeywords, String[] descriptionKeywords,
 			boolean active, String userId, String[] accessTypeCodes, String[] modelTypeCodes, String[] tags,
@@ -621,12 +1046,42 @@ public RestPageResponse<MLPSolution> searchSolutions(Map<String, Object> queryPa
 	public MLPSolution getSolution(String solutionId) {
 		URI uri = buildUri(new String[] { CCDSConstants.SOLUTION_PATH, solutionId }, null, null);
 		logger.debug("getSolution: uri {}", uri);
-		ResponseEntity<MLPSolution> response = restTemplate.exchange(uri, HttpMethod.GET, null,
-				new ParameterizedTypeReference<MLPSolution>() {
+		return getValidated(uri, new ParameterizedTypeReference<MLPSolution>() {
+		}, s -> {
+			MLPSolution copy = new MLPSolution(s);
+			if (s.getTags() != null)
+				copy.setTags(new HashSet<>(s.getTags()));
+			return copy;
+		});
+	}
+
+	@Override
+	public SolutionDetailTransport getSolutionDetail(String solutionId, SolutionDetailPart[] include,
+			RestPageRequest ratingsPageRequest) {
+		HashMap<String, Object> parms = new HashMap<>();
+		if (include != null && include.length > 0)
+			parms.put(CCDSConstants.DETAIL_INCLUDE, include);
+		URI uri = buildUri(new String[] { CCDSConstants.SOLUTION_PATH, solutionId, CCDSConstants.DETAIL_PATH }, parms,
+				ratingsPageRequest);
+		logger.debug("getSolutionDetail: uri {}", uri);
+		ResponseEntity<SolutionDetailTransport> response = restTemplate.exchange(uri, HttpMethod.GET, null,
+				new ParameterizedTypeReference<SolutionDetailTransport>() {
 				});
 		return response.getBody();
 	}
 
+	@Override
+	public long getPendingSolutionViewCount() {
+		URI uri = buildUri(
+				new String[] { CCDSConstants.SOLUTION_PATH, CCDSConstants.VIEW_PATH, CCDSConstants.PENDING_PATH }, null,
+				null);
+		logger.debug("getPendingSolutionViewCount: uri {}", uri);
+		ResponseEntity<CountTransport> response = restTemplate.exchange(uri, HttpMethod.GET, null,
+				new ParameterizedTypeReference<CountTransport>() {
+				});
+		return response.getBody().getCount();
+	}
+
 	@Override
 	public MLPSolution createSolution(MLPSolution solution) {
 		URI uri = buildUri(new String[] { CCDSConstants.SOLUTION_PATH }, null, null);
@@ -656,6 +1111,25 @@ public void deleteSolution(String solutionId) {
 		restTemplate.delete(uri);
 	}
 
+	@Override
+	public PurgeTaskTransport purgeSolution(String solutionId) {
+		URI uri = buildUri(new String[] { CCDSConstants.SOLUTION_PATH, solutionId, CCDSConstants.PURGE_PATH }, null,
+				null);
+		logger.debug("purgeSolution: uri {}", uri);
+		return restTemplate.postForObject(uri, null, PurgeTaskTransport.class);
+	}
+
+	@Override
+	public PurgeTaskTransport getPurgeTask(String taskId) {
+		URI uri = buildUri(new String[] { CCDSConstants.SOLUTION_PATH, CCDSConstants.PURGE_PATH, taskId }, null,
+				null);
+		logger.debug("getPurgeTask: uri {}", uri);
+		ResponseEntity<PurgeTaskTransport> response = restTemplate.exchange(uri, HttpMethod.GET, null,
+				new ParameterizedTypeReference<PurgeTaskTransport>() {
+				});
+		return response.getBody();
+	}
+
 	@Override
 	public List<MLPSolutionRevision> getSolutionRevisions(String solutionId) {
 		return getSolutionRevisions(new String[] { solutionId });
@@ -674,6 +1148,20 @@ public List<MLPSolutionRevision> getSolutionRevisions(String[] solutionIds) {
 		return response.getBody();
 	}
 
+	@Override
+	public BatchTransport<MLPSolutionRevision> getSolutionRevisionsById(String[] revisionIds) {
+		HashMap<String, Object> parms = new HashMap<>();
+		parms.put(CCDSConstants.BATCH_ID, revisionIds);
+		URI uri = buildUri(
+				new String[] { CCDSConstants.SOLUTION_PATH, CCDSConstants.REVISION_PATH, CCDSConstants.BATCH_PATH },
+				parms, null);
+		logger.debug("getSolutionRevisionsById: uri {}", uri);
+		ResponseEntity<BatchTransport<MLPSolutionRevision>> response = restTemplate.exchange(uri, HttpMethod.GET, null,
+				new ParameterizedTypeReference<BatchTransport<MLPSolutionRevision>>() {
+				});
+		return response.getBody();
+	}
+
 	@Override
 	public List<MLPSolutionRevision> getSolutionRevisionsForArtifact(String artifactId) {
 		URI uri = buildUri(new String[] { CCDSConstants.ARTIFACT_PATH, artifactId, CCDSConstants.REVISION_PATH }, null,
@@ -691,10 +1179,8 @@ public MLPSolutionRevision getSolutionRevision(String solutionId, String revisio
 				new String[] { CCDSConstants.SOLUTION_PATH, solutionId, CCDSConstants.REVISION_PATH, revisionId }, null,
 				null);
 		logger.debug("getSolutionRevision: uri {}", uri);
-		ResponseEntity<MLPSolutionRevision> response = restTemplate.exchange(uri, HttpMethod.GET, null,
-				new ParameterizedTypeReference<MLPSolutionRevision>() {
-				});
-		return response.getBody();
+		return getValidated(uri, new ParameterizedTypeReference<MLPSolutionRevision>() {
+		}, MLPSolutionRevision::new);
 	}
 
 	@Override
@@ -823,6 +1309,44 @@ public RestPageResponse<MLPArtifact> getArtifacts(RestPageRequest pageRequest) {
 		return response.getBody();
 	}
 
+	@Override
+	public RestPageResponse<MLPArtifact> getArtifacts(RestPageRequest pageRequest, String[] fields) {
+		HashMap<String, Object> parms = new HashMap<>();
+		if (fields != null && fields.length > 0)
+			parms.put(CCDSConstants.FIELDS_QUERY_PARAM, fields);
+		URI uri = buildUri(new String[] { CCDSConstants.ARTIFACT_PATH }, parms, pageRequest);
+		logger.debug("getArtifacts: uri {}", uri);
+		ResponseEntity<RestPageResponse<MLPArtifact>> response = restTemplate.exchange(uri, HttpMethod.GET, null,
+				new ParameterizedTypeReference<RestPageResponse<MLPArtifact>>() {
+				});
+		return response.getBody();
+	}
+
+	@Override
+	public RestPageResponse<MLPArtifact> getArtifactsByCursor(String continuation, RestPageRequest pageRequest) {
+		HashMap<String, Object> parms = new HashMap<>();
+		if (continuation != null)
+			parms.put(CCDSConstants.CONTINUATION_QUERY_PARAM, continuation);
+		URI uri = buildUri(new String[] { CCDSConstants.ARTIFACT_PATH, CCDSConstants.CURSOR_PATH }, parms, pageRequest);
+		logger.debug("getArtifactsByCursor: uri {}", uri);
+		ResponseEntity<RestPageResponse<MLPArtifact>> response = restTemplate.exchange(uri, HttpMethod.GET, null,
+				new ParameterizedTypeReference<RestPageResponse<MLPArtifact>>() {
+				});
+		return response.getBody();
+	}
+
+	@Override
+	public BatchTransport<MLPArtifact> getArtifactsById(String[] artifactIds) {
+		HashMap<String, Object> parms = new HashMap<>();
+		parms.put(CCDSConstants.BATCH_ID, artifactIds);
+		URI uri = buildUri(new String[] { CCDSConstants.ARTIFACT_PATH, CCDSConstants.BATCH_PATH }, parms, null);
+		logger.debug("getArtifactsById: uri {}", uri);
+		ResponseEntity<BatchTransport<MLPArtifact>> response = restTemplate.exchange(uri, HttpMethod.GET, null,
+				new ParameterizedTypeReference<BatchTransport<MLPArtifact>>() {
+				});
+		return response.getBody();
+	}
+
 	@Override
 	public RestPageResponse<MLPArtifact> findArtifactsBySearchTerm(String searchTerm, RestPageRequest pageRequest) {
 		HashMap<String, Object> parms = new HashMap<>();
@@ -899,6 +1423,44 @@ public RestPageResponse<MLPUser> getUsers(RestPageRequest pageRequest) {
 		return response.getBody();
 	}
 
+	@Override
+	public RestPageResponse<MLPUser> getUsers(RestPageRequest pageRequest, String[] fields) {
+		HashMap<String, Object> parms = new HashMap<>();
+		if (fields != null && fields.length > 0)
+			parms.put(CCDSConstants.FIELDS_QUERY_PARAM, fields);
+		URI uri = buildUri(new String[] { CCDSConstants.USER_PATH }, parms, pageRequest);
+		logger.debug("getUsers: uri {}", uri);
+		ResponseEntity<RestPageResponse<MLPUser>> response = restTemplate.exchange(uri, HttpMethod.GET, null,
+				new ParameterizedTypeReference<RestPageResponse<MLPUser>>() {
+				});
+		return response.getBody();
+	}
+
+	@Override
+	public RestPageResponse<MLPUser> getUsersByCursor(String continuation, RestPageRequest pageRequest) {
+		HashMap<String, Object> parms = new HashMap<>();
+		if (continuation != null)
+			parms.put(CCDSConstants.CONTINUATION_QUERY_PARAM, continuation);
+		URI uri = buildUri(new String[] { CCDSConstants.USER_PATH, CCDSConstants.CURSOR_PATH }, parms, pageRequest);
+		logger.debug("getUsersByCursor: uri {}", uri);
+		ResponseEntity<RestPageResponse<MLPUser>> response = restTemplate.exchange(uri, HttpMethod.GET, null,
+				new ParameterizedTypeReference<RestPageResponse<MLPUser>>() {
+				});
+		return response.getBody();
+	}
+
+	@Override
+	public BatchTransport<MLPUser> getUsersById(String[] userIds) {
+		HashMap<String, Object> parms = new HashMap<>();
+		parms.put(CCDSConstants.BATCH_ID, userIds);
+		URI uri = buildUri(new String[] { CCDSConstants.USER_PATH, CCDSConstants.BATCH_PATH }, parms, null);
+		logger.debug("getUsersById: uri {}", uri);
+		ResponseEntity<BatchTransport<MLPUser>> response = restTemplate.exchange(uri, HttpMethod.GET, null,
+				new ParameterizedTypeReference<BatchTransport<MLPUser>>() {
+				});
+		return response.getBody();
+	}
+
 	@Override
 	public RestPageResponse<MLPUser> findUsersBySearchTerm(String searchTerm, RestPageRequest pageRequest) {
 		HashMap<String, Object> parms = new HashMap<>();
@@ -1444,6 +2006,19 @@ public RestPageResponse<MLPNotification> getNotifications(RestPageRequest pageRe
 		return response.getBody();
 	}
 
+	@Override
+	public RestPageResponse<MLPNotification> getNotifications(RestPageRequest pageRequest, String[] fields) {
+		HashMap<String, Object> parms = new HashMap<>();
+		if (fields != null && fields.length > 0)
+			parms.put(CCDSConstants.FIELDS_QUERY_PARAM, fields);
+		URI uri = buildUri(new String[] { CCDSConstants.NOTIFICATION_PATH }, parms, pageRequest);
+		logger.debug("getNotifications: uri {}", uri);
+		ResponseEntity<RestPageResponse<MLPNotification>> response = restTemplate.exchange(uri, HttpMethod.GET, null,
+				new ParameterizedTypeReference<RestPageResponse<MLPNotification>>() {
+				});
+		return response.getBody();
+	}
+
 	@Override
 	public MLPNotification createNotification(MLPNotification notification) {
 		URI uri = buildUri(new String[] { CCDSConstants.NOTIFICATION_PATH }, null, null);
@@ -1706,6 +2281,22 @@ public void deleteSiteContent(String contentKey) {
 		restTemplate.delete(uri);
 	}
 
+	@Override
+	public InputStream getSiteContentValueStream(String contentKey) {
+		URI uri = buildUri(new String[] { CCDSConstants.SITE_PATH, CCDSConstants.CONTENT_PATH, contentKey,
+				CCDSConstants.VALUE_PATH }, null, null);
+		logger.debug("getSiteContentValueStream: url {}", uri);
+		return getStream(uri);
+	}
+
+	@Override
+	public void saveSiteContentValue(String contentKey, String mimeType, InputStream value, long length) {
+		URI uri = buildUri(new String[] { CCDSConstants.SITE_PATH, CCDSConstants.CONTENT_PATH, contentKey,
+				CCDSConstants.VALUE_PATH }, null, null);
+		logger.debug("saveSiteContentValue: url {}", uri);
+		executeStreaming(uri, HttpMethod.PUT, MediaType.parseMediaType(mimeType), value, length).close();
+	}
+
 	@Override
 	public long getThreadCount() {
 		URI uri = buildUri(new String[] { CCDSConstants.THREAD_PATH, CCDSConstants.COUNT_PATH }, null, null);
@@ -2392,6 +2983,23 @@ public void dropUserTag(String userId, String tag) {
 		restTemplate.delete(uri);
 	}
 
+	@Override
+	public byte[] getUserPicture(String userId) {
+		URI uri = buildUri(new String[] { CCDSConstants.USER_PATH, userId, CCDSConstants.PICTURE_PATH }, null, null);
+		logger.debug("getUserPicture: uri {}", uri);
+		ResponseEntity<byte[]> response = restTemplate.exchange(uri, HttpMethod.GET, null,
+				new ParameterizedTypeReference<byte[]>() {
+				});
+		return response.getBody();
+	}
+
+	@Override
+	public void saveUserPicture(String userId, byte[] picture) {
+		URI uri = buildUri(new String[] { CCDSConstants.USER_PATH, userId, CCDSConstants.PICTURE_PATH }, null, null);
+		logger.debug("saveUserPicture: uri {}", uri);
+		restTemplate.put(uri, picture);
+	}
+
 	@Override
 	public byte[] getSolutionPicture(String solutionId) {
 		URI uri = buildUri(new String[] { CCDSConstants.SOLUTION_PATH, solutionId, CCDSConstants.PICTURE_PATH }, null,
@@ -2411,6 +3019,36 @@ public void saveSolutionPicture(String solutionId, byte[] image) {
 		restTemplate.put(uri, image);
 	}
 
+	@Override
+	public InputStream getUserPictureStream(String userId) {
+		URI uri = buildUri(new String[] { CCDSConstants.USER_PATH, userId, CCDSConstants.PICTURE_PATH }, null, null);
+		logger.debug("getUserPictureStream: uri {}", uri);
+		return getStream(uri);
+	}
+
+	@Override
+	public void saveUserPicture(String userId, InputStream picture, long length) {
+		URI uri = buildUri(new String[] { CCDSConstants.USER_PATH, userId, CCDSConstants.PICTURE_PATH }, null, null);
+		logger.debug("saveUserPicture: uri {}", uri);
+		executeStreaming(uri, HttpMethod.PUT, MediaType.APPLICATION_OCTET_STREAM, picture, length).close();
+	}
+
+	@Override
+	public InputStream getSolutionPictureStream(String solutionId) {
+		URI uri = buildUri(new String[] { CCDSConstants.SOLUTION_PATH, solutionId, CCDSConstants.PICTURE_PATH }, null,
+				null);
+		logger.debug("getSolutionPictureStream: uri {}", uri);
+		return getStream(uri);
+	}
+
+	@Override
+	public void saveSolutionPicture(String solutionId, InputStream picture, long length) {
+		URI uri = buildUri(new String[] { CCDSConstants.SOLUTION_PATH, solutionId, CCDSConstants.PICTURE_PATH }, null,
+				null);
+		logger.debug("saveSolutionPicture: uri {}", uri);
+		executeStreaming(uri, HttpMethod.PUT, MediaType.APPLICATION_OCTET_STREAM, picture, length).close();
+	}
+
 	@Override
 	public RestPageResponse<MLPCatalog> getCatalogs(RestPageRequest pageRequest) {
 		URI uri = buildUri(new String[] { CCDSConstants.CATALOG_PATH }, null, pageRequest);
@@ -2421,6 +3059,19 @@ public RestPageResponse<MLPCatalog> getCatalogs(RestPageRequest pageRequest) {
 		return response.getBody();
 	}
 
+	@Override
+	public RestPageResponse<MLPCatalog> getCatalogs(RestPageRequest pageRequest, String[] fields) {
+		HashMap<String, Object> parms = new HashMap<>();
+		if (fields != null && fields.length > 0)
+			parms.put(CCDSConstants.FIELDS_QUERY_PARAM, fields);
+		URI uri = buildUri(new String[] { CCDSConstants.CATALOG_PATH }, parms, pageRequest);
+		logger.debug("getCatalogs: uri {}", uri);
+		ResponseEntity<RestPageResponse<MLPCatalog>> response = restTemplate.exchange(uri, HttpMethod.GET, null,
+				new ParameterizedTypeReference<RestPageResponse<MLPCatalog>>() {
+				});
+		return response.getBody();
+	}
+
 	@Override
 	public MLPCatalog getCatalog(String catalogId) {
 		URI uri = buildUri(new String[] { CCDSConstants.CATALOG_PATH, catalogId }, null, null);
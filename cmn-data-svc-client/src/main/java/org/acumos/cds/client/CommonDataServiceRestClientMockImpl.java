@@ -20,6 +20,10 @@
 
 package org.acumos.cds.client;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.lang.invoke.MethodHandles;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -28,6 +32,7 @@
 import java.util.Map;
 
 import org.acumos.cds.CodeNameType;
+import org.acumos.cds.SolutionDetailPart;
 import org.acumos.cds.domain.MLPArtifact;
 import org.acumos.cds.domain.MLPCatalog;
 import org.acumos.cds.domain.MLPCodeNamePair;
@@ -65,11 +70,19 @@
 import org.acumos.cds.domain.MLPUserLoginProvider;
 import org.acumos.cds.domain.MLPUserNotifPref;
 import org.acumos.cds.domain.MLPUserNotification;
+import org.acumos.cds.transport.BatchTransport;
+import org.acumos.cds.transport.CacheStatsTransport;
+import org.acumos.cds.transport.FacetCountTransport;
+import org.acumos.cds.transport.PurgeTaskTransport;
 import org.acumos.cds.transport.RestPageRequest;
 import org.acumos.cds.transport.RestPageResponse;
+import org.acumos.cds.transport.SolutionChangeTransport;
+import org.acumos.cds.transport.SolutionDetailTransport;
 import org.acumos.cds.transport.SuccessTransport;
+import org.acumos.cds.transport.SuggestionTransport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.util.StreamUtils;
 import org.springframework.web.client.RestTemplate;
 
 /**
@@ -93,7 +106,13 @@ public static ICommonDataServiceRestClient getInstance(String webapiUrl, RestTem
 	private SuccessTransport health = new SuccessTransport(200, "mock health");
 	private SuccessTransport version = new SuccessTransport(200, "mock version");
 	private long solutionCount = 0;
+	private long pendingSolutionViewCount;
+	private PurgeTaskTransport purgeTask;
 	private RestPageResponse<MLPSolution> solutions;
+	private RestPageResponse<MLPSolution> solutionsByCursor;
+	private BatchTransport<MLPSolutionRevision> solutionRevisionsById;
+	private BatchTransport<MLPSolution> solutionsById;
+	private SolutionDetailTransport solutionDetail;
 	private RestPageResponse<MLPSolution> solutionsBySearchTerm;
 	private RestPageResponse<MLPSolution> solutionsByTag;
 	private MLPSolution solutionById = new MLPSolution();
@@ -109,12 +128,16 @@ public static ICommonDataServiceRestClient getInstance(String webapiUrl, RestTem
 	private List<MLPTag> solutionTags;
 	private long artifactCount = 0;
 	private RestPageResponse<MLPArtifact> artifacts;
+	private RestPageResponse<MLPArtifact> artifactsByCursor;
+	private BatchTransport<MLPArtifact> artifactsById;
 	private RestPageResponse<MLPArtifact> artifactsBySearchTerm;
 	private RestPageResponse<MLPArtifact> searchArtifacts;
 	private MLPArtifact artifactById = new MLPArtifact();
 	private MLPArtifact artifact = new MLPArtifact();
 	private long userCount = 0;
 	private RestPageResponse<MLPUser> users;
+	private RestPageResponse<MLPUser> usersByCursor;
+	private BatchTransport<MLPUser> usersById;
 	private RestPageResponse<MLPUser> usersBySearchTerm;
 	private RestPageResponse<MLPUser> searchUsers;
 	private MLPUser loginUser = new MLPUser();
@@ -173,6 +196,11 @@ public static ICommonDataServiceRestClient getInstance(String webapiUrl, RestTem
 	private MLPComment comment = new MLPComment();
 	private MLPComment commentById = new MLPComment();
 	private RestPageResponse<MLPSolution> portalSolutions;
+	private FacetCountTransport portalSolutionFacets;
+	private CacheStatsTransport solutionSearchCacheStats;
+	private List<CacheStatsTransport> entityCacheStats = new ArrayList<>();
+	private SolutionChangeTransport solutionChanges = new SolutionChangeTransport();
+	private List<SuggestionTransport> solutionSuggestions = new ArrayList<>();
 	private RestPageResponse<MLPSolution> searchSolutions;
 	private RestPageResponse<MLPThread> solutionRevisionThreads;
 	private RestPageResponse<MLPComment> solutionRevisionComments;
@@ -207,6 +235,8 @@ public static ICommonDataServiceRestClient getInstance(String webapiUrl, RestTem
 	private RestPageResponse<MLPSolution> restrictedSolutions;
 	private long userNotificationCount;
 	private byte[] solutionImage;
+	private byte[] userImage;
+	private byte[] siteContentValue;
 	private MLPCatalog catalog;
 	private RestPageResponse<MLPCatalog> catalogs;
 	private RestPageResponse<MLPSolution> solutionsInCatalogs;
@@ -338,6 +368,29 @@ public RestPageResponse<MLPSolution> getSolutions(RestPageRequest pageRequest) {
 		return solutions;
 	}
 
+	@Override
+	public RestPageResponse<MLPSolution> getSolutions(RestPageRequest pageRequest, String[] fields) {
+		return solutions;
+	}
+
+	public void setSolutionsByCursor(RestPageResponse<MLPSolution> solutions) {
+		this.solutionsByCursor = solutions;
+	}
+
+	@Override
+	public RestPageResponse<MLPSolution> getSolutionsByCursor(String continuation, RestPageRequest pageRequest) {
+		return solutionsByCursor;
+	}
+
+	public void setSolutionsById(BatchTransport<MLPSolution> batch) {
+		this.solutionsById = batch;
+	}
+
+	@Override
+	public BatchTransport<MLPSolution> getSolutionsById(String[] solutionIds) {
+		return solutionsById;
+	}
+
 	public void setSolutionsBySearchTerm(RestPageResponse<MLPSolution> solutions) {
 		this.solutionsBySearchTerm = solutions;
 	}
@@ -375,6 +428,16 @@ public MLPSolution getSolution(String solutionId) {
 		return solutionById;
 	}
 
+	public void setSolutionDetail(SolutionDetailTransport detail) {
+		this.solutionDetail = detail;
+	}
+
+	@Override
+	public SolutionDetailTransport getSolutionDetail(String solutionId, SolutionDetailPart[] include,
+			RestPageRequest ratingsPageRequest) {
+		return solutionDetail;
+	}
+
 	public void setSolution(MLPSolution solution) {
 		this.solution = solution;
 	}
@@ -394,11 +457,34 @@ public void incrementSolutionViewCount(String solutionId) {
 		// What to mock here?
 	}
 
+	public void setPendingSolutionViewCount(long count) {
+		this.pendingSolutionViewCount = count;
+	}
+
+	@Override
+	public long getPendingSolutionViewCount() {
+		return this.pendingSolutionViewCount;
+	}
+
 	@Override
 	public void deleteSolution(String solutionId) {
 		// What to mock here?
 	}
 
+	public void setPurgeTask(PurgeTaskTransport task) {
+		this.purgeTask = task;
+	}
+
+	@Override
+	public PurgeTaskTransport purgeSolution(String solutionId) {
+		return this.purgeTask;
+	}
+
+	@Override
+	public PurgeTaskTransport getPurgeTask(String taskId) {
+		return this.purgeTask;
+	}
+
 	public void setSolutionRevisionsById(List<MLPSolutionRevision> list) {
 		this.solutionRevisionListById = list;
 	}
@@ -417,6 +503,15 @@ public List<MLPSolutionRevision> getSolutionRevisions(String[] solutionIds) {
 		return solutionRevisionListByIdList;
 	}
 
+	public void setSolutionRevisionsById(BatchTransport<MLPSolutionRevision> batch) {
+		this.solutionRevisionsById = batch;
+	}
+
+	@Override
+	public BatchTransport<MLPSolutionRevision> getSolutionRevisionsById(String[] revisionIds) {
+		return solutionRevisionsById;
+	}
+
 	public void setSolutionRevisionById(MLPSolutionRevision revision) {
 		this.solutionRevisionById = revision;
 	}
@@ -533,6 +628,29 @@ public RestPageResponse<MLPArtifact> getArtifacts(RestPageRequest pageRequest) {
 		return artifacts;
 	}
 
+	@Override
+	public RestPageResponse<MLPArtifact> getArtifacts(RestPageRequest pageRequest, String[] fields) {
+		return artifacts;
+	}
+
+	public void setArtifactsByCursor(RestPageResponse<MLPArtifact> artifacts) {
+		this.artifactsByCursor = artifacts;
+	}
+
+	@Override
+	public RestPageResponse<MLPArtifact> getArtifactsByCursor(String continuation, RestPageRequest pageRequest) {
+		return artifactsByCursor;
+	}
+
+	public void setArtifactsById(BatchTransport<MLPArtifact> batch) {
+		this.artifactsById = batch;
+	}
+
+	@Override
+	public BatchTransport<MLPArtifact> getArtifactsById(String[] artifactIds) {
+		return artifactsById;
+	}
+
 	public void setArtifactsBySearchTerm(RestPageResponse<MLPArtifact> artifacts) {
 		this.artifactsBySearchTerm = artifacts;
 	}
@@ -598,6 +716,29 @@ public RestPageResponse<MLPUser> getUsers(RestPageRequest pageRequest) {
 		return users;
 	}
 
+	@Override
+	public RestPageResponse<MLPUser> getUsers(RestPageRequest pageRequest, String[] fields) {
+		return users;
+	}
+
+	public void setUsersByCursor(RestPageResponse<MLPUser> users) {
+		this.usersByCursor = users;
+	}
+
+	@Override
+	public RestPageResponse<MLPUser> getUsersByCursor(String continuation, RestPageRequest pageRequest) {
+		return usersByCursor;
+	}
+
+	public void setUsersById(BatchTransport<MLPUser> batch) {
+		this.usersById = batch;
+	}
+
+	@Override
+	public BatchTransport<MLPUser> getUsersById(String[] userIds) {
+		return usersById;
+	}
+
 	public void setUsersBySearchTerm(RestPageResponse<MLPUser> users) {
 		this.usersBySearchTerm = users;
 	}
@@ -1027,6 +1168,11 @@ public RestPageResponse<MLPNotification> getNotifications(RestPageRequest pageRe
 		return notifications;
 	}
 
+	@Override
+	public RestPageResponse<MLPNotification> getNotifications(RestPageRequest pageRequest, String[] fields) {
+		return notifications;
+	}
+
 	public void setNotification(MLPNotification notification) {
 		this.notification = notification;
 	}
@@ -1271,6 +1417,16 @@ public void deleteSiteContent(String contentKey) {
 		// How to mock?
 	}
 
+	@Override
+	public InputStream getSiteContentValueStream(String contentKey) {
+		return toStream(this.siteContentValue);
+	}
+
+	@Override
+	public void saveSiteContentValue(String contentKey, String mimeType, InputStream value, long length) {
+		this.siteContentValue = toBytes(value);
+	}
+
 	public void setThreadCount(long count) {
 		this.threadCount = count;
 	}
@@ -1381,6 +1537,53 @@ public RestPageResponse<MLPSolution> findPortalSolutionsByKwAndTags(String[] key
 		return this.portalSolutions;
 	}
 
+	public void setPortalSolutionFacets(FacetCountTransport facets) {
+		this.portalSolutionFacets = facets;
+	}
+
+	@Override
+	public FacetCountTransport findPortalSolutionFacets(String[] keywords, boolean active, String[] userIds,
+			String[] accessTypeCodes, String[] modelTypeCodes, String[] allTags, String[] anyTags,
+			String[] catalogIds) {
+		return this.portalSolutionFacets;
+	}
+
+	public void setSolutionSuggestions(List<SuggestionTransport> suggestions) {
+		this.solutionSuggestions = suggestions;
+	}
+
+	@Override
+	public List<SuggestionTransport> getSolutionSuggestions(String term, int limit) {
+		return this.solutionSuggestions;
+	}
+
+	public void setSolutionChanges(SolutionChangeTransport changes) {
+		this.solutionChanges = changes;
+	}
+
+	@Override
+	public SolutionChangeTransport getSolutionChanges(long since, int limit) {
+		return this.solutionChanges;
+	}
+
+	public void setSolutionSearchCacheStats(CacheStatsTransport stats) {
+		this.solutionSearchCacheStats = stats;
+	}
+
+	@Override
+	public CacheStatsTransport getSolutionSearchCacheStats() {
+		return this.solutionSearchCacheStats;
+	}
+
+	public void setEntityCacheStats(List<CacheStatsTransport> stats) {
+		this.entityCacheStats = stats;
+	}
+
+	@Override
+	public List<CacheStatsTransport> getEntityCacheStats() {
+		return this.entityCacheStats;
+	}
+
 	public void setUserSolutions(RestPageResponse<MLPSolution> solutions) {
 		this.userSolutions = solutions;
 	}
@@ -1790,6 +1993,16 @@ public void dropUserTag(String userId, String tag) {
 		// what to mock?
 	}
 
+	@Override
+	public byte[] getUserPicture(String userId) {
+		return this.userImage;
+	}
+
+	@Override
+	public void saveUserPicture(String userId, byte[] image) {
+		this.userImage = image;
+	}
+
 	@Override
 	public byte[] getSolutionPicture(String solutionId) {
 		return this.solutionImage;
@@ -1800,6 +2013,38 @@ public void saveSolutionPicture(String solutionId, byte[] image) {
 		this.solutionImage = image;
 	}
 
+	private static InputStream toStream(byte[] bytes) {
+		return bytes == null ? null : new ByteArrayInputStream(bytes);
+	}
+
+	private static byte[] toBytes(InputStream in) {
+		try {
+			return in == null ? null : StreamUtils.copyToByteArray(in);
+		} catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	@Override
+	public InputStream getUserPictureStream(String userId) {
+		return toStream(this.userImage);
+	}
+
+	@Override
+	public void saveUserPicture(String userId, InputStream image, long length) {
+		this.userImage = toBytes(image);
+	}
+
+	@Override
+	public InputStream getSolutionPictureStream(String solutionId) {
+		return toStream(this.solutionImage);
+	}
+
+	@Override
+	public void saveSolutionPicture(String solutionId, InputStream image, long length) {
+		this.solutionImage = toBytes(image);
+	}
+
 	public void setCatalog(MLPCatalog catalog) {
 		this.catalog = catalog;
 	}
@@ -1818,6 +2063,11 @@ public RestPageResponse<MLPCatalog> getCatalogs(RestPageRequest pageRequest) {
 		return this.catalogs;
 	}
 
+	@Override
+	public RestPageResponse<MLPCatalog> getCatalogs(RestPageRequest pageRequest, String[] fields) {
+		return this.catalogs;
+	}
+
 	@Override
 	public MLPCatalog createCatalog(MLPCatalog catalog) {
 		return this.catalog;
@@ -0,0 +1,212 @@
+/*-
+ * ===============LICENSE_START=======================================================
+ * Acumos
+ * ===================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property & Tech Mahindra. All rights reserved.
+ * ===================================================================================
+ * This Acumos software file is distributed by AT&T and Tech Mahindra
+ * under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ===============LICENSE_END=========================================================
+ */
+
+package org.acumos.cds.client;
+
+/**
+ * Settings for the HTTP connection pool and timeouts of
+ * {@link CommonDataServiceRestClientImpl}. All threads that share a client
+ * share its pool, so the per-route limit is the number of requests that can be
+ * in flight to the server at once; further requests wait for a connection up
+ * to the connection-request timeout.
+ * 
+ * Times are in milliseconds; zero means no limit. The defaults suit a client
+ * shared by a few dozen threads. Instances are not thread safe and should not
+ * be changed after a client is created with them.
+ */
+public class HttpClientConfig {
+
+	private int maxConnectionsTotal = 50;
+	private int maxConnectionsPerRoute = 50;
+	private long keepAliveMs = 30000;
+	private long idleEvictionMs = 30000;
+	private int validateAfterInactivityMs = 2000;
+	private int connectTimeoutMs = 10000;
+	private int connectionRequestTimeoutMs = 30000;
+	private int socketTimeoutMs = 120000;
+	private boolean compression = true;
+
+	/**
+	 * Builds a configuration with the default values.
+	 */
+	public HttpClientConfig() {
+		// no-arg constructor
+	}
+
+	/**
+	 * @return Maximum number of connections in the pool; default 50
+	 */
+	public int getMaxConnectionsTotal() {
+		return maxConnectionsTotal;
+	}
+
+	/**
+	 * @param maxConnectionsTotal
+	 *                                Maximum number of connections in the pool
+	 */
+	public void setMaxConnectionsTotal(int maxConnectionsTotal) {
+		this.maxConnectionsTotal = maxConnectionsTotal;
+	}
+
+	/**
+	 * @return Maximum number of connections to one host and port; default 50.
+	 *         The HttpClient default is 2.
+	 */
+	public int getMaxConnectionsPerRoute() {
+		return maxConnectionsPerRoute;
+	}
+
+	/**
+	 * @param maxConnectionsPerRoute
+	 *                                   Maximum number of connections to one host
+	 *                                   and port
+	 */
+	public void setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+		this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+	}
+
+	/**
+	 * @return Time an idle connection is kept for reuse when the server does not
+	 *         send a Keep-Alive timeout; default 30 seconds
+	 */
+	public long getKeepAliveMs() {
+		return keepAliveMs;
+	}
+
+	/**
+	 * @param keepAliveMs
+	 *                        Time an idle connection is kept for reuse when the
+	 *                        server does not send a Keep-Alive timeout
+	 */
+	public void setKeepAliveMs(long keepAliveMs) {
+		this.keepAliveMs = keepAliveMs;
+	}
+
+	/**
+	 * @return Time after which a background thread closes idle connections, and
+	 *         the interval at which it checks; default 30 seconds. Zero disables
+	 *         the thread.
+	 */
+	public long getIdleEvictionMs() {
+		return idleEvictionMs;
+	}
+
+	/**
+	 * @param idleEvictionMs
+	 *                           Time after which a background thread closes idle
+	 *                           connections; zero disables the thread
+	 */
+	public void setIdleEvictionMs(long idleEvictionMs) {
+		this.idleEvictionMs = idleEvictionMs;
+	}
+
+	/**
+	 * @return Idle time after which a pooled connection is checked for a close by
+	 *         the server before it is reused; default 2 seconds
+	 */
+	public int getValidateAfterInactivityMs() {
+		return validateAfterInactivityMs;
+	}
+
+	/**
+	 * @param validateAfterInactivityMs
+	 *                                      Idle time after which a pooled
+	 *                                      connection is checked before reuse
+	 */
+	public void setValidateAfterInactivityMs(int validateAfterInactivityMs) {
+		this.validateAfterInactivityMs = validateAfterInactivityMs;
+	}
+
+	/**
+	 * @return Time allowed to open a connection; default 10 seconds
+	 */
+	public int getConnectTimeoutMs() {
+		return connectTimeoutMs;
+	}
+
+	/**
+	 * @param connectTimeoutMs
+	 *                             Time allowed to open a connection
+	 */
+	public void setConnectTimeoutMs(int connectTimeoutMs) {
+		this.connectTimeoutMs = connectTimeoutMs;
+	}
+
+	/**
+	 * @return Time a request waits for a connection from the pool; default 30
+	 *         seconds
+	 */
+	public int getConnectionRequestTimeoutMs() {
+		return connectionRequestTimeoutMs;
+	}
+
+	/**
+	 * @param connectionRequestTimeoutMs
+	 *                                       Time a request waits for a connection
+	 *                                       from the pool
+	 */
+	public void setConnectionRequestTimeoutMs(int connectionRequestTimeoutMs) {
+		this.connectionRequestTimeoutMs = connectionRequestTimeoutMs;
+	}
+
+	/**
+	 * @return Longest time allowed between two packets of a response; default 2
+	 *         minutes
+	 */
+	public int getSocketTimeoutMs() {
+		return socketTimeoutMs;
+	}
+
+	/**
+	 * @param socketTimeoutMs
+	 *                            Longest time allowed between two packets of a
+	 *                            response
+	 */
+	public void setSocketTimeoutMs(int socketTimeoutMs) {
+		this.socketTimeoutMs = socketTimeoutMs;
+	}
+
+	/**
+	 * @return Whether to ask for compressed responses with an Accept-Encoding
+	 *         header and to decompress them; default true. The server compresses
+	 *         only if configured to do so.
+	 */
+	public boolean isCompression() {
+		return compression;
+	}
+
+	/**
+	 * @param compression
+	 *                        Whether to ask for compressed responses
+	 */
+	public void setCompression(boolean compression) {
+		this.compression = compression;
+	}
+
+	@Override
+	public String toString() {
+		return this.getClass().getName() + "[maxConnectionsTotal=" + maxConnectionsTotal + ", maxConnectionsPerRoute="
+				+ maxConnectionsPerRoute + ", keepAliveMs=" + keepAliveMs + ", idleEvictionMs=" + idleEvictionMs
+				+ ", validateAfterInactivityMs=" + validateAfterInactivityMs + ", connectTimeoutMs=" + connectTimeoutMs
+				+ ", connectionRequestTimeoutMs=" + connectionRequestTimeoutMs + ", socketTimeoutMs="
+				+ socketTimeoutMs + ", compression=" + compression + "]";
+	}
+
+}
@@ -0,0 +1,280 @@
+/*-
+ * ===============LICENSE_START=======================================================
+ * Acumos
+ * ===================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property & Tech Mahindra. All rights reserved.
+ * ===================================================================================
+ * This Acumos software file is distributed by AT&T and Tech Mahindra
+ * under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ===============LICENSE_END=========================================================
+ */
+
+package org.acumos.cds.client;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.acumos.cds.domain.MLPArtifact;
+import org.acumos.cds.domain.MLPDocument;
+import org.acumos.cds.domain.MLPRevisionDescription;
+import org.acumos.cds.domain.MLPSolution;
+import org.acumos.cds.domain.MLPSolutionDownload;
+import org.acumos.cds.domain.MLPSolutionRating;
+import org.acumos.cds.domain.MLPSolutionRevision;
+import org.acumos.cds.domain.MLPTag;
+import org.acumos.cds.domain.MLPUser;
+import org.acumos.cds.transport.RestPageRequest;
+import org.acumos.cds.transport.RestPageResponse;
+import org.acumos.cds.transport.SuccessTransport;
+
+/**
+ * <P>
+ * Defines an asynchronous REST client with the read methods that assemble a
+ * solution page. Each method has the name and parameters of the same method in
+ * {@link ICommonDataServiceRestClient} and returns at once with a future, so a
+ * caller can send several requests together and wait only as long as the
+ * slowest one.
+ * </P>
+ * <P>
+ * Results are the same domain and transport objects that the synchronous
+ * client returns. On a non-success response the future completes exceptionally
+ * with a {@link org.springframework.web.client.RestClientResponseException};
+ * on a failure to connect or read, with a
+ * {@link org.springframework.web.client.ResourceAccessException}. Futures are
+ * completed on threads of the common fork-join pool, not on the threads that
+ * run the network I/O. Cancelling a future aborts its request.
+ * </P>
+ */
+public interface ICommonDataServiceAsyncRestClient {
+
+	/**
+	 * Sets the request ID to use in a header on every request to the server. If no
+	 * request ID is set, or if this method is called with null, no header is sent.
+	 * 
+	 * @param requestId
+	 *                      A request identifier
+	 */
+	void setRequestId(String requestId);
+
+	/**
+	 * Checks the health of the server.
+	 * 
+	 * @return Future of an object with health string
+	 */
+	CompletableFuture<SuccessTransport> getHealth();
+
+	/**
+	 * Gets the version of the server.
+	 * 
+	 * @return Future of an object with version string
+	 */
+	CompletableFuture<SuccessTransport> getVersion();
+
+	/**
+	 * Gets count of solutions.
+	 * 
+	 * @return Future of the count of solutions.
+	 */
+	CompletableFuture<Long> getSolutionCount();
+
+	/**
+	 * Gets a page of solutions.
+	 * 
+	 * @param pageRequest
+	 *                        Page index, page size and sort information; defaults
+	 *                        to page 0 of size 20 if null.
+	 * @return Future of a page of solutions, which may be empty
+	 */
+	CompletableFuture<RestPageResponse<MLPSolution>> getSolutions(RestPageRequest pageRequest);
+
+	/**
+	 * Gets the solution with the specified ID.
+	 * 
+	 * @param solutionId
+	 *                       solution ID
+	 * @return Future of the solution; null if the ID is not found
+	 */
+	CompletableFuture<MLPSolution> getSolution(String solutionId);
+
+	/**
+	 * Gets the image for the specified solution ID.
+	 * 
+	 * @param solutionId
+	 *                       Solution ID
+	 * @return Future of the solution image; null if none is available.
+	 */
+	CompletableFuture<byte[]> getSolutionPicture(String solutionId);
+
+	/**
+	 * Gets all tags assigned to the specified solution ID.
+	 * 
+	 * @param solutionId
+	 *                       solution ID
+	 * @return Future of a list of tags
+	 */
+	CompletableFuture<List<MLPTag>> getSolutionTags(String solutionId);
+
+	/**
+	 * Gets a page of tags.
+	 * 
+	 * @param pageRequest
+	 *                        Page index, page size and sort information; defaults
+	 *                        to page 0 of size 20 if null.
+	 * @return Future of a page of tags
+	 */
+	CompletableFuture<RestPageResponse<MLPTag>> getTags(RestPageRequest pageRequest);
+
+	/**
+	 * Gets the revisions of the specified solution.
+	 * 
+	 * @param solutionId
+	 *                       solution ID
+	 * @return Future of a list of solution revisions
+	 */
+	CompletableFuture<List<MLPSolutionRevision>> getSolutionRevisions(String solutionId);
+
+	/**
+	 * Gets the revisions of the specified solutions.
+	 * 
+	 * @param solutionIds
+	 *                        solution IDs
+	 * @return Future of a list of solution revisions
+	 */
+	CompletableFuture<List<MLPSolutionRevision>> getSolutionRevisions(String[] solutionIds);
+
+	/**
+	 * Gets the specified solution revision.
+	 * 
+	 * @param solutionId
+	 *                       solution ID
+	 * @param revisionId
+	 *                       revision ID
+	 * @return Future of the solution revision; null if not found
+	 */
+	CompletableFuture<MLPSolutionRevision> getSolutionRevision(String solutionId, String revisionId);
+
+	/**
+	 * Gets the artifacts of the specified solution revision.
+	 * 
+	 * @param solutionId
+	 *                       solution ID
+	 * @param revisionId
+	 *                       revision ID
+	 * @return Future of a list of artifacts
+	 */
+	CompletableFuture<List<MLPArtifact>> getSolutionRevisionArtifacts(String solutionId, String revisionId);
+
+	/**
+	 * Gets the artifact with the specified ID.
+	 * 
+	 * @param artifactId
+	 *                       artifact ID
+	 * @return Future of the artifact; null if not found
+	 */
+	CompletableFuture<MLPArtifact> getArtifact(String artifactId);
+
+	/**
+	 * Gets the description of a revision for the specified access type.
+	 * 
+	 * @param revisionId
+	 *                           Revision ID
+	 * @param accessTypeCode
+	 *                           Access type code; e.g., "PB"
+	 * @return Future of the revision description; null if not found
+	 */
+	CompletableFuture<MLPRevisionDescription> getRevisionDescription(String revisionId, String accessTypeCode);
+
+	/**
+	 * Gets the documents of a revision for the specified access type.
+	 * 
+	 * @param revisionId
+	 *                           Revision ID
+	 * @param accessTypeCode
+	 *                           Access type code; e.g., "PB"
+	 * @return Future of a list of documents
+	 */
+	CompletableFuture<List<MLPDocument>> getSolutionRevisionDocuments(String revisionId, String accessTypeCode);
+
+	/**
+	 * Gets the document with the specified ID.
+	 * 
+	 * @param documentId
+	 *                       document ID
+	 * @return Future of the document; null if not found
+	 */
+	CompletableFuture<MLPDocument> getDocument(String documentId);
+
+	/**
+	 * Gets the user ratings for the specified solution.
+	 * 
+	 * @param solutionId
+	 *                        Solution ID
+	 * @param pageRequest
+	 *                        Page index, page size and sort information; defaults
+	 *                        to page 0 of size 20 if null.
+	 * @return Future of a page of solution ratings
+	 */
+	CompletableFuture<RestPageResponse<MLPSolutionRating>> getSolutionRatings(String solutionId,
+			RestPageRequest pageRequest);
+
+	/**
+	 * Gets a rating for the specified solution and user.
+	 * 
+	 * @param solutionId
+	 *                       Solution ID
+	 * @param userId
+	 *                       User ID
+	 * @return Future of the solution rating; null if not found
+	 */
+	CompletableFuture<MLPSolutionRating> getSolutionRating(String solutionId, String userId);
+
+	/**
+	 * Gets the downloads of the specified solution.
+	 * 
+	 * @param solutionId
+	 *                        Solution ID
+	 * @param pageRequest
+	 *                        Page index, page size and sort information; defaults
+	 *                        to page 0 of size 20 if null.
+	 * @return Future of a page of solution downloads
+	 */
+	CompletableFuture<RestPageResponse<MLPSolutionDownload>> getSolutionDownloads(String solutionId,
+			RestPageRequest pageRequest);
+
+	/**
+	 * Gets the users who were granted access to the specified solution.
+	 * 
+	 * @param solutionId
+	 *                       Solution ID
+	 * @return Future of a list of users
+	 */
+	CompletableFuture<List<MLPUser>> getSolutionAccessUsers(String solutionId);
+
+	/**
+	 * Gets the user with the specified ID.
+	 * 
+	 * @param userId
+	 *                   user ID
+	 * @return Future of the user; null if not found
+	 */
+	CompletableFuture<MLPUser> getUser(String userId);
+
+	/**
+	 * Gets the picture for the specified user ID.
+	 * 
+	 * @param userId
+	 *                   User ID
+	 * @return Future of the user picture; null if none is available.
+	 */
+	CompletableFuture<byte[]> getUserPicture(String userId);
+
+}
@@ -20,11 +20,13 @@
 
 package org.acumos.cds.client;
 
+import java.io.InputStream;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 
 import org.acumos.cds.CodeNameType;
+import org.acumos.cds.SolutionDetailPart;
 import org.acumos.cds.domain.MLPArtifact;
 import org.acumos.cds.domain.MLPCatalog;
 import org.acumos.cds.domain.MLPCodeNamePair;
@@ -62,9 +64,16 @@
 import org.acumos.cds.domain.MLPUserLoginProvider;
 import org.acumos.cds.domain.MLPUserNotifPref;
 import org.acumos.cds.domain.MLPUserNotification;
+import org.acumos.cds.transport.BatchTransport;
+import org.acumos.cds.transport.CacheStatsTransport;
+import org.acumos.cds.transport.FacetCountTransport;
+import org.acumos.cds.transport.PurgeTaskTransport;
 import org.acumos.cds.transport.RestPageRequest;
 import org.acumos.cds.transport.RestPageResponse;
+import org.acumos.cds.transport.SolutionChangeTransport;
+import org.acumos.cds.transport.SolutionDetailTransport;
 import org.acumos.cds.transport.SuccessTransport;
+import org.acumos.cds.transport.SuggestionTransport;
 import org.springframework.web.client.RestClientResponseException;
 
 /**
@@ -139,6 +148,52 @@ public interface ICommonDataServiceRestClient {
 	 */
 	RestPageResponse<MLPSolution> getSolutions(RestPageRequest pageRequest);
 
+	/**
+	 * Gets a page of solutions with only the specified fields populated, which
+	 * shortens the response when a list shows only a few fields. The ID is
+	 * always populated; other fields not named have default values.
+	 * 
+	 * @param pageRequest
+	 *                        Page index, page size and sort information; defaults
+	 *                        to page 0 of size 20 if null.
+	 * @param fields
+	 *                        Names of fields to populate; all if null or empty
+	 * @return Page of solutions, which may be empty
+	 */
+	RestPageResponse<MLPSolution> getSolutions(RestPageRequest pageRequest, String[] fields);
+
+	/**
+	 * Gets a page of solutions using keyset (cursor) pagination. The server seeks to
+	 * the position after the last element of the previous page instead of
+	 * skipping rows, so the cost of a page does not grow with its depth, and no
+	 * count query is run. Use this to walk all solutions; follow the continuation
+	 * token until it is null. The total element count of the result is not a
+	 * count of all solutions, it only shows whether another page follows.
+	 * 
+	 * @param continuation
+	 *                         Token from the previous page as returned by
+	 *                         {@link RestPageResponse#getContinuation()}; null to
+	 *                         get the first page.
+	 * @param pageRequest
+	 *                         Page size and at most one sort field, which must be
+	 *                         a mandatory field; the page number is ignored. The
+	 *                         sort is ignored if a continuation token is
+	 *                         supplied, because the token carries the sort.
+	 *                         Defaults to size 20 sorted by ID if null.
+	 * @return Page of solutions, which may be empty; the continuation token is null on the last page
+	 */
+	RestPageResponse<MLPSolution> getSolutionsByCursor(String continuation, RestPageRequest pageRequest);
+
+	/**
+	 * Gets the solutions with the specified IDs in one request.
+	 * 
+	 * @param solutionIds
+	 *                        Solution IDs; at most the server's batch limit (100
+	 *                        by default) after removing duplicates
+	 * @return Solutions found in the order of the IDs, and the IDs not found
+	 */
+	BatchTransport<MLPSolution> getSolutionsById(String[] solutionIds);
+
 	/**
 	 * Gets a page of solutions with a name field that contains the specified
 	 * string. This may be slow because it requires table scans.
@@ -155,6 +210,21 @@ public interface ICommonDataServiceRestClient {
 	 */
 	RestPageResponse<MLPSolution> findSolutionsBySearchTerm(String searchTerm, RestPageRequest pageRequest);
 
+	/**
+	 * Gets autocomplete suggestions for the solution search box. Suggestions are
+	 * drawn from the names, tags and revision authors of active solutions, and
+	 * match if any word in the text starts with the term, ignoring case. The
+	 * server answers from memory, so this is cheap enough to call on every
+	 * keystroke.
+	 * 
+	 * @param term
+	 *                  Prefix to complete; may contain several words
+	 * @param limit
+	 *                  Maximum number of suggestions
+	 * @return List of suggestions, most common first; empty if none match
+	 */
+	List<SuggestionTransport> getSolutionSuggestions(String term, int limit);
+
 	/**
 	 * Gets a page of solutions with exact matches on the specified fields, either
 	 * as a conjunction ("and", all must match) or a disjunction ("or", any must
@@ -275,10 +345,14 @@ RestPageResponse<MLPSolution> findPortalSolutions(String[] nameKeywords, String[
 			String[] authorKeywords, String[] publisherKeywords, RestPageRequest pageRequest);
 
 	/**
-	 * Gets a page of solutions that match every condition, with the caveat that any
-	 * one of the keywords can match, and multiple free-text fields are searched.
-	 * Other facets such as userId, model type code, etc. must match. This will be
-	 * slow because it requires table scans.
+	 * Gets a page of solutions that match every condition. Every keyword must match
+	 * the start of a word in one of the free-text fields, or any keyword can match
+	 * a solution or revision ID exactly. Other facets such as userId, model type
+	 * code, etc. must match. The server answers from an in-memory text index, so
+	 * this does not require table scans. Results are ranked by relevance unless
+	 * the page request specifies a sort. A keyword does not match inside a word;
+	 * e.g., "net" matches "Network" but not "ResNet". A server with the index
+	 * disabled matches keywords anywhere in the text, as earlier versions did.
 	 * 
 	 * @param keywords
 	 *                            Keywords to find in the name, revision
@@ -314,6 +388,78 @@ RestPageResponse<MLPSolution> findPortalSolutionsByKwAndTags(String[] keywords,
 			String[] accessTypeCodes, String[] modelTypeCodes, String[] allTags, String[] anyTags, String[] catalogIds,
 			RestPageRequest pageRequest);
 
+	/**
+	 * Counts the solutions that match every condition, per model type code,
+	 * toolkit type code, access type code, tag and catalog ID. Conditions are
+	 * evaluated exactly as in
+	 * {@link #findPortalSolutionsByKwAndTags(String[], boolean, String[], String[], String[], String[], String[], String[], RestPageRequest)},
+	 * so one call yields the counts that a search page shows next to its filters.
+	 * 
+	 * @param keywords
+	 *                            Keywords to find in the name, revision
+	 *                            description, author, publisher and other field;
+	 *                            ignored if null or empty
+	 * @param active
+	 *                            Solution active status; true for active, false for
+	 *                            inactive
+	 * @param userIds
+	 *                            User IDs who created the solution; ignored if null
+	 *                            or empty
+	 * @param accessTypeCodes
+	 *                            Access type codes; ignored if null or empty
+	 * @param modelTypeCodes
+	 *                            Model type codes; ignored if null or empty
+	 * @param allTags
+	 *                            Solutions must have ALL tags in the supplied set;
+	 *                            ignored if null or empty
+	 * @param anyTags
+	 *                            Solutions must have ANY tag in the supplied set
+	 *                            (one or more); ignored if null or empty.
+	 * @param catalogIds
+	 *                            Solutions must be mapped to one of the specified
+	 *                            catalogs; ignored if null or empty
+	 * @return Total count of matching solutions and counts per facet value
+	 */
+	FacetCountTransport findPortalSolutionFacets(String[] keywords, boolean active, String[] userIds,
+			String[] accessTypeCodes, String[] modelTypeCodes, String[] allTags, String[] anyTags,
+			String[] catalogIds);
+
+	/**
+	 * Gets the IDs of solutions that changed after the specified point in the
+	 * server's solution change log. A change to a solution, or to one of its
+	 * revisions, revision descriptions, artifacts or documents, appends an entry
+	 * to the log. Pass the last sequence number of the result to the next call to
+	 * resume; see {@link SolutionChangeFeed} for a helper that does this. Recent
+	 * entries are withheld for a short interval so that transactions which
+	 * commit out of order are not skipped.
+	 * 
+	 * @param since
+	 *                  Sequence number of the last change already seen; use 0 to
+	 *                  read the whole log
+	 * @param limit
+	 *                  Maximum number of log entries to read
+	 * @return IDs of changed solutions, the last sequence number read, and whether
+	 *         more changes remain
+	 */
+	SolutionChangeTransport getSolutionChanges(long since, int limit);
+
+	/**
+	 * Gets usage statistics of the server's cache of solution search results,
+	 * which is useful for sizing the cache.
+	 * 
+	 * @return Hit, miss, eviction and invalidation counts plus current size
+	 */
+	CacheStatsTransport getSolutionSearchCacheStats();
+
+	/**
+	 * Gets usage statistics of the server's second-level cache of reference
+	 * entities such as tags, roles, catalogs and peers, plus the cache of query
+	 * results.
+	 * 
+	 * @return List with one entry per cache region, plus a query cache summary
+	 */
+	List<CacheStatsTransport> getEntityCacheStats();
+
 	/**
 	 * Gets a page of solutions editable by the specified user and matching all
 	 * query parameters. A user's editable solutions include the specified user's
@@ -375,6 +521,23 @@ RestPageResponse<MLPSolution> findUserSolutions(String[] nameKeywords, String[]
 	 */
 	MLPSolution getSolution(String solutionId);
 
+	/**
+	 * Gets the solution with the specified ID together with the related entities
+	 * needed to show it, in one request that the server answers with a fixed
+	 * number of queries.
+	 * 
+	 * @param solutionId
+	 *                               solution ID
+	 * @param include
+	 *                               Parts to include; null or empty to include all
+	 * @param ratingsPageRequest
+	 *                               Page of ratings to include; null for the
+	 *                               server default
+	 * @return Solution detail; null if the solution is not found
+	 */
+	SolutionDetailTransport getSolutionDetail(String solutionId, SolutionDetailPart[] include,
+			RestPageRequest ratingsPageRequest);
+
 	/**
 	 * Creates a solution.
 	 * 
@@ -403,7 +566,9 @@ RestPageResponse<MLPSolution> findUserSolutions(String[] nameKeywords, String[]
 	 * A convenience method that increments the view count of a solution by 1.
 	 * 
 	 * This requires only one database access, instead of two to fetch the solution
-	 * entity and save it again.
+	 * entity and save it again. The server buffers views and writes them to the
+	 * database periodically; the view count of a solution fetched from the same
+	 * server includes buffered views.
 	 * 
 	 * @param solutionId
 	 *                       solution ID
@@ -412,6 +577,14 @@ RestPageResponse<MLPSolution> findUserSolutions(String[] nameKeywords, String[]
 	 */
 	void incrementSolutionViewCount(String solutionId) throws RestClientResponseException;
 
+	/**
+	 * Gets the number of solution views that the server has received but not yet
+	 * added to the view counts in the database.
+	 * 
+	 * @return Number of buffered views
+	 */
+	long getPendingSolutionViewCount();
+
 	/**
 	 * Deletes a solution. Cascades the delete to solution-revision records and
 	 * related entities such as composite solutions, solution downloads, publish
@@ -425,6 +598,30 @@ RestPageResponse<MLPSolution> findUserSolutions(String[] nameKeywords, String[]
 	 */
 	void deleteSolution(String solutionId) throws RestClientResponseException;
 
+	/**
+	 * Starts deleting a solution in the background and returns without waiting,
+	 * for solutions too large to delete within the request timeout. Cascades the
+	 * delete like {@link #deleteSolution(String)}. Answers bad request if the ID
+	 * is not known.
+	 * 
+	 * @param solutionId
+	 *                       solution ID
+	 * @return Task to poll with {@link #getPurgeTask(String)}
+	 * @throws RestClientResponseException
+	 *                                         Error message is in the response body
+	 */
+	PurgeTaskTransport purgeSolution(String solutionId) throws RestClientResponseException;
+
+	/**
+	 * Gets the state of a background solution delete. The server remembers only
+	 * recent tasks, and forgets all of them when it restarts.
+	 * 
+	 * @param taskId
+	 *                   Task ID
+	 * @return Task; null if the ID is not known
+	 */
+	PurgeTaskTransport getPurgeTask(String taskId);
+
 	/**
 	 * Gets the solution revisions for the specified solution ID.
 	 * 
@@ -445,6 +642,16 @@ RestPageResponse<MLPSolution> findUserSolutions(String[] nameKeywords, String[]
 	 */
 	List<MLPSolutionRevision> getSolutionRevisions(String[] solutionIds);
 
+	/**
+	 * Gets the solution revisions with the specified IDs in one request.
+	 * 
+	 * @param revisionIds
+	 *                        Revision IDs; at most the server's batch limit (100
+	 *                        by default) after removing duplicates
+	 * @return Revisions found in the order of the IDs, and the IDs not found
+	 */
+	BatchTransport<MLPSolutionRevision> getSolutionRevisionsById(String[] revisionIds);
+
 	/**
 	 * Gets the solution revision with the specified ID.
 	 * 
@@ -624,6 +831,52 @@ void dropSolutionRevisionArtifact(String solutionId, String revisionId, String a
 	 */
 	RestPageResponse<MLPArtifact> getArtifacts(RestPageRequest pageRequest);
 
+	/**
+	 * Gets a page of artifacts with only the specified fields populated, which
+	 * shortens the response when a list shows only a few fields. The ID is
+	 * always populated; other fields not named have default values.
+	 * 
+	 * @param pageRequest
+	 *                        Page index, page size and sort information; defaults
+	 *                        to page 0 of size 20 if null.
+	 * @param fields
+	 *                        Names of fields to populate; all if null or empty
+	 * @return Page of artifacts, which may be empty
+	 */
+	RestPageResponse<MLPArtifact> getArtifacts(RestPageRequest pageRequest, String[] fields);
+
+	/**
+	 * Gets a page of artifacts using keyset (cursor) pagination. The server seeks to
+	 * the position after the last element of the previous page instead of
+	 * skipping rows, so the cost of a page does not grow with its depth, and no
+	 * count query is run. Use this to walk all artifacts; follow the continuation
+	 * token until it is null. The total element count of the result is not a
+	 * count of all artifacts, it only shows whether another page follows.
+	 * 
+	 * @param continuation
+	 *                         Token from the previous page as returned by
+	 *                         {@link RestPageResponse#getContinuation()}; null to
+	 *                         get the first page.
+	 * @param pageRequest
+	 *                         Page size and at most one sort field, which must be
+	 *                         a mandatory field; the page number is ignored. The
+	 *                         sort is ignored if a continuation token is
+	 *                         supplied, because the token carries the sort.
+	 *                         Defaults to size 20 sorted by ID if null.
+	 * @return Page of artifact objects.; the continuation token is null on the last page
+	 */
+	RestPageResponse<MLPArtifact> getArtifactsByCursor(String continuation, RestPageRequest pageRequest);
+
+	/**
+	 * Gets the artifacts with the specified IDs in one request.
+	 * 
+	 * @param artifactIds
+	 *                        Artifact IDs; at most the server's batch limit (100
+	 *                        by default) after removing duplicates
+	 * @return Artifacts found in the order of the IDs, and the IDs not found
+	 */
+	BatchTransport<MLPArtifact> getArtifactsById(String[] artifactIds);
+
 	/**
 	 * Returns artifacts with a name or description that contains the search term.
 	 * 
@@ -713,10 +966,58 @@ RestPageResponse<MLPArtifact> searchArtifacts(Map<String, Object> queryParameter
 	 * @param pageRequest
 	 *                        Page index, page size and sort information; defaults
 	 *                        to page 0 of size 20 if null.
-	 * @return Page of objects.
+	 * @return Page of objects, which have no picture and no tags.
 	 */
 	RestPageResponse<MLPUser> getUsers(RestPageRequest pageRequest);
 
+	/**
+	 * Gets a page of users with only the specified fields populated, which
+	 * shortens the response when a list shows only a few fields. The ID is
+	 * always populated; other fields not named have default values.
+	 * 
+	 * @param pageRequest
+	 *                        Page index, page size and sort information; defaults
+	 *                        to page 0 of size 20 if null.
+	 * @param fields
+	 *                        Names of fields to populate; all if null or empty
+	 * @return Page of users, which may be empty
+	 */
+	RestPageResponse<MLPUser> getUsers(RestPageRequest pageRequest, String[] fields);
+
+	/**
+	 * Gets a page of users using keyset (cursor) pagination. The server seeks to
+	 * the position after the last element of the previous page instead of
+	 * skipping rows, so the cost of a page does not grow with its depth, and no
+	 * count query is run. Use this to walk all users; follow the continuation
+	 * token until it is null. The total element count of the result is not a
+	 * count of all users, it only shows whether another page follows.
+	 * 
+	 * @param continuation
+	 *                         Token from the previous page as returned by
+	 *                         {@link RestPageResponse#getContinuation()}; null to
+	 *                         get the first page.
+	 * @param pageRequest
+	 *                         Page size and at most one sort field, which must be
+	 *                         a mandatory field; the page number is ignored. The
+	 *                         sort is ignored if a continuation token is
+	 *                         supplied, because the token carries the sort.
+	 *                         Defaults to size 20 sorted by ID if null.
+	 * @return Page of objects, which have no picture and no tags; the
+	 *         continuation token is null on the last page
+	 */
+	RestPageResponse<MLPUser> getUsersByCursor(String continuation, RestPageRequest pageRequest);
+
+	/**
+	 * Gets the users with the specified IDs in one request. Users have no picture
+	 * and no tags.
+	 * 
+	 * @param userIds
+	 *                    User IDs; at most the server's batch limit (100
+	 *                    by default) after removing duplicates
+	 * @return Users found in the order of the IDs, and the IDs not found
+	 */
+	BatchTransport<MLPUser> getUsersById(String[] userIds);
+
 	/**
 	 * Returns users with a first, middle, last or login name that contains the
 	 * search term.
@@ -726,7 +1027,7 @@ RestPageResponse<MLPArtifact> searchArtifacts(Map<String, Object> queryParameter
 	 * @param pageRequest
 	 *                        Page index, page size and sort information; defaults
 	 *                        to page 0 of size 20 if null.
-	 * @return Page of user objects.
+	 * @return Page of user objects, which have no picture and no tags.
 	 */
 	RestPageResponse<MLPUser> findUsersBySearchTerm(String searchTerm, RestPageRequest pageRequest);
 
@@ -746,7 +1047,7 @@ RestPageResponse<MLPArtifact> searchArtifacts(Map<String, Object> queryParameter
 	 * @param pageRequest
 	 *                            Page index, page size and sort information;
 	 *                            defaults to page 0 of size 20 if null.
-	 * @return Page of user objects
+	 * @return Page of user objects, which have no picture and no tags.
 	 */
 	RestPageResponse<MLPUser> searchUsers(Map<String, Object> queryParameters, boolean isOr,
 			RestPageRequest pageRequest);
@@ -762,7 +1063,8 @@ RestPageResponse<MLPUser> searchUsers(Map<String, Object> queryParameters, boole
 	 *                 login name or email address; both attributes are checked
 	 * @param pass
 	 *                 clear-text password
-	 * @return User object if a match for an active user is found.
+	 * @return User object if a match for an active user is found; it has no
+	 *         picture and no tags.
 	 * @throws RestClientResponseException
 	 *                                         If the user is not found, is not
 	 *                                         active or the password does not
@@ -784,7 +1086,8 @@ RestPageResponse<MLPUser> searchUsers(Map<String, Object> queryParameters, boole
 	 *                     login name or email address; both attributes are checked
 	 * @param apiToken
 	 *                     clear-text API token
-	 * @return User object if a match for an active user is found.
+	 * @return User object if a match for an active user is found; it has no
+	 *         picture and no tags.
 	 * @throws RestClientResponseException
 	 *                                         If the user is not found, is not
 	 *                                         active or the token does not match.
@@ -808,7 +1111,8 @@ RestPageResponse<MLPUser> searchUsers(Map<String, Object> queryParameters, boole
 	 *                        checked
 	 * @param verifyToken
 	 *                        clear-text verification token
-	 * @return User object if a match for an active user is found.
+	 * @return User object if a match for an active user is found; it has no
+	 *         picture and no tags.
 	 * @throws RestClientResponseException
 	 *                                         If the user is not found, is not
 	 *                                         active or the token does not match.
@@ -843,7 +1147,12 @@ RestPageResponse<MLPUser> searchUsers(Map<String, Object> queryParameters, boole
 	MLPUser createUser(MLPUser user) throws RestClientResponseException;
 
 	/**
-	 * Updates a user.
+	 * Updates a user. Keeps the stored picture if the object has none; use
+	 * {@link #saveUserPicture(String, byte[])} to remove it. Replaces the stored
+	 * tags with the tags of the object, so an update built from a user that has
+	 * no tags, such as one from a page of users, removes them all; manage tags
+	 * with {@link #addUserTag(String, String)} and
+	 * {@link #dropUserTag(String, String)} instead.
 	 * 
 	 * @param user
 	 *                 User data
@@ -1402,6 +1711,20 @@ RestPageResponse<MLPPeer> searchPeers(Map<String, Object> queryParameters, boole
 	 */
 	RestPageResponse<MLPNotification> getNotifications(RestPageRequest pageRequest);
 
+	/**
+	 * Gets a page of notifications with only the specified fields populated, which
+	 * shortens the response when a list shows only a few fields. The ID is
+	 * always populated; other fields not named have default values.
+	 * 
+	 * @param pageRequest
+	 *                        Page index, page size and sort information; defaults
+	 *                        to page 0 of size 20 if null.
+	 * @param fields
+	 *                        Names of fields to populate; all if null or empty
+	 * @return Page of notifications, which may be empty
+	 */
+	RestPageResponse<MLPNotification> getNotifications(RestPageRequest pageRequest, String[] fields);
+
 	/**
 	 * Creates a notification.
 	 * 
@@ -1728,6 +2051,36 @@ RestPageResponse<MLPSolutionDeployment> getUserSolutionDeployments(String soluti
 	 */
 	void deleteSiteContent(String contentKey) throws RestClientResponseException;
 
+	/**
+	 * Gets the value of the site content with the specified key as a stream read
+	 * directly from the server response, without holding the whole value in
+	 * memory.
+	 * 
+	 * @param contentKey
+	 *                       key
+	 * @return Stream of the content value that the caller must close; null if the
+	 *         key is not found.
+	 */
+	InputStream getSiteContentValueStream(String contentKey);
+
+	/**
+	 * Creates or replaces the value of the site content with the specified key
+	 * from a stream, which is sent to the server as it is read.
+	 * 
+	 * @param contentKey
+	 *                       key
+	 * @param mimeType
+	 *                       Media type of the value
+	 * @param value
+	 *                       Stream of the value; the caller must close it.
+	 * @param length
+	 *                       Number of bytes in the stream; negative if unknown
+	 * @throws RestClientResponseException
+	 *                                         Error message is in the response body
+	 */
+	void saveSiteContentValue(String contentKey, String mimeType, InputStream value, long length)
+			throws RestClientResponseException;
+
 	/**
 	 * Gets count of threads.
 	 * 
@@ -2559,6 +2912,28 @@ RestPageResponse<MLPPublishRequest> searchPublishRequests(Map<String, Object> qu
 	 */
 	void dropUserTag(String userId, String tag) throws RestClientResponseException;
 
+	/**
+	 * Gets the picture for the specified user ID.
+	 * 
+	 * @param userId
+	 *                   User ID
+	 * @return User picture; null if none is available.
+	 */
+	byte[] getUserPicture(String userId);
+
+	/**
+	 * Saves or updates a user picture.
+	 * 
+	 * @param userId
+	 *                    User ID
+	 * @param picture
+	 *                    Image to save or update; send null to delete an existing
+	 *                    image.
+	 * @throws RestClientResponseException
+	 *                                         Error message is in the response body
+	 */
+	void saveUserPicture(String userId, byte[] picture) throws RestClientResponseException;
+
 	/**
 	 * Gets the image for the specified solution ID. solution ID is not known.
 	 * 
@@ -2581,6 +2956,60 @@ RestPageResponse<MLPPublishRequest> searchPublishRequests(Map<String, Object> qu
 	 */
 	void saveSolutionPicture(String solutionId, byte[] picture) throws RestClientResponseException;
 
+	/**
+	 * Gets the picture for the specified user ID as a stream read directly from
+	 * the server response, without holding the whole picture in memory.
+	 * 
+	 * @param userId
+	 *                   User ID
+	 * @return Stream of the user picture that the caller must close; null if the
+	 *         ID is not known or no picture is available.
+	 */
+	InputStream getUserPictureStream(String userId);
+
+	/**
+	 * Saves or updates a user picture from a stream, which is sent to the server
+	 * as it is read.
+	 * 
+	 * @param userId
+	 *                     User ID
+	 * @param picture
+	 *                     Stream of the image to save or update; send null to
+	 *                     delete an existing image. The caller must close it.
+	 * @param length
+	 *                     Number of bytes in the stream; negative if unknown
+	 * @throws RestClientResponseException
+	 *                                         Error message is in the response body
+	 */
+	void saveUserPicture(String userId, InputStream picture, long length) throws RestClientResponseException;
+
+	/**
+	 * Gets the image for the specified solution ID as a stream read directly from
+	 * the server response, without holding the whole image in memory.
+	 * 
+	 * @param solutionId
+	 *                       Solution ID
+	 * @return Stream of the solution image that the caller must close; null if
+	 *         the ID is not known or no image is available.
+	 */
+	InputStream getSolutionPictureStream(String solutionId);
+
+	/**
+	 * Saves or updates a solution image from a stream, which is sent to the
+	 * server as it is read.
+	 * 
+	 * @param solutionId
+	 *                       Solution ID
+	 * @param picture
+	 *                       Stream of the image to save or update; send null to
+	 *                       delete an existing image. The caller must close it.
+	 * @param length
+	 *                       Number of bytes in the stream; negative if unknown
+	 * @throws RestClientResponseException
+	 *                                         Error message is in the response body
+	 */
+	void saveSolutionPicture(String solutionId, InputStream picture, long length) throws RestClientResponseException;
+
 	/**
 	 * Gets a catalog
 	 * 
@@ -2600,6 +3029,20 @@ RestPageResponse<MLPPublishRequest> searchPublishRequests(Map<String, Object> qu
 	 */
 	RestPageResponse<MLPCatalog> getCatalogs(RestPageRequest pageRequest);
 
+	/**
+	 * Gets a page of catalogs with only the specified fields populated, which
+	 * shortens the response when a list shows only a few fields. The ID is
+	 * always populated; other fields not named have default values.
+	 * 
+	 * @param pageRequest
+	 *                        Page index, page size and sort information; defaults
+	 *                        to page 0 of size 20 if null.
+	 * @param fields
+	 *                        Names of fields to populate; all if null or empty
+	 * @return Page of catalogs, which may be empty
+	 */
+	RestPageResponse<MLPCatalog> getCatalogs(RestPageRequest pageRequest, String[] fields);
+
 	/**
 	 * Creates a catalog.
 	 * 
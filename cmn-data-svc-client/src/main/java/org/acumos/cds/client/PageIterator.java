@@ -0,0 +1,308 @@
+/*-
+ * ===============LICENSE_START=======================================================
+ * Acumos
+ * ===================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property & Tech Mahindra. All rights reserved.
+ * ===================================================================================
+ * This Acumos software file is distributed by AT&T and Tech Mahindra
+ * under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ===============LICENSE_END=========================================================
+ */
+
+package org.acumos.cds.client;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.acumos.cds.transport.RestPageRequest;
+import org.acumos.cds.transport.RestPageResponse;
+
+/**
+ * Iterates over all elements of a paged client method, fetching the following
+ * pages on a background thread while the caller processes the current one. At
+ * most the configured number of fetched pages wait in memory; the background
+ * thread blocks until the caller catches up. Wraps any paged method with a
+ * lambda; for example:
+ * 
+ * <PRE>
+ * try (PageIterator&lt;MLPSolution&gt; solutions = PageIterator.ofCursor(client::getSolutionsByCursor,
+ * 		new RestPageRequest(0, 100))) {
+ * 	while (solutions.hasNext())
+ * 		process(solutions.next());
+ * }
+ * </PRE>
+ * 
+ * A failure to fetch a page is thrown by {@link #hasNext()} after the elements
+ * of the pages before it. Pages in offset mode can shift if solutions are added
+ * or removed during the walk; cursor mode is stable and its cost does not grow
+ * with depth, so prefer it where the client offers a ByCursor method.
+ * Instances are not thread safe and must be closed if not read to the end.
+ * 
+ * @param <T>
+ *                Element type
+ */
+public class PageIterator<T> implements Iterator<T>, AutoCloseable {
+
+	/** Number of pages fetched ahead of the caller by default */
+	public static final int DEFAULT_PREFETCH_PAGES = 2;
+
+	/**
+	 * Fetches the page after the specified one.
+	 */
+	@FunctionalInterface
+	private interface PageSource<T> {
+		/**
+		 * @param previous
+		 *                     Previous page; null to fetch the first page
+		 * @return Next page; null if there is none
+		 */
+		RestPageResponse<T> next(RestPageResponse<T> previous);
+	}
+
+	/**
+	 * Content of a page, or the failure to fetch one, or the end.
+	 */
+	private static final class Batch<T> {
+		private final List<T> content;
+		private final RuntimeException error;
+
+		private Batch(List<T> content, RuntimeException error) {
+			this.content = content;
+			this.error = error;
+		}
+	}
+
+	@SuppressWarnings("rawtypes")
+	private static final Batch END = new Batch<>(Collections.emptyList(), null);
+
+	private static final Executor DAEMON_THREAD = r -> {
+		Thread t = new Thread(r, "CDS page prefetch");
+		t.setDaemon(true);
+		t.start();
+	};
+
+	private final PageSource<T> source;
+	private final BlockingQueue<Batch<T>> queue;
+	private final FutureTask<Void> producer;
+	private volatile boolean closed;
+	private Iterator<T> current = Collections.emptyIterator();
+	private boolean done;
+
+	private PageIterator(PageSource<T> source, int prefetchPages, Executor executor) {
+		if (prefetchPages < 1)
+			throw new IllegalArgumentException("Prefetch must be at least one page");
+		this.source = source;
+		this.queue = new ArrayBlockingQueue<>(prefetchPages);
+		this.producer = new FutureTask<>(this::produce, null);
+		executor.execute(producer);
+	}
+
+	/**
+	 * Walks a method that takes a page number, starting from the page in the
+	 * request and stopping after the page that reports no next page. Fetches
+	 * {@link #DEFAULT_PREFETCH_PAGES} ahead on a new daemon thread.
+	 * 
+	 * @param fetcher
+	 *                        Client method; e.g., client::getSolutions
+	 * @param pageRequest
+	 *                        First page number, page size and sort
+	 * @param <T>
+	 *                        Element type
+	 * @return Iterator over the elements of all pages
+	 */
+	public static <T> PageIterator<T> ofPages(Function<RestPageRequest, RestPageResponse<T>> fetcher,
+			RestPageRequest pageRequest) {
+		return ofPages(fetcher, pageRequest, DEFAULT_PREFETCH_PAGES, DAEMON_THREAD);
+	}
+
+	/**
+	 * Walks a method that takes a page number, starting from the page in the
+	 * request and stopping after the page that reports no next page.
+	 * 
+	 * @param fetcher
+	 *                          Client method; e.g., client::getSolutions
+	 * @param pageRequest
+	 *                          First page number, page size and sort
+	 * @param prefetchPages
+	 *                          Maximum number of fetched pages that wait for the
+	 *                          caller
+	 * @param executor
+	 *                          Runs the task that fetches pages; it holds a thread
+	 *                          until the last page is fetched or the iterator is
+	 *                          closed
+	 * @param <T>
+	 *                          Element type
+	 * @return Iterator over the elements of all pages
+	 */
+	public static <T> PageIterator<T> ofPages(Function<RestPageRequest, RestPageResponse<T>> fetcher,
+			RestPageRequest pageRequest, int prefetchPages, Executor executor) {
+		if (fetcher == null || pageRequest == null || executor == null)
+			throw new IllegalArgumentException("Null not permitted");
+		final int firstPage = pageRequest.getPage() == null ? 0 : pageRequest.getPage();
+		return new PageIterator<>(previous -> {
+			if (previous != null && (!previous.hasNext() || previous.getNumberOfElements() == 0))
+				return null;
+			RestPageRequest request = new RestPageRequest(
+					previous == null ? firstPage : previous.getNumber() + 1, pageRequest.getSize() == null ? 20
+							: pageRequest.getSize(),
+					pageRequest.getFieldToDirectionMap());
+			request.setCountMode(pageRequest.getCountMode());
+			return fetcher.apply(request);
+		}, prefetchPages, executor);
+	}
+
+	/**
+	 * Walks a keyset (cursor) method from the first page, following the
+	 * continuation token until it is null. Fetches
+	 * {@link #DEFAULT_PREFETCH_PAGES} ahead on a new daemon thread.
+	 * 
+	 * @param fetcher
+	 *                        Client method; e.g., client::getSolutionsByCursor
+	 * @param pageRequest
+	 *                        Page size and sort as the method accepts them
+	 * @param <T>
+	 *                        Element type
+	 * @return Iterator over the elements of all pages
+	 */
+	public static <T> PageIterator<T> ofCursor(BiFunction<String, RestPageRequest, RestPageResponse<T>> fetcher,
+			RestPageRequest pageRequest) {
+		return ofCursor(fetcher, pageRequest, DEFAULT_PREFETCH_PAGES, DAEMON_THREAD);
+	}
+
+	/**
+	 * Walks a keyset (cursor) method from the first page, following the
+	 * continuation token until it is null.
+	 * 
+	 * @param fetcher
+	 *                          Client method; e.g., client::getSolutionsByCursor
+	 * @param pageRequest
+	 *                          Page size and sort as the method accepts them
+	 * @param prefetchPages
+	 *                          Maximum number of fetched pages that wait for the
+	 *                          caller
+	 * @param executor
+	 *                          Runs the task that fetches pages; it holds a thread
+	 *                          until the last page is fetched or the iterator is
+	 *                          closed
+	 * @param <T>
+	 *                          Element type
+	 * @return Iterator over the elements of all pages
+	 */
+	public static <T> PageIterator<T> ofCursor(BiFunction<String, RestPageRequest, RestPageResponse<T>> fetcher,
+			RestPageRequest pageRequest, int prefetchPages, Executor executor) {
+		if (fetcher == null || executor == null)
+			throw new IllegalArgumentException("Null not permitted");
+		return new PageIterator<>(previous -> {
+			if (previous == null)
+				return fetcher.apply(null, pageRequest);
+			return previous.getContinuation() == null ? null : fetcher.apply(previous.getContinuation(), pageRequest);
+		}, prefetchPages, executor);
+	}
+
+	@SuppressWarnings("unchecked")
+	private void produce() {
+		try {
+			RestPageResponse<T> page = null;
+			while (!closed && (page = source.next(page)) != null) {
+				if (page.getNumberOfElements() > 0)
+					queue.put(new Batch<>(page.getContent(), null));
+			}
+			queue.put(END);
+		} catch (InterruptedException ex) {
+			// Closed by the consumer
+			Thread.currentThread().interrupt();
+		} catch (RuntimeException ex) {
+			try {
+				queue.put(new Batch<>(null, ex));
+			} catch (InterruptedException ie) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	/**
+	 * Answers whether another element is available, waiting for the next page if
+	 * it has not arrived yet.
+	 * 
+	 * @return True if another element is available; false after the last page or
+	 *         after the iterator is closed
+	 * @throws org.springframework.web.client.RestClientException
+	 *                                                                If fetching a
+	 *                                                                page failed
+	 */
+	@Override
+	public boolean hasNext() {
+		while (!current.hasNext()) {
+			if (done || closed)
+				return false;
+			Batch<T> batch;
+			try {
+				batch = queue.take();
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				close();
+				throw new IllegalStateException("Interrupted while waiting for a page", ex);
+			}
+			if (batch == END) {
+				done = true;
+				return false;
+			}
+			if (batch.error != null) {
+				done = true;
+				throw batch.error;
+			}
+			current = batch.content.iterator();
+		}
+		return true;
+	}
+
+	@Override
+	public T next() {
+		if (!hasNext())
+			throw new NoSuchElementException();
+		return current.next();
+	}
+
+	/**
+	 * Gets a sequential stream of the remaining elements. Closing the stream
+	 * closes this iterator.
+	 * 
+	 * @return Stream of elements
+	 */
+	public Stream<T> stream() {
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED), false)
+				.onClose(this::close);
+	}
+
+	/**
+	 * Stops fetching pages and discards the pages not yet read.
+	 */
+	@Override
+	public void close() {
+		closed = true;
+		producer.cancel(true);
+		queue.clear();
+	}
+
+}
@@ -0,0 +1,108 @@
+/*-
+ * ===============LICENSE_START=======================================================
+ * Acumos
+ * ===================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property & Tech Mahindra. All rights reserved.
+ * ===================================================================================
+ * This Acumos software file is distributed by AT&T and Tech Mahindra
+ * under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ===============LICENSE_END=========================================================
+ */
+
+package org.acumos.cds.client;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.acumos.cds.transport.SolutionChangeTransport;
+
+/**
+ * Follows the server's solution change log, replacing repeated searches by
+ * modification date. Each call to {@link #poll()} reads all changes after the
+ * last sequence number seen and advances it. To resume after a restart, save
+ * the value of {@link #getLastSequence()} and pass it to the constructor.
+ * Instances are not thread safe.
+ */
+public class SolutionChangeFeed {
+
+	/** Number of log entries requested per call to the server */
+	public static final int DEFAULT_BATCH_SIZE = 500;
+
+	private final ICommonDataServiceRestClient client;
+	private final int batchSize;
+	private long lastSequence;
+
+	/**
+	 * Builds a feed that starts after the specified sequence number and uses the
+	 * default batch size.
+	 * 
+	 * @param client
+	 *                         Client for the server
+	 * @param lastSequence
+	 *                         Sequence number of the last change already seen; 0
+	 *                         to read the whole log
+	 */
+	public SolutionChangeFeed(ICommonDataServiceRestClient client, long lastSequence) {
+		this(client, lastSequence, DEFAULT_BATCH_SIZE);
+	}
+
+	/**
+	 * Builds a feed that starts after the specified sequence number.
+	 * 
+	 * @param client
+	 *                         Client for the server
+	 * @param lastSequence
+	 *                         Sequence number of the last change already seen; 0
+	 *                         to read the whole log
+	 * @param batchSize
+	 *                         Number of log entries requested per call to the
+	 *                         server
+	 */
+	public SolutionChangeFeed(ICommonDataServiceRestClient client, long lastSequence, int batchSize) {
+		if (client == null)
+			throw new IllegalArgumentException("Null not permitted");
+		if (batchSize < 1)
+			throw new IllegalArgumentException("Batch size must be positive");
+		this.client = client;
+		this.lastSequence = lastSequence;
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Reads all changes after the last sequence number seen, making as many calls
+	 * to the server as needed, and advances the last sequence number.
+	 * 
+	 * @return IDs of changed solutions in order of first appearance, which may be
+	 *         empty
+	 */
+	public Set<String> poll() {
+		Set<String> solutionIds = new LinkedHashSet<>();
+		SolutionChangeTransport batch;
+		do {
+			batch = client.getSolutionChanges(lastSequence, batchSize);
+			solutionIds.addAll(batch.getSolutionIds());
+			// Guard against a server that reports more without advancing
+			if (batch.getLastSequence() <= lastSequence)
+				break;
+			lastSequence = batch.getLastSequence();
+		} while (batch.isMore());
+		return solutionIds;
+	}
+
+	/**
+	 * @return Sequence number of the last change seen
+	 */
+	public long getLastSequence() {
+		return lastSequence;
+	}
+
+}
@@ -0,0 +1,194 @@
+/*-
+ * ===============LICENSE_START=======================================================
+ * Acumos
+ * ===================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property & Tech Mahindra. All rights reserved.
+ * ===================================================================================
+ * This Acumos software file is distributed by AT&T and Tech Mahindra
+ * under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ===============LICENSE_END=========================================================
+ */
+
+package org.acumos.cds.client;
+
+import java.net.URI;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Holds recent responses together with their validators (ETag and
+ * Last-Modified headers) so that a repeated GET can be sent as a conditional
+ * request. When the server answers 304 Not Modified the cached body is used
+ * again, which saves the payload and the work of serializing and parsing it.
+ * 
+ * Bodies are domain objects that callers may modify, so the cache stores a
+ * private copy and hands out copies. The cache is bounded by a number of
+ * entries and by an estimate of the bytes held; least-recently used entries are
+ * dropped when either bound is exceeded, and a body larger than the byte bound
+ * is not kept. A byte bound of zero disables the cache. Instances are thread
+ * safe.
+ */
+class ValidatingResponseCache {
+
+	/** Maximum number of responses held by default */
+	static final int DEFAULT_MAX_ENTRIES = 1000;
+
+	/** Maximum estimated size of the responses held by default */
+	static final long DEFAULT_MAX_BYTES = 4L * 1024 * 1024;
+
+	private static class Entry {
+		private final String eTag;
+		private final long lastModified;
+		private final Object body;
+		private final long bytes;
+
+		Entry(String eTag, long lastModified, Object body, long bytes) {
+			this.eTag = eTag;
+			this.lastModified = lastModified;
+			this.body = body;
+			this.bytes = bytes;
+		}
+	}
+
+	private final int maxEntries;
+	// These are guarded by this
+	private final Map<URI, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+	private long maxBytes;
+	private long bytes = 0;
+
+	/**
+	 * Builds a cache with the specified capacity.
+	 * 
+	 * @param maxEntries
+	 *                       Maximum number of responses held
+	 * @param maxBytes
+	 *                       Maximum estimated size of the responses held; zero
+	 *                       disables the cache
+	 */
+	ValidatingResponseCache(final int maxEntries, final long maxBytes) {
+		if (maxEntries < 1 || maxBytes < 0)
+			throw new IllegalArgumentException("Invalid capacity");
+		this.maxEntries = maxEntries;
+		this.maxBytes = maxBytes;
+	}
+
+	/**
+	 * @return Maximum estimated size of the responses held
+	 */
+	synchronized long getMaxBytes() {
+		return maxBytes;
+	}
+
+	/**
+	 * Changes the bound on the estimated size of the responses held, and drops
+	 * entries as needed to meet it.
+	 * 
+	 * @param maxBytes
+	 *                     Maximum estimated size of the responses held; zero
+	 *                     disables the cache
+	 */
+	synchronized void setMaxBytes(final long maxBytes) {
+		if (maxBytes < 0)
+			throw new IllegalArgumentException("Invalid capacity");
+		this.maxBytes = maxBytes;
+		evict();
+	}
+
+	/**
+	 * Fetches the URI, sending If-None-Match and If-Modified-Since headers if a
+	 * response is cached for it. Answers a copy of the cached body if the server
+	 * reports no change; otherwise stores the new body if the server sent a
+	 * validator and answers it.
+	 * 
+	 * @param uri
+	 *                    URI to fetch
+	 * @param fetcher
+	 *                    Function that sends a GET request with the specified
+	 *                    headers
+	 * @param copier
+	 *                    Function that copies a body of this type
+	 * @param <T>
+	 *                    Type of the response body
+	 * @return Current body, which may be null
+	 */
+	@SuppressWarnings("unchecked")
+	<T> T get(URI uri, Function<HttpHeaders, ResponseEntity<T>> fetcher, UnaryOperator<T> copier) {
+		Entry entry;
+		synchronized (this) {
+			entry = entries.get(uri);
+		}
+		HttpHeaders headers = new HttpHeaders();
+		if (entry != null) {
+			if (entry.eTag != null)
+				headers.setIfNoneMatch(entry.eTag);
+			if (entry.lastModified > 0)
+				headers.setIfModifiedSince(entry.lastModified);
+		}
+		ResponseEntity<T> response = fetcher.apply(headers);
+		if (response.getStatusCode() == HttpStatus.NOT_MODIFIED) {
+			if (entry != null)
+				return copier.apply((T) entry.body);
+			// Not expected without validators; fetch again unconditionally
+			response = fetcher.apply(new HttpHeaders());
+		}
+		T body = response.getBody();
+		String eTag = response.getHeaders().getETag();
+		long lastModified = response.getHeaders().getLastModified();
+		Entry update = null;
+		if (body != null && (eTag != null || lastModified > 0)) {
+			long size = estimateBytes(uri, body);
+			if (size <= getMaxBytes())
+				update = new Entry(eTag, lastModified, copier.apply(body), size);
+		}
+		synchronized (this) {
+			Entry old = update == null ? entries.remove(uri) : entries.put(uri, update);
+			if (old != null)
+				bytes -= old.bytes;
+			if (update != null) {
+				bytes += update.bytes;
+				evict();
+			}
+		}
+		return body;
+	}
+
+	/*
+	 * Drops least-recently used entries until both bounds are met. Caller must
+	 * hold the lock.
+	 */
+	private void evict() {
+		Iterator<Entry> iter = entries.values().iterator();
+		while (iter.hasNext() && (entries.size() > maxEntries || bytes > maxBytes)) {
+			bytes -= iter.next().bytes;
+			iter.remove();
+		}
+	}
+
+	/*
+	 * Estimates the memory held by an entry. A domain object is measured by its
+	 * string form, which shows its field values, at two bytes per character.
+	 */
+	private static long estimateBytes(URI uri, Object body) {
+		long size = 2L * uri.toString().length();
+		if (body instanceof byte[])
+			return size + ((byte[]) body).length;
+		return size + 2L * body.toString().length();
+	}
+
+}
@@ -23,6 +23,7 @@
 import java.time.Instant;
 import java.util.Objects;
 
+import javax.persistence.AttributeOverride;
 import javax.persistence.Column;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
@@ -43,6 +44,9 @@
  * could be exposed as a string or as an object via Hibernate magic.
  */
 @MappedSuperclass
+// Entity updates must advance the modified time; the HTTP validators use it
+@AttributeOverride(name = "modified", //
+		column = @Column(name = "MODIFIED_DATE", nullable = false, columnDefinition = "TIMESTAMP"))
 public abstract class MLPAbstractSolution extends MLPTimestampedEntity {
 
 	/* package */ static final String TABLE_NAME = "C_SOLUTION";
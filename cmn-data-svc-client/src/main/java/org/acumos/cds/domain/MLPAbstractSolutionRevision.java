@@ -25,6 +25,7 @@
 import java.util.Objects;
 import java.util.Set;
 
+import javax.persistence.AttributeOverride;
 import javax.persistence.Column;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
@@ -44,6 +45,9 @@
  * exposed as a string or as an object via Hibernate.
  */
 @MappedSuperclass
+// Entity updates must advance the modified time; the HTTP validators use it
+@AttributeOverride(name = "modified", //
+		column = @Column(name = "MODIFIED_DATE", nullable = false, columnDefinition = "TIMESTAMP"))
 public abstract class MLPAbstractSolutionRevision extends MLPTimestampedEntity {
 
 	/* package */ static final String TABLE_NAME = "C_SOLUTION_REV";
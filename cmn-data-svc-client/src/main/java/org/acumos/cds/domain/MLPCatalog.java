@@ -25,6 +25,7 @@
 import java.net.URL;
 import java.util.Objects;
 
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
@@ -33,6 +34,8 @@
 import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Size;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.GenericGenerator;
 
 import io.swagger.annotations.ApiModelProperty;
@@ -42,6 +45,8 @@
  */
 @Entity
 @Table(name = "C_CATALOG")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class MLPCatalog extends MLPTimestampedEntity implements Serializable {
 
 	private static final long serialVersionUID = 3125299968455154969L;
@@ -22,15 +22,21 @@
 
 import java.io.Serializable;
 
+import javax.persistence.Cacheable;
 import javax.persistence.Entity;
 import javax.persistence.Table;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 /**
  * Model for a peer group to support access control. The group definition is an
  * ID-name pair. The ID is used in another table to map peer(s) to group(s).
  */
 @Entity
 @Table(name = "C_PEER_GROUP")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class MLPPeerGroup extends MLPAbstractGroup implements Serializable {
 
 	private static final long serialVersionUID = -2547218328872978029L;
@@ -23,6 +23,7 @@
 import java.io.Serializable;
 import java.util.Objects;
 
+import javax.persistence.AttributeOverride;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Id;
@@ -37,6 +38,9 @@
  */
 @Entity
 @Table(name = "C_SITE_CONTENT")
+// Entity updates must advance the modified time; the HTTP validators use it
+@AttributeOverride(name = "modified", //
+		column = @Column(name = "MODIFIED_DATE", nullable = false, columnDefinition = "TIMESTAMP"))
 public class MLPSiteContent extends MLPTimestampedEntity implements Serializable {
 
 	private static final long serialVersionUID = -8139581648225717817L;
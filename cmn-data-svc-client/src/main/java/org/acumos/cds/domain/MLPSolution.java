@@ -34,6 +34,8 @@
 import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Size;
 
+import org.hibernate.annotations.BatchSize;
+
 import io.swagger.annotations.ApiModelProperty;
 
 /**
@@ -74,8 +76,12 @@ public class MLPSolution extends MLPAbstractSolution implements Serializable {
 	 * 
 	 * Eager fetch type ensures that tags are present when an entity is fetched by
 	 * ID via a Spring-generated repository method.
+	 * 
+	 * Batch fetching loads the tags of up to 100 solutions in one query, so a page
+	 * of solutions needs one tag query instead of one per row.
 	 */
 	@ManyToMany(fetch = FetchType.EAGER)
+	@BatchSize(size = 100)
 	@JoinTable(name = MLPSolTagMap.TABLE_NAME, //
 			joinColumns = { @JoinColumn(name = MLPSolTagMap.SOL_ID_COL_NAME) }, //
 			inverseJoinColumns = { @JoinColumn(name = MLPSolTagMap.TAG_COL_NAME) })
@@ -0,0 +1,151 @@
+/*-
+ * ===============LICENSE_START=======================================================
+ * Acumos
+ * ===================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property & Tech Mahindra. All rights reserved.
+ * ===================================================================================
+ * This Acumos software file is distributed by AT&T and Tech Mahindra
+ * under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ===============LICENSE_END=========================================================
+ */
+
+package org.acumos.cds.domain;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Objects;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.GenericGenerator;
+
+import io.swagger.annotations.ApiModelProperty;
+import io.swagger.annotations.ApiModelProperty.AccessMode;
+
+/**
+ * Model for an entry in the solution change log. The server appends one entry
+ * for every solution affected by a committed transaction that changes the
+ * solution or one of its revisions, revision descriptions, artifacts or
+ * documents. Entries are ordered by the generated sequence number. The
+ * solution ID has no foreign key because deleting a solution is a change.
+ */
+@Entity
+@Table(name = "C_SOL_CHANGE_LOG")
+public class MLPSolutionChange implements MLPDomainModel, Serializable {
+
+	private static final long serialVersionUID = -2786391043870412535L;
+
+	// See comment in MLPSolutionDownload about the ID column generator.
+	@Id
+	@GeneratedValue(strategy = GenerationType.AUTO, generator = "native")
+	@GenericGenerator(name = "native", strategy = "native")
+	@Column(name = "SEQ", nullable = false, updatable = false, columnDefinition = "INT")
+	@ApiModelProperty(accessMode = AccessMode.READ_ONLY, value = "Generated")
+	private Long sequence;
+
+	@Column(name = "SOLUTION_ID", nullable = false, updatable = false, columnDefinition = "CHAR(36)")
+	@NotNull(message = "SolutionID cannot be null")
+	@Size(max = 36)
+	@ApiModelProperty(required = true, example = "12345678-abcd-90ab-cdef-1234567890ab")
+	private String solutionId;
+
+	@CreationTimestamp
+	@Column(name = "CREATED_DATE", nullable = false, updatable = false, columnDefinition = "TIMESTAMP")
+	@ApiModelProperty(accessMode = AccessMode.READ_ONLY, value = "Created date", example = "2018-12-16T12:34:56.789Z")
+	private Instant created;
+
+	/**
+	 * No-arg constructor
+	 */
+	public MLPSolutionChange() {
+		// no-arg constructor
+	}
+
+	/**
+	 * This constructor accepts the required fields; i.e., the minimum that the user
+	 * must supply to create a valid instance. Omits sequence, which is generated
+	 * on save.
+	 * 
+	 * @param solutionId
+	 *                       Solution ID
+	 */
+	public MLPSolutionChange(String solutionId) {
+		if (solutionId == null)
+			throw new IllegalArgumentException("Null not permitted");
+		this.solutionId = solutionId;
+	}
+
+	/**
+	 * Copy constructor
+	 * 
+	 * @param that
+	 *                 Instance to copy
+	 */
+	public MLPSolutionChange(MLPSolutionChange that) {
+		this.created = that.created;
+		this.sequence = that.sequence;
+		this.solutionId = that.solutionId;
+	}
+
+	public Long getSequence() {
+		return sequence;
+	}
+
+	public void setSequence(Long sequence) {
+		this.sequence = sequence;
+	}
+
+	public String getSolutionId() {
+		return solutionId;
+	}
+
+	public void setSolutionId(String solutionId) {
+		this.solutionId = solutionId;
+	}
+
+	public Instant getCreated() {
+		return created;
+	}
+
+	public void setCreated(Instant created) {
+		this.created = created;
+	}
+
+	@Override
+	public boolean equals(Object that) {
+		if (that == null)
+			return false;
+		if (!(that instanceof MLPSolutionChange))
+			return false;
+		MLPSolutionChange thatObj = (MLPSolutionChange) that;
+		return Objects.equals(sequence, thatObj.sequence);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(sequence, solutionId);
+	}
+
+	@Override
+	public String toString() {
+		return this.getClass().getName() + "[sequence=" + sequence + ", solutionId=" + solutionId + ", created="
+				+ created + "]";
+	}
+}
@@ -23,12 +23,16 @@
 import java.io.Serializable;
 import java.util.Objects;
 
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Id;
 import javax.persistence.Table;
 import javax.validation.constraints.Size;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import io.swagger.annotations.ApiModelProperty;
 
 /**
@@ -39,6 +43,8 @@
  */
 @Entity
 @Table(name = "C_SOLUTION_TAG")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class MLPTag implements MLPDomainModel, Serializable {
 
 	private static final long serialVersionUID = -288462280366502647L;
@@ -0,0 +1,87 @@
+/*-
+ * ===============LICENSE_START=======================================================
+ * Acumos
+ * ===================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property & Tech Mahindra. All rights reserved.
+ * ===================================================================================
+ * This Acumos software file is distributed by AT&T and Tech Mahindra
+ * under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ===============LICENSE_END=========================================================
+ */
+
+package org.acumos.cds.transport;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Model to transport the result of fetching entities by a list of IDs, to be
+ * serialized as JSON. Lists the entities that were found in the order of the
+ * requested IDs, and separately the requested IDs that match no entity.
+ * 
+ * @param <T>
+ *                Entity type
+ */
+public class BatchTransport<T> implements MLPTransportModel {
+
+	private List<T> found = new ArrayList<>();
+	private List<String> missingIds = new ArrayList<>();
+
+	/**
+	 * Builds an empty object.
+	 */
+	public BatchTransport() {
+		// no-arg constructor
+	}
+
+	/**
+	 * Builds an object with the specified values.
+	 * 
+	 * @param found
+	 *                       Entities that were found
+	 * @param missingIds
+	 *                       Requested IDs that match no entity
+	 */
+	public BatchTransport(List<T> found, List<String> missingIds) {
+		this.found = found;
+		this.missingIds = missingIds;
+	}
+
+	/**
+	 * @return Entities that were found, in the order of the requested IDs
+	 */
+	public List<T> getFound() {
+		return found;
+	}
+
+	public void setFound(List<T> found) {
+		this.found = found;
+	}
+
+	/**
+	 * @return Requested IDs that match no entity, in the order requested
+	 */
+	public List<String> getMissingIds() {
+		return missingIds;
+	}
+
+	public void setMissingIds(List<String> missingIds) {
+		this.missingIds = missingIds;
+	}
+
+	@Override
+	public String toString() {
+		return this.getClass().getName() + "[found=" + (found == null ? 0 : found.size()) + ", missingIds="
+				+ missingIds + "]";
+	}
+
+}
@@ -0,0 +1,150 @@
+/*-
+ * ===============LICENSE_START=======================================================
+ * Acumos
+ * ===================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property & Tech Mahindra. All rights reserved.
+ * ===================================================================================
+ * This Acumos software file is distributed by AT&T and Tech Mahindra
+ * under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ===============LICENSE_END=========================================================
+ */
+
+package org.acumos.cds.transport;
+
+/**
+ * Model to transport usage statistics of a server-side cache, to be serialized
+ * as JSON. Counts are cumulative since the server started.
+ */
+public class CacheStatsTransport implements MLPTransportModel {
+
+	private String name;
+	private long hitCount;
+	private long missCount;
+	private long evictionCount;
+	private long invalidationCount;
+	private long size;
+	private long weight;
+	private long maxWeight;
+
+	/**
+	 * Builds an empty object.
+	 */
+	public CacheStatsTransport() {
+		// no-arg constructor
+	}
+
+	/**
+	 * Builds an object with the specified name.
+	 * 
+	 * @param name
+	 *                 Cache name
+	 */
+	public CacheStatsTransport(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * @return Name of the cache
+	 */
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * @return Number of lookups answered from the cache
+	 */
+	public long getHitCount() {
+		return hitCount;
+	}
+
+	public void setHitCount(long hitCount) {
+		this.hitCount = hitCount;
+	}
+
+	/**
+	 * @return Number of lookups that had to compute the value
+	 */
+	public long getMissCount() {
+		return missCount;
+	}
+
+	public void setMissCount(long missCount) {
+		this.missCount = missCount;
+	}
+
+	/**
+	 * @return Number of entries removed to stay within the maximum weight
+	 */
+	public long getEvictionCount() {
+		return evictionCount;
+	}
+
+	public void setEvictionCount(long evictionCount) {
+		this.evictionCount = evictionCount;
+	}
+
+	/**
+	 * @return Number of times the cache was cleared because of a write
+	 */
+	public long getInvalidationCount() {
+		return invalidationCount;
+	}
+
+	public void setInvalidationCount(long invalidationCount) {
+		this.invalidationCount = invalidationCount;
+	}
+
+	/**
+	 * @return Current number of entries
+	 */
+	public long getSize() {
+		return size;
+	}
+
+	public void setSize(long size) {
+		this.size = size;
+	}
+
+	/**
+	 * @return Current total weight of the entries
+	 */
+	public long getWeight() {
+		return weight;
+	}
+
+	public void setWeight(long weight) {
+		this.weight = weight;
+	}
+
+	/**
+	 * @return Configured maximum total weight
+	 */
+	public long getMaxWeight() {
+		return maxWeight;
+	}
+
+	public void setMaxWeight(long maxWeight) {
+		this.maxWeight = maxWeight;
+	}
+
+	@Override
+	public String toString() {
+		return this.getClass().getName() + "[name=" + name + ", hitCount=" + hitCount + ", missCount=" + missCount
+				+ ", evictionCount=" + evictionCount + ", invalidationCount=" + invalidationCount + ", size=" + size
+				+ ", weight=" + weight + ", maxWeight=" + maxWeight + "]";
+	}
+
+}
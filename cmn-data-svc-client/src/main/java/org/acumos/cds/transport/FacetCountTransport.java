@@ -0,0 +1,123 @@
+/*-
+ * ===============LICENSE_START=======================================================
+ * Acumos
+ * ===================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property & Tech Mahindra. All rights reserved.
+ * ===================================================================================
+ * This Acumos software file is distributed by AT&T and Tech Mahindra
+ * under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ===============LICENSE_END=========================================================
+ */
+
+package org.acumos.cds.transport;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Model to transport counts of solutions per facet value, to be serialized as
+ * JSON. Each map has an entry for every value that occurs at least once among
+ * the matching solutions. A solution counts once for each of its values, so
+ * the counts in one map may add up to more than the total; e.g., a solution
+ * with two tags is counted under both.
+ */
+public class FacetCountTransport implements MLPTransportModel {
+
+	private long total;
+	private Map<String, Long> modelTypeCounts = new TreeMap<>();
+	private Map<String, Long> toolkitTypeCounts = new TreeMap<>();
+	private Map<String, Long> accessTypeCounts = new TreeMap<>();
+	private Map<String, Long> tagCounts = new TreeMap<>();
+	private Map<String, Long> catalogCounts = new TreeMap<>();
+
+	/**
+	 * Builds an object with no counts.
+	 */
+	public FacetCountTransport() {
+		// no-arg constructor
+	}
+
+	/**
+	 * @return Number of solutions that match the query
+	 */
+	public long getTotal() {
+		return total;
+	}
+
+	public void setTotal(long total) {
+		this.total = total;
+	}
+
+	/**
+	 * @return Map of model type code to solution count
+	 */
+	public Map<String, Long> getModelTypeCounts() {
+		return modelTypeCounts;
+	}
+
+	public void setModelTypeCounts(Map<String, Long> modelTypeCounts) {
+		this.modelTypeCounts = modelTypeCounts;
+	}
+
+	/**
+	 * @return Map of toolkit type code to solution count
+	 */
+	public Map<String, Long> getToolkitTypeCounts() {
+		return toolkitTypeCounts;
+	}
+
+	public void setToolkitTypeCounts(Map<String, Long> toolkitTypeCounts) {
+		this.toolkitTypeCounts = toolkitTypeCounts;
+	}
+
+	/**
+	 * @return Map of access type code to count of solutions with at least one
+	 *         revision that has the code
+	 */
+	public Map<String, Long> getAccessTypeCounts() {
+		return accessTypeCounts;
+	}
+
+	public void setAccessTypeCounts(Map<String, Long> accessTypeCounts) {
+		this.accessTypeCounts = accessTypeCounts;
+	}
+
+	/**
+	 * @return Map of tag to solution count
+	 */
+	public Map<String, Long> getTagCounts() {
+		return tagCounts;
+	}
+
+	public void setTagCounts(Map<String, Long> tagCounts) {
+		this.tagCounts = tagCounts;
+	}
+
+	/**
+	 * @return Map of catalog ID to solution count
+	 */
+	public Map<String, Long> getCatalogCounts() {
+		return catalogCounts;
+	}
+
+	public void setCatalogCounts(Map<String, Long> catalogCounts) {
+		this.catalogCounts = catalogCounts;
+	}
+
+	@Override
+	public String toString() {
+		return this.getClass().getName() + "[total=" + total + ", modelTypeCounts=" + modelTypeCounts
+				+ ", toolkitTypeCounts=" + toolkitTypeCounts + ", accessTypeCounts=" + accessTypeCounts
+				+ ", tagCounts=" + tagCounts + ", catalogCounts=" + catalogCounts + "]";
+	}
+
+}
@@ -0,0 +1,105 @@
+/*-
+ * ===============LICENSE_START=======================================================
+ * Acumos
+ * ===================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property & Tech Mahindra. All rights reserved.
+ * ===================================================================================
+ * This Acumos software file is distributed by AT&T and Tech Mahindra
+ * under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ===============LICENSE_END=========================================================
+ */
+
+package org.acumos.cds.transport;
+
+/**
+ * Model to transport the state of a background solution delete, to be
+ * serialized as JSON. The status code uses the task step status values:
+ * started (ST) until the delete commits (SU) or fails (FA).
+ */
+public class PurgeTaskTransport implements MLPTransportModel {
+
+	private String taskId;
+	private String solutionId;
+	private String statusCode;
+	private String message;
+
+	/**
+	 * Builds an empty object.
+	 */
+	public PurgeTaskTransport() {
+		// no-arg constructor
+	}
+
+	/**
+	 * Builds an object with the specified values.
+	 * 
+	 * @param taskId
+	 *                       Task ID
+	 * @param solutionId
+	 *                       ID of the solution being deleted
+	 * @param statusCode
+	 *                       Task step status code
+	 * @param message
+	 *                       Reason for failure; null otherwise
+	 */
+	public PurgeTaskTransport(String taskId, String solutionId, String statusCode, String message) {
+		this.taskId = taskId;
+		this.solutionId = solutionId;
+		this.statusCode = statusCode;
+		this.message = message;
+	}
+
+	public String getTaskId() {
+		return taskId;
+	}
+
+	public void setTaskId(String taskId) {
+		this.taskId = taskId;
+	}
+
+	public String getSolutionId() {
+		return solutionId;
+	}
+
+	public void setSolutionId(String solutionId) {
+		this.solutionId = solutionId;
+	}
+
+	/**
+	 * @return Task step status code: ST, SU or FA
+	 */
+	public String getStatusCode() {
+		return statusCode;
+	}
+
+	public void setStatusCode(String statusCode) {
+		this.statusCode = statusCode;
+	}
+
+	/**
+	 * @return Reason for failure; null otherwise
+	 */
+	public String getMessage() {
+		return message;
+	}
+
+	public void setMessage(String message) {
+		this.message = message;
+	}
+
+	@Override
+	public String toString() {
+		return this.getClass().getName() + "[taskId=" + taskId + ", solutionId=" + solutionId + ", statusCode="
+				+ statusCode + ", message=" + message + "]";
+	}
+
+}
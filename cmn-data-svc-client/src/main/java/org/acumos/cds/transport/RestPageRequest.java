@@ -23,6 +23,8 @@
 import java.util.HashMap;
 import java.util.Map;
 
+import org.acumos.cds.CountMode;
+
 /**
  * Pagination and sorting information that can be transmitted via GET query
  * parameters.
@@ -32,6 +34,7 @@ public class RestPageRequest {
 	private Integer page;
 	private Integer size;
 	private Map<String, String> fieldToDirectionMap;
+	private CountMode countMode;
 
 	/**
 	 * Builds an empty object
@@ -111,4 +114,28 @@ public void setFieldToDirectionMap(Map<String, String> fieldToDirectionMap) {
 		this.fieldToDirectionMap = fieldToDirectionMap;
 	}
 
+	/**
+	 * Gets the count mode.
+	 * 
+	 * @return How the server should compute the total count of elements; null
+	 *         means the server default, which is exact.
+	 */
+	public CountMode getCountMode() {
+		return countMode;
+	}
+
+	/**
+	 * Sets the count mode. Clients that only need to know whether another page
+	 * follows, such as infinite-scroll views, can avoid the cost of an exact
+	 * count.
+	 * 
+	 * @param countMode
+	 *                      How the server should compute the total count of
+	 *                      elements; null means the server default, which is
+	 *                      exact.
+	 */
+	public void setCountMode(CountMode countMode) {
+		this.countMode = countMode;
+	}
+
 }
@@ -23,6 +23,7 @@
 import java.util.ArrayList;
 import java.util.List;
 
+import org.acumos.cds.CountMode;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -130,7 +131,7 @@ public RestPageResponse(List<T> content, Pageable pageable, long total) {
 	}
 
 	/*
-	 * Constructor for the Jackson deserializer. Discards the values of fields
+	 * Constructor with the fields of a Spring page. Discards the values of fields
 	 * pageable, sort, totalPages, first, last and numberOfElements. All but sort
 	 * can be computed from the content, number, size and totalElements; sort is
 	 * discarded.
@@ -138,6 +139,27 @@ public RestPageResponse(List<T> content, Pageable pageable, long total) {
 	 * https://stackoverflow.com/questions/34647303/spring-resttemplate-with-
 	 * paginated-api
 	 */
+	public RestPageResponse(//
+			List<T> content, // PageImpl
+			int number, // PageImpl
+			int size, // PageImpl
+			long totalElements, // PageImpl
+			JsonNode pageable, //
+			JsonNode sort, //
+			int totalPages, // computed
+			boolean first, // computed
+			boolean last, // computed
+			boolean empty, // computed
+			int numberOfElements // computed
+	) {
+		this(content, number, size, totalElements, pageable, sort, totalPages, first, last, empty, numberOfElements,
+				null, null, null);
+	}
+
+	/*
+	 * Constructor for the Jackson deserializer. Like the constructor above, also
+	 * accepts the fields added by this class.
+	 */
 	@SuppressWarnings("unused")
 	@JsonCreator(mode = JsonCreator.Mode.PROPERTIES)
 	public RestPageResponse(//
@@ -151,13 +173,26 @@ public RestPageResponse(//
 			@JsonProperty("first") boolean first, // computed
 			@JsonProperty("last") boolean last, // computed
 			@JsonProperty("empty") boolean empty, // computed
-			@JsonProperty("numberOfElements") int numberOfElements // computed
+			@JsonProperty("numberOfElements") int numberOfElements, // computed
+			@JsonProperty("continuation") String continuation, // cursor mode only
+			@JsonProperty("countMode") CountMode countMode, // missing means exact
+			@JsonProperty("hasNext") Boolean hasNext // missing means computed
 	) {
 		super(content, PageRequest.of(number, size), totalElements);
+		this.continuation = continuation;
+		if (countMode != null)
+			this.countMode = countMode;
+		this.hasNext = hasNext;
 	}
 
 	private Sort sort;
 
+	private String continuation;
+
+	private CountMode countMode = CountMode.EXACT;
+
+	private Boolean hasNext;
+
 	// @JsonDeserialize(using = CustomSortDeserializer.class)
 	public void setSort(Sort sort) {
 		this.sort = sort;
@@ -167,4 +202,74 @@ public void setSort(Sort sort) {
 	public Sort getSort() {
 		return sort;
 	}
+
+	/**
+	 * Gets the continuation token. Only pages fetched in cursor (keyset) mode have
+	 * this value. The token is opaque to the client; send it with the next request
+	 * to get the page that follows this one.
+	 * 
+	 * @return Token that identifies the position after the last element of this
+	 *         page; null if no more elements are available or if the page was not
+	 *         fetched in cursor mode.
+	 */
+	public String getContinuation() {
+		return continuation;
+	}
+
+	/**
+	 * Sets the continuation token.
+	 * 
+	 * @param continuation
+	 *                         Token that identifies the position after the last
+	 *                         element of this page; null if no more elements are
+	 *                         available.
+	 */
+	public void setContinuation(String continuation) {
+		this.continuation = continuation;
+	}
+
+	/**
+	 * Gets the count mode.
+	 * 
+	 * @return How the total count of elements was computed. If the mode is
+	 *         {@link CountMode#NONE} the total is meaningless; if the mode is
+	 *         {@link CountMode#ESTIMATE} the total may be a lower bound. In either
+	 *         case use {@link #hasNext()} to learn whether another page follows.
+	 */
+	public CountMode getCountMode() {
+		return countMode;
+	}
+
+	/**
+	 * Sets the count mode.
+	 * 
+	 * @param countMode
+	 *                      How the total count of elements was computed
+	 */
+	public void setCountMode(CountMode countMode) {
+		this.countMode = countMode;
+	}
+
+	/**
+	 * Answers whether another page follows this one. Unlike the superclass
+	 * implementation this is reliable even if the total count is not exact.
+	 * 
+	 * @return True if another page follows
+	 */
+	@Override
+	@JsonProperty("hasNext")
+	public boolean hasNext() {
+		return hasNext != null ? hasNext : super.hasNext();
+	}
+
+	/**
+	 * Sets the flag that indicates whether another page follows.
+	 * 
+	 * @param hasNext
+	 *                    True if another page follows; null to compute the value
+	 *                    from the total count of elements.
+	 */
+	public void setHasNext(Boolean hasNext) {
+		this.hasNext = hasNext;
+	}
 }
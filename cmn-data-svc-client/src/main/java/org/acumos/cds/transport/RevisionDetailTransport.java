@@ -0,0 +1,112 @@
+/*-
+ * ===============LICENSE_START=======================================================
+ * Acumos
+ * ===================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property & Tech Mahindra. All rights reserved.
+ * ===================================================================================
+ * This Acumos software file is distributed by AT&T and Tech Mahindra
+ * under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ===============LICENSE_END=========================================================
+ */
+
+package org.acumos.cds.transport;
+
+import java.util.List;
+import java.util.Map;
+
+import org.acumos.cds.domain.MLPArtifact;
+import org.acumos.cds.domain.MLPDocument;
+import org.acumos.cds.domain.MLPRevisionDescription;
+import org.acumos.cds.domain.MLPSolutionRevision;
+
+/**
+ * Model to transport a solution revision with its artifacts, descriptions and
+ * documents as part of a solution detail, to be serialized as JSON. Lists that
+ * were not requested are null.
+ */
+public class RevisionDetailTransport implements MLPTransportModel {
+
+	private MLPSolutionRevision revision;
+	private List<MLPArtifact> artifacts;
+	private List<MLPRevisionDescription> descriptions;
+	private Map<String, List<MLPDocument>> documents;
+
+	/**
+	 * Builds an empty object.
+	 */
+	public RevisionDetailTransport() {
+		// no-arg constructor
+	}
+
+	/**
+	 * Builds an object with the specified revision.
+	 * 
+	 * @param revision
+	 *                     Solution revision
+	 */
+	public RevisionDetailTransport(MLPSolutionRevision revision) {
+		this.revision = revision;
+	}
+
+	/**
+	 * @return Solution revision
+	 */
+	public MLPSolutionRevision getRevision() {
+		return revision;
+	}
+
+	public void setRevision(MLPSolutionRevision revision) {
+		this.revision = revision;
+	}
+
+	/**
+	 * @return Artifacts of the revision; null if not requested
+	 */
+	public List<MLPArtifact> getArtifacts() {
+		return artifacts;
+	}
+
+	public void setArtifacts(List<MLPArtifact> artifacts) {
+		this.artifacts = artifacts;
+	}
+
+	/**
+	 * @return Descriptions of the revision, one per access type that has one;
+	 *         null if not requested
+	 */
+	public List<MLPRevisionDescription> getDescriptions() {
+		return descriptions;
+	}
+
+	public void setDescriptions(List<MLPRevisionDescription> descriptions) {
+		this.descriptions = descriptions;
+	}
+
+	/**
+	 * @return Documents of the revision keyed by access type code; null if not
+	 *         requested
+	 */
+	public Map<String, List<MLPDocument>> getDocuments() {
+		return documents;
+	}
+
+	public void setDocuments(Map<String, List<MLPDocument>> documents) {
+		this.documents = documents;
+	}
+
+	@Override
+	public String toString() {
+		return this.getClass().getName() + "[revision=" + revision + ", artifacts=" + artifacts + ", descriptions="
+				+ descriptions + ", documents=" + documents + "]";
+	}
+
+}
@@ -0,0 +1,101 @@
+/*-
+ * ===============LICENSE_START=======================================================
+ * Acumos
+ * ===================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property & Tech Mahindra. All rights reserved.
+ * ===================================================================================
+ * This Acumos software file is distributed by AT&T and Tech Mahindra
+ * under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ===============LICENSE_END=========================================================
+ */
+
+package org.acumos.cds.transport;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Model to transport one batch of the solution change feed, to be serialized
+ * as JSON. Lists each solution that changed after the requested sequence
+ * number once, ordered by its latest change. A client resumes the feed by
+ * passing the last sequence number in the next request.
+ */
+public class SolutionChangeTransport implements MLPTransportModel {
+
+	private List<String> solutionIds = new ArrayList<>();
+	private long lastSequence;
+	private boolean more;
+
+	/**
+	 * Builds an empty object.
+	 */
+	public SolutionChangeTransport() {
+		// no-arg constructor
+	}
+
+	/**
+	 * Builds an object with the specified values.
+	 * 
+	 * @param solutionIds
+	 *                         IDs of changed solutions
+	 * @param lastSequence
+	 *                         Sequence number of the last change in this batch
+	 * @param more
+	 *                         True if changes remain after this batch
+	 */
+	public SolutionChangeTransport(List<String> solutionIds, long lastSequence, boolean more) {
+		this.solutionIds = solutionIds;
+		this.lastSequence = lastSequence;
+		this.more = more;
+	}
+
+	/**
+	 * @return IDs of changed solutions, ordered by latest change
+	 */
+	public List<String> getSolutionIds() {
+		return solutionIds;
+	}
+
+	public void setSolutionIds(List<String> solutionIds) {
+		this.solutionIds = solutionIds;
+	}
+
+	/**
+	 * @return Sequence number of the last change in this batch; the requested
+	 *         sequence number if the batch is empty
+	 */
+	public long getLastSequence() {
+		return lastSequence;
+	}
+
+	public void setLastSequence(long lastSequence) {
+		this.lastSequence = lastSequence;
+	}
+
+	/**
+	 * @return True if changes remain after this batch
+	 */
+	public boolean isMore() {
+		return more;
+	}
+
+	public void setMore(boolean more) {
+		this.more = more;
+	}
+
+	@Override
+	public String toString() {
+		return this.getClass().getName() + "[solutionIds=" + solutionIds + ", lastSequence=" + lastSequence + ", more="
+				+ more + "]";
+	}
+
+}
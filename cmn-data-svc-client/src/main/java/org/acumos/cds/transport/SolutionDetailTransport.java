@@ -0,0 +1,106 @@
+/*-
+ * ===============LICENSE_START=======================================================
+ * Acumos
+ * ===================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property & Tech Mahindra. All rights reserved.
+ * ===================================================================================
+ * This Acumos software file is distributed by AT&T and Tech Mahindra
+ * under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ===============LICENSE_END=========================================================
+ */
+
+package org.acumos.cds.transport;
+
+import java.util.List;
+
+import org.acumos.cds.domain.MLPSolution;
+import org.acumos.cds.domain.MLPSolutionRating;
+
+/**
+ * Model to transport a solution with the related entities that a client needs
+ * to show it, to be serialized as JSON. Parts that were not requested are null.
+ */
+public class SolutionDetailTransport implements MLPTransportModel {
+
+	private MLPSolution solution;
+	private List<RevisionDetailTransport> revisions;
+	private RestPageResponse<MLPSolutionRating> ratings;
+	private Boolean hasPicture;
+
+	/**
+	 * Builds an empty object.
+	 */
+	public SolutionDetailTransport() {
+		// no-arg constructor
+	}
+
+	/**
+	 * Builds an object with the specified solution.
+	 * 
+	 * @param solution
+	 *                     Solution with tags
+	 */
+	public SolutionDetailTransport(MLPSolution solution) {
+		this.solution = solution;
+	}
+
+	/**
+	 * @return Solution with tags
+	 */
+	public MLPSolution getSolution() {
+		return solution;
+	}
+
+	public void setSolution(MLPSolution solution) {
+		this.solution = solution;
+	}
+
+	/**
+	 * @return Revisions of the solution, oldest first; null if not requested
+	 */
+	public List<RevisionDetailTransport> getRevisions() {
+		return revisions;
+	}
+
+	public void setRevisions(List<RevisionDetailTransport> revisions) {
+		this.revisions = revisions;
+	}
+
+	/**
+	 * @return Requested page of ratings; null if not requested
+	 */
+	public RestPageResponse<MLPSolutionRating> getRatings() {
+		return ratings;
+	}
+
+	public void setRatings(RestPageResponse<MLPSolutionRating> ratings) {
+		this.ratings = ratings;
+	}
+
+	/**
+	 * @return True if the solution has a picture; null if not requested
+	 */
+	public Boolean getHasPicture() {
+		return hasPicture;
+	}
+
+	public void setHasPicture(Boolean hasPicture) {
+		this.hasPicture = hasPicture;
+	}
+
+	@Override
+	public String toString() {
+		return this.getClass().getName() + "[solution=" + solution + ", revisions=" + revisions + ", ratings="
+				+ ratings + ", hasPicture=" + hasPicture + "]";
+	}
+
+}
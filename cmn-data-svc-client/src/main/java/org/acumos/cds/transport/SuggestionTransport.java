@@ -0,0 +1,106 @@
+/*-
+ * ===============LICENSE_START=======================================================
+ * Acumos
+ * ===================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property & Tech Mahindra. All rights reserved.
+ * ===================================================================================
+ * This Acumos software file is distributed by AT&T and Tech Mahindra
+ * under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ===============LICENSE_END=========================================================
+ */
+
+package org.acumos.cds.transport;
+
+/**
+ * Model to transport one autocomplete suggestion for the solution search box,
+ * to be serialized as JSON.
+ */
+public class SuggestionTransport implements MLPTransportModel {
+
+	/**
+	 * Sources of suggestion text.
+	 */
+	public enum Type {
+		/** Name of an active solution */
+		NAME,
+		/** Tag of an active solution */
+		TAG,
+		/** Author of a revision of an active solution */
+		AUTHOR
+	}
+
+	private String text;
+	private Type type;
+	private long count;
+
+	/**
+	 * Builds an empty object.
+	 */
+	public SuggestionTransport() {
+		// no-arg constructor
+	}
+
+	/**
+	 * Builds an object with the specified values.
+	 * 
+	 * @param text
+	 *                  Suggested text
+	 * @param type
+	 *                  Source of the text
+	 * @param count
+	 *                  Number of active solutions with the text
+	 */
+	public SuggestionTransport(String text, Type type, long count) {
+		this.text = text;
+		this.type = type;
+		this.count = count;
+	}
+
+	/**
+	 * @return Suggested text, in the case stored
+	 */
+	public String getText() {
+		return text;
+	}
+
+	public void setText(String text) {
+		this.text = text;
+	}
+
+	/**
+	 * @return Source of the text
+	 */
+	public Type getType() {
+		return type;
+	}
+
+	public void setType(Type type) {
+		this.type = type;
+	}
+
+	/**
+	 * @return Number of active solutions with the text
+	 */
+	public long getCount() {
+		return count;
+	}
+
+	public void setCount(long count) {
+		this.count = count;
+	}
+
+	@Override
+	public String toString() {
+		return this.getClass().getName() + "[text=" + text + ", type=" + type + ", count=" + count + "]";
+	}
+
+}
@@ -20,13 +20,21 @@
 
 package org.acumos.cds.client.test;
 
+import java.io.ByteArrayInputStream;
 import java.lang.invoke.MethodHandles;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
+import org.acumos.cds.SolutionDetailPart;
+import org.acumos.cds.client.CommonDataServiceAsyncRestClientImpl;
 import org.acumos.cds.client.CommonDataServiceRestClientImpl;
+import org.acumos.cds.client.HttpClientConfig;
 import org.acumos.cds.client.ICommonDataServiceRestClient;
 import org.acumos.cds.domain.MLPArtifact;
 import org.acumos.cds.domain.MLPCatalog;
@@ -59,6 +67,8 @@
 import org.acumos.cds.domain.MLPUser;
 import org.acumos.cds.domain.MLPUserLoginProvider;
 import org.acumos.cds.transport.RestPageRequest;
+import org.apache.http.pool.PoolStats;
+import org.junit.Assert;
 import org.junit.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -99,6 +109,74 @@ public void coverClientEnumMethods() {
 		}
 	}
 
+	@Test
+	public void testConnectionPoolConfig() throws Exception {
+		final String uri = "http://localhost:51243";
+		HttpClientConfig config = new HttpClientConfig();
+		config.setMaxConnectionsTotal(8);
+		config.setMaxConnectionsPerRoute(4);
+		config.setKeepAliveMs(1000);
+		config.setIdleEvictionMs(0);
+		config.setValidateAfterInactivityMs(500);
+		config.setConnectTimeoutMs(100);
+		config.setConnectionRequestTimeoutMs(100);
+		config.setSocketTimeoutMs(100);
+		config.setCompression(false);
+		logger.info("Config {}", config);
+		try (CommonDataServiceRestClientImpl client = new CommonDataServiceRestClientImpl(uri, "user", "pass", null,
+				config)) {
+			PoolStats stats = client.getConnectionPoolStats();
+			Assert.assertEquals(8, stats.getMax());
+			Assert.assertEquals(0, stats.getLeased());
+			try {
+				client.getHealth();
+			} catch (ResourceAccessException ex) {
+				logger.info("Client failed as expected: {}", ex.toString());
+			}
+			Assert.assertEquals(0, client.getConnectionPoolStats().getLeased());
+		}
+		try (CommonDataServiceRestClientImpl client = new CommonDataServiceRestClientImpl(uri, new RestTemplate())) {
+			Assert.assertNull(client.getConnectionPoolStats());
+		}
+		try (CommonDataServiceRestClientImpl client = (CommonDataServiceRestClientImpl) CommonDataServiceRestClientImpl
+				.getInstance(uri, "user", "pass", null, new HttpClientConfig())) {
+			Assert.assertNotNull(client.getConnectionPoolStats());
+		}
+	}
+
+	@Test
+	public void coverAsyncClientMethods() throws Exception {
+		HttpClientConfig config = new HttpClientConfig();
+		config.setConnectTimeoutMs(100);
+		try (CommonDataServiceAsyncRestClientImpl client = CommonDataServiceAsyncRestClientImpl
+				.getInstance("http://localhost:51243", "user", "pass", null, config)) {
+			client.setRequestId("requestId");
+			List<CompletableFuture<?>> futures = Arrays.asList(client.getHealth(), client.getVersion(),
+					client.getSolutionCount(), client.getSolutions(new RestPageRequest()), client.getSolution("ID"),
+					client.getSolutionPicture("ID"), client.getSolutionTags("ID"), client.getTags(null),
+					client.getSolutionRevisions("ID"), client.getSolutionRevision("ID", "ID"),
+					client.getSolutionRevisionArtifacts("ID", "ID"), client.getArtifact("ID"),
+					client.getRevisionDescription("ID", "PB"), client.getSolutionRevisionDocuments("ID", "PB"),
+					client.getDocument("ID"), client.getSolutionRatings("ID", null), client.getSolutionRating("ID", "ID"),
+					client.getSolutionDownloads("ID", null), client.getSolutionAccessUsers("ID"), client.getUser("ID"),
+					client.getUserPicture("ID"));
+			for (CompletableFuture<?> f : futures) {
+				try {
+					f.get();
+					Assert.fail("Unexpected success");
+				} catch (ExecutionException ex) {
+					Assert.assertTrue(ex.getCause() instanceof ResourceAccessException);
+				}
+			}
+			Assert.assertEquals(0, client.getConnectionPoolStats().getLeased());
+		}
+		try {
+			CommonDataServiceAsyncRestClientImpl.getInstance("bogus:/host;port", null, null);
+		} catch (IllegalArgumentException ex) {
+			logger.info("getInstance failed as expected: {}", ex.toString());
+		}
+	}
+
 	@Test
 	public void coverClientMethods() {
 
@@ -140,6 +218,21 @@ public void coverClientMethods() {
 		} catch (ResourceAccessException ex) {
 			logger.info("Client failed as expected: {}", ex.toString());
 		}
+		try {
+			client.getSolutions(new RestPageRequest(0, 1, "field1"), new String[] { "name" });
+		} catch (ResourceAccessException ex) {
+			logger.info("Client failed as expected: {}", ex.toString());
+		}
+		try {
+			client.getSolutionsByCursor("token", new RestPageRequest(0, 1, "field1"));
+		} catch (ResourceAccessException ex) {
+			logger.info("Client failed as expected: {}", ex.toString());
+		}
+		try {
+			client.getSolutionsById(new String[] { "ID" });
+		} catch (ResourceAccessException ex) {
+			logger.info("Client failed as expected: {}", ex.toString());
+		}
 		try {
 			Map<String, String> fieldDirMap = new HashMap<>();
 			fieldDirMap.put("field", "ASC");
@@ -167,6 +260,32 @@ public void coverClientMethods() {
 		} catch (ResourceAccessException ex) {
 			logger.info("Client failed as expected: {}", ex.toString());
 		}
+		try {
+			client.getEntityCacheStats();
+		} catch (ResourceAccessException ex) {
+			logger.info("Client failed as expected: {}", ex.toString());
+		}
+		try {
+			client.getSolutionSuggestions("term", 1);
+		} catch (ResourceAccessException ex) {
+			logger.info("Client failed as expected: {}", ex.toString());
+		}
+		try {
+			client.getSolutionChanges(0, 1);
+		} catch (ResourceAccessException ex) {
+			logger.info("Client failed as expected: {}", ex.toString());
+		}
+		try {
+			String[] array = new String[] { "I'm a string" };
+			client.findPortalSolutionFacets(array, true, array, array, array, array, array, array);
+		} catch (ResourceAccessException ex) {
+			logger.info("Client failed as expected: {}", ex.toString());
+		}
+		try {
+			client.getSolutionSearchCacheStats();
+		} catch (ResourceAccessException ex) {
+			logger.info("Client failed as expected: {}", ex.toString());
+		}
 		try {
 			String[] array = new String[] { "I'm a string" };
 			client.findUserSolutions(array, array, true, "user", array, array, array, new RestPageRequest(0, 1));
@@ -193,6 +312,12 @@ public void coverClientMethods() {
 		} catch (ResourceAccessException ex) {
 			logger.info("Client failed as expected: {}", ex.toString());
 		}
+		try {
+			client.getSolutionDetail("ID", new SolutionDetailPart[] { SolutionDetailPart.REVISIONS },
+					new RestPageRequest(0, 5));
+		} catch (ResourceAccessException ex) {
+			logger.info("Client failed as expected: {}", ex.toString());
+		}
 		try {
 			client.createSolution(new MLPSolution());
 		} catch (ResourceAccessException ex) {
@@ -208,11 +333,26 @@ public void coverClientMethods() {
 		} catch (ResourceAccessException ex) {
 			logger.info("Client failed as expected: {}", ex.toString());
 		}
+		try {
+			client.getPendingSolutionViewCount();
+		} catch (ResourceAccessException ex) {
+			logger.info("Client failed as expected: {}", ex.toString());
+		}
 		try {
 			client.deleteSolution("ID");
 		} catch (ResourceAccessException ex) {
 			logger.info("Client failed as expected: {}", ex.toString());
 		}
+		try {
+			client.purgeSolution("ID");
+		} catch (ResourceAccessException ex) {
+			logger.info("Client failed as expected: {}", ex.toString());
+		}
+		try {
+			client.getPurgeTask("ID");
+		} catch (ResourceAccessException ex) {
+			logger.info("Client failed as expected: {}", ex.toString());
+		}
 		try {
 			client.saveSolutionPicture("ID", new byte[0]);
 		} catch (ResourceAccessException ex) {
@@ -223,6 +363,36 @@ public void coverClientMethods() {
 		} catch (ResourceAccessException ex) {
 			logger.info("Client failed as expected: {}", ex.toString());
 		}
+		try {
+			client.saveUserPicture("ID", new byte[0]);
+		} catch (ResourceAccessException ex) {
+			logger.info("Client failed as expected: {}", ex.toString());
+		}
+		try {
+			client.getUserPicture("ID");
+		} catch (ResourceAccessException ex) {
+			logger.info("Client failed as expected: {}", ex.toString());
+		}
+		try {
+			client.saveSolutionPicture("ID", new ByteArrayInputStream(new byte[1]), 1);
+		} catch (ResourceAccessException ex) {
+			logger.info("Client failed as expected: {}", ex.toString());
+		}
+		try {
+			client.getSolutionPictureStream("ID");
+		} catch (ResourceAccessException ex) {
+			logger.info("Client failed as expected: {}", ex.toString());
+		}
+		try {
+			client.saveUserPicture("ID", new ByteArrayInputStream(new byte[1]), 1);
+		} catch (ResourceAccessException ex) {
+			logger.info("Client failed as expected: {}", ex.toString());
+		}
+		try {
+			client.getUserPictureStream("ID");
+		} catch (ResourceAccessException ex) {
+			logger.info("Client failed as expected: {}", ex.toString());
+		}
 		try {
 			client.getSolutionRevisions("solutionId");
 		} catch (ResourceAccessException ex) {
@@ -233,6 +403,11 @@ public void coverClientMethods() {
 		} catch (ResourceAccessException ex) {
 			logger.info("Client failed as expected: {}", ex.toString());
 		}
+		try {
+			client.getSolutionRevisionsById(new String[] { "ID" });
+		} catch (ResourceAccessException ex) {
+			logger.info("Client failed as expected: {}", ex.toString());
+		}
 		try {
 			client.getSolutionRevision("solutionId", "revisionId");
 		} catch (ResourceAccessException ex) {
@@ -313,6 +488,21 @@ public void coverClientMethods() {
 		} catch (ResourceAccessException ex) {
 			logger.info("Client failed as expected: {}", ex.toString());
 		}
+		try {
+			client.getArtifacts(new RestPageRequest(0, 1), new String[] { "name" });
+		} catch (ResourceAccessException ex) {
+			logger.info("Client failed as expected: {}", ex.toString());
+		}
+		try {
+			client.getArtifactsByCursor(null, new RestPageRequest(0, 1));
+		} catch (ResourceAccessException ex) {
+			logger.info("Client failed as expected: {}", ex.toString());
+		}
+		try {
+			client.getArtifactsById(new String[] { "ID" });
+		} catch (ResourceAccessException ex) {
+			logger.info("Client failed as expected: {}", ex.toString());
+		}
 		try {
 			client.findArtifactsBySearchTerm("searchTerm", new RestPageRequest());
 		} catch (ResourceAccessException ex) {
@@ -353,6 +543,21 @@ public void coverClientMethods() {
 		} catch (ResourceAccessException ex) {
 			logger.info("Client failed as expected: {}", ex.toString());
 		}
+		try {
+			client.getUsers(new RestPageRequest(), new String[] { "loginName" });
+		} catch (ResourceAccessException ex) {
+			logger.info("Client failed as expected: {}", ex.toString());
+		}
+		try {
+			client.getUsersByCursor("token", new RestPageRequest());
+		} catch (ResourceAccessException ex) {
+			logger.info("Client failed as expected: {}", ex.toString());
+		}
+		try {
+			client.getUsersById(new String[] { "ID" });
+		} catch (ResourceAccessException ex) {
+			logger.info("Client failed as expected: {}", ex.toString());
+		}
 		try {
 			client.findUsersBySearchTerm("searchTerm", new RestPageRequest());
 		} catch (ResourceAccessException ex) {
@@ -649,6 +854,11 @@ public void coverClientMethods() {
 		} catch (ResourceAccessException ex) {
 			logger.info("Client failed as expected: {}", ex.toString());
 		}
+		try {
+			client.getNotifications(new RestPageRequest(), new String[] { "title" });
+		} catch (ResourceAccessException ex) {
+			logger.info("Client failed as expected: {}", ex.toString());
+		}
 		try {
 			client.createNotification(new MLPNotification());
 		} catch (ResourceAccessException ex) {
@@ -795,6 +1005,16 @@ public void coverClientMethods() {
 		} catch (ResourceAccessException ex) {
 			logger.info("Client failed as expected: {}", ex.toString());
 		}
+		try {
+			client.saveSiteContentValue("contentKey", "text/plain", new ByteArrayInputStream(new byte[1]), 1);
+		} catch (ResourceAccessException ex) {
+			logger.info("Client failed as expected: {}", ex.toString());
+		}
+		try {
+			client.getSiteContentValueStream("contentKey");
+		} catch (ResourceAccessException ex) {
+			logger.info("Client failed as expected: {}", ex.toString());
+		}
 		try {
 			client.getThreadCount();
 		} catch (ResourceAccessException ex) {
@@ -1105,6 +1325,11 @@ public void coverClientMethods() {
 		} catch (ResourceAccessException ex) {
 			logger.info("Client failed as expected: {}", ex.toString());
 		}
+		try {
+			client.getCatalogs(new RestPageRequest(), new String[] { "name" });
+		} catch (ResourceAccessException ex) {
+			logger.info("Client failed as expected: {}", ex.toString());
+		}
 		try {
 			client.getSolutionsInCatalogs(new String[1], new RestPageRequest());
 		} catch (ResourceAccessException ex) {
@@ -21,6 +21,7 @@
 
 import java.lang.invoke.MethodHandles;
 
+import org.acumos.cds.CountMode;
 import org.acumos.cds.transport.RestPageResponse;
 import org.junit.Assert;
 import org.junit.Test;
@@ -99,4 +100,43 @@ public void testRestPageResponse21() {
 		}
 	}
 
+	/*
+	 * Content emitted by a cursor-mode REST endpoint
+	 */
+	@SuppressWarnings("rawtypes")
+	@Test
+	public void testRestPageResponseContinuation() throws Exception {
+		String cursorPage = "{"//
+				+ " \"content\":[\"7\",\"8\"], \"number\": 0, \"size\": 2, \"totalElements\": 3, "//
+				+ " \"continuation\": \"abc-123_\" }";
+		ObjectMapper mapper = new ObjectMapper();
+		RestPageResponse r = mapper.readValue(cursorPage, RestPageResponse.class);
+		Assert.assertEquals(2, r.getNumberOfElements());
+		Assert.assertTrue(r.hasNext());
+		Assert.assertEquals("abc-123_", r.getContinuation());
+		RestPageResponse s = mapper.readValue(mapper.writeValueAsString(r), RestPageResponse.class);
+		Assert.assertEquals(r.getContinuation(), s.getContinuation());
+	}
+
+	@SuppressWarnings("rawtypes")
+	@Test
+	public void testRestPageResponseCountMode() throws Exception {
+		String uncountedPage = "{"//
+				+ " \"content\":[\"7\",\"8\"], \"number\": 0, \"size\": 2, \"totalElements\": 2, "//
+				+ " \"countMode\": \"NONE\", \"hasNext\": true }";
+		ObjectMapper mapper = new ObjectMapper();
+		RestPageResponse r = mapper.readValue(uncountedPage, RestPageResponse.class);
+		Assert.assertEquals(CountMode.NONE, r.getCountMode());
+		Assert.assertTrue(r.hasNext());
+		Assert.assertFalse(r.isLast());
+		RestPageResponse s = mapper.readValue(mapper.writeValueAsString(r), RestPageResponse.class);
+		Assert.assertEquals(r.getCountMode(), s.getCountMode());
+		Assert.assertTrue(s.hasNext());
+		// Pages from servers that predate count modes are exact
+		String countedPage = "{ \"content\":[\"7\"], \"number\": 0, \"size\": 2, \"totalElements\": 1 }";
+		RestPageResponse c = mapper.readValue(countedPage, RestPageResponse.class);
+		Assert.assertEquals(CountMode.EXACT, c.getCountMode());
+		Assert.assertFalse(c.hasNext());
+	}
+
 }
@@ -61,6 +61,7 @@
 import org.acumos.cds.domain.MLPSolUserAccMap;
 import org.acumos.cds.domain.MLPSolution;
 import org.acumos.cds.domain.MLPSolutionDeployment;
+import org.acumos.cds.domain.MLPSolutionChange;
 import org.acumos.cds.domain.MLPSolutionDownload;
 import org.acumos.cds.domain.MLPSolutionFavorite;
 import org.acumos.cds.domain.MLPSolutionGroup;
@@ -1457,6 +1458,36 @@ public void testMLPSolutionDeployment() {
 		}
 	}
 
+	private void checkMLPSolutionChange(MLPSolutionChange m) {
+		Assert.assertEquals(l1, m.getSequence());
+		Assert.assertEquals(s1, m.getSolutionId());
+		Assert.assertEquals(t1, m.getCreated());
+	}
+
+	@Test
+	public void testMLPSolutionChange() {
+		MLPSolutionChange m = new MLPSolutionChange(s1);
+		m = new MLPSolutionChange(m);
+		m = new MLPSolutionChange();
+		m.setSequence(l1);
+		m.setSolutionId(s1);
+		m.setCreated(t1);
+		checkMLPSolutionChange(m);
+		m = new MLPSolutionChange(m);
+		checkMLPSolutionChange(m);
+		Assert.assertFalse(m.equals(null));
+		Assert.assertFalse(m.equals(new Object()));
+		Assert.assertTrue(m.equals(m));
+		Assert.assertNotNull(m.hashCode());
+		logger.info(m.toString());
+		try {
+			new MLPSolutionChange((String) null);
+			Assert.assertTrue("Unexpected success", false);
+		} catch (IllegalArgumentException iae) {
+			// null arg is rejected
+		}
+	}
+
 	private void checkMLPSolutionDownload(MLPSolutionDownload m) {
 		Assert.assertEquals(s1, m.getArtifactId());
 		Assert.assertEquals(l1, m.getDownloadId());
@@ -21,6 +21,7 @@
 package org.acumos.cds.client.test;
 
 import org.acumos.cds.PublishRequestStatusCode;
+import org.acumos.cds.SolutionDetailPart;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -32,5 +33,6 @@ public class EnumTest {
 	@Test
 	public void testEnums() {
 		Assert.assertTrue(PublishRequestStatusCode.values().length > 0);
+		Assert.assertTrue(SolutionDetailPart.values().length > 0);
 	}
 }
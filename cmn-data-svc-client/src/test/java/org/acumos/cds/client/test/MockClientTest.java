@@ -20,13 +20,21 @@
 
 package org.acumos.cds.client.test;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.acumos.cds.client.CommonDataServiceRestClientMockImpl;
+import org.acumos.cds.client.PageIterator;
+import org.acumos.cds.client.SolutionChangeFeed;
 import org.acumos.cds.domain.MLPArtifact;
 import org.acumos.cds.domain.MLPCatalog;
 import org.acumos.cds.domain.MLPComment;
@@ -62,11 +70,20 @@
 import org.acumos.cds.domain.MLPUser;
 import org.acumos.cds.domain.MLPUserLoginProvider;
 import org.acumos.cds.domain.MLPUserNotification;
+import org.acumos.cds.transport.BatchTransport;
+import org.acumos.cds.transport.CacheStatsTransport;
+import org.acumos.cds.transport.FacetCountTransport;
+import org.acumos.cds.transport.PurgeTaskTransport;
 import org.acumos.cds.transport.RestPageRequest;
 import org.acumos.cds.transport.RestPageResponse;
+import org.acumos.cds.transport.SolutionChangeTransport;
+import org.acumos.cds.transport.SolutionDetailTransport;
 import org.acumos.cds.transport.SuccessTransport;
+import org.acumos.cds.transport.SuggestionTransport;
 import org.junit.Assert;
 import org.junit.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.util.StreamUtils;
 import org.springframework.web.client.RestTemplate;
 
 /**
@@ -82,7 +99,7 @@ public TrivialRestClientMockImplSubclass(String webapiUrl, String user, String p
 	}
 
 	@Test
-	public void coverMockMethods() {
+	public void coverMockMethods() throws Exception {
 
 		new TrivialRestClientMockImplSubclass("usl", "usr", "pass");
 		CommonDataServiceRestClientMockImpl.getInstance("url", null);
@@ -106,10 +123,22 @@ public void coverMockMethods() {
 		long count = 3;
 		client.setSolutionCount(count);
 		Assert.assertTrue(count == client.getSolutionCount());
+		client.setPendingSolutionViewCount(count);
+		Assert.assertTrue(count == client.getPendingSolutionViewCount());
+		PurgeTaskTransport purgeTask = new PurgeTaskTransport();
+		client.setPurgeTask(purgeTask);
+		Assert.assertTrue(purgeTask == client.purgeSolution("id"));
+		Assert.assertTrue(purgeTask == client.getPurgeTask("id"));
 
 		RestPageResponse<MLPSolution> solutions1 = new RestPageResponse<>();
 		client.setSolutions(solutions1);
 		Assert.assertTrue(solutions1 == client.getSolutions(pageRequest));
+		Assert.assertTrue(solutions1 == client.getSolutions(pageRequest, new String[] { "name" }));
+		client.setSolutionsByCursor(solutions1);
+		Assert.assertTrue(solutions1 == client.getSolutionsByCursor("token", pageRequest));
+		BatchTransport<MLPSolution> solutionBatch = new BatchTransport<>();
+		client.setSolutionsById(solutionBatch);
+		Assert.assertTrue(solutionBatch == client.getSolutionsById(new String[] { "id" }));
 		RestPageResponse<MLPSolution> solutions2 = new RestPageResponse<>();
 		client.setSolutionsBySearchTerm(solutions2);
 		Assert.assertTrue(solutions2 == client.findSolutionsBySearchTerm("string", pageRequest));
@@ -123,6 +152,9 @@ public void coverMockMethods() {
 		MLPSolution solution = new MLPSolution();
 		client.setSolutionById(solution);
 		Assert.assertTrue(solution == client.getSolution("id"));
+		SolutionDetailTransport solutionDetail = new SolutionDetailTransport(solution);
+		client.setSolutionDetail(solutionDetail);
+		Assert.assertTrue(solutionDetail == client.getSolutionDetail("id", null, null));
 		client.setSolution(solution);
 		Assert.assertTrue(solution == client.createSolution(solution));
 		client.updateSolution(solution);
@@ -132,12 +164,23 @@ public void coverMockMethods() {
 		client.saveSolutionPicture("id", new byte[0]);
 		byte[] img = client.getSolutionPicture("id");
 		Assert.assertNotNull(img);
+		client.saveUserPicture("id", new byte[0]);
+		Assert.assertNotNull(client.getUserPicture("id"));
+		client.saveSolutionPicture("id", new ByteArrayInputStream(new byte[] { 1, 2 }), 2);
+		try (InputStream in = client.getSolutionPictureStream("id")) {
+			Assert.assertArrayEquals(new byte[] { 1, 2 }, StreamUtils.copyToByteArray(in));
+		}
+		client.saveUserPicture("id", null, 0);
+		Assert.assertNull(client.getUserPictureStream("id"));
 
 		List<MLPSolutionRevision> solRevList = new ArrayList<>();
 		client.setSolutionRevisionsById(solRevList);
 		Assert.assertTrue(solRevList == client.getSolutionRevisions("id"));
 		client.setSolutionRevisionsByIdList(solRevList);
 		Assert.assertTrue(solRevList == client.getSolutionRevisions(new String[] { "id" }));
+		BatchTransport<MLPSolutionRevision> revisionBatch = new BatchTransport<>();
+		client.setSolutionRevisionsById(revisionBatch);
+		Assert.assertTrue(revisionBatch == client.getSolutionRevisionsById(new String[] { "id" }));
 		client.setSolutionRevisionsForArtifact(solRevList);
 		Assert.assertTrue(solRevList == client.getSolutionRevisionsForArtifact("id"));
 
@@ -176,6 +219,12 @@ public void coverMockMethods() {
 		RestPageResponse<MLPArtifact> artifacts = new RestPageResponse<>();
 		client.setArtifacts(artifacts);
 		Assert.assertTrue(artifacts == client.getArtifacts(pageRequest));
+		Assert.assertTrue(artifacts == client.getArtifacts(pageRequest, new String[] { "name" }));
+		client.setArtifactsByCursor(artifacts);
+		Assert.assertTrue(artifacts == client.getArtifactsByCursor("token", pageRequest));
+		BatchTransport<MLPArtifact> artifactBatch = new BatchTransport<>();
+		client.setArtifactsById(artifactBatch);
+		Assert.assertTrue(artifactBatch == client.getArtifactsById(new String[] { "id" }));
 		client.setArtifactsBySearchTerm(artifacts);
 		Assert.assertTrue(artifacts == client.findArtifactsBySearchTerm("search", pageRequest));
 
@@ -197,6 +246,12 @@ public void coverMockMethods() {
 		RestPageResponse<MLPUser> users = new RestPageResponse<>();
 		client.setUsers(users);
 		Assert.assertTrue(users == client.getUsers(pageRequest));
+		Assert.assertTrue(users == client.getUsers(pageRequest, new String[] { "loginName" }));
+		client.setUsersByCursor(users);
+		Assert.assertTrue(users == client.getUsersByCursor("token", pageRequest));
+		BatchTransport<MLPUser> userBatch = new BatchTransport<>();
+		client.setUsersById(userBatch);
+		Assert.assertTrue(userBatch == client.getUsersById(new String[] { "id" }));
 		client.setUsersBySearchTerm(users);
 		Assert.assertTrue(users == client.findUsersBySearchTerm("term", pageRequest));
 
@@ -340,6 +395,7 @@ public void coverMockMethods() {
 		RestPageResponse<MLPNotification> notifications = new RestPageResponse<>();
 		client.setNotifications(notifications);
 		Assert.assertTrue(notifications == client.getNotifications(pageRequest));
+		Assert.assertTrue(notifications == client.getNotifications(pageRequest, new String[] { "title" }));
 
 		MLPNotification notification = new MLPNotification();
 		client.setNotification(notification);
@@ -403,6 +459,10 @@ public void coverMockMethods() {
 		Assert.assertTrue(siteContent == client.createSiteContent(siteContent));
 		client.updateSiteContent(siteContent);
 		client.deleteSiteContent("key");
+		client.saveSiteContentValue("key", "text/plain", new ByteArrayInputStream(new byte[] { 3 }), -1);
+		try (InputStream in = client.getSiteContentValueStream("key")) {
+			Assert.assertArrayEquals(new byte[] { 3 }, StreamUtils.copyToByteArray(in));
+		}
 
 		client.setThreadCount(count);
 		Assert.assertTrue(count == client.getThreadCount());
@@ -442,6 +502,24 @@ public void coverMockMethods() {
 				null, pageRequest));
 		Assert.assertTrue(portalSols == client.findPortalSolutionsByKwAndTags(null, true, null, null, null, null, null,
 				null, pageRequest));
+		FacetCountTransport facets = new FacetCountTransport();
+		client.setPortalSolutionFacets(facets);
+		Assert.assertTrue(facets == client.findPortalSolutionFacets(null, true, null, null, null, null, null, null));
+		List<CacheStatsTransport> entityCacheStats = new ArrayList<>();
+		client.setEntityCacheStats(entityCacheStats);
+		Assert.assertTrue(entityCacheStats == client.getEntityCacheStats());
+		List<SuggestionTransport> suggestions = new ArrayList<>();
+		client.setSolutionSuggestions(suggestions);
+		Assert.assertTrue(suggestions == client.getSolutionSuggestions("term", 1));
+		SolutionChangeTransport changes = new SolutionChangeTransport(Arrays.asList("s1", "s2"), 2, false);
+		client.setSolutionChanges(changes);
+		Assert.assertTrue(changes == client.getSolutionChanges(0, 1));
+		SolutionChangeFeed feed = new SolutionChangeFeed(client, 0);
+		Assert.assertEquals(2, feed.poll().size());
+		Assert.assertEquals(2, feed.getLastSequence());
+		CacheStatsTransport cacheStats = new CacheStatsTransport();
+		client.setSolutionSearchCacheStats(cacheStats);
+		Assert.assertTrue(cacheStats == client.getSolutionSearchCacheStats());
 
 		RestPageResponse<MLPSolution> userPrivSols = new RestPageResponse<>();
 		client.setUserSolutions(userPrivSols);
@@ -570,6 +648,7 @@ public void coverMockMethods() {
 		RestPageResponse<MLPCatalog> catalogs = new RestPageResponse<>();
 		client.setCatalogs(catalogs);
 		Assert.assertTrue(catalogs == client.getCatalogs(new RestPageRequest()));
+		Assert.assertTrue(catalogs == client.getCatalogs(new RestPageRequest(), new String[] { "name" }));
 		MLPCatalog catalog = new MLPCatalog();
 		client.setCatalog(catalog);
 		Assert.assertEquals(catalog, client.createCatalog(catalog));
@@ -666,4 +745,67 @@ public void coverMockMethods() {
 
 	}
 
+	@Test
+	public void testPageIterator() throws Exception {
+		final List<String> items = Arrays.asList("a", "b", "c", "d", "e", "f", "g");
+		final AtomicInteger fetches = new AtomicInteger();
+		Function<RestPageRequest, RestPageResponse<String>> pages = pr -> {
+			fetches.incrementAndGet();
+			int from = Math.min(items.size(), pr.getPage() * pr.getSize());
+			int to = Math.min(items.size(), from + pr.getSize());
+			return new RestPageResponse<>(items.subList(from, to), PageRequest.of(pr.getPage(), pr.getSize()),
+					items.size());
+		};
+		try (PageIterator<String> iter = PageIterator.ofPages(pages, new RestPageRequest(0, 3))) {
+			Assert.assertEquals(items, iter.stream().collect(Collectors.toList()));
+		}
+		Assert.assertEquals(3, fetches.get());
+
+		// Fetching stops when the queue is full: one page queued, one waiting
+		fetches.set(0);
+		try (PageIterator<String> iter = PageIterator.ofPages(pages, new RestPageRequest(0, 1), 1,
+				r -> new Thread(r).start())) {
+			Thread.sleep(200);
+			Assert.assertTrue(fetches.get() <= 2);
+			Assert.assertEquals("a", iter.next());
+		}
+
+		// A failure surfaces after the elements fetched before it
+		PageIterator<String> failing = PageIterator.ofPages(pr -> {
+			if (pr.getPage() > 0)
+				throw new IllegalStateException("page " + pr.getPage());
+			return pages.apply(pr);
+		}, new RestPageRequest(0, 3));
+		Assert.assertEquals("a", failing.next());
+		Assert.assertEquals("b", failing.next());
+		Assert.assertEquals("c", failing.next());
+		try {
+			failing.hasNext();
+			Assert.fail("Expected failure");
+		} catch (IllegalStateException ex) {
+			Assert.assertEquals("page 1", ex.getMessage());
+		}
+		failing.close();
+
+		// Cursor mode follows the continuation token until it is null
+		List<String> walked = new ArrayList<>();
+		try (PageIterator<String> iter = PageIterator.ofCursor((continuation, pr) -> {
+			int from = continuation == null ? 0 : Integer.parseInt(continuation);
+			int to = Math.min(items.size(), from + pr.getSize());
+			RestPageResponse<String> page = new RestPageResponse<>(items.subList(from, to));
+			page.setContinuation(to < items.size() ? Integer.toString(to) : null);
+			return page;
+		}, new RestPageRequest(0, 2))) {
+			iter.forEachRemaining(walked::add);
+		}
+		Assert.assertEquals(items, walked);
+
+		try {
+			PageIterator.ofPages(pages, new RestPageRequest(0, 1), 0, Runnable::run);
+			Assert.fail("Expected failure");
+		} catch (IllegalArgumentException ex) {
+			// expected
+		}
+	}
+
 }
@@ -22,16 +22,32 @@
 
 import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.acumos.cds.CountMode;
+import org.acumos.cds.domain.MLPArtifact;
+import org.acumos.cds.domain.MLPDocument;
+import org.acumos.cds.domain.MLPRevisionDescription;
+import org.acumos.cds.domain.MLPSolution;
+import org.acumos.cds.domain.MLPSolutionRating;
+import org.acumos.cds.domain.MLPSolutionRevision;
+import org.acumos.cds.transport.BatchTransport;
+import org.acumos.cds.transport.CacheStatsTransport;
 import org.acumos.cds.transport.CountTransport;
 import org.acumos.cds.transport.ErrorTransport;
+import org.acumos.cds.transport.FacetCountTransport;
 import org.acumos.cds.transport.LoginTransport;
+import org.acumos.cds.transport.PurgeTaskTransport;
 import org.acumos.cds.transport.RestPageRequest;
 import org.acumos.cds.transport.RestPageResponse;
+import org.acumos.cds.transport.RevisionDetailTransport;
+import org.acumos.cds.transport.SolutionChangeTransport;
+import org.acumos.cds.transport.SolutionDetailTransport;
 import org.acumos.cds.transport.SuccessTransport;
+import org.acumos.cds.transport.SuggestionTransport;
 import org.acumos.cds.transport.UsersRoleRequest;
 import org.junit.Assert;
 import org.junit.Test;
@@ -46,6 +62,29 @@ public class TransportTest extends AbstractModelTest {
 
 	private static final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
 
+	@Test
+	public void testCacheStatsTransport() {
+		CacheStatsTransport t = new CacheStatsTransport();
+		t = new CacheStatsTransport(s1);
+		t.setName(s2);
+		t.setHitCount(l1);
+		t.setMissCount(l2);
+		t.setEvictionCount(l3);
+		t.setInvalidationCount(l4);
+		t.setSize(l1);
+		t.setWeight(l2);
+		t.setMaxWeight(l3);
+		Assert.assertEquals(s2, t.getName());
+		Assert.assertEquals((long) l1, t.getHitCount());
+		Assert.assertEquals((long) l2, t.getMissCount());
+		Assert.assertEquals((long) l3, t.getEvictionCount());
+		Assert.assertEquals((long) l4, t.getInvalidationCount());
+		Assert.assertEquals((long) l1, t.getSize());
+		Assert.assertEquals((long) l2, t.getWeight());
+		Assert.assertEquals((long) l3, t.getMaxWeight());
+		logger.info(t.toString());
+	}
+
 	@Test
 	public void testCountTransport() {
 		CountTransport t = new CountTransport();
@@ -69,6 +108,115 @@ public void testErrorTransport() {
 		logger.info(t.toString());
 	}
 
+	@Test
+	public void testFacetCountTransport() {
+		FacetCountTransport t = new FacetCountTransport();
+		Map<String, Long> counts = new HashMap<>();
+		counts.put(s1, l1);
+		t.setTotal(l1);
+		t.setModelTypeCounts(counts);
+		t.setToolkitTypeCounts(counts);
+		t.setAccessTypeCounts(counts);
+		t.setTagCounts(counts);
+		t.setCatalogCounts(counts);
+		Assert.assertEquals((long) l1, t.getTotal());
+		Assert.assertEquals(counts, t.getModelTypeCounts());
+		Assert.assertEquals(counts, t.getToolkitTypeCounts());
+		Assert.assertEquals(counts, t.getAccessTypeCounts());
+		Assert.assertEquals(counts, t.getTagCounts());
+		Assert.assertEquals(counts, t.getCatalogCounts());
+		logger.info(t.toString());
+	}
+
+	@Test
+	public void testBatchTransport() {
+		List<String> found = Arrays.asList(s1);
+		List<String> missing = Arrays.asList(s2);
+		BatchTransport<String> t = new BatchTransport<>(found, missing);
+		t = new BatchTransport<>();
+		t.setFound(found);
+		t.setMissingIds(missing);
+		Assert.assertEquals(found, t.getFound());
+		Assert.assertEquals(missing, t.getMissingIds());
+		logger.info(t.toString());
+	}
+
+	@Test
+	public void testSolutionChangeTransport() {
+		List<String> ids = Arrays.asList(s1, s2);
+		SolutionChangeTransport t = new SolutionChangeTransport(ids, l1, true);
+		t = new SolutionChangeTransport();
+		t.setSolutionIds(ids);
+		t.setLastSequence(l1);
+		t.setMore(true);
+		Assert.assertEquals(ids, t.getSolutionIds());
+		Assert.assertEquals((long) l1, t.getLastSequence());
+		Assert.assertTrue(t.isMore());
+		logger.info(t.toString());
+	}
+
+	@Test
+	public void testSolutionDetailTransport() {
+		MLPSolutionRevision revision = new MLPSolutionRevision(s1, s2, s3, s4);
+		RevisionDetailTransport r = new RevisionDetailTransport();
+		r = new RevisionDetailTransport(revision);
+		List<MLPArtifact> artifacts = new ArrayList<>();
+		List<MLPRevisionDescription> descriptions = new ArrayList<>();
+		Map<String, List<MLPDocument>> documents = new HashMap<>();
+		r.setRevision(revision);
+		r.setArtifacts(artifacts);
+		r.setDescriptions(descriptions);
+		r.setDocuments(documents);
+		Assert.assertEquals(revision, r.getRevision());
+		Assert.assertEquals(artifacts, r.getArtifacts());
+		Assert.assertEquals(descriptions, r.getDescriptions());
+		Assert.assertEquals(documents, r.getDocuments());
+		logger.info(r.toString());
+
+		MLPSolution solution = new MLPSolution(s1, s2, true);
+		SolutionDetailTransport t = new SolutionDetailTransport();
+		t = new SolutionDetailTransport(solution);
+		List<RevisionDetailTransport> revisions = Arrays.asList(r);
+		RestPageResponse<MLPSolutionRating> ratings = new RestPageResponse<>();
+		t.setSolution(solution);
+		t.setRevisions(revisions);
+		t.setRatings(ratings);
+		t.setHasPicture(true);
+		Assert.assertEquals(solution, t.getSolution());
+		Assert.assertEquals(revisions, t.getRevisions());
+		Assert.assertEquals(ratings, t.getRatings());
+		Assert.assertTrue(t.getHasPicture());
+		logger.info(t.toString());
+	}
+
+	@Test
+	public void testSuggestionTransport() {
+		SuggestionTransport t = new SuggestionTransport(s1, SuggestionTransport.Type.NAME, l1);
+		t = new SuggestionTransport();
+		t.setText(s1);
+		t.setType(SuggestionTransport.Type.TAG);
+		t.setCount(l1);
+		Assert.assertEquals(s1, t.getText());
+		Assert.assertEquals(SuggestionTransport.Type.TAG, t.getType());
+		Assert.assertEquals((long) l1, t.getCount());
+		logger.info(t.toString());
+	}
+
+	@Test
+	public void testPurgeTaskTransport() {
+		PurgeTaskTransport t = new PurgeTaskTransport(s1, s2, s3, null);
+		t = new PurgeTaskTransport();
+		t.setTaskId(s1);
+		t.setSolutionId(s2);
+		t.setStatusCode(s3);
+		t.setMessage(s4);
+		Assert.assertEquals(s1, t.getTaskId());
+		Assert.assertEquals(s2, t.getSolutionId());
+		Assert.assertEquals(s3, t.getStatusCode());
+		Assert.assertEquals(s4, t.getMessage());
+		logger.info(t.toString());
+	}
+
 	@Test
 	public void testLoginTransport() {
 		LoginTransport t = new LoginTransport();
@@ -90,6 +238,8 @@ public void tesRestPageRequest() {
 		Map<String, String> fieldToDirectionMap = new HashMap<>();
 		fieldToDirectionMap.put("a", "b");
 		t.setFieldToDirectionMap(fieldToDirectionMap);
+		t.setCountMode(CountMode.ESTIMATE);
+		Assert.assertEquals(CountMode.ESTIMATE, t.getCountMode());
 		Assert.assertEquals(i1, t.getPage());
 		Assert.assertEquals(i2, t.getSize());
 		logger.info(t.toString());
@@ -112,11 +262,26 @@ public void testRestPageResponse() {
 		Assert.assertEquals((long) 4, t.getTotalElements());
 		Assert.assertEquals((long) 2, t.getTotalPages());
 		Assert.assertNull(t.getSort());
+		Assert.assertNull(t.getContinuation());
+		t.setContinuation("token");
+		Assert.assertEquals("token", t.getContinuation());
+		Assert.assertEquals(CountMode.EXACT, t.getCountMode());
+		t.setCountMode(CountMode.NONE);
+		Assert.assertEquals(CountMode.NONE, t.getCountMode());
+		t.setHasNext(false);
+		Assert.assertFalse(t.hasNext());
+		Assert.assertTrue(t.isLast());
+		t.setHasNext(null);
+		Assert.assertTrue(t.hasNext());
 		Assert.assertFalse(t.equals(null));
 		Assert.assertFalse(t.equals(new RestPageResponse<>()));
 		Assert.assertTrue(t.equals(t));
 		Assert.assertNotNull(t.hashCode());
 		logger.info(t.toString());
+		t = new RestPageResponse<>(content, 1, 2, 4, null, null, 2, false, true, false, 2);
+		Assert.assertEquals((int) 1, t.getNumber());
+		Assert.assertEquals(CountMode.EXACT, t.getCountMode());
+		Assert.assertFalse(t.hasNext());
 	}
 
 	@Test
@@ -97,3 +97,15 @@ CREATE TABLE C_USER_CAT_FAV_MAP (
   CONSTRAINT C_USER_CAT_FAV_MAP_C_USER FOREIGN KEY (USER_ID) REFERENCES C_USER (USER_ID),
   CONSTRAINT C_USER_CAT_FAV_MAP_C_CATALOG FOREIGN KEY (CATALOG_ID) REFERENCES C_CATALOG (CATALOG_ID)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8;
+-- Append-only log of solution changes; no foreign key because deletes are logged too
+CREATE TABLE C_SOL_CHANGE_LOG (
+  SEQ INT NOT NULL PRIMARY KEY AUTO_INCREMENT,
+  SOLUTION_ID CHAR(36) NOT NULL,
+  CREATED_DATE TIMESTAMP NOT NULL,
+  INDEX (CREATED_DATE)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8;
+
+-- Sum of ratings lets the server update the average without a recount
+ALTER TABLE C_SOLUTION ADD COLUMN RATING_SUM INT AFTER RATING_AVG_TENTHS;
+UPDATE C_SOLUTION s SET s.RATING_SUM =
+  (SELECT SUM(r.RATING) FROM C_SOLUTION_RATING r WHERE r.SOLUTION_ID = s.SOLUTION_ID);
@@ -149,6 +149,7 @@ CREATE TABLE C_SOLUTION (
   LAST_DOWNLOAD TIMESTAMP NULL DEFAULT 0,
   RATING_COUNT INT,
   RATING_AVG_TENTHS INT,
+  RATING_SUM INT,
   FEATURED_YN CHAR(1),
   CREATED_DATE TIMESTAMP NOT NULL DEFAULT 0,
   MODIFIED_DATE TIMESTAMP NOT NULL,
@@ -626,6 +627,14 @@ CREATE TABLE C_USER_CAT_FAV_MAP (
   CONSTRAINT C_USER_CAT_FAV_MAP_C_CATALOG FOREIGN KEY (CATALOG_ID) REFERENCES C_CATALOG (CATALOG_ID)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8;
 
+-- Append-only log of solution changes; no foreign key because deletes are logged too
+CREATE TABLE C_SOL_CHANGE_LOG (
+  SEQ INT NOT NULL PRIMARY KEY AUTO_INCREMENT,
+  SOLUTION_ID CHAR(36) NOT NULL,
+  CREATED_DATE TIMESTAMP NOT NULL,
+  INDEX (CREATED_DATE)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8;
+
 -- For tracking create/upgrade/downgrade; no Java entity
 CREATE TABLE C_HISTORY (
   ID INT PRIMARY KEY AUTO_INCREMENT,
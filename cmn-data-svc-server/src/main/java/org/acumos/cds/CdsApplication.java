@@ -32,6 +32,7 @@
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -40,6 +41,7 @@
  */
 @SpringBootApplication
 @EntityScan(basePackageClasses = MLPSolution.class)
+@EnableScheduling
 public class CdsApplication implements ApplicationContextAware {
 
 	private static final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
@@ -21,6 +21,7 @@
 package org.acumos.cds.config;
 
 import org.acumos.cds.CdsApplication;
+import org.acumos.cds.CountMode;
 import org.acumos.cds.controller.AbstractController;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -50,6 +51,8 @@ public Docket api() {
 				.apis(RequestHandlerSelectors.basePackage(AbstractController.class.getPackage().getName())) //
 				.paths(PathSelectors.any()) //
 				.build() //
+				// The count mode is documented on each method by ApiPageable
+				.ignoredParameterTypes(CountMode.class) //
 				.apiInfo(apiInfo());
 	}
 
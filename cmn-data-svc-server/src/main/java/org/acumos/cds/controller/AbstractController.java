@@ -20,14 +20,37 @@
 
 package org.acumos.cds.controller;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.lang.invoke.MethodHandles;
+import java.sql.Blob;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 
 import org.acumos.cds.CodeNameType;
 import org.acumos.cds.repository.TagRepository;
 import org.acumos.cds.service.CodeNameService;
+import org.acumos.cds.service.FieldSelectionService;
+import org.acumos.cds.service.ResourceVersion;
+import org.acumos.cds.transport.BatchTransport;
+import org.acumos.cds.util.ByteRange;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -43,6 +66,11 @@ public abstract class AbstractController {
 	// Shared among controllers
 	@Autowired
 	protected TagRepository tagRepository;
+	@Autowired
+	protected FieldSelectionService fieldSelectionService;
+
+	@Value("${cds.batch.max-ids:100}")
+	private int maxBatchIds;
 
 	protected static final String NO_ENTRY_WITH_ID = "No entry with ID ";
 
@@ -107,4 +135,123 @@ protected void validateCode(String code, CodeNameType type) {
 			throw new IllegalArgumentException("Unexpected code " + code + " for CodeNameType " + type.name());
 	}
 
+	/**
+	 * Finds the entities with the specified IDs in one query. Duplicate IDs are
+	 * answered once.
+	 * 
+	 * @param repository
+	 *                       Repository of the entity type
+	 * @param ids
+	 *                       Entity IDs
+	 * @param idOf
+	 *                       Function that gets the ID of an entity
+	 * @param <T>
+	 *                       Entity type
+	 * @return Entities found in the order of the IDs, and the IDs not found
+	 * @throws IllegalArgumentException
+	 *                                      if no IDs are specified or more than
+	 *                                      the configured maximum
+	 */
+	protected <T> BatchTransport<T> findBatch(CrudRepository<T, String> repository, String[] ids,
+			Function<T, String> idOf) {
+		Set<String> idSet = new LinkedHashSet<>();
+		if (ids != null)
+			for (String id : ids)
+				idSet.add(id);
+		if (idSet.isEmpty())
+			throw new IllegalArgumentException("No IDs specified");
+		if (idSet.size() > maxBatchIds)
+			throw new IllegalArgumentException(
+					"Too many IDs: " + idSet.size() + " specified, at most " + maxBatchIds + " permitted");
+		Map<String, T> byId = new HashMap<>();
+		for (T entity : repository.findAllById(idSet))
+			byId.put(idOf.apply(entity), entity);
+		List<T> found = new ArrayList<>(byId.size());
+		List<String> missingIds = new ArrayList<>();
+		for (String id : idSet) {
+			T entity = byId.get(id);
+			if (entity == null)
+				missingIds.add(id);
+			else
+				found.add(entity);
+		}
+		return new BatchTransport<>(found, missingIds);
+	}
+
+	/**
+	 * Evaluates the conditional-request headers If-None-Match and
+	 * If-Modified-Since against the specified version, and sets the ETag and
+	 * Last-Modified response headers. If the client's copy is current, also sets
+	 * status 304; the caller should then return null without loading the
+	 * resource.
+	 * 
+	 * @param version
+	 *                     Version of the requested resource; null if not found
+	 * @param request
+	 *                     HTTP request
+	 * @param response
+	 *                     HTTP response
+	 * @return True if the client's copy is current, otherwise false.
+	 */
+	protected boolean checkNotModified(ResourceVersion version, HttpServletRequest request,
+			HttpServletResponse response) {
+		if (version == null)
+			return false;
+		ServletWebRequest webRequest = new ServletWebRequest(request, response);
+		if (version.getLastModified() == null)
+			return webRequest.checkNotModified(version.getETag());
+		return webRequest.checkNotModified(version.getETag(), version.getLastModified().toEpochMilli());
+	}
+
+	/**
+	 * Copies a binary value to the response with its length. If the request has a
+	 * Range header for a single range, and any If-Range header matches the entity
+	 * tag, answers only that range with status 206, or 416 if the range is beyond
+	 * the end of the value.
+	 * 
+	 * @param blob
+	 *                     Value; null is sent as an empty body
+	 * @param mimeType
+	 *                     Media type of the value
+	 * @param version
+	 *                     Version of the resource; null if not known
+	 * @param request
+	 *                     HTTP request
+	 * @param response
+	 *                     HTTP response
+	 * @throws IOException
+	 *                          On failure to write the response
+	 * @throws SQLException
+	 *                          On failure to read the value
+	 */
+	protected void writeBlob(Blob blob, String mimeType, ResourceVersion version, HttpServletRequest request,
+			HttpServletResponse response) throws IOException, SQLException {
+		long length = blob == null ? 0 : blob.length();
+		response.setContentType(mimeType);
+		response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+		String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+		ByteRange range = null;
+		if (length > 0 && (ifRange == null || version != null && ifRange.equals(version.getETag())))
+			range = ByteRange.parse(request.getHeader(HttpHeaders.RANGE), length);
+		long first = 0;
+		long count = length;
+		if (range != null) {
+			if (!range.isSatisfiable()) {
+				response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+				response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+				return;
+			}
+			response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+			response.setHeader(HttpHeaders.CONTENT_RANGE, range.getContentRange());
+			first = range.getFirst();
+			count = range.getCount();
+		}
+		response.setContentLengthLong(count);
+		if (count == 0)
+			return;
+		try (InputStream in = blob.getBinaryStream(first + 1, count)) {
+			StreamUtils.copy(in, response.getOutputStream());
+		}
+	}
+
 }
@@ -22,12 +22,14 @@
 
 import java.lang.invoke.MethodHandles;
 import java.net.URI;
+import java.util.Arrays;
 import java.util.Optional;
 import java.util.UUID;
 
 import javax.servlet.http.HttpServletResponse;
 
 import org.acumos.cds.CCDSConstants;
+import org.acumos.cds.CountMode;
 import org.acumos.cds.MLPResponse;
 import org.acumos.cds.domain.MLPArtifact;
 import org.acumos.cds.domain.MLPArtifact_;
@@ -36,6 +38,7 @@
 import org.acumos.cds.repository.SolutionRevisionRepository;
 import org.acumos.cds.service.ArtifactSearchService;
 import org.acumos.cds.service.ArtifactService;
+import org.acumos.cds.transport.BatchTransport;
 import org.acumos.cds.transport.CountTransport;
 import org.acumos.cds.transport.ErrorTransport;
 import org.acumos.cds.transport.MLPTransportModel;
@@ -95,13 +98,65 @@ public CountTransport getArtifactCount() {
 		return new CountTransport(count);
 	}
 
-	@ApiOperation(value = "Gets a page of artifacts, optionally sorted; empty if none are found.", //
+	@ApiOperation(value = "Gets a page of artifacts, optionally sorted; empty if none are found. " //
+			+ "If fields are named, answers only those fields and the ID.", //
 			response = MLPArtifact.class, responseContainer = "Page")
+	@ApiResponses({ @ApiResponse(code = 400, message = "Bad request", response = ErrorTransport.class) })
 	@ApiPageable
 	@RequestMapping(method = RequestMethod.GET)
-	public Page<MLPArtifact> getArtifacts(Pageable pageRequest) {
-		logger.debug("getArtifacts {}", pageRequest);
-		return artifactRepository.findAll(pageRequest);
+	public Object getArtifacts( //
+			@ApiParam(value = "Fields to answer; all if none", allowMultiple = true) //
+			@RequestParam(name = CCDSConstants.FIELDS_QUERY_PARAM, required = false) String[] fields, //
+			Pageable pageRequest, HttpServletResponse response) {
+		logger.debug("getArtifacts {} fields {}", pageRequest, Arrays.toString(fields));
+		if (fields == null || fields.length == 0)
+			return artifactRepository.findAll(pageRequest);
+		try {
+			return fieldSelectionService.findAll(MLPArtifact.class, fields, pageRequest);
+		} catch (IllegalArgumentException ex) {
+			logger.warn("getArtifacts failed: {}", ex.toString());
+			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, ex.getMessage(), ex);
+		}
+	}
+
+	@ApiOperation(value = "Gets a page of artifacts using keyset (cursor) pagination, optionally sorted on one field. " //
+			+ "Send the continuation token from the previous page to get the next page; the page number is ignored. " //
+			+ "Answers empty if none are found.", //
+			response = MLPArtifact.class, responseContainer = "Page")
+	@ApiPageable
+	@RequestMapping(value = "/" + CCDSConstants.CURSOR_PATH, method = RequestMethod.GET)
+	public Object getArtifactsByCursor( //
+			@ApiParam(value = "Continuation token") //
+			@RequestParam(name = CCDSConstants.CONTINUATION_QUERY_PARAM, required = false) String continuation, //
+			Pageable pageRequest, HttpServletResponse response) {
+		logger.debug("getArtifactsByCursor {}", pageRequest);
+		try {
+			return artifactSearchService.findArtifactsAfterCursor(continuation, pageRequest);
+		} catch (IllegalArgumentException ex) {
+			logger.warn("getArtifactsByCursor failed: {}", ex.toString());
+			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, ex.getMessage(), ex);
+		}
+	}
+
+	@ApiOperation(value = "Gets the entities with the specified IDs in one query, in the order of the IDs, " //
+			+ "and lists the IDs not found. Returns bad request if no IDs or too many IDs are specified.", //
+			response = BatchTransport.class)
+	@ApiResponses({ @ApiResponse(code = 400, message = "Bad request", response = ErrorTransport.class) })
+	@RequestMapping(value = "/" + CCDSConstants.BATCH_PATH, method = RequestMethod.GET)
+	public Object getArtifactsById( //
+			@ApiParam(value = "Artifact IDs", allowMultiple = true, required = true) //
+			@RequestParam(name = CCDSConstants.BATCH_ID, required = true) String[] artifactIds, //
+			HttpServletResponse response) {
+		logger.debug("getArtifactsById: IDs {}", Arrays.toString(artifactIds));
+		try {
+			return findBatch(artifactRepository, artifactIds, MLPArtifact::getArtifactId);
+		} catch (IllegalArgumentException ex) {
+			logger.warn("getArtifactsById failed: {}", ex.toString());
+			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, ex.getMessage(), ex);
+		}
 	}
 
 	@ApiOperation(value = "Gets the entity for the specified ID. Returns null if the ID is not found.", //
@@ -141,7 +196,7 @@ public Object searchArtifacts(//
 			@RequestParam(name = MLPArtifact_.URI, required = false) String uri, //
 			@RequestParam(name = MLPArtifact_.VERSION, required = false) String version, //
 			@RequestParam(name = MLPArtifact_.USER_ID, required = false) String userId, //
-			Pageable pageRequest, HttpServletResponse response) {
+			Pageable pageRequest, CountMode countMode, HttpServletResponse response) {
 		logger.debug("searchArtifacts enter");
 		boolean isOr = junction != null && "o".equals(junction);
 		if (artifactTypeCode == null && name == null && uri == null && version == null && userId == null) {
@@ -149,7 +204,8 @@ public Object searchArtifacts(//
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, "Missing query", null);
 		}
 		try {
-			return artifactSearchService.findArtifacts(artifactTypeCode, name, uri, version, userId, isOr, pageRequest);
+			return artifactSearchService.findArtifacts(artifactTypeCode, name, uri, version, userId, isOr, pageRequest,
+					countMode);
 		} catch (Exception ex) {
 			logger.error("searchArtifacts failed: {}", ex.toString());
 			response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
@@ -176,7 +232,7 @@ public MLPResponse createArtifact(@RequestBody MLPArtifact artifact, HttpServlet
 			String id = artifact.getArtifactId();
 			if (id != null) {
 				UUID.fromString(id);
-				if (artifactRepository.findById(id).isPresent()) {
+				if (artifactRepository.existsById(id)) {
 					logger.warn("createArtifact failed on ID {}", id);
 					response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 					return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, "ID exists: " + id);
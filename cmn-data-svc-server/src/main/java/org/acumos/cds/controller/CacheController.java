@@ -0,0 +1,61 @@
+/*-
+ * ===============LICENSE_START=======================================================
+ * Acumos
+ * ===================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property & Tech Mahindra. All rights reserved.
+ * ===================================================================================
+ * This Acumos software file is distributed by AT&T and Tech Mahindra
+ * under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ===============LICENSE_END=========================================================
+ */
+
+package org.acumos.cds.controller;
+
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+
+import org.acumos.cds.CCDSConstants;
+import org.acumos.cds.service.EntityCacheService;
+import org.acumos.cds.transport.CacheStatsTransport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.annotations.ApiOperation;
+
+/**
+ * Answers REST requests about the server's entity cache.
+ */
+@RestController
+@RequestMapping(value = "/" + CCDSConstants.CACHE_PATH, produces = MediaType.APPLICATION_JSON_VALUE)
+public class CacheController extends AbstractController {
+
+	private static final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+	@Autowired
+	private EntityCacheService entityCacheService;
+
+	@ApiOperation(value = "Gets usage statistics of the second-level cache of reference entities and query results, " //
+			+ "one entry per cache region plus a query cache summary. " //
+			+ "Counts are zero unless Hibernate statistics are enabled.", //
+			response = CacheStatsTransport.class, responseContainer = "List")
+	@RequestMapping(value = "/" + CCDSConstants.STATS_PATH, method = RequestMethod.GET)
+	public List<CacheStatsTransport> getEntityCacheStats() {
+		logger.debug("getEntityCacheStats");
+		return entityCacheService.getStats();
+	}
+
+}
@@ -51,7 +51,6 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
@@ -100,12 +99,26 @@ public class CatalogController extends AbstractController {
 	@Autowired
 	private UserCatFavMapRepository userCatFavMapRepository;
 
-	@ApiOperation(value = "Gets a page of catalogs, optionally sorted. Answers empty if none are found.", response = MLPCatalog.class, responseContainer = "Page")
+	@ApiOperation(value = "Gets a page of catalogs, optionally sorted. Answers empty if none are found. " //
+			+ "If fields are named, answers only those fields and the ID.", //
+			response = MLPCatalog.class, responseContainer = "Page")
+	@ApiResponses({ @ApiResponse(code = 400, message = "Bad request", response = ErrorTransport.class) })
 	@ApiPageable
 	@RequestMapping(method = RequestMethod.GET)
-	public Page<MLPCatalog> getCatalogs(Pageable pageable) {
-		logger.debug("getCatalogs {}", pageable);
-		return catalogRepository.findAll(pageable);
+	public Object getCatalogs( //
+			@ApiParam(value = "Fields to answer; all if none", allowMultiple = true) //
+			@RequestParam(name = CCDSConstants.FIELDS_QUERY_PARAM, required = false) String[] fields, //
+			Pageable pageable, HttpServletResponse response) {
+		logger.debug("getCatalogs {} fields {}", pageable, Arrays.toString(fields));
+		if (fields == null || fields.length == 0)
+			return catalogRepository.findAll(pageable);
+		try {
+			return fieldSelectionService.findAll(MLPCatalog.class, fields, pageable);
+		} catch (IllegalArgumentException ex) {
+			logger.warn("getCatalogs failed: {}", ex.toString());
+			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, ex.getMessage(), ex);
+		}
 	}
 
 	@ApiOperation(value = "Gets the catalog for the specified ID. Returns null if the ID is not found.", //
@@ -238,7 +251,7 @@ public MLPResponse addSolutionToCatalog(@PathVariable("catalogId") String catalo
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, NO_ENTRY_WITH_ID + catalogId, null);
 		}
-		if (!solutionRepository.findById(solutionId).isPresent()) {
+		if (!solutionRepository.existsById(solutionId)) {
 			logger.warn("addSolutionToCatalog: failed on sol ID {}", solutionId);
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, NO_ENTRY_WITH_ID + solutionId, null);
@@ -338,7 +351,7 @@ public MLPResponse addUserFavoriteCatalog(@PathVariable("catalogId") String cata
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, NO_ENTRY_WITH_ID + catalogId, null);
 		}
-		if (!userRepository.findById(userId).isPresent()) {
+		if (!userRepository.existsById(userId)) {
 			logger.warn("addUserFavoriteCatalog: failed on user ID {}", userId);
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, NO_ENTRY_WITH_ID + userId, null);
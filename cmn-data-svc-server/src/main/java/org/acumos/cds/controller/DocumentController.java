@@ -89,7 +89,7 @@ public MLPResponse createDocument(@RequestBody MLPDocument document, HttpServlet
 			String id = document.getDocumentId();
 			if (id != null) {
 				UUID.fromString(id);
-				if (documentRepository.findById(id).isPresent()) {
+				if (documentRepository.existsById(id)) {
 					logger.warn("createDocument: failed on ID {}", id);
 					response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 					return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, "ID exists: " + id);
@@ -310,12 +310,12 @@ public MLPResponse addSolutionToGroup(@PathVariable("groupId") Long groupId,
 			@PathVariable("solutionId") String solutionId, @RequestBody MLPSolGrpMemMap map,
 			HttpServletResponse response) {
 		logger.debug("addSolutionToGroup groupId {} solutionId {}", groupId, solutionId);
-		if (!solutionRepository.findById(solutionId).isPresent()) {
+		if (!solutionRepository.existsById(solutionId)) {
 			logger.warn("addSolutionToGroup: failed on sol ID {}", solutionId);
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, NO_ENTRY_WITH_ID + solutionId, null);
 		}
-		if (!solutionGroupRepository.findById(groupId).isPresent()) {
+		if (!solutionGroupRepository.existsById(groupId)) {
 			logger.warn("addSolutionToGroup: failed on grp ID {}", groupId);
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, NO_ENTRY_WITH_ID + groupId, null);
@@ -370,7 +370,7 @@ public MLPTransportModel mapPeerSolutionGroups(@PathVariable("peerGroupId") Long
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, NO_ENTRY_WITH_ID + peerGroupId, null);
 		}
-		if (!solutionGroupRepository.findById(solutionGroupId).isPresent()) {
+		if (!solutionGroupRepository.existsById(solutionGroupId)) {
 			logger.warn("mapPeerSolutionGroups: failed on sol grp ID {}", solutionGroupId);
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, NO_ENTRY_WITH_ID + solutionGroupId, null);
@@ -21,6 +21,7 @@
 package org.acumos.cds.controller;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Arrays;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -45,7 +46,6 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
@@ -53,9 +53,11 @@
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiParam;
 import io.swagger.annotations.ApiResponse;
 import io.swagger.annotations.ApiResponses;
 
@@ -95,13 +97,26 @@ public CountTransport getNotificationCount() {
 		return new CountTransport(count);
 	}
 
-	@ApiOperation(value = "Gets a page of notifications, optionally sorted; empty if none are found.", //
+	@ApiOperation(value = "Gets a page of notifications, optionally sorted; empty if none are found. " //
+			+ "If fields are named, answers only those fields and the ID.", //
 			response = MLPNotification.class, responseContainer = "Page")
+	@ApiResponses({ @ApiResponse(code = 400, message = "Bad request", response = ErrorTransport.class) })
 	@ApiPageable
 	@RequestMapping(method = RequestMethod.GET)
-	public Page<MLPNotification> getNotifications(Pageable pageable) {
-		logger.debug("getNotifications: request {} ", pageable);
-		return notificationRepository.findAll(pageable);
+	public Object getNotifications( //
+			@ApiParam(value = "Fields to answer; all if none", allowMultiple = true) //
+			@RequestParam(name = CCDSConstants.FIELDS_QUERY_PARAM, required = false) String[] fields, //
+			Pageable pageable, HttpServletResponse response) {
+		logger.debug("getNotifications: request {} fields {}", pageable, Arrays.toString(fields));
+		if (fields == null || fields.length == 0)
+			return notificationRepository.findAll(pageable);
+		try {
+			return fieldSelectionService.findAll(MLPNotification.class, fields, pageable);
+		} catch (IllegalArgumentException ex) {
+			logger.warn("getNotifications failed: {}", ex.toString());
+			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, ex.getMessage(), ex);
+		}
 	}
 
 	@ApiOperation(value = "Creates a new notification and generates an ID if needed. Returns bad request on constraint violation etc.", //
@@ -114,7 +129,7 @@ public MLPResponse createNotification(@RequestBody MLPNotification notif, HttpSe
 			String id = notif.getNotificationId();
 			if (id != null) {
 				UUID.fromString(id);
-				if (notificationRepository.findById(id).isPresent()) {
+				if (notificationRepository.existsById(id)) {
 					logger.warn("createNotification: failed on ID {}", id);
 					response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 					return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, "ID exists: " + id);
@@ -142,7 +157,7 @@ public MLPTransportModel updateNotification(@PathVariable("notificationId") Stri
 			@RequestBody MLPNotification notif, HttpServletResponse response) {
 		logger.debug("updateNotification: notifId {} ", notifId);
 		// Check that one exists
-		if (!notificationRepository.findById(notifId).isPresent()) {
+		if (!notificationRepository.existsById(notifId)) {
 			logger.warn("updateNotification: failed on ID {}", notifId);
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, NO_ENTRY_WITH_ID + notifId, null);
@@ -205,12 +220,12 @@ public MLPTransportModel addUserNotification(@PathVariable("userId") String user
 			@PathVariable("notificationId") String notificationId, @RequestBody MLPNotifUserMap notifUserMap,
 			HttpServletResponse response) {
 		logger.debug("addUserNotification: user {}, notif {}", userId, notificationId);
-		if (!userRepository.findById(userId).isPresent()) {
+		if (!userRepository.existsById(userId)) {
 			logger.warn("addUserNotification: failed on user ID {}", userId);
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, NO_ENTRY_WITH_ID + userId, null);
 		}
-		if (!notificationRepository.findById(notificationId).isPresent()) {
+		if (!notificationRepository.existsById(notificationId)) {
 			logger.warn("addUserNotification: failed on notif ID {}", notificationId);
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, NO_ENTRY_WITH_ID + notificationId, null);
@@ -230,12 +245,12 @@ public MLPTransportModel updateUserNotification(@PathVariable("userId") String u
 			@PathVariable("notificationId") String notificationId, @RequestBody MLPNotifUserMap notifUserMap,
 			HttpServletResponse response) {
 		logger.debug("updateUserNotification: user {}, notif {}", userId, notificationId);
-		if (!userRepository.findById(userId).isPresent()) {
+		if (!userRepository.existsById(userId)) {
 			logger.warn("updateUserNotification: failed on user ID {}", userId);
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, NO_ENTRY_WITH_ID + userId, null);
 		}
-		if (!notificationRepository.findById(notificationId).isPresent()) {
+		if (!notificationRepository.existsById(notificationId)) {
 			logger.warn("updateUserNotification: failed on notif ID {}", notificationId);
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, NO_ENTRY_WITH_ID + notificationId, null);
@@ -319,7 +334,7 @@ public MLPTransportModel updateUserNotificationPreference(@PathVariable("userNot
 			@RequestBody MLPUserNotifPref usrNotifPref, HttpServletResponse response) {
 		logger.debug("updateUserNotificationPreference: userNotifPrefId {} ", userNotifPrefId);
 		// Check the existing one
-		if (!notificationPreferenceRepository.findById(userNotifPrefId).isPresent()) {
+		if (!notificationPreferenceRepository.existsById(userNotifPrefId)) {
 			logger.warn("updateUserNotificationPreference: failed on ID {}", userNotifPrefId);
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, NO_ENTRY_WITH_ID + userNotifPrefId, null);
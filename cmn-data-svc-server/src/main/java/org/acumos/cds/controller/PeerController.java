@@ -28,6 +28,7 @@
 
 import org.acumos.cds.CCDSConstants;
 import org.acumos.cds.CodeNameType;
+import org.acumos.cds.CountMode;
 import org.acumos.cds.MLPResponse;
 import org.acumos.cds.domain.MLPPeer;
 import org.acumos.cds.domain.MLPPeerSubscription;
@@ -113,7 +114,7 @@ public Object searchPeers( //
 			@RequestParam(name = MLPPeer_.CONTACT1, required = false) String contact1, //
 			@RequestParam(name = MLPPeer_.STATUS_CODE, required = false) String statusCode, //
 			@RequestParam(name = MLPPeer_.SELF, required = false) Boolean self, //
-			Pageable pageRequest, HttpServletResponse response) {
+			Pageable pageRequest, CountMode countMode, HttpServletResponse response) {
 		logger.debug("searchPeer enter");
 		boolean isOr = junction != null && "o".equals(junction);
 		if (name == null && subjectName == null && apiUrl == null && webUrl == null && contact1 == null
@@ -124,7 +125,7 @@ public Object searchPeers( //
 		}
 		try {
 			return peerSearchService.findPeers(name, subjectName, apiUrl, webUrl, contact1, statusCode, self, isOr,
-					pageRequest);
+					pageRequest, countMode);
 		} catch (Exception ex) {
 			logger.error("searchPeers failed: {}", ex.toString());
 			response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
@@ -296,7 +297,7 @@ public MLPTransportModel updatePeerSub(@PathVariable("subId") Long subId, @Reque
 			HttpServletResponse response) {
 		logger.debug("updatePeerSub subId {}", subId);
 		// Check the existing one
-		if (!peerSubRepository.findById(subId).isPresent()) {
+		if (!peerSubRepository.existsById(subId)) {
 			logger.warn("updatePeerSub failed on ID {}", subId);
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, NO_ENTRY_WITH_ID + subId, null);
@@ -26,6 +26,7 @@
 
 import org.acumos.cds.CCDSConstants;
 import org.acumos.cds.CodeNameType;
+import org.acumos.cds.CountMode;
 import org.acumos.cds.MLPResponse;
 import org.acumos.cds.domain.MLPPublishRequest;
 import org.acumos.cds.domain.MLPPublishRequest_;
@@ -113,7 +114,7 @@ public Object searchPublishRequests(@ApiParam(value = "Junction", allowableValue
 			@RequestParam(name = MLPPublishRequest_.REQUEST_USER_ID, required = false) String requestUserId, //
 			@RequestParam(name = MLPPublishRequest_.REVIEW_USER_ID, required = false) String reviewUserId, //
 			@RequestParam(name = MLPPublishRequest_.STATUS_CODE, required = false) String statusCode, //
-			Pageable pageRequest, HttpServletResponse response) {
+			Pageable pageRequest, CountMode countMode, HttpServletResponse response) {
 		logger.debug("searchPublishRequests enter");
 		boolean isOr = junction != null && "o".equals(junction);
 		if (solutionId == null && revisionId == null && requestUserId == null && reviewUserId == null
@@ -124,7 +125,7 @@ public Object searchPublishRequests(@ApiParam(value = "Junction", allowableValue
 		}
 		try {
 			return publishRequestSearchService.findPublishRequests(solutionId, revisionId, requestUserId, reviewUserId,
-					statusCode, isOr, pageRequest);
+					statusCode, isOr, pageRequest, countMode);
 		} catch (Exception ex) {
 			logger.error("searchPublishRequests failed: {}", ex.toString());
 			response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
@@ -165,7 +166,7 @@ public MLPTransportModel updatePublishRequest(@PathVariable("requestId") long re
 			@RequestBody MLPPublishRequest pubReq, HttpServletResponse response) {
 		logger.debug("updatePublishRequest: requestId {}", requestId);
 		// Check the existing one
-		if (!publishRequestRepository.findById(requestId).isPresent()) {
+		if (!publishRequestRepository.existsById(requestId)) {
 			logger.warn("updatePublishRequest failed on ID {}", requestId);
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, NO_ENTRY_WITH_ID + requestId, null);
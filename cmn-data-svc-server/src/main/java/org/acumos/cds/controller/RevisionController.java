@@ -103,12 +103,12 @@ public Iterable<MLPArtifact> getRevisionArtifacts(@PathVariable("revisionId") St
 	public MLPTransportModel addRevisionArtifact(@PathVariable("revisionId") String revisionId,
 			@PathVariable("artifactId") String artifactId, HttpServletResponse response) {
 		logger.debug("addRevArtifact: revisionId {} artifactId {}", revisionId, artifactId);
-		if (!revisionRepository.findById(revisionId).isPresent()) {
+		if (!revisionRepository.existsById(revisionId)) {
 			logger.warn("addRevArtifact failed on rev ID {}", revisionId);
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, NO_ENTRY_WITH_ID + revisionId, null);
 		}
-		if (!artifactRepository.findById(artifactId).isPresent()) {
+		if (!artifactRepository.existsById(artifactId)) {
 			logger.warn("addRevArtifact failed on art ID {}", artifactId);
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, NO_ENTRY_WITH_ID + artifactId, null);
@@ -162,7 +162,7 @@ public MLPResponse createRevisionDescription(@PathVariable("revisionId") String
 			@PathVariable("accessTypeCode") String accessTypeCode, @RequestBody MLPRevisionDescription description,
 			HttpServletResponse response) {
 		logger.debug("createRevisionDescription: revisionId {} accessTypeCode {}", revisionId, accessTypeCode);
-		if (!revisionRepository.findById(revisionId).isPresent()) {
+		if (!revisionRepository.existsById(revisionId)) {
 			logger.warn("createRevisionDescription failed on ID {}", revisionId);
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, NO_ENTRY_WITH_ID + revisionId, null);
@@ -27,6 +27,7 @@
 import javax.servlet.http.HttpServletResponse;
 
 import org.acumos.cds.CCDSConstants;
+import org.acumos.cds.CountMode;
 import org.acumos.cds.MLPResponse;
 import org.acumos.cds.domain.MLPRightToUse;
 import org.acumos.cds.domain.MLPRightToUse_;
@@ -137,7 +138,7 @@ public Object searchRightToUses(//
 			@RequestParam(name = CCDSConstants.JUNCTION_QUERY_PARAM, required = false) String junction, //
 			@RequestParam(name = MLPRightToUse_.SOLUTION_ID, required = false) String solutionId, //
 			@RequestParam(name = MLPRightToUse_.SITE, required = false) Boolean site, //
-			Pageable pageRequest, HttpServletResponse response) {
+			Pageable pageRequest, CountMode countMode, HttpServletResponse response) {
 		logger.debug("searchRightToUses enter");
 		boolean isOr = junction != null && "o".equals(junction);
 
@@ -147,7 +148,7 @@ public Object searchRightToUses(//
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, "Missing query", null);
 		}
 		try {
-			return rtuSearchService.findRtus(solutionId, site, isOr, pageRequest);
+			return rtuSearchService.findRtus(solutionId, site, isOr, pageRequest, countMode);
 		} catch (Exception ex) {
 			logger.error("searchRightToUses failed: {}", ex.toString());
 			response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
@@ -188,7 +189,7 @@ public MLPTransportModel updateRightToUse(@PathVariable("rtuId") Long rtuId, @Re
 			HttpServletResponse response) {
 		logger.debug("updateRightToUse rtuId {}", rtuId);
 		// Check the existing one
-		if (!rtuRepository.findById(rtuId).isPresent()) {
+		if (!rtuRepository.existsById(rtuId)) {
 			logger.warn("updateRightToUse failed on ID {}", rtuId);
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, NO_ENTRY_WITH_ID + rtuId, null);
@@ -239,7 +240,7 @@ public Page<MLPRtuReference> getRtuRefs(Pageable pageable) {
 	@RequestMapping(value = "/" + CCDSConstants.REF_PATH, method = RequestMethod.POST)
 	public MLPResponse createRtuRef(@RequestBody MLPRtuReference ref, HttpServletResponse response) {
 		logger.debug("createRtuRef: ref {}", ref);
-		if (rtuRefRepository.findById(ref.getRef()).isPresent()) {
+		if (rtuRefRepository.existsById(ref.getRef())) {
 			logger.warn("createRtuRef failed on {}", ref);
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, "Ref exists: " + ref, null);
@@ -277,7 +278,7 @@ public MLPTransportModel deleteRtuRef(@PathVariable("ref") String ref, HttpServl
 	public MLPResponse addRefToRtu(@PathVariable("rtuId") Long rtuId, @PathVariable("refId") String refId,
 			@RequestBody MLPRtuRefMap map, HttpServletResponse response) {
 		logger.debug("addRefToRtu rtuId {} refId {}", rtuId, refId);
-		if (!rtuRepository.findById(rtuId).isPresent()) {
+		if (!rtuRepository.existsById(rtuId)) {
 			logger.warn("addRefToRtu: failed on RTU ID {}", rtuId);
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, NO_ENTRY_WITH_ID + rtuId, null);
@@ -314,12 +315,12 @@ public MLPTransportModel dropRefFromRtu(@PathVariable("rtuId") Long rtuId, @Path
 	public MLPResponse addUserToRtu(@PathVariable("rtuId") Long rtuId, @PathVariable("userId") String userId,
 			@RequestBody MLPRtuUserMap map, HttpServletResponse response) {
 		logger.debug("addUserToRtu rtuId {} userId {}", rtuId, userId);
-		if (!rtuRepository.findById(rtuId).isPresent()) {
+		if (!rtuRepository.existsById(rtuId)) {
 			logger.warn("addUserToRtu: failed on RTU ID {}", rtuId);
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, NO_ENTRY_WITH_ID + rtuId, null);
 		}
-		if (!userRepository.findById(userId).isPresent()) {
+		if (!userRepository.existsById(userId)) {
 			logger.warn("addUserToRtu: failed on user ID {}", userId);
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, NO_ENTRY_WITH_ID + userId, null);
@@ -360,7 +361,7 @@ protected void createMissingRefs(Collection<MLPRtuReference> refs) {
 		for (MLPRtuReference ref : refs) {
 			if (ref == null || ref.getRef() == null)
 				throw new IllegalArgumentException("Unexpected null ref");
-			if (!rtuRefRepository.findById(ref.getRef()).isPresent()) {
+			if (!rtuRefRepository.existsById(ref.getRef())) {
 				rtuRefRepository.save(ref);
 				logger.debug("createMissingRefs: ref {}", ref);
 			}
@@ -27,6 +27,7 @@
 import javax.servlet.http.HttpServletResponse;
 
 import org.acumos.cds.CCDSConstants;
+import org.acumos.cds.CountMode;
 import org.acumos.cds.MLPResponse;
 import org.acumos.cds.domain.MLPRole;
 import org.acumos.cds.domain.MLPRoleFunction;
@@ -116,7 +117,7 @@ public Object searchRoles(//
 			@RequestParam(name = CCDSConstants.JUNCTION_QUERY_PARAM, required = false) String junction, //
 			@RequestParam(name = MLPRole_.NAME, required = false) String name, //
 			@RequestParam(name = MLPRole_.ACTIVE, required = false) Boolean active, //
-			Pageable pageRequest, HttpServletResponse response) {
+			Pageable pageRequest, CountMode countMode, HttpServletResponse response) {
 		logger.debug("searchRoles enter");
 		boolean isOr = junction != null && "o".equals(junction);
 		if (name == null && active == null) {
@@ -125,7 +126,7 @@ public Object searchRoles(//
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, "Missing query", null);
 		}
 		try {
-			return roleSearchService.findRoles(name, active, isOr, pageRequest);
+			return roleSearchService.findRoles(name, active, isOr, pageRequest, countMode);
 		} catch (Exception ex) {
 			logger.error("searchRoles failed: {}", ex.toString());
 			response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
@@ -20,9 +20,11 @@
 
 package org.acumos.cds.controller;
 
+import java.io.IOException;
 import java.lang.invoke.MethodHandles;
 import java.util.Optional;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import org.acumos.cds.CCDSConstants;
@@ -31,6 +33,9 @@
 import org.acumos.cds.repository.SiteConfigRepository;
 import org.acumos.cds.repository.SiteContentRepository;
 import org.acumos.cds.repository.UserRepository;
+import org.acumos.cds.service.BlobStreamService;
+import org.acumos.cds.service.ResourceVersion;
+import org.acumos.cds.service.ResourceVersionService;
 import org.acumos.cds.transport.ErrorTransport;
 import org.acumos.cds.transport.MLPTransportModel;
 import org.acumos.cds.transport.SuccessTransport;
@@ -70,11 +75,15 @@ public class SiteController extends AbstractController {
 
 	private static final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
 
+	@Autowired
+	private BlobStreamService blobStreamService;
 	@Autowired
 	private SiteConfigRepository siteConfigRepository;
 	@Autowired
 	private SiteContentRepository siteContentRepository;
 	@Autowired
+	private ResourceVersionService resourceVersionService;
+	@Autowired
 	private UserRepository userRepository;
 
 	@ApiOperation(value = "Gets a page of site configurations, optionally sorted on fields. Returns empty if none are found.", //
@@ -106,7 +115,7 @@ public Object createSiteConfig(@RequestBody MLPSiteConfig siteConfig, HttpServle
 					null);
 		}
 		// UserID is optional
-		if (siteConfig.getUserId() != null && !userRepository.findById(siteConfig.getUserId()).isPresent()) {
+		if (siteConfig.getUserId() != null && !userRepository.existsById(siteConfig.getUserId())) {
 			logger.warn("createSiteConfig failed on user {}", siteConfig.getUserId());
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, NO_ENTRY_WITH_ID + siteConfig.getUserId(),
@@ -180,10 +189,15 @@ public Page<MLPSiteContent> getSiteContents(Pageable pageable) {
 		return siteContentRepository.findAll(pageable);
 	}
 
-	@ApiOperation(value = "Gets the site content value for the specified key. Answers null if the key is not found.", response = MLPSiteContent.class)
+	@ApiOperation(value = "Gets the site content value for the specified key. Answers null if the key is not found. " //
+			+ "Answers not modified if the If-None-Match or If-Modified-Since header shows the client copy is current.", //
+			response = MLPSiteContent.class)
 	@RequestMapping(value = CCDSConstants.CONTENT_PATH + "/{contentKey}", method = RequestMethod.GET)
-	public MLPSiteContent getSiteContent(@PathVariable("contentKey") String contentKey) {
+	public MLPSiteContent getSiteContent(@PathVariable("contentKey") String contentKey, HttpServletRequest request,
+			HttpServletResponse response) {
 		logger.debug("getSiteContent key {}", contentKey);
+		if (checkNotModified(resourceVersionService.getSiteContentVersion(contentKey), request, response))
+			return null;
 		Optional<MLPSiteContent> da = siteContentRepository.findById(contentKey);
 		return da.isPresent() ? da.get() : null;
 	}
@@ -193,7 +207,7 @@ public MLPSiteContent getSiteContent(@PathVariable("contentKey") String contentK
 	@RequestMapping(value = CCDSConstants.CONTENT_PATH, method = RequestMethod.POST)
 	public Object createSiteContent(@RequestBody MLPSiteContent siteContent, HttpServletResponse response) {
 		logger.debug("createSiteContent: key {}", siteContent.getContentKey());
-		if (siteContentRepository.findById(siteContent.getContentKey()).isPresent()) {
+		if (siteContentRepository.existsById(siteContent.getContentKey())) {
 			logger.warn("createSiteContent failed on key {}", siteContent.getContentKey());
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, "Key exists: " + siteContent.getContentKey(),
@@ -223,7 +237,7 @@ public Object updateSiteContent(@PathVariable("contentKey") String contentKey,
 			@RequestBody MLPSiteContent siteContent, HttpServletResponse response) {
 		logger.debug("updateSiteContent key {}", contentKey);
 		// Check for an existing one
-		if (!siteContentRepository.findById(contentKey).isPresent()) {
+		if (!siteContentRepository.existsById(contentKey)) {
 			logger.warn("updateSiteContent failed on key {}", contentKey);
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, NO_ENTRY_WITH_ID + contentKey, null);
@@ -242,6 +256,57 @@ public Object updateSiteContent(@PathVariable("contentKey") String contentKey,
 		}
 	}
 
+	@ApiOperation(value = "Gets the raw value of the site content with the specified key, with the stored media type. " //
+			+ "Answers an empty body if the key is not found. " //
+			+ "Answers not modified if the If-None-Match or If-Modified-Since header shows the client copy is current. " //
+			+ "Answers a single byte range with status 206 if the Range header asks for one.", //
+			response = byte[].class)
+	@RequestMapping(value = CCDSConstants.CONTENT_PATH + "/{contentKey}/"
+			+ CCDSConstants.VALUE_PATH, method = RequestMethod.GET)
+	public void getSiteContentValue(@PathVariable("contentKey") String contentKey, HttpServletRequest request,
+			HttpServletResponse response) throws IOException {
+		logger.debug("getSiteContentValue key {}", contentKey);
+		ResourceVersion version = resourceVersionService.getSiteContentVersion(contentKey);
+		if (checkNotModified(version, request, response))
+			return;
+		blobStreamService.readSiteContent(contentKey, (blob, mimeType) -> writeBlob(blob,
+				mimeType == null ? MediaType.APPLICATION_OCTET_STREAM_VALUE : mimeType, version, request, response));
+	}
+
+	@ApiOperation(value = "Creates or replaces the site content with the specified key from the raw request body, " //
+			+ "which is stored as it arrives. The media type is taken from the Content-Type header. " //
+			+ "Returns bad request if the body is empty or too large.", //
+			response = SuccessTransport.class)
+	@ApiResponses({ @ApiResponse(code = 400, message = "Bad request", response = ErrorTransport.class) })
+	@RequestMapping(value = CCDSConstants.CONTENT_PATH + "/{contentKey}/"
+			+ CCDSConstants.VALUE_PATH, method = RequestMethod.PUT)
+	public Object saveSiteContentValue(@PathVariable("contentKey") String contentKey, HttpServletRequest request,
+			HttpServletResponse response) {
+		long length = request.getContentLengthLong();
+		logger.debug("saveSiteContentValue key {} len {}", contentKey, length);
+		if (length == 0) {
+			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, "Empty value for key " + contentKey, null);
+		}
+		String mimeType = request.getContentType() == null ? MediaType.APPLICATION_OCTET_STREAM_VALUE
+				: request.getContentType();
+		try {
+			if (blobStreamService.writeSiteContent(contentKey, mimeType, request.getInputStream(), length)) {
+				response.setStatus(HttpServletResponse.SC_CREATED);
+				// This is a hack to create the location path.
+				response.setHeader(HttpHeaders.LOCATION, CCDSConstants.SITE_PATH + "/" + CCDSConstants.CONTENT_PATH
+						+ "/" + contentKey + "/" + CCDSConstants.VALUE_PATH);
+				return new SuccessTransport(HttpServletResponse.SC_CREATED, null);
+			}
+			return new SuccessTransport(HttpServletResponse.SC_OK, null);
+		} catch (Exception ex) {
+			Exception cve = findConstraintViolationException(ex);
+			logger.warn("saveSiteContentValue failed: {}", cve.toString());
+			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, "saveSiteContentValue failed", cve);
+		}
+	}
+
 	@ApiOperation(value = "Deletes the content record with the specified key. Returns bad request if the ID is not found.", //
 			response = SuccessTransport.class)
 	@ApiResponses({ @ApiResponse(code = 400, message = "Bad request", response = ErrorTransport.class) })
@@ -20,61 +20,69 @@
 
 package org.acumos.cds.controller;
 
+import java.io.IOException;
 import java.lang.invoke.MethodHandles;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.EnumSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import org.acumos.cds.CCDSConstants;
 import org.acumos.cds.CodeNameType;
+import org.acumos.cds.CountMode;
 import org.acumos.cds.MLPResponse;
+import org.acumos.cds.SolutionDetailPart;
 import org.acumos.cds.domain.MLPCompSolMap;
-import org.acumos.cds.domain.MLPSolRevArtMap;
-import org.acumos.cds.domain.MLPSolRevDocMap;
 import org.acumos.cds.domain.MLPSolTagMap;
 import org.acumos.cds.domain.MLPSolUserAccMap;
 import org.acumos.cds.domain.MLPSolution;
 import org.acumos.cds.domain.MLPSolutionDeployment;
 import org.acumos.cds.domain.MLPSolutionDownload;
-import org.acumos.cds.domain.MLPSolutionPicture;
 import org.acumos.cds.domain.MLPSolutionRating;
 import org.acumos.cds.domain.MLPSolutionRating.SolutionRatingPK;
 import org.acumos.cds.domain.MLPSolutionRevision;
 import org.acumos.cds.domain.MLPSolution_;
 import org.acumos.cds.domain.MLPTag;
 import org.acumos.cds.domain.MLPUser;
-import org.acumos.cds.repository.CatSolMapRepository;
 import org.acumos.cds.repository.CompSolMapRepository;
-import org.acumos.cds.repository.DocumentRepository;
-import org.acumos.cds.repository.RevisionDescriptionRepository;
-import org.acumos.cds.repository.SolGrpMemMapRepository;
-import org.acumos.cds.repository.SolRevArtMapRepository;
-import org.acumos.cds.repository.SolRevDocMapRepository;
 import org.acumos.cds.repository.SolTagMapRepository;
 import org.acumos.cds.repository.SolUserAccMapRepository;
 import org.acumos.cds.repository.SolutionDeploymentRepository;
 import org.acumos.cds.repository.SolutionDownloadRepository;
-import org.acumos.cds.repository.SolutionFavoriteRepository;
-import org.acumos.cds.repository.SolutionPictureRepository;
 import org.acumos.cds.repository.SolutionRatingRepository;
 import org.acumos.cds.repository.SolutionRepository;
 import org.acumos.cds.repository.SolutionRevisionRepository;
-import org.acumos.cds.repository.TaskRepository;
 import org.acumos.cds.repository.UserRepository;
-import org.acumos.cds.service.ArtifactService;
+import org.acumos.cds.service.BlobStreamService;
+import org.acumos.cds.service.ResourceVersion;
+import org.acumos.cds.service.ResourceVersionService;
+import org.acumos.cds.service.SearchResultCacheService;
+import org.acumos.cds.service.SolutionChangeLogService;
+import org.acumos.cds.service.SolutionDetailService;
+import org.acumos.cds.service.SolutionPurgeService;
 import org.acumos.cds.service.SolutionSearchService;
+import org.acumos.cds.service.SolutionStatsService;
+import org.acumos.cds.service.SolutionViewCountService;
+import org.acumos.cds.transport.BatchTransport;
+import org.acumos.cds.transport.CacheStatsTransport;
 import org.acumos.cds.transport.CountTransport;
 import org.acumos.cds.transport.ErrorTransport;
+import org.acumos.cds.transport.FacetCountTransport;
 import org.acumos.cds.transport.MLPTransportModel;
-import org.acumos.cds.transport.SolutionRatingStats;
+import org.acumos.cds.transport.PurgeTaskTransport;
+import org.acumos.cds.transport.SolutionChangeTransport;
+import org.acumos.cds.transport.SolutionDetailTransport;
 import org.acumos.cds.transport.SuccessTransport;
+import org.acumos.cds.transport.SuggestionTransport;
 import org.acumos.cds.util.ApiPageable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -115,23 +123,9 @@ public class SolutionController extends AbstractController {
 
 	private static final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
 
-	@Autowired
-	private ArtifactService artifactService;
-	@Autowired
-	private CatSolMapRepository catSolMapRepository;
 	@Autowired
 	private CompSolMapRepository compSolMapRepository;
 	@Autowired
-	private DocumentRepository documentRepository;
-	@Autowired
-	private RevisionDescriptionRepository revisionDescRepository;
-	@Autowired
-	private SolGrpMemMapRepository solGroupMemMapRepository;
-	@Autowired
-	private SolRevArtMapRepository solRevArtMapRepository;
-	@Autowired
-	private SolRevDocMapRepository solRevDocMapRepository;
-	@Autowired
 	private SolTagMapRepository solTagMapRepository;
 	@Autowired
 	private SolUserAccMapRepository solUserAccMapRepository;
@@ -140,39 +134,32 @@ public class SolutionController extends AbstractController {
 	@Autowired
 	private SolutionDownloadRepository solutionDownloadRepository;
 	@Autowired
-	private SolutionFavoriteRepository solutionFavoriteRepository;
-	@Autowired
 	private SolutionRatingRepository solutionRatingRepository;
 	@Autowired
 	private SolutionRepository solutionRepository;
 	@Autowired
-	private SolutionPictureRepository solutionPictureRepository;
-	@Autowired
 	private SolutionRevisionRepository solutionRevisionRepository;
 	@Autowired
+	private BlobStreamService blobStreamService;
+	@Autowired
+	private SearchResultCacheService searchResultCacheService;
+	@Autowired
+	private SolutionChangeLogService solutionChangeLogService;
+	@Autowired
+	private SolutionDetailService solutionDetailService;
+	@Autowired
+	private ResourceVersionService resourceVersionService;
+	@Autowired
+	private SolutionPurgeService solutionPurgeService;
+	@Autowired
 	private SolutionSearchService solutionSearchService;
 	@Autowired
-	private TaskRepository taskRepository;
+	private SolutionStatsService solutionStatsService;
+	@Autowired
+	private SolutionViewCountService solutionViewCountService;
 	@Autowired
 	private UserRepository userRepository;
 
-	/**
-	 * Updates the cached value(s) for solution ratings.
-	 * 
-	 * @param solutionId
-	 *                       Solution ID
-	 */
-	private void updateSolutionRatingStats(String solutionId) {
-		List<SolutionRatingStats> stats = solutionRatingRepository.getSolutionRatingStats(solutionId);
-		if (stats == null || stats.size() != 1)
-			logger.warn("updateSolutionRatingStats failed to find solution {}", solutionId);
-		else if (stats.get(0).getCount() == 0)
-			solutionRepository.updateRating(solutionId, null, null);
-		else
-			solutionRepository.updateRating(solutionId, Math.round(10 * stats.get(0).getAverage()),
-					stats.get(0).getCount());
-	}
-
 	@ApiOperation(value = "Gets the count of solutions.", response = CountTransport.class)
 	@RequestMapping(value = CCDSConstants.COUNT_PATH, method = RequestMethod.GET)
 	public CountTransport getSolutionCount() {
@@ -181,21 +168,118 @@ public CountTransport getSolutionCount() {
 		return new CountTransport(count);
 	}
 
-	@ApiOperation(value = "Gets the solution for the specified ID. Returns null if the ID is not found.", //
+	@ApiOperation(value = "Gets the solution for the specified ID. Returns null if the ID is not found. " //
+			+ "Answers not modified if the If-None-Match header has the current ETag.", //
 			response = MLPSolution.class)
 	@RequestMapping(value = "/{solutionId}", method = RequestMethod.GET)
-	public MLPSolution getSolution(@PathVariable("solutionId") String solutionId) {
+	public MLPSolution getSolution(@PathVariable("solutionId") String solutionId, HttpServletRequest request,
+			HttpServletResponse response) {
 		logger.debug("getSolution: ID {}", solutionId);
+		if (checkNotModified(resourceVersionService.getSolutionVersion(solutionId), request, response))
+			return null;
 		Optional<MLPSolution> da = solutionRepository.findById(solutionId);
-		return da.isPresent() ? da.get() : null;
+		return da.isPresent() ? withPendingViews(da.get()) : null;
+	}
+
+	/**
+	 * Includes views not yet written to the database.
+	 * 
+	 * @param solution
+	 *                     Solution read from the database
+	 * @return The argument if no views are pending, otherwise a copy with the
+	 *         pending views added to the view count
+	 */
+	private MLPSolution withPendingViews(MLPSolution solution) {
+		long pendingViews = solutionViewCountService.getPending(solution.getSolutionId());
+		if (pendingViews == 0)
+			return solution;
+		MLPSolution copy = new MLPSolution(solution);
+		copy.setViewCount((copy.getViewCount() == null ? 0 : copy.getViewCount()) + pendingViews);
+		return copy;
+	}
+
+	@ApiOperation(value = "Gets the solution for the specified ID with the parts requested by the include parameter, " //
+			+ "in a fixed number of queries. Includes all parts if none are named. The page request applies to ratings. " //
+			+ "Returns null if the ID is not found.", //
+			response = SolutionDetailTransport.class)
+	@ApiPageable
+	@RequestMapping(value = "/{solutionId}/" + CCDSConstants.DETAIL_PATH, method = RequestMethod.GET)
+	public SolutionDetailTransport getSolutionDetail(@PathVariable("solutionId") String solutionId, //
+			@ApiParam(value = "Parts to include", allowMultiple = true) //
+			@RequestParam(name = CCDSConstants.DETAIL_INCLUDE, required = false) SolutionDetailPart[] include, //
+			Pageable pageable) {
+		logger.debug("getSolutionDetail: ID {} include {}", solutionId, Arrays.toString(include));
+		Set<SolutionDetailPart> parts = include == null || include.length == 0
+				? EnumSet.allOf(SolutionDetailPart.class)
+				: EnumSet.copyOf(Arrays.asList(include));
+		SolutionDetailTransport detail = solutionDetailService.getSolutionDetail(solutionId, parts, pageable);
+		if (detail != null)
+			detail.setSolution(withPendingViews(detail.getSolution()));
+		return detail;
 	}
 
-	@ApiOperation(value = "Gets a page of solutions, optionally sorted. Answers empty if none are found.", response = MLPSolution.class, responseContainer = "Page")
+	@ApiOperation(value = "Gets a page of solutions, optionally sorted. Answers empty if none are found. " //
+			+ "If fields are named, answers only those fields and the ID; tags are read only if named.", //
+			response = MLPSolution.class, responseContainer = "Page")
+	@ApiResponses({ @ApiResponse(code = 400, message = "Bad request", response = ErrorTransport.class) })
 	@ApiPageable
 	@RequestMapping(method = RequestMethod.GET)
-	public Page<MLPSolution> getSolutions(Pageable pageable) {
-		logger.debug("getSolutions {}", pageable);
-		return solutionRepository.findAll(pageable);
+	public Object getSolutions( //
+			@ApiParam(value = "Fields to answer; all if none", allowMultiple = true) //
+			@RequestParam(name = CCDSConstants.FIELDS_QUERY_PARAM, required = false) String[] fields, //
+			Pageable pageable, HttpServletResponse response) {
+		logger.debug("getSolutions {} fields {}", pageable, Arrays.toString(fields));
+		if (fields == null || fields.length == 0)
+			return solutionRepository.findAll(pageable);
+		try {
+			return fieldSelectionService.findAll(MLPSolution.class, fields, pageable);
+		} catch (IllegalArgumentException ex) {
+			logger.warn("getSolutions failed: {}", ex.toString());
+			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, ex.getMessage(), ex);
+		}
+	}
+
+	@ApiOperation(value = "Gets a page of solutions using keyset (cursor) pagination, optionally sorted on one field. " //
+			+ "Send the continuation token from the previous page to get the next page; the page number is ignored. " //
+			+ "Answers empty if none are found.", //
+			response = MLPSolution.class, responseContainer = "Page")
+	@ApiPageable
+	@RequestMapping(value = "/" + CCDSConstants.CURSOR_PATH, method = RequestMethod.GET)
+	public Object getSolutionsByCursor( //
+			@ApiParam(value = "Continuation token") //
+			@RequestParam(name = CCDSConstants.CONTINUATION_QUERY_PARAM, required = false) String continuation, //
+			Pageable pageable, HttpServletResponse response) {
+		logger.debug("getSolutionsByCursor {}", pageable);
+		try {
+			return solutionSearchService.findSolutionsAfterCursor(continuation, pageable);
+		} catch (IllegalArgumentException ex) {
+			logger.warn("getSolutionsByCursor failed: {}", ex.toString());
+			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, ex.getMessage(), ex);
+		}
+	}
+
+	@ApiOperation(value = "Gets the solutions with the specified IDs in one query, in the order of the IDs, " //
+			+ "and lists the IDs not found. Returns bad request if no IDs or too many IDs are specified.", //
+			response = BatchTransport.class)
+	@ApiResponses({ @ApiResponse(code = 400, message = "Bad request", response = ErrorTransport.class) })
+	@RequestMapping(value = "/" + CCDSConstants.BATCH_PATH, method = RequestMethod.GET)
+	public Object getSolutionsById( //
+			@ApiParam(value = "Solution IDs", allowMultiple = true, required = true) //
+			@RequestParam(name = CCDSConstants.BATCH_ID, required = true) String[] solutionIds, //
+			HttpServletResponse response) {
+		logger.debug("getSolutionsById: IDs {}", Arrays.toString(solutionIds));
+		BatchTransport<MLPSolution> batch;
+		try {
+			batch = findBatch(solutionRepository, solutionIds, MLPSolution::getSolutionId);
+		} catch (IllegalArgumentException ex) {
+			logger.warn("getSolutionsById failed: {}", ex.toString());
+			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, ex.getMessage(), ex);
+		}
+		batch.getFound().replaceAll(this::withPendingViews);
+		return batch;
 	}
 
 	@ApiOperation(value = "Searches for entities with names or descriptions that contain the search term using the like operator. Answers empty if none are found.", //
@@ -207,6 +291,28 @@ public Page<MLPSolution> findSolutionsBySearchTerm(@RequestParam(CCDSConstants.T
 		return solutionRepository.findBySearchTerm(term, pageRequest);
 	}
 
+	@ApiOperation(value = "Gets autocomplete suggestions from the names, tags and revision authors of active solutions " //
+			+ "that contain a word starting with the term, ignoring case. Answers from memory without a database query " //
+			+ "when the solution index is enabled.", //
+			response = SuggestionTransport.class, responseContainer = "List")
+	@RequestMapping(value = "/" + CCDSConstants.SEARCH_PATH + "/" + CCDSConstants.SUGGEST_PATH, method = RequestMethod.GET)
+	public Object getSolutionSuggestions( //
+			@ApiParam(value = "Prefix to complete", required = true) //
+			@RequestParam(name = CCDSConstants.SUGGEST_TERM, required = true) String term, //
+			@ApiParam(value = "Maximum number of suggestions") //
+			@RequestParam(name = CCDSConstants.SUGGEST_LIMIT, required = false, defaultValue = "10") int limit, //
+			HttpServletResponse response) {
+		logger.debug("getSolutionSuggestions: term {} limit {}", term, limit);
+		try {
+			return solutionSearchService.getSuggestions(term, limit);
+		} catch (Exception ex) {
+			logger.error("getSolutionSuggestions failed", ex);
+			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST,
+					ex.getCause() != null ? ex.getCause().getMessage() : "getSolutionSuggestions failed", ex);
+		}
+	}
+
 	@ApiOperation(value = "Gets a page of solutions matching the specified tag. Answers empty if none are found.", response = MLPSolution.class, responseContainer = "Page")
 	@ApiPageable
 	@RequestMapping(value = "/" + CCDSConstants.SEARCH_PATH + "/" + CCDSConstants.TAG_PATH, method = RequestMethod.GET)
@@ -235,7 +341,7 @@ public Object searchSolutions( //
 			@RequestParam(name = MLPSolution_.MODEL_TYPE_CODE, required = false) String modelTypeCode, //
 			@RequestParam(name = MLPSolution_.TOOLKIT_TYPE_CODE, required = false) String toolkitTypeCode, //
 			@RequestParam(name = MLPSolution_.ORIGIN, required = false) String origin, //
-			Pageable pageRequest, HttpServletResponse response) {
+			Pageable pageRequest, CountMode countMode, HttpServletResponse response) {
 		logger.debug("searchSolutions enter");
 		boolean isOr = junction != null && "o".equals(junction);
 		if (name == null && active == null && userId == null && sourceId == null && modelTypeCode == null
@@ -245,8 +351,10 @@ public Object searchSolutions( //
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, "Missing query", null);
 		}
 		try {
-			return solutionSearchService.searchSolutions(name, active, userId, sourceId, modelTypeCode, toolkitTypeCode,
-					origin, isOr, pageRequest);
+			return searchResultCacheService.get("searchSolutions", pageRequest, countMode,
+					new Object[] { name, active, userId, sourceId, modelTypeCode, toolkitTypeCode, origin, isOr },
+					() -> solutionSearchService.searchSolutions(name, active, userId, sourceId, modelTypeCode,
+							toolkitTypeCode, origin, isOr, pageRequest, countMode));
 		} catch (Exception ex) {
 			logger.error("searchSolutions failed: {}", ex.toString());
 			response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
@@ -280,11 +388,14 @@ public Object findPortalSolutions( //
 			@RequestParam(name = CCDSConstants.SEARCH_AUTH, required = false) String[] authKws, //
 			@ApiParam(value = "Publisher key words", allowMultiple = true) //
 			@RequestParam(name = CCDSConstants.SEARCH_PUB, required = false) String[] pubKws, //
-			Pageable pageRequest, HttpServletResponse response) {
+			Pageable pageRequest, CountMode countMode, HttpServletResponse response) {
 		logger.debug("findPortalSolutions: active {} nameKws {}", active, nameKws);
 		try {
-			return solutionSearchService.findPortalSolutions(nameKws, descKws, active, userIds, modelTypeCodes,
-					accTypeCodes, tags, authKws, pubKws, pageRequest);
+			return searchResultCacheService.get("findPortalSolutions", pageRequest, countMode,
+					new Object[] { nameKws, descKws, active, userIds, modelTypeCodes, accTypeCodes, tags, authKws,
+							pubKws },
+					() -> solutionSearchService.findPortalSolutions(nameKws, descKws, active, userIds, modelTypeCodes,
+							accTypeCodes, tags, authKws, pubKws, pageRequest, countMode));
 		} catch (Exception ex) {
 			logger.error("findPortalSolutions failed", ex);
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
@@ -295,7 +406,8 @@ public Object findPortalSolutions( //
 
 	@ApiOperation(value = "Finds solutions matching the specified attribute values and/or child attribute values " //
 			+ " with flexible handling of tags to allow all/any matches. "
-			+ " Checks multiple fields for the supplied keywords, including ID, name, description etc.", //
+			+ " Checks multiple fields for the supplied keywords, including ID, name, description etc."
+			+ " Keywords match the start of a word, unless the search index is disabled.", //
 			response = MLPSolution.class, responseContainer = "Page")
 	@ApiPageable
 	@RequestMapping(value = "/" + CCDSConstants.SEARCH_PATH + "/" + CCDSConstants.PORTAL_PATH + "/"
@@ -317,11 +429,15 @@ public Object findPortalSolutionsByKwAndTags( //
 			@RequestParam(name = CCDSConstants.SEARCH_ANY_TAGS, required = false) String[] anyTags, //
 			@ApiParam(value = "Catalog IDs", allowMultiple = true) //
 			@RequestParam(name = CCDSConstants.SEARCH_CATALOG, required = false) String[] catalogIds, //
-			Pageable pageRequest, HttpServletResponse response) {
+			Pageable pageRequest, CountMode countMode, HttpServletResponse response) {
 		logger.debug("findPortalSolutionsByKwAndTags: active {} kw {}", active, kws);
 		try {
-			return solutionSearchService.findPortalSolutionsByKwAndTags(kws, active, userIds, modelTypeCodes,
-					accTypeCodes, allTags, anyTags, catalogIds, pageRequest);
+			return searchResultCacheService.get("findPortalSolutionsByKwAndTags", pageRequest, countMode,
+					new Object[] { kws, active, userIds, modelTypeCodes, accTypeCodes, allTags, anyTags, catalogIds },
+					solutionSearchService.getKwAndTagsMatcher(kws, active, userIds, modelTypeCodes, accTypeCodes,
+							allTags, anyTags, catalogIds),
+					() -> solutionSearchService.findPortalSolutionsByKwAndTags(kws, active, userIds, modelTypeCodes,
+							accTypeCodes, allTags, anyTags, catalogIds, pageRequest, countMode));
 		} catch (Exception ex) {
 			logger.error("findPortalSolutionsByKwAndTags failed", ex);
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
@@ -330,6 +446,52 @@ public Object findPortalSolutionsByKwAndTags( //
 		}
 	}
 
+	@ApiOperation(value = "Gets hit, miss, eviction and size statistics of the solution search result cache.", //
+			response = CacheStatsTransport.class)
+	@RequestMapping(value = "/" + CCDSConstants.SEARCH_PATH + "/" + CCDSConstants.STATS_PATH, method = RequestMethod.GET)
+	public CacheStatsTransport getSearchCacheStats() {
+		logger.debug("getSearchCacheStats");
+		return searchResultCacheService.getStats();
+	}
+
+	@ApiOperation(value = "Counts solutions per model type, toolkit type, access type, tag and catalog " //
+			+ " among the solutions matched by the keyword and tag search with the same parameters.", //
+			response = FacetCountTransport.class)
+	@RequestMapping(value = "/" + CCDSConstants.SEARCH_PATH + "/" + CCDSConstants.FACET_PATH, method = RequestMethod.GET)
+	public Object findPortalSolutionFacets( //
+			@ApiParam(value = "Active Y/N", required = true) //
+			@RequestParam(name = CCDSConstants.SEARCH_ACTIVE, required = true) boolean active, //
+			@ApiParam(value = "Access type codes", allowMultiple = true) //
+			@RequestParam(name = CCDSConstants.SEARCH_ACCESS_TYPES, required = false) String[] accTypeCodes, //
+			@ApiParam(value = "Model type codes", allowMultiple = true) //
+			@RequestParam(name = CCDSConstants.SEARCH_MODEL_TYPES, required = false) String[] modelTypeCodes, //
+			@ApiParam(value = "Key words", allowMultiple = true) //
+			@RequestParam(name = CCDSConstants.SEARCH_KW, required = false) String[] kws, //
+			@ApiParam(value = "User IDs", allowMultiple = true) //
+			@RequestParam(name = CCDSConstants.SEARCH_USERS, required = false) String[] userIds, //
+			@ApiParam(value = "All tags, solution must have every one", allowMultiple = true) //
+			@RequestParam(name = CCDSConstants.SEARCH_ALL_TAGS, required = false) String[] allTags, //
+			@ApiParam(value = "Any tags, solution must have at least one", allowMultiple = true) //
+			@RequestParam(name = CCDSConstants.SEARCH_ANY_TAGS, required = false) String[] anyTags, //
+			@ApiParam(value = "Catalog IDs", allowMultiple = true) //
+			@RequestParam(name = CCDSConstants.SEARCH_CATALOG, required = false) String[] catalogIds, //
+			HttpServletResponse response) {
+		logger.debug("findPortalSolutionFacets: active {} kw {}", active, kws);
+		try {
+			return searchResultCacheService.get("findPortalSolutionFacets", null, null,
+					new Object[] { kws, active, userIds, modelTypeCodes, accTypeCodes, allTags, anyTags, catalogIds },
+					solutionSearchService.getKwAndTagsMatcher(kws, active, userIds, modelTypeCodes, accTypeCodes,
+							allTags, anyTags, catalogIds),
+					() -> solutionSearchService.findPortalSolutionFacets(kws, active, userIds, modelTypeCodes,
+							accTypeCodes, allTags, anyTags, catalogIds));
+		} catch (Exception ex) {
+			logger.error("findPortalSolutionFacets failed", ex);
+			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST,
+					ex.getCause() != null ? ex.getCause().getMessage() : "findPortalSolutionFacets failed", ex);
+		}
+	}
+
 	@ApiOperation(value = "Finds user-accessible solutions matching the specified attribute values. "
 			+ "Keywords are processed using LIKE-operator search.  Does not search any child entities.", //
 			response = MLPSolution.class, responseContainer = "Page")
@@ -350,11 +512,13 @@ public Object findUserSolutions( //
 			@RequestParam(name = CCDSConstants.SEARCH_DESC, required = false) String[] descKws, //
 			@ApiParam(value = "Tags", allowMultiple = true) //
 			@RequestParam(name = CCDSConstants.SEARCH_TAGS, required = false) String[] tags, //
-			Pageable pageRequest, HttpServletResponse response) {
+			Pageable pageRequest, CountMode countMode, HttpServletResponse response) {
 		logger.debug("findUserSolutions: active {} userId {}", active, userId);
 		try {
-			return solutionSearchService.findUserSolutions(nameKws, descKws, active, userId, modelTypeCodes,
-					accTypeCodes, tags, pageRequest);
+			return searchResultCacheService.get("findUserSolutions", pageRequest, countMode,
+					new Object[] { nameKws, descKws, active, userId, modelTypeCodes, accTypeCodes, tags },
+					() -> solutionSearchService.findUserSolutions(nameKws, descKws, active, userId, modelTypeCodes,
+							accTypeCodes, tags, pageRequest, countMode));
 		} catch (Exception ex) {
 			logger.error("findUserSolutions failed", ex);
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
@@ -375,11 +539,11 @@ public Object findSolutionsByDate( //
 			@RequestParam(name = CCDSConstants.SEARCH_ACTIVE, required = false) boolean active, //
 			@ApiParam(value = "Access type codes", allowMultiple = true) //
 			@RequestParam(name = CCDSConstants.SEARCH_ACCESS_TYPES, required = false) String[] accTypeCodes, //
-			Pageable pageRequest, HttpServletResponse response) {
+			Pageable pageRequest, CountMode countMode, HttpServletResponse response) {
 		logger.debug("findSolutionsByDate: date {}", millis);
 		Instant ts = Instant.ofEpochMilli(millis);
 		try {
-			return solutionSearchService.findSolutionsByModifiedDate(active, accTypeCodes, ts, pageRequest);
+			return solutionSearchService.findSolutionsByModifiedDate(active, accTypeCodes, ts, pageRequest, countMode);
 		} catch (Exception ex) {
 			logger.error("findSolutionsByDate failed", ex);
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
@@ -388,6 +552,28 @@ public Object findSolutionsByDate( //
 		}
 	}
 
+	@ApiOperation(value = "Gets IDs of solutions changed after the specified sequence number in the solution change log, " //
+			+ "ordered by latest change. Pass the last sequence number of the result to the next request to resume. " //
+			+ "Use this instead of repeated searches by date.", //
+			response = SolutionChangeTransport.class)
+	@RequestMapping(value = "/" + CCDSConstants.CHANGES_PATH, method = RequestMethod.GET)
+	public Object getSolutionChanges( //
+			@ApiParam(value = "Sequence number of the last change seen, 0 to read the whole log", required = true) //
+			@RequestParam(name = CCDSConstants.CHANGES_SINCE, required = true) long since, //
+			@ApiParam(value = "Maximum number of log entries to read") //
+			@RequestParam(name = CCDSConstants.CHANGES_LIMIT, required = false, defaultValue = "500") int limit, //
+			HttpServletResponse response) {
+		logger.debug("getSolutionChanges: since {} limit {}", since, limit);
+		try {
+			return solutionChangeLogService.getChangesSince(since, limit);
+		} catch (Exception ex) {
+			logger.error("getSolutionChanges failed", ex);
+			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST,
+					ex.getCause() != null ? ex.getCause().getMessage() : "getSolutionChanges failed", ex);
+		}
+	}
+
 	@ApiOperation(value = "Creates a new entity and generates an ID if needed. Returns bad request on constraint violation etc.", //
 			response = MLPSolution.class)
 	@ApiResponses({ @ApiResponse(code = 400, message = "Bad request", response = ErrorTransport.class) })
@@ -403,7 +589,7 @@ public MLPResponse createSolution(@RequestBody MLPSolution solution, HttpServlet
 			String id = solution.getSolutionId();
 			if (id != null) {
 				UUID.fromString(id);
-				if (solutionRepository.findById(id).isPresent()) {
+				if (solutionRepository.existsById(id)) {
 					logger.warn("createSolution failed on ID {}", id);
 					response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 					return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, "Solution exists with ID " + id);
@@ -434,7 +620,7 @@ public MLPTransportModel updateSolution(@PathVariable("solutionId") String solut
 			@RequestBody MLPSolution solution, HttpServletResponse response) {
 		logger.debug("updateSolution: ID {}", solutionId);
 		// Check the existing one
-		if (!solutionRepository.findById(solutionId).isPresent()) {
+		if (!solutionRepository.existsById(solutionId)) {
 			logger.warn("updateSolution failed on ID {}", solutionId);
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, NO_ENTRY_WITH_ID + solutionId, null);
@@ -450,6 +636,8 @@ public MLPTransportModel updateSolution(@PathVariable("solutionId") String solut
 			// Cascade manually - create user-supplied tags as needed
 			createMissingTags(solution.getTags());
 			solutionRepository.save(solution);
+			// A change to the tags alone does not update the solution row
+			solutionRepository.updateModified(solutionId, Instant.now());
 			return new SuccessTransport(HttpServletResponse.SC_OK, null);
 		} catch (Exception ex) {
 			Exception cve = findConstraintViolationException(ex);
@@ -459,29 +647,31 @@ public MLPTransportModel updateSolution(@PathVariable("solutionId") String solut
 		}
 	}
 
-	@ApiOperation(value = "Increments the view count of the specified solution (special case of update). Returns bad request if the ID is not found.", //
+	@ApiOperation(value = "Increments the view count of the specified solution (special case of update). " //
+			+ "The view is buffered and written to the database within the configured flush interval. " //
+			+ "Returns bad request if the ID is not found.", //
 			response = SuccessTransport.class)
 	@ApiResponses({ @ApiResponse(code = 400, message = "Bad request", response = ErrorTransport.class) })
 	@RequestMapping(value = "/{solutionId}/" + CCDSConstants.VIEW_PATH, method = RequestMethod.PUT)
 	public MLPTransportModel incrementViewCount(@PathVariable("solutionId") String solutionId,
 			HttpServletResponse response) {
 		logger.debug("incrementViewCount: ID {}", solutionId);
-		// Check the existing one; the update command doesn't fail on invalid ID
-		if (!solutionRepository.findById(solutionId).isPresent()) {
+		// Buffered to avoid contention on the solution row
+		if (!solutionViewCountService.increment(solutionId)) {
 			logger.warn("incrementViewCount failed on ID {}", solutionId);
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, NO_ENTRY_WITH_ID + solutionId, null);
 		}
-		try {
-			// Have the database do the increment to avoid race conditions
-			solutionRepository.incrementViewCount(solutionId);
-			return new SuccessTransport(HttpServletResponse.SC_OK, null);
-		} catch (Exception ex) {
-			// Should never happen
-			logger.error("incrementViewCount failed: {}", ex.toString());
-			response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
-			return new ErrorTransport(HttpServletResponse.SC_INTERNAL_SERVER_ERROR, "incrementViewCount failed", ex);
-		}
+		return new SuccessTransport(HttpServletResponse.SC_OK, null);
+	}
+
+	@ApiOperation(value = "Gets the number of solution views received but not yet written to the database.", //
+			response = CountTransport.class)
+	@RequestMapping(value = "/" + CCDSConstants.VIEW_PATH + "/"
+			+ CCDSConstants.PENDING_PATH, method = RequestMethod.GET)
+	public CountTransport getPendingViewCount() {
+		logger.debug("getPendingViewCount");
+		return new CountTransport(solutionViewCountService.getPending());
 	}
 
 	/*
@@ -497,22 +687,8 @@ public MLPTransportModel deleteSolution(@PathVariable("solutionId") String solut
 			HttpServletResponse response) {
 		logger.debug("deleteSolution: ID {}", solutionId);
 		try {
-			// Manually cascade the delete
-			catSolMapRepository.deleteBySolutionId(solutionId);
-			compSolMapRepository.deleteByParentId(solutionId);
-			compSolMapRepository.deleteByChildId(solutionId);
-			solutionDeploymentRepository.deleteBySolutionId(solutionId);
-			solutionDownloadRepository.deleteBySolutionId(solutionId);
-			solutionFavoriteRepository.deleteBySolutionId(solutionId);
-			solutionRatingRepository.deleteBySolutionId(solutionId);
-			solGroupMemMapRepository.deleteBySolutionId(solutionId);
-			solTagMapRepository.deleteBySolutionId(solutionId);
-			solUserAccMapRepository.deleteBySolutionId(solutionId);
-			solutionFavoriteRepository.deleteBySolutionId(solutionId);
-			taskRepository.deleteBySolutionId(solutionId);
-			for (MLPSolutionRevision r : solutionRevisionRepository.findBySolutionIdIn(new String[] { solutionId }))
-				deleteSolutionRevision(r.getRevisionId());
-			solutionRepository.deleteById(solutionId);
+			// Cascades the delete in one transaction
+			solutionPurgeService.purgeSolution(solutionId);
 			return new SuccessTransport(HttpServletResponse.SC_OK, null);
 		} catch (Exception ex) {
 			// The most likely failure here is invalid/missing ID.
@@ -525,6 +701,35 @@ public MLPTransportModel deleteSolution(@PathVariable("solutionId") String solut
 		}
 	}
 
+	@ApiOperation(value = "Starts deleting the solution with the specified ID in the background, for solutions too large to delete within a request. " //
+			+ "Answers accepted with a task that can be polled. Returns bad request if the ID is not found.", //
+			response = PurgeTaskTransport.class)
+	@ApiResponses({ @ApiResponse(code = 400, message = "Bad request", response = ErrorTransport.class) })
+	@RequestMapping(value = "/{solutionId}/" + CCDSConstants.PURGE_PATH, method = RequestMethod.POST)
+	public MLPTransportModel purgeSolution(@PathVariable("solutionId") String solutionId,
+			HttpServletResponse response) {
+		logger.debug("purgeSolution: ID {}", solutionId);
+		try {
+			PurgeTaskTransport task = solutionPurgeService.purgeSolutionAsync(solutionId);
+			response.setStatus(HttpServletResponse.SC_ACCEPTED);
+			response.setHeader(HttpHeaders.LOCATION,
+					CCDSConstants.SOLUTION_PATH + "/" + CCDSConstants.PURGE_PATH + "/" + task.getTaskId());
+			return task;
+		} catch (Exception ex) {
+			logger.warn("purgeSolution failed: {}", ex.toString());
+			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, "purgeSolution failed", ex);
+		}
+	}
+
+	@ApiOperation(value = "Gets the state of a background solution delete. Returns null if the task ID is not known.", //
+			response = PurgeTaskTransport.class)
+	@RequestMapping(value = "/" + CCDSConstants.PURGE_PATH + "/{taskId}", method = RequestMethod.GET)
+	public PurgeTaskTransport getPurgeTask(@PathVariable("taskId") String taskId) {
+		logger.debug("getPurgeTask: taskId {}", taskId);
+		return solutionPurgeService.getPurgeTask(taskId);
+	}
+
 	/*
 	 * Spring will split the list if the path variable is declared as String array
 	 * or List of String.
@@ -537,13 +742,36 @@ public Iterable<MLPSolutionRevision> getListOfRevisions(@PathVariable("solutionI
 		return solutionRevisionRepository.findBySolutionIdIn(solutionIds);
 	}
 
-	@ApiOperation(value = "Gets the revision for the specified ID. Returns null if the ID is not found.", //
+	@ApiOperation(value = "Gets the revisions with the specified IDs in one query, in the order of the IDs, " //
+			+ "and lists the IDs not found. Returns bad request if no IDs or too many IDs are specified.", //
+			response = BatchTransport.class)
+	@ApiResponses({ @ApiResponse(code = 400, message = "Bad request", response = ErrorTransport.class) })
+	@RequestMapping(value = "/" + CCDSConstants.REVISION_PATH + "/"
+			+ CCDSConstants.BATCH_PATH, method = RequestMethod.GET)
+	public Object getSolutionRevisionsById( //
+			@ApiParam(value = "Revision IDs", allowMultiple = true, required = true) //
+			@RequestParam(name = CCDSConstants.BATCH_ID, required = true) String[] revisionIds, //
+			HttpServletResponse response) {
+		logger.debug("getSolutionRevisionsById: IDs {}", Arrays.toString(revisionIds));
+		try {
+			return findBatch(solutionRevisionRepository, revisionIds, MLPSolutionRevision::getRevisionId);
+		} catch (IllegalArgumentException ex) {
+			logger.warn("getSolutionRevisionsById failed: {}", ex.toString());
+			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, ex.getMessage(), ex);
+		}
+	}
+
+	@ApiOperation(value = "Gets the revision for the specified ID. Returns null if the ID is not found. " //
+			+ "Answers not modified if the If-None-Match or If-Modified-Since header shows the client copy is current.", //
 			response = MLPSolution.class)
 	@RequestMapping(value = "/{solutionId}/" + CCDSConstants.REVISION_PATH
 			+ "/{revisionId}", method = RequestMethod.GET)
 	public MLPSolutionRevision getSolutionRevision(@PathVariable("solutionId") String solutionId,
-			@PathVariable("revisionId") String revisionId) {
+			@PathVariable("revisionId") String revisionId, HttpServletRequest request, HttpServletResponse response) {
 		logger.debug("getSolutionRevision: solutionId {} revisionId {}", solutionId, revisionId);
+		if (checkNotModified(resourceVersionService.getSolutionRevisionVersion(revisionId), request, response))
+			return null;
 		Optional<MLPSolutionRevision> da = solutionRevisionRepository.findById(revisionId);
 		return da.isPresent() ? da.get() : null;
 	}
@@ -555,7 +783,7 @@ public MLPSolutionRevision getSolutionRevision(@PathVariable("solutionId") Strin
 	public MLPResponse createSolutionRevision(@PathVariable("solutionId") String solutionId,
 			@RequestBody MLPSolutionRevision revision, HttpServletResponse response) {
 		logger.debug("createSolutionRevision: solutionId {}", solutionId);
-		if (!solutionRepository.findById(solutionId).isPresent()) {
+		if (!solutionRepository.existsById(solutionId)) {
 			logger.warn("createSolutionRevision failed on sol ID {}", solutionId);
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, NO_ENTRY_WITH_ID + solutionId, null);
@@ -571,7 +799,7 @@ public MLPResponse createSolutionRevision(@PathVariable("solutionId") String sol
 			String id = revision.getRevisionId();
 			if (id != null) {
 				UUID.fromString(id);
-				if (solutionRevisionRepository.findById(id).isPresent()) {
+				if (solutionRevisionRepository.existsById(id)) {
 					logger.warn("createSolutionRevision failed on rev ID {}", id);
 					response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 					return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, "Revision exists with ID " + id);
@@ -598,12 +826,12 @@ public MLPTransportModel updateSolutionRevision(@PathVariable("solutionId") Stri
 			@PathVariable("revisionId") String revisionId, @RequestBody MLPSolutionRevision revision,
 			HttpServletResponse response) {
 		logger.debug("updateSolutionRevision: solution ID {}, revision ID {}", solutionId, revisionId);
-		if (!solutionRepository.findById(solutionId).isPresent()) {
+		if (!solutionRepository.existsById(solutionId)) {
 			logger.warn("updateSolutionRevision failed on sol ID {}", solutionId);
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, NO_ENTRY_WITH_ID + solutionId, null);
 		}
-		if (!solutionRevisionRepository.findById(revisionId).isPresent()) {
+		if (!solutionRevisionRepository.existsById(revisionId)) {
 			logger.warn("updateSolutionRevision failed on rev ID {}", revisionId);
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, NO_ENTRY_WITH_ID + revisionId, null);
@@ -629,34 +857,6 @@ public MLPTransportModel updateSolutionRevision(@PathVariable("solutionId") Stri
 		}
 	}
 
-	/*
-	 * Cascades delete of a revision to dependent records, including artifacts and
-	 * documents. Must not delete artifacts that are associated to other revisions
-	 * tho.
-	 */
-	private void deleteSolutionRevision(String revisionId) {
-		// Get the list of artifacts associated with this revision
-		Iterable<MLPSolRevArtMap> arts = solRevArtMapRepository.findByRevisionId(revisionId);
-		// Get the list of documents associated with this revision
-		Iterable<MLPSolRevDocMap> docs = solRevDocMapRepository.findByRevisionId(revisionId);
-		solRevArtMapRepository.deleteByRevisionId(revisionId);
-		revisionDescRepository.deleteByRevisionId(revisionId);
-		solRevDocMapRepository.deleteByRevisionId(revisionId);
-		solutionRevisionRepository.deleteById(revisionId);
-		// If an artifact is not associated with any other revisions, delete it.
-		for (MLPSolRevArtMap artMap : arts) {
-			Iterable<MLPSolRevArtMap> revs = solRevArtMapRepository.findByArtifactId(artMap.getArtifactId());
-			if (!revs.iterator().hasNext())
-				artifactService.deleteArtifact(artMap.getArtifactId());
-		}
-		// If a document is not associated with any other revisions, delete it.
-		for (MLPSolRevDocMap docMap : docs) {
-			Iterable<MLPSolRevDocMap> revs = solRevDocMapRepository.findByDocumentId(docMap.getDocumentId());
-			if (!revs.iterator().hasNext())
-				documentRepository.deleteById(docMap.getDocumentId());
-		}
-	}
-
 	@ApiOperation(value = "Deletes the revision with the specified ID. Cascades delete to related records. Returns bad request if the ID is not found.", //
 			response = SuccessTransport.class)
 	@ApiResponses({ @ApiResponse(code = 400, message = "Bad request", response = ErrorTransport.class) })
@@ -666,7 +866,8 @@ public MLPTransportModel deleteSolutionRevision(@PathVariable("solutionId") Stri
 			@PathVariable("revisionId") String revisionId, HttpServletResponse response) {
 		logger.debug("deleteSolutionRevision: solutionId {} revisionId {}", solutionId, revisionId);
 		try {
-			deleteSolutionRevision(revisionId);
+			// Cascades the delete in one transaction
+			solutionPurgeService.purgeRevision(revisionId);
 			return new SuccessTransport(HttpServletResponse.SC_OK, null);
 		} catch (Exception ex) {
 			// The most likely failure here is invalid/missing ID.
@@ -692,12 +893,12 @@ public Iterable<MLPTag> getTagsForSolution(@PathVariable("solutionId") String so
 	public MLPTransportModel addSolutionTag(@PathVariable("solutionId") String solutionId,
 			@PathVariable("tag") String tag, HttpServletResponse response) {
 		logger.debug("addSolutionTag: solutionId {} tag {}", solutionId, tag);
-		if (!solutionRepository.findById(solutionId).isPresent()) {
+		if (!solutionRepository.existsById(solutionId)) {
 			logger.warn("addSolutionTag failed on sol ID {}", solutionId);
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, NO_ENTRY_WITH_ID + solutionId, null);
 		}
-		if (solTagMapRepository.findById(new MLPSolTagMap.SolTagMapPK(solutionId, tag)).isPresent()) {
+		if (solTagMapRepository.existsById(new MLPSolTagMap.SolTagMapPK(solutionId, tag))) {
 			logger.warn("addSolutionTag failed on existing tag {}", tag);
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, "Already has tag " + tag, null);
@@ -708,6 +909,7 @@ public MLPTransportModel addSolutionTag(@PathVariable("solutionId") String solut
 			logger.debug("addSolutionTag: created tag {}", tag);
 		}
 		solTagMapRepository.save(new MLPSolTagMap(solutionId, tag));
+		solutionRepository.updateModified(solutionId, Instant.now());
 		return new SuccessTransport(HttpServletResponse.SC_OK, null);
 	}
 
@@ -720,6 +922,7 @@ public MLPTransportModel dropSolutionTag(@PathVariable("solutionId") String solu
 		logger.debug("dropSolutionTag: solutionId {} tag {}", solutionId, tag);
 		try {
 			solTagMapRepository.deleteById(new MLPSolTagMap.SolTagMapPK(solutionId, tag));
+			solutionRepository.updateModified(solutionId, Instant.now());
 			return new SuccessTransport(HttpServletResponse.SC_OK, null);
 		} catch (Exception ex) {
 			// e.g., EmptyResultDataAccessException is NOT an internal server error
@@ -753,12 +956,11 @@ public MLPResponse createSolutionDownload(@PathVariable("solutionId") String sol
 			sd.setSolutionId(solutionId);
 			sd.setUserId(userId);
 			sd.setArtifactId(artifactId);
-			MLPSolutionDownload result = solutionDownloadRepository.save(sd);
+			// Also updates the solution statistics
+			MLPSolutionDownload result = solutionStatsService.createDownload(sd);
 			response.setStatus(HttpServletResponse.SC_CREATED);
 			response.setHeader(HttpHeaders.LOCATION, CCDSConstants.SOLUTION_PATH + "/" + sd.getSolutionId() + "/"
 					+ CCDSConstants.DOWNLOAD_PATH + sd.getDownloadId());
-			// Update cache
-			solutionRepository.updateDownloadCount(solutionId);
 			return result;
 		} catch (Exception ex) {
 			Exception cve = findConstraintViolationException(ex);
@@ -777,10 +979,9 @@ public MLPResponse createSolutionDownload(@PathVariable("solutionId") String sol
 	public MLPTransportModel deleteSolutionDownload(@PathVariable("solutionId") String solutionId,
 			@PathVariable("downloadId") Long downloadId, HttpServletResponse response) {
 		logger.debug("deleteSolutionDownload: solutionId {} downloadId {}", solutionId, downloadId);
-		try { // Build a key for fetch
-			solutionDownloadRepository.deleteById(downloadId);
-			// Update cache!
-			solutionRepository.updateDownloadCount(solutionId);
+		try {
+			// Also updates the solution statistics
+			solutionStatsService.deleteDownload(downloadId);
 			return new SuccessTransport(HttpServletResponse.SC_OK, null);
 		} catch (Exception ex) {
 			// e.g., EmptyResultDataAccessException is NOT an internal server error
@@ -816,12 +1017,12 @@ public MLPSolutionRating getSolutionRating(@PathVariable("solutionId") String so
 	public Object createSolutionRating(@PathVariable("solutionId") String solutionId,
 			@PathVariable("userId") String userId, @RequestBody MLPSolutionRating sr, HttpServletResponse response) {
 		logger.debug("createSolutionRating: solutionId {} userId {}", solutionId, userId);
-		if (!solutionRepository.findById(solutionId).isPresent()) {
+		if (!solutionRepository.existsById(solutionId)) {
 			logger.warn("createSolutionRating failed on sol ID {}", solutionId);
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, NO_ENTRY_WITH_ID + solutionId, null);
 		}
-		if (!userRepository.findById(userId).isPresent()) {
+		if (!userRepository.existsById(userId)) {
 			logger.warn("createSolutionRating failed on user ID {}", userId);
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, NO_ENTRY_WITH_ID + userId, null);
@@ -830,12 +1031,11 @@ public Object createSolutionRating(@PathVariable("solutionId") String solutionId
 			// Use path IDs
 			sr.setSolutionId(solutionId);
 			sr.setUserId(userId);
-			Object result = solutionRatingRepository.save(sr);
+			// Also updates the solution statistics
+			Object result = solutionStatsService.saveRating(sr);
 			response.setStatus(HttpServletResponse.SC_CREATED);
 			response.setHeader(HttpHeaders.LOCATION, CCDSConstants.SOLUTION_PATH + "/" + solutionId + "/"
 					+ CCDSConstants.RATING_PATH + "/" + CCDSConstants.USER_PATH + "/" + userId);
-			// Update cache
-			updateSolutionRatingStats(solutionId);
 			return result;
 		} catch (Exception ex) {
 			Exception cve = findConstraintViolationException(ex);
@@ -855,7 +1055,7 @@ public Object updateSolutionRating(@PathVariable("solutionId") String solutionId
 		logger.debug("updateSolutionRating: solutionId {} userId {}", solutionId, userId);
 		// Check the existing one
 		SolutionRatingPK pk = new SolutionRatingPK(solutionId, userId);
-		if (!solutionRatingRepository.findById(pk).isPresent()) {
+		if (!solutionRatingRepository.existsById(pk)) {
 			logger.warn("updateSolutionRating failed on key {}", pk);
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, NO_ENTRY_WITH_ID + pk, null);
@@ -864,9 +1064,8 @@ public Object updateSolutionRating(@PathVariable("solutionId") String solutionId
 			// Use path IDs
 			sr.setSolutionId(solutionId);
 			sr.setUserId(userId);
-			solutionRatingRepository.save(sr);
-			// Update cache!
-			updateSolutionRatingStats(solutionId);
+			// Also updates the solution statistics
+			solutionStatsService.saveRating(sr);
 			return new SuccessTransport(HttpServletResponse.SC_OK, null);
 		} catch (Exception ex) {
 			Exception cve = findConstraintViolationException(ex);
@@ -885,11 +1084,8 @@ public MLPTransportModel deleteSolutionRating(@PathVariable("solutionId") String
 			@PathVariable("userId") String userId, HttpServletResponse response) {
 		logger.debug("deleteSolutionRating: solutionId {} userId {}", solutionId, userId);
 		try {
-			// Build a key for fetch
-			SolutionRatingPK pk = new SolutionRatingPK(solutionId, userId);
-			solutionRatingRepository.deleteById(pk);
-			// Update cache!
-			updateSolutionRatingStats(solutionId);
+			// Also updates the solution statistics
+			solutionStatsService.deleteRating(solutionId, userId);
 			return new SuccessTransport(HttpServletResponse.SC_OK, null);
 		} catch (Exception ex) {
 			// e.g., EmptyResultDataAccessException is NOT an internal server error
@@ -916,12 +1112,12 @@ public Iterable<MLPUser> getSolutionACL(@PathVariable("solutionId") String solut
 	public Object addUserToSolutionACL(@PathVariable("solutionId") String solutionId,
 			@PathVariable("userId") String userId, HttpServletResponse response) {
 		logger.debug("addUserToSolutionACL: solution {}, user {}", solutionId, userId);
-		if (!solutionRepository.findById(solutionId).isPresent()) {
+		if (!solutionRepository.existsById(solutionId)) {
 			logger.warn("addUserToSolutionACL failed on sol ID {}", solutionId);
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, NO_ENTRY_WITH_ID + solutionId, null);
 		}
-		if (!userRepository.findById(userId).isPresent()) {
+		if (!userRepository.existsById(userId)) {
 			logger.warn("addUserToSolutionACL failed on user ID {}", userId);
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, NO_ENTRY_WITH_ID + userId, null);
@@ -994,17 +1190,17 @@ public Object createSolutionDeployment(@PathVariable("solutionId") String soluti
 			@PathVariable("revisionId") String revisionId, @RequestBody MLPSolutionDeployment sd,
 			HttpServletResponse response) {
 		logger.debug("createSolutionDeployment: solutionId {} revisionId {}", solutionId, revisionId);
-		if (!solutionRepository.findById(solutionId).isPresent()) {
+		if (!solutionRepository.existsById(solutionId)) {
 			logger.warn("createSolutionDeployment failed on sol ID {}", solutionId);
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, NO_ENTRY_WITH_ID + solutionId, null);
 		}
-		if (!solutionRevisionRepository.findById(revisionId).isPresent()) {
+		if (!solutionRevisionRepository.existsById(revisionId)) {
 			logger.warn("createSolutionDeployment failed on rev ID {}", revisionId);
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, NO_ENTRY_WITH_ID + revisionId, null);
 		}
-		if (!userRepository.findById(sd.getUserId()).isPresent()) {
+		if (!userRepository.existsById(sd.getUserId())) {
 			logger.warn("createSolutionDeployment failed on usr ID {}", sd.getUserId());
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, NO_ENTRY_WITH_ID + sd.getUserId(), null);
@@ -1016,7 +1212,7 @@ public Object createSolutionDeployment(@PathVariable("solutionId") String soluti
 			String id = sd.getDeploymentId();
 			if (id != null) {
 				UUID.fromString(id);
-				if (solutionDeploymentRepository.findById(id).isPresent()) {
+				if (solutionDeploymentRepository.existsById(id)) {
 					logger.warn("createSolutionDeployment failed on ID {}", id);
 					response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 					return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, "Deployment exists with ID " + id);
@@ -1052,7 +1248,7 @@ public MLPTransportModel updateSolutionDeployment(@PathVariable("solutionId") St
 			@RequestBody MLPSolutionDeployment sd, HttpServletResponse response) {
 		logger.debug("updateSolutionDeployment: solutionId {} revisionId {} deploymentId {}", solutionId, revisionId,
 				deploymentId);
-		if (!solutionDeploymentRepository.findById(deploymentId).isPresent()) {
+		if (!solutionDeploymentRepository.existsById(deploymentId)) {
 			logger.warn("updateSolutionDeployment failed on ID {}", deploymentId);
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, NO_ENTRY_WITH_ID + deploymentId, null);
@@ -1115,12 +1311,12 @@ public Iterable<String> getCompositeSolutionMembers(@PathVariable("parentId") St
 	public MLPTransportModel addCompositeSolutionMember(@PathVariable("parentId") String parentId,
 			@PathVariable("childId") String childId, HttpServletResponse response) {
 		logger.debug("addCompositeSolutionMember: parentId {} childId {}", parentId, childId);
-		if (!solutionRepository.findById(parentId).isPresent()) {
+		if (!solutionRepository.existsById(parentId)) {
 			logger.warn("addCompositeSolutionMember failed on parent ID {}", parentId);
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, NO_ENTRY_WITH_ID + parentId, null);
 		}
-		if (!solutionRepository.findById(childId).isPresent()) {
+		if (!solutionRepository.existsById(childId)) {
 			logger.warn("addCompositeSolutionMember failed on child ID {}", childId);
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, NO_ENTRY_WITH_ID + childId, null);
@@ -1140,34 +1336,38 @@ public SuccessTransport dropCompositeSolutionMember(@PathVariable("parentId") St
 		return new SuccessTransport(HttpServletResponse.SC_OK, null);
 	}
 
-	@ApiOperation(value = "Gets the image for the specified solution ID. Returns null if the ID is not found.", //
-			response = MLPSolution.class)
-	@ApiResponses({ @ApiResponse(code = 400, message = "Bad request", response = byte[].class) })
+	@ApiOperation(value = "Gets the image for the specified solution ID. Answers an empty body if the ID is not found. " //
+			+ "Answers not modified if the If-None-Match or If-Modified-Since header shows the client copy is current. " //
+			+ "Answers a single byte range with status 206 if the Range header asks for one.", //
+			response = byte[].class)
 	@RequestMapping(value = "/{solutionId}/"
 			+ CCDSConstants.PICTURE_PATH, method = RequestMethod.GET, produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
-	public Object getSolutionPicture(@PathVariable("solutionId") String solutionId) {
+	public void getSolutionPicture(@PathVariable("solutionId") String solutionId, HttpServletRequest request,
+			HttpServletResponse response) throws IOException {
 		logger.debug("getSolutionPicture: ID {}", solutionId);
-		Optional<MLPSolutionPicture> da = solutionPictureRepository.findById(solutionId);
-		return da.isPresent() ? da.get().getPicture() : null;
+		ResourceVersion version = resourceVersionService.getSolutionPictureVersion(solutionId);
+		if (checkNotModified(version, request, response))
+			return;
+		blobStreamService.readSolutionPicture(solutionId, (blob, mimeType) -> writeBlob(blob,
+				MediaType.APPLICATION_OCTET_STREAM_VALUE, version, request, response));
 	}
 
-	@ApiOperation(value = "Saves a solution image. Returns bad request if the ID is not found or the image is too large.", //
+	@ApiOperation(value = "Saves a solution image from the request body, which is stored as it arrives; " //
+			+ "send an empty body to remove the image. Returns bad request if the ID is not found or the image is too large.", //
 			response = SuccessTransport.class)
 	@ApiResponses({ @ApiResponse(code = 400, message = "Bad request", response = ErrorTransport.class) })
 	@RequestMapping(value = "/{solutionId}/" + CCDSConstants.PICTURE_PATH, method = RequestMethod.PUT)
-	public Object saveSolutionPicture(@PathVariable("solutionId") String solutionId,
-			@RequestBody(required = false) byte[] picture, HttpServletResponse response) {
-		logger.debug("saveSolutionPicture: ID {} pic len {}", solutionId, picture == null ? -1 : picture.length);
-		Optional<MLPSolutionPicture> da = solutionPictureRepository.findById(solutionId);
-		if (!da.isPresent()) {
-			logger.warn("saveSolutionPicture failed on ID {}", solutionId);
-			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, NO_ENTRY_WITH_ID + solutionId, null);
-		}
+	public Object saveSolutionPicture(@PathVariable("solutionId") String solutionId, HttpServletRequest request,
+			HttpServletResponse response) {
+		long length = request.getContentLengthLong();
+		logger.debug("saveSolutionPicture: ID {} pic len {}", solutionId, length);
 		try {
-			MLPSolutionPicture pic = da.get();
-			pic.setPicture(picture);
-			solutionPictureRepository.save(pic);
+			if (!blobStreamService.writeSolutionPicture(solutionId, length == 0 ? null : request.getInputStream(),
+					length)) {
+				logger.warn("saveSolutionPicture failed on ID {}", solutionId);
+				response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+				return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, NO_ENTRY_WITH_ID + solutionId, null);
+			}
 			return new SuccessTransport(HttpServletResponse.SC_OK, null);
 		} catch (Exception ex) {
 			Exception cve = findConstraintViolationException(ex);
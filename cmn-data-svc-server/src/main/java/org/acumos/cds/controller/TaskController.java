@@ -26,6 +26,7 @@
 
 import org.acumos.cds.CCDSConstants;
 import org.acumos.cds.CodeNameType;
+import org.acumos.cds.CountMode;
 import org.acumos.cds.MLPResponse;
 import org.acumos.cds.domain.MLPTask;
 import org.acumos.cds.domain.MLPTaskStepResult;
@@ -123,7 +124,7 @@ public Object searchTasks(@ApiParam(value = "Junction", allowableValues = "a,o")
 			@RequestParam(name = MLPTask_.REVISION_ID, required = false) String revisionId, //
 			@RequestParam(name = MLPTask_.TRACKING_ID, required = false) String trackingId, //
 			@RequestParam(name = MLPTask_.USER_ID, required = false) String userId, //
-			Pageable pageRequest, HttpServletResponse response) {
+			Pageable pageRequest, CountMode countMode, HttpServletResponse response) {
 		logger.debug("searchTasks enter");
 		boolean isOr = junction != null && "o".equals(junction);
 		if (name == null && statusCode == null && taskId == null && trackingId == null && solutionId == null
@@ -134,7 +135,7 @@ public Object searchTasks(@ApiParam(value = "Junction", allowableValues = "a,o")
 		}
 		try {
 			return taskSearchService.findTasks(taskId, taskCode, name, statusCode, userId, trackingId, solutionId,
-					revisionId, isOr, pageRequest);
+					revisionId, isOr, pageRequest, countMode);
 		} catch (Exception ex) {
 			logger.error("searchTasks failed: {}", ex.toString());
 			response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
@@ -175,7 +176,7 @@ public MLPTransportModel updateTask(@PathVariable("taskId") Long taskId, @Reques
 			HttpServletResponse response) {
 		logger.debug("updateTask: taskId {}", taskId);
 		// Check the existing one
-		if (!taskRepository.findById(taskId).isPresent()) {
+		if (!taskRepository.existsById(taskId)) {
 			logger.warn("updateTask failed on ID {}", taskId);
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, NO_ENTRY_WITH_ID + taskId, null);
@@ -248,7 +249,7 @@ public Object searchTaskStepResults(@ApiParam(value = "Junction", allowableValue
 			@RequestParam(name = MLPTaskStepResult_.TASK_ID, required = false) Long taskId, //
 			@RequestParam(name = MLPTaskStepResult_.NAME, required = false) String name, //
 			@RequestParam(name = MLPTaskStepResult_.STATUS_CODE, required = false) String statusCode, //
-			Pageable pageRequest, HttpServletResponse response) {
+			Pageable pageRequest, CountMode countMode, HttpServletResponse response) {
 		logger.debug("searchTaskStepResults enter");
 		boolean isOr = junction != null && "o".equals(junction);
 		if (taskId == null && name == null && statusCode == null) {
@@ -257,7 +258,7 @@ public Object searchTaskStepResults(@ApiParam(value = "Junction", allowableValue
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, "Missing query", null);
 		}
 		try {
-			return stepResultSearchService.findStepResults(taskId, name, statusCode, isOr, pageRequest);
+			return stepResultSearchService.findStepResults(taskId, name, statusCode, isOr, pageRequest, countMode);
 		} catch (Exception ex) {
 			logger.error("searchStepResults failed: {}", ex.toString());
 			response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
@@ -272,7 +273,7 @@ public Object searchTaskStepResults(@ApiParam(value = "Junction", allowableValue
 	@RequestMapping(value = CCDSConstants.STEP_RESULT_PATH, method = RequestMethod.POST)
 	public MLPResponse createTaskStepResult(@RequestBody MLPTaskStepResult stepResult, HttpServletResponse response) {
 		logger.debug("createTaskStepResult: enter");
-		if (stepResult.getTaskId() == null || !taskRepository.findById(stepResult.getTaskId()).isPresent()) {
+		if (stepResult.getTaskId() == null || !taskRepository.existsById(stepResult.getTaskId())) {
 			logger.warn("createTaskStepResult failed on task ID {}", stepResult.getTaskId());
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, NO_ENTRY_WITH_ID + stepResult.getTaskId());
@@ -304,7 +305,7 @@ public MLPTransportModel updateTaskStepResult(@PathVariable("stepResultId") Long
 			@RequestBody MLPTaskStepResult stepResult, HttpServletResponse response) {
 		logger.debug("updateTaskStepResult: stepResultId {}", stepResultId);
 		// Check the existing one
-		if (!stepResultRepository.findById(stepResultId).isPresent()) {
+		if (!stepResultRepository.existsById(stepResultId)) {
 			logger.warn("updateStepResult failed on step result ID {}", stepResultId);
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, NO_ENTRY_WITH_ID + stepResultId, null);
@@ -138,7 +138,7 @@ public MLPResponse createThread(@RequestBody MLPThread thread, HttpServletRespon
 			String id = thread.getThreadId();
 			if (id != null) {
 				UUID.fromString(id);
-				if (threadRepository.findById(id).isPresent()) {
+				if (threadRepository.existsById(id)) {
 					logger.warn("createThread failed on ID {}", id);
 					response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 					return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, "ID exists: " + id);
@@ -166,7 +166,7 @@ public MLPTransportModel updateThread(@PathVariable("threadId") String threadId,
 			HttpServletResponse response) {
 		logger.debug("updateThread: threadId {}", threadId);
 		// Check the existing one
-		if (!threadRepository.findById(threadId).isPresent()) {
+		if (!threadRepository.existsById(threadId)) {
 			logger.warn("updateThread failed on ID {}", threadId);
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, NO_ENTRY_WITH_ID + threadId, null);
@@ -263,23 +263,23 @@ public MLPResponse createComment(@PathVariable("threadId") String threadId, @Req
 			String id = comment.getCommentId();
 			if (id != null) {
 				UUID.fromString(id);
-				if (commentRepository.findById(id).isPresent()) {
+				if (commentRepository.existsById(id)) {
 					logger.warn("createComment failed on ID {}", id);
 					response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 					return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, "ID exists: " + id);
 				}
 			}
-			if (comment.getParentId() != null && !commentRepository.findById(comment.getParentId()).isPresent()) {
+			if (comment.getParentId() != null && !commentRepository.existsById(comment.getParentId())) {
 				logger.warn("createComment failed on parent ID {}", comment.getParentId());
 				response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 				return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, NO_ENTRY_WITH_ID + comment.getParentId());
 			}
-			if (!threadRepository.findById(comment.getThreadId()).isPresent()) {
+			if (!threadRepository.existsById(comment.getThreadId())) {
 				logger.warn("createComment failed on thread ID {}", comment.getThreadId());
 				response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 				return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, NO_ENTRY_WITH_ID + comment.getThreadId());
 			}
-			if (!userRepository.findById(comment.getUserId()).isPresent()) {
+			if (!userRepository.existsById(comment.getUserId())) {
 				logger.warn("createComment failed on user ID {}", comment.getUserId());
 				response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 				return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, NO_ENTRY_WITH_ID + comment.getUserId());
@@ -307,22 +307,22 @@ public MLPTransportModel updateComment(@PathVariable("threadId") String threadId
 			HttpServletResponse response) {
 		logger.debug("updateComment: threadId {} commentId {}", threadId, commentId);
 		// Get the existing one
-		if (!commentRepository.findById(commentId).isPresent()) {
+		if (!commentRepository.existsById(commentId)) {
 			logger.warn("updateComment failed on comment ID {}", commentId);
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, NO_ENTRY_WITH_ID + commentId, null);
 		}
-		if (comment.getParentId() != null && !commentRepository.findById(comment.getParentId()).isPresent()) {
+		if (comment.getParentId() != null && !commentRepository.existsById(comment.getParentId())) {
 			logger.warn("updateComment failed on parent ID {}", comment.getParentId());
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, NO_ENTRY_WITH_ID + comment.getParentId());
 		}
-		if (!threadRepository.findById(comment.getThreadId()).isPresent()) {
+		if (!threadRepository.existsById(comment.getThreadId())) {
 			logger.warn("updateComment failed on thread ID {}", comment.getThreadId());
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, NO_ENTRY_WITH_ID + comment.getThreadId());
 		}
-		if (!userRepository.findById(comment.getUserId()).isPresent()) {
+		if (!userRepository.existsById(comment.getUserId())) {
 			logger.warn("updateComment failed on user ID {}", comment.getUserId());
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, NO_ENTRY_WITH_ID + comment.getUserId());
@@ -20,18 +20,23 @@
 
 package org.acumos.cds.controller;
 
+import java.io.IOException;
 import java.lang.invoke.MethodHandles;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 import javax.persistence.EntityManager;
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import org.acumos.cds.CCDSConstants;
 import org.acumos.cds.CodeNameType;
+import org.acumos.cds.CountMode;
 import org.acumos.cds.MLPResponse;
 import org.acumos.cds.domain.MLPNotifUserMap;
 import org.acumos.cds.domain.MLPPasswordChangeRequest;
@@ -45,6 +50,7 @@
 import org.acumos.cds.domain.MLPUserLoginProvider;
 import org.acumos.cds.domain.MLPUserLoginProvider.UserLoginProviderPK;
 import org.acumos.cds.domain.MLPUserRoleMap;
+import org.acumos.cds.domain.MLPUserSummary;
 import org.acumos.cds.domain.MLPUserTagMap;
 import org.acumos.cds.domain.MLPUser_;
 import org.acumos.cds.repository.NotifUserMapRepository;
@@ -55,12 +61,18 @@
 import org.acumos.cds.repository.UserLoginProviderRepository;
 import org.acumos.cds.repository.UserRepository;
 import org.acumos.cds.repository.UserRoleMapRepository;
+import org.acumos.cds.repository.UserSummaryRepository;
 import org.acumos.cds.repository.UserTagMapRepository;
+import org.acumos.cds.service.BlobStreamService;
+import org.acumos.cds.service.ResourceVersion;
+import org.acumos.cds.service.ResourceVersionService;
 import org.acumos.cds.service.UserSearchService;
+import org.acumos.cds.transport.BatchTransport;
 import org.acumos.cds.transport.CountTransport;
 import org.acumos.cds.transport.ErrorTransport;
 import org.acumos.cds.transport.LoginTransport;
 import org.acumos.cds.transport.MLPTransportModel;
+import org.acumos.cds.transport.RestPageResponse;
 import org.acumos.cds.transport.SuccessTransport;
 import org.acumos.cds.transport.UsersRoleRequest;
 import org.acumos.cds.util.ApiPageable;
@@ -108,6 +120,11 @@ public class UserController extends AbstractController {
 
 	private static final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
 
+	// User field names that need special handling in field selections
+	private static final String API_TOKEN = "apiToken";
+	private static final String LOGIN_HASH = "loginHash";
+	private static final String VERIFY_TOKEN_HASH = "verifyTokenHash";
+
 	// Use reasonable defaults in case configuration is missing
 	/**
 	 * Number of failures to allow before blocking temporarily
@@ -125,13 +142,19 @@ public class UserController extends AbstractController {
 	@Value("${jasypt.encryptor.password:change-me-should-never-be-used}")
 	private String jasyptEncryptorPassword;
 
+	@Autowired
+	private BlobStreamService blobStreamService;
 	@Autowired
 	private EntityManager entityManager;
 	@Autowired
 	private UserRepository userRepository;
 	@Autowired
+	private UserSummaryRepository userSummaryRepository;
+	@Autowired
 	private UserSearchService userSearchService;
 	@Autowired
+	private ResourceVersionService resourceVersionService;
+	@Autowired
 	private RoleRepository roleRepository;
 	@Autowired
 	private UserRoleMapRepository userRoleMapRepository;
@@ -194,7 +217,7 @@ private MLPResponse checkUserCredentials(LoginTransport credentials, CredentialT
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, "Missing or empty credential(s)");
 		}
-		MLPUser user = userRepository.findByLoginOrEmail(credentials.getName());
+		MLPUserSummary user = userSummaryRepository.findByLoginOrEmail(credentials.getName());
 		if (user == null || !user.isActive()) {
 			logger.warn("checkUserCredentials: unknown or inactve: {}", credentials.getName());
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
@@ -242,7 +265,7 @@ private MLPResponse checkUserCredentials(LoginTransport credentials, CredentialT
 					credentialType.name());
 			user.setLoginFailCount((short) (user.getLoginFailCount() == null ? 1 : user.getLoginFailCount() + 1));
 			user.setLoginFailDate(Instant.now());
-			userRepository.save(user);
+			userSummaryRepository.save(user);
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, "Failed to authenticate user", null);
 		}
@@ -253,7 +276,7 @@ private MLPResponse checkUserCredentials(LoginTransport credentials, CredentialT
 			user.setLoginFailDate(null);
 		}
 		user.setLastLogin(Instant.now());
-		userRepository.save(user);
+		userSummaryRepository.save(user);
 		logger.debug("checkUserCredentials: authenticated user {}", user.getLoginName());
 		entityManager.detach(user);
 		user.clearHashes();
@@ -265,7 +288,8 @@ private MLPResponse checkUserCredentials(LoginTransport credentials, CredentialT
 	@ApiOperation(value = "Checks the specified credentials for full access. " //
 			+ "Searches both login name and email fields for the specified name. " //
 			+ "Returns the user object if an active user exists with the specified credentials; " //
-			+ "returns bad request if no match is found. Imposes a delay on repeated failures.", //
+			+ "returns bad request if no match is found. Imposes a delay on repeated failures. " //
+			+ "The user object has no picture and no tags.", //
 			response = MLPUser.class)
 	@ApiResponses({ @ApiResponse(code = 400, message = "Bad request", response = ErrorTransport.class) })
 	@RequestMapping(value = "/" + CCDSConstants.LOGIN_PATH, method = RequestMethod.POST)
@@ -277,7 +301,8 @@ public MLPResponse loginUser(@RequestBody LoginTransport login, HttpServletRespo
 	@ApiOperation(value = "Checks the specified credentials for API access. "
 			+ "Searches both login name and email fields for the specified name. "
 			+ "Returns the user object if an active user exists with the specified credentials; "
-			+ "returns bad request if no match is found. Imposes a delay on repeated failures.", //
+			+ "returns bad request if no match is found. Imposes a delay on repeated failures. " //
+			+ "The user object has no picture and no tags.", //
 			response = MLPUser.class)
 	@ApiResponses({ @ApiResponse(code = 400, message = "Bad request", response = ErrorTransport.class) })
 	@RequestMapping(value = "/" + CCDSConstants.LOGIN_API_PATH, method = RequestMethod.POST)
@@ -289,7 +314,8 @@ public MLPResponse loginApi(@RequestBody LoginTransport login, HttpServletRespon
 	@ApiOperation(value = "Checks the specified credentials for verification. "
 			+ "Searches both login name and email fields for the specified name. "
 			+ "Returns the user object if an active user exists with the specified credentials; "
-			+ "returns bad request if no match is found. Imposes a delay on repeated failures.", //
+			+ "returns bad request if no match is found. Imposes a delay on repeated failures. " //
+			+ "The user object has no picture and no tags.", //
 			response = MLPUser.class)
 	@ApiResponses({ @ApiResponse(code = 400, message = "Bad request", response = ErrorTransport.class) })
 	@RequestMapping(value = "/" + CCDSConstants.VERIFY_PATH, method = RequestMethod.POST)
@@ -313,7 +339,7 @@ public MLPTransportModel updatePassword(@PathVariable("userId") String userId,
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, "Missing or null new password", null);
 		}
 		// Get the existing user
-		Optional<MLPUser> opt = userRepository.findById(userId);
+		Optional<MLPUserSummary> opt = userSummaryRepository.findById(userId);
 		if (!opt.isPresent() || !opt.get().isActive()) {
 			logger.warn("updatePassword unknown or inactive user {}", userId);
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
@@ -321,7 +347,7 @@ public MLPTransportModel updatePassword(@PathVariable("userId") String userId,
 					"Failed to find active user with ID " + userId, null);
 		}
 		try {
-			MLPUser user = opt.get();
+			MLPUserSummary user = opt.get();
 			final boolean bothNull = user.getLoginHash() == null && changeRequest.getOldLoginPass() == null;
 			final boolean notNullAndMatch = user.getLoginHash() != null && changeRequest.getOldLoginPass() != null
 					&& BCrypt.checkpw(changeRequest.getOldLoginPass(), user.getLoginHash());
@@ -329,7 +355,7 @@ public MLPTransportModel updatePassword(@PathVariable("userId") String userId,
 				logger.debug("updatePassword: Change password for user {}", user.getLoginName());
 				final String pwHash = BCrypt.hashpw(changeRequest.getNewLoginPass(), BCrypt.gensalt());
 				user.setLoginHash(pwHash);
-				userRepository.save(user);
+				userSummaryRepository.save(user);
 				logger.debug("updatePassword: updated user {}", user.getLoginName());
 				return new SuccessTransport(HttpServletResponse.SC_OK, null);
 			} else {
@@ -345,14 +371,65 @@ public MLPTransportModel updatePassword(@PathVariable("userId") String userId,
 		}
 	}
 
-	@ApiOperation(value = "Gets a page of users, optionally sorted on fields. Answers empty if none are found.", //
+	@ApiOperation(value = "Gets a page of users, optionally sorted on fields. Answers empty if none are found. " //
+			+ "Users have no picture and no tags. If fields are named, answers only those fields and the ID.", //
 			response = MLPUser.class, responseContainer = "Page")
+	@ApiResponses({ @ApiResponse(code = 400, message = "Bad request", response = ErrorTransport.class) })
 	@ApiPageable
 	@RequestMapping(method = RequestMethod.GET)
-	public Page<MLPUser> getUsers(Pageable pageable) {
-		logger.debug("getUsers {}", pageable);
-		Page<MLPUser> page = userRepository.findAll(pageable);
-		for (MLPUser user : page.getContent()) {
+	public Object getUsers( //
+			@ApiParam(value = "Fields to answer; all if none", allowMultiple = true) //
+			@RequestParam(name = CCDSConstants.FIELDS_QUERY_PARAM, required = false) String[] fields, //
+			Pageable pageable, HttpServletResponse response) {
+		logger.debug("getUsers {} fields {}", pageable, Arrays.toString(fields));
+		if (fields == null || fields.length == 0) {
+			Page<MLPUserSummary> page = userSummaryRepository.findAll(pageable);
+			for (MLPUserSummary user : page.getContent()) {
+				// detach from Hibernate and clear sensitive data
+				entityManager.detach(user);
+				user.clearHashes();
+				if (user.getApiToken() != null)
+					user.setApiToken(decryptWithJasypt(user.getApiToken()));
+			}
+			return page;
+		}
+		try {
+			// Never answer sensitive data
+			for (String field : fields)
+				if (LOGIN_HASH.equals(field) || VERIFY_TOKEN_HASH.equals(field))
+					throw new IllegalArgumentException("Field not available: " + field);
+			Page<Map<String, Object>> page = fieldSelectionService.findAll(MLPUserSummary.class, fields, pageable);
+			for (Map<String, Object> user : page.getContent())
+				if (user.get(API_TOKEN) != null)
+					user.put(API_TOKEN, decryptWithJasypt((String) user.get(API_TOKEN)));
+			return page;
+		} catch (IllegalArgumentException ex) {
+			logger.warn("getUsers failed: {}", ex.toString());
+			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, ex.getMessage(), ex);
+		}
+	}
+
+	@ApiOperation(value = "Gets a page of users using keyset (cursor) pagination, optionally sorted on one field. " //
+			+ "Send the continuation token from the previous page to get the next page; the page number is ignored. " //
+			+ "Answers empty if none are found. Users have no picture and no tags.", //
+			response = MLPUser.class, responseContainer = "Page")
+	@ApiPageable
+	@RequestMapping(value = "/" + CCDSConstants.CURSOR_PATH, method = RequestMethod.GET)
+	public Object getUsersByCursor( //
+			@ApiParam(value = "Continuation token") //
+			@RequestParam(name = CCDSConstants.CONTINUATION_QUERY_PARAM, required = false) String continuation, //
+			Pageable pageable, HttpServletResponse response) {
+		logger.debug("getUsersByCursor {}", pageable);
+		RestPageResponse<MLPUserSummary> page;
+		try {
+			page = userSearchService.findUsersAfterCursor(continuation, pageable);
+		} catch (IllegalArgumentException ex) {
+			logger.warn("getUsersByCursor failed: {}", ex.toString());
+			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, ex.getMessage(), ex);
+		}
+		for (MLPUserSummary user : page.getContent()) {
 			// detach from Hibernate and clear sensitive data
 			entityManager.detach(user);
 			user.clearHashes();
@@ -362,14 +439,16 @@ public Page<MLPUser> getUsers(Pageable pageable) {
 		return page;
 	}
 
-	@ApiOperation(value = "Returns a page of users with names that contain the search term matched using a like operator. Answers empty if none are found.", //
+	@ApiOperation(value = "Returns a page of users with names that contain the search term matched using a like operator. Answers empty if none are found. " //
+			+ "Users have no picture and no tags.", //
 			response = MLPUser.class, responseContainer = "Page")
 	@ApiPageable
 	@RequestMapping(value = "/" + CCDSConstants.LIKE_PATH, method = RequestMethod.GET)
-	public Page<MLPUser> findUsersBySearchTerm(@RequestParam(CCDSConstants.TERM_PATH) String term, Pageable pageable) {
+	public Page<MLPUserSummary> findUsersBySearchTerm(@RequestParam(CCDSConstants.TERM_PATH) String term,
+			Pageable pageable) {
 		logger.debug("findUsersBySearchTerm: term {}", term);
-		Page<MLPUser> page = userRepository.findBySearchTerm(term, pageable);
-		for (MLPUser user : page.getContent()) {
+		Page<MLPUserSummary> page = userSummaryRepository.findBySearchTerm(term, pageable);
+		for (MLPUserSummary user : page.getContent()) {
 			// detach from Hibernate and clear sensitive data
 			entityManager.detach(user);
 			user.clearHashes();
@@ -385,7 +464,8 @@ public Page<MLPUser> findUsersBySearchTerm(@RequestParam(CCDSConstants.TERM_PATH
 	 * but that is not supported by Swagger web UI. Now allows use from that web UI.
 	 */
 	@ApiOperation(value = "Searches for users with attributes matching the values specified as query parameters. " //
-			+ "Defaults to match all (conjunction); send junction query parameter '_j=o' to match any (disjunction).", //
+			+ "Defaults to match all (conjunction); send junction query parameter '_j=o' to match any (disjunction). " //
+			+ "Users have no picture and no tags.", //
 			response = MLPUser.class, responseContainer = "Page")
 	@ApiPageable
 	@ApiResponses({ @ApiResponse(code = 400, message = "Bad request", response = ErrorTransport.class) })
@@ -399,7 +479,7 @@ public Object searchUsers(@ApiParam(value = "Junction", allowableValues = "a,o")
 			@RequestParam(name = MLPUser_.EMAIL, required = false) String email, //
 			@RequestParam(name = MLPUser_.LOGIN_NAME, required = false) String loginName, //
 			@RequestParam(name = MLPUser_.ACTIVE, required = false) Boolean active, //
-			Pageable pageRequest, HttpServletResponse response) {
+			Pageable pageRequest, CountMode countMode, HttpServletResponse response) {
 		logger.debug("searchUsers enter");
 		boolean isOr = junction != null && "o".equals(junction);
 		if (firstName == null && middleName == null && lastName == null && orgName == null && email == null
@@ -409,12 +489,12 @@ public Object searchUsers(@ApiParam(value = "Junction", allowableValues = "a,o")
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, "Missing query", null);
 		}
 		try {
-			Page<MLPUser> userPage = userSearchService.findUsers(firstName, middleName, lastName, orgName, email,
-					loginName, active, isOr, pageRequest);
+			Page<MLPUserSummary> userPage = userSearchService.findUsers(firstName, middleName, lastName, orgName, email,
+					loginName, active, isOr, pageRequest, countMode);
 			// Wipe hash values
-			Iterator<MLPUser> userIter = userPage.iterator();
+			Iterator<MLPUserSummary> userIter = userPage.iterator();
 			while (userIter.hasNext()) {
-				MLPUser user = userIter.next();
+				MLPUserSummary user = userIter.next();
 				entityManager.detach(user);
 				user.clearHashes();
 				if (user.getApiToken() != null)
@@ -429,6 +509,35 @@ public Object searchUsers(@ApiParam(value = "Junction", allowableValues = "a,o")
 		}
 	}
 
+	@ApiOperation(value = "Gets the users with the specified IDs in one query, in the order of the IDs, " //
+			+ "and lists the IDs not found. Users have no picture and no tags. " //
+			+ "Returns bad request if no IDs or too many IDs are specified.", //
+			response = BatchTransport.class)
+	@ApiResponses({ @ApiResponse(code = 400, message = "Bad request", response = ErrorTransport.class) })
+	@RequestMapping(value = "/" + CCDSConstants.BATCH_PATH, method = RequestMethod.GET)
+	public Object getUsersById( //
+			@ApiParam(value = "User IDs", allowMultiple = true, required = true) //
+			@RequestParam(name = CCDSConstants.BATCH_ID, required = true) String[] userIds, //
+			HttpServletResponse response) {
+		logger.debug("getUsersById: IDs {}", Arrays.toString(userIds));
+		BatchTransport<MLPUserSummary> batch;
+		try {
+			batch = findBatch(userSummaryRepository, userIds, MLPUserSummary::getUserId);
+		} catch (IllegalArgumentException ex) {
+			logger.warn("getUsersById failed: {}", ex.toString());
+			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, ex.getMessage(), ex);
+		}
+		for (MLPUserSummary user : batch.getFound()) {
+			// detach from Hibernate and clear sensitive data
+			entityManager.detach(user);
+			user.clearHashes();
+			if (user.getApiToken() != null)
+				user.setApiToken(decryptWithJasypt(user.getApiToken()));
+		}
+		return batch;
+	}
+
 	@ApiOperation(value = "Gets the user for the specified ID. Returns null if the ID is not found.", //
 			response = MLPUser.class)
 	@RequestMapping(value = "/{userId}", method = RequestMethod.GET)
@@ -483,7 +592,7 @@ public MLPResponse createUser(@RequestBody MLPUser user, HttpServletResponse res
 			String id = user.getUserId();
 			if (id != null) {
 				UUID.fromString(id);
-				if (userRepository.findById(id).isPresent()) {
+				if (userRepository.existsById(id)) {
 					logger.warn("createUser unknown user {}", id);
 					response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 					return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, "ID exists: " + id);
@@ -519,7 +628,9 @@ public MLPResponse createUser(@RequestBody MLPUser user, HttpServletResponse res
 		}
 	}
 
-	@ApiOperation(value = "Updates an existing user with the supplied data. Returns bad request on constraint violation etc.", //
+	@ApiOperation(value = "Updates an existing user with the supplied data. " //
+			+ "Keeps the existing picture if none is supplied. Replaces the existing tags with the supplied set. " //
+			+ "Returns bad request on constraint violation etc.", //
 			response = SuccessTransport.class)
 	@ApiResponses({ @ApiResponse(code = 400, message = "Bad request", response = ErrorTransport.class) })
 	@RequestMapping(value = "/{userId}", method = RequestMethod.PUT)
@@ -551,6 +662,9 @@ public MLPTransportModel updateUser(@PathVariable("userId") String userId, @Requ
 			// But unlike password, allow caller to null it out.
 			if (user.getApiToken() != null)
 				user.setApiToken(encryptWithJasypt(user.getApiToken()));
+			// Pages of users have no picture; don't let an update built from one erase it.
+			if (user.getPicture() == null)
+				user.setPicture(existingUser.getPicture());
 			userRepository.save(user);
 			return new SuccessTransport(HttpServletResponse.SC_OK, null);
 		} catch (Exception ex) {
@@ -561,6 +675,46 @@ public MLPTransportModel updateUser(@PathVariable("userId") String userId, @Requ
 		}
 	}
 
+	@ApiOperation(value = "Gets the picture for the specified user ID. Answers an empty body if the ID is not found. " //
+			+ "Answers not modified if the If-None-Match or If-Modified-Since header shows the client copy is current. " //
+			+ "Answers a single byte range with status 206 if the Range header asks for one.", //
+			response = byte[].class)
+	@RequestMapping(value = "/{userId}/"
+			+ CCDSConstants.PICTURE_PATH, method = RequestMethod.GET, produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+	public void getUserPicture(@PathVariable("userId") String userId, HttpServletRequest request,
+			HttpServletResponse response) throws IOException {
+		logger.debug("getUserPicture: ID {}", userId);
+		ResourceVersion version = resourceVersionService.getUserPictureVersion(userId);
+		if (checkNotModified(version, request, response))
+			return;
+		blobStreamService.readUserPicture(userId, (blob, mimeType) -> writeBlob(blob,
+				MediaType.APPLICATION_OCTET_STREAM_VALUE, version, request, response));
+	}
+
+	@ApiOperation(value = "Saves a user picture from the request body, which is stored as it arrives; " //
+			+ "send an empty body to remove it. Returns bad request if the ID is not found or the image is too large.", //
+			response = SuccessTransport.class)
+	@ApiResponses({ @ApiResponse(code = 400, message = "Bad request", response = ErrorTransport.class) })
+	@RequestMapping(value = "/{userId}/" + CCDSConstants.PICTURE_PATH, method = RequestMethod.PUT)
+	public Object saveUserPicture(@PathVariable("userId") String userId, HttpServletRequest request,
+			HttpServletResponse response) {
+		long length = request.getContentLengthLong();
+		logger.debug("saveUserPicture: ID {} pic len {}", userId, length);
+		try {
+			if (!blobStreamService.writeUserPicture(userId, length == 0 ? null : request.getInputStream(), length)) {
+				logger.warn("saveUserPicture failed on ID {}", userId);
+				response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+				return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, NO_ENTRY_WITH_ID + userId, null);
+			}
+			return new SuccessTransport(HttpServletResponse.SC_OK, null);
+		} catch (Exception ex) {
+			Exception cve = findConstraintViolationException(ex);
+			logger.warn("saveUserPicture failed: {}", cve.toString());
+			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, "saveUserPicture failed", cve);
+		}
+	}
+
 	/*
 	 * Originally this was declared void and accordingly returned nothing. But when
 	 * used in SpringBoot, after invoking the method it would look for a ThymeLeaf
@@ -615,7 +769,7 @@ public Iterable<MLPRole> getRolesForUser(@PathVariable("userId") String userId)
 	public MLPTransportModel addUserRole(@PathVariable("userId") String userId, @PathVariable("roleId") String roleId,
 			HttpServletResponse response) {
 		logger.debug("addUserRole: userId {}, roleId {}", userId, roleId);
-		if (!userRepository.findById(userId).isPresent()) {
+		if (!userRepository.existsById(userId)) {
 			logger.warn("addUserRole unknown for user ID {}", userId);
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, NO_ENTRY_WITH_ID + userId, null);
@@ -635,7 +789,7 @@ public MLPTransportModel addUserRole(@PathVariable("userId") String userId, @Pat
 	public MLPTransportModel updateUserRoles(@PathVariable("userId") String userId, @RequestBody List<String> roleIds,
 			HttpServletResponse response) {
 		logger.debug("updateUserRoles: user {}, roles {}", userId, roleIds);
-		if (!userRepository.findById(userId).isPresent()) {
+		if (!userRepository.existsById(userId)) {
 			logger.warn("updateUserRoles unknown user ID {}", userId);
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, NO_ENTRY_WITH_ID + userId, null);
@@ -687,7 +841,7 @@ public MLPTransportModel addOrDropUsersInRole(@PathVariable("roleId") String rol
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, "No users", null);
 		}
 		for (String userId : usersRoleRequest.getUserIds()) {
-			if (!userRepository.findById(userId).isPresent()) {
+			if (!userRepository.existsById(userId)) {
 				logger.warn("addOrDropUsersInRole unknown user ID {}", userId);
 				response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 				return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, NO_ENTRY_WITH_ID + userId, null);
@@ -695,7 +849,7 @@ public MLPTransportModel addOrDropUsersInRole(@PathVariable("roleId") String rol
 		}
 		for (String userId : usersRoleRequest.getUserIds()) {
 			MLPUserRoleMap.UserRoleMapPK pk = new MLPUserRoleMap.UserRoleMapPK(userId, roleId);
-			boolean exists = userRoleMapRepository.findById(pk).isPresent();
+			boolean exists = userRoleMapRepository.existsById(pk);
 			if (exists && usersRoleRequest.isAdd()) {
 				logger.warn("addOrDropUsersInRole user {} in role", userId);
 				response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
@@ -749,7 +903,7 @@ public MLPResponse createUserLoginProvider(@PathVariable("userId") String userId
 		logger.debug("createUserLoginProvider: userId {} providerCode {} providerUserId {}", userId, providerCode,
 				providerUserId);
 		// Validate args
-		if (!userRepository.findById(userId).isPresent()) {
+		if (!userRepository.existsById(userId)) {
 			logger.warn("createUserLoginProvider unknown user {}", userId);
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, NO_ENTRY_WITH_ID + userId, null);
@@ -787,7 +941,7 @@ public MLPTransportModel updateUserLoginProvider(@PathVariable("userId") String
 		logger.debug("updateUserLoginProvider: userId {} providerCode {} providerUserId {}", userId, providerCode,
 				providerUserId);
 		// Validate args
-		if (!userRepository.findById(userId).isPresent()) {
+		if (!userRepository.existsById(userId)) {
 			logger.warn("updateUserLoginProvider unknown user {}", userId);
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, NO_ENTRY_WITH_ID + userId, null);
@@ -795,7 +949,7 @@ public MLPTransportModel updateUserLoginProvider(@PathVariable("userId") String
 		// Get the existing one
 		// Build a key for fetch
 		UserLoginProviderPK pk = new UserLoginProviderPK(userId, providerCode, providerUserId);
-		if (!userLoginProviderRepository.findById(pk).isPresent()) {
+		if (!userLoginProviderRepository.existsById(pk)) {
 			logger.warn("updateUserLoginProvider unknown key {}", pk);
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, NO_ENTRY_WITH_ID + pk, null);
@@ -859,12 +1013,12 @@ public Page<MLPSolution> getFavoriteSolutions(@PathVariable("userId") String use
 	public MLPResponse createSolutionFavorite(@PathVariable("solutionId") String solutionId,
 			@PathVariable("userId") String userId, @RequestBody MLPSolutionFavorite sfv, HttpServletResponse response) {
 		logger.debug("createSolutionFavorite: solutionId {} userId {}", solutionId, userId);
-		if (!solutionRepository.findById(solutionId).isPresent()) {
+		if (!solutionRepository.existsById(solutionId)) {
 			logger.warn("createSolutionFavorite unknown solution {}", solutionId);
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, NO_ENTRY_WITH_ID + solutionId, null);
 		}
-		if (!userRepository.findById(userId).isPresent()) {
+		if (!userRepository.existsById(userId)) {
 			logger.warn("createSolutionFavorite user ID {}", userId);
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, NO_ENTRY_WITH_ID + userId, null);
@@ -926,12 +1080,12 @@ public Object getUserDeployments(@PathVariable("userId") String userId, Pageable
 	public MLPTransportModel addUserTag(@PathVariable("userId") String userId, @PathVariable("tag") String tag,
 			HttpServletResponse response) {
 		logger.debug("addUserTag: userId {} tag {}", userId, tag);
-		if (!userRepository.findById(userId).isPresent()) {
+		if (!userRepository.existsById(userId)) {
 			logger.warn("addUserTag unknown user {}", userId);
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, NO_ENTRY_WITH_ID + userId, null);
 		}
-		if (userTagMapRepository.findById(new MLPUserTagMap.UserTagMapPK(userId, tag)).isPresent()) {
+		if (userTagMapRepository.existsById(new MLPUserTagMap.UserTagMapPK(userId, tag))) {
 			logger.warn("addUserTag failed for existing tag {}", tag);
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, "Already has tag " + tag, null);
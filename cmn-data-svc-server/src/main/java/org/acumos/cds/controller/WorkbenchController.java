@@ -29,6 +29,7 @@
 
 import org.acumos.cds.CCDSConstants;
 import org.acumos.cds.CodeNameType;
+import org.acumos.cds.CountMode;
 import org.acumos.cds.MLPResponse;
 import org.acumos.cds.domain.MLPAbstractWorkbenchArtifact;
 import org.acumos.cds.domain.MLPAbstractWorkbenchArtifact_;
@@ -123,7 +124,7 @@ public MLPProject getProject(@PathVariable("projectId") String projectId) {
 	 */
 	private Object searchWorkbenchArtifacts(Class<? extends MLPAbstractWorkbenchArtifact> clazz, String junction,
 			String name, Boolean active, String userId, String version, String serviceStatus, String repositoryUrl,
-			String serviceUrl, Pageable pageRequest, HttpServletResponse response) {
+			String serviceUrl, Pageable pageRequest, CountMode countMode, HttpServletResponse response) {
 		logger.debug("searchWorkbenchArtifacts enter");
 		boolean isOr = junction != null && "o".equals(junction);
 		if (name == null && active == null && userId == null && version == null && serviceStatus == null
@@ -134,7 +135,7 @@ private Object searchWorkbenchArtifacts(Class<? extends MLPAbstractWorkbenchArti
 		}
 		try {
 			return artifactSearchService.findWorkbenchArtifacts(clazz, name, active, userId, version, serviceStatus,
-					repositoryUrl, serviceUrl, isOr, pageRequest);
+					repositoryUrl, serviceUrl, isOr, pageRequest, countMode);
 		} catch (Exception ex) {
 			logger.error("searchWorkbenchArtifacts failed: {}", ex);
 			response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
@@ -158,9 +159,9 @@ public Object searchProjects(//
 			@RequestParam(name = MLPAbstractWorkbenchArtifact_.VERSION, required = false) String version, //
 			@RequestParam(name = MLPAbstractWorkbenchArtifact_.SERVICE_STATUS_CODE, required = false) String serviceStatus, //
 			@RequestParam(name = MLPAbstractWorkbenchArtifact_.REPOSITORY_URL, required = false) String repositoryUrl, //
-			Pageable pageRequest, HttpServletResponse response) {
+			Pageable pageRequest, CountMode countMode, HttpServletResponse response) {
 		return searchWorkbenchArtifacts(MLPProject.class, junction, name, active, userId, version, serviceStatus,
-				repositoryUrl, null, pageRequest, response);
+				repositoryUrl, null, pageRequest, countMode, response);
 	}
 
 	@ApiOperation(value = "Creates a new project and generates an ID if needed. Returns bad request on bad URL, constraint violation etc.", //
@@ -173,7 +174,7 @@ public MLPResponse createProject(@RequestBody MLPProject project, HttpServletRes
 			String id = project.getProjectId();
 			if (id != null) {
 				UUID.fromString(id);
-				if (projectRepository.findById(id).isPresent()) {
+				if (projectRepository.existsById(id)) {
 					logger.warn("createProject failed on ID {}", id);
 					response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 					return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, "ID exists: " + id);
@@ -286,9 +287,9 @@ public Object searchNotebooks(//
 			@RequestParam(name = MLPAbstractWorkbenchArtifact_.SERVICE_STATUS_CODE, required = false) String serviceStatus, //
 			@RequestParam(name = MLPAbstractWorkbenchArtifact_.REPOSITORY_URL, required = false) String repositoryUrl, //
 			@RequestParam(name = MLPNotebook_.SERVICE_URL, required = false) String serviceUrl, //
-			Pageable pageRequest, HttpServletResponse response) {
+			Pageable pageRequest, CountMode countMode, HttpServletResponse response) {
 		return searchWorkbenchArtifacts(MLPNotebook.class, junction, name, active, userId, version, serviceStatus,
-				repositoryUrl, serviceUrl, pageRequest, response);
+				repositoryUrl, serviceUrl, pageRequest, countMode, response);
 	}
 
 	@ApiOperation(value = "Gets the notebooks within the specified project. Returns empty if none are found.", //
@@ -310,7 +311,7 @@ public MLPResponse createNotebook(@RequestBody MLPNotebook notebook, HttpServlet
 			String id = notebook.getNotebookId();
 			if (id != null) {
 				UUID.fromString(id);
-				if (notebookRepository.findById(id).isPresent()) {
+				if (notebookRepository.existsById(id)) {
 					logger.warn("createNotebook failed on ID {}", id);
 					response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 					return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, "ID exists: " + id);
@@ -406,12 +407,12 @@ public MLPTransportModel deleteNotebook(@PathVariable("notebookId") String noteb
 	public MLPResponse addProjectNotebook(@PathVariable("projectId") String projectId,
 			@PathVariable("notebookId") String notebookId, HttpServletResponse response) {
 		logger.debug("addProjectNotebook projectId {} notebookId {}", projectId, notebookId);
-		if (!projectRepository.findById(projectId).isPresent()) {
+		if (!projectRepository.existsById(projectId)) {
 			logger.warn("addProjectNotebook: failed on project ID {}", projectId);
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, NO_ENTRY_WITH_ID + projectId, null);
 		}
-		if (!notebookRepository.findById(notebookId).isPresent()) {
+		if (!notebookRepository.existsById(notebookId)) {
 			logger.warn("addProjectNotebook: failed on notebook ID {}", notebookId);
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, NO_ENTRY_WITH_ID + notebookId, null);
@@ -473,9 +474,9 @@ public Object searchPipelines(//
 			@RequestParam(name = MLPAbstractWorkbenchArtifact_.SERVICE_STATUS_CODE, required = false) String serviceStatus, //
 			@RequestParam(name = MLPAbstractWorkbenchArtifact_.REPOSITORY_URL, required = false) String repositoryUrl, //
 			@RequestParam(name = MLPPipeline_.SERVICE_URL, required = false) String serviceUrl, //
-			Pageable pageRequest, HttpServletResponse response) {
+			Pageable pageRequest, CountMode countMode, HttpServletResponse response) {
 		return searchWorkbenchArtifacts(MLPPipeline.class, junction, name, active, userId, version, serviceStatus,
-				repositoryUrl, serviceUrl, pageRequest, response);
+				repositoryUrl, serviceUrl, pageRequest, countMode, response);
 	}
 
 	@ApiOperation(value = "Gets the pipelines within the specified project. Returns empty if none are found.", //
@@ -497,7 +498,7 @@ public MLPResponse createPipeline(@RequestBody MLPPipeline pipeline, HttpServlet
 			String id = pipeline.getPipelineId();
 			if (id != null) {
 				UUID.fromString(id);
-				if (pipelineRepository.findById(id).isPresent()) {
+				if (pipelineRepository.existsById(id)) {
 					logger.warn("createPipeline failed on ID {}", id);
 					response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 					return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, "ID exists: " + id);
@@ -587,12 +588,12 @@ public MLPTransportModel deletePipeline(@PathVariable("pipelineId") String pipel
 	public MLPResponse addProjectPipeline(@PathVariable("projectId") String projectId,
 			@PathVariable("pipelineId") String pipelineId, HttpServletResponse response) {
 		logger.debug("addProjectPipeline projectId {} pipelineId {}", projectId, pipelineId);
-		if (!projectRepository.findById(projectId).isPresent()) {
+		if (!projectRepository.existsById(projectId)) {
 			logger.warn("addProjectPipeline: failed on project ID {}", projectId);
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, NO_ENTRY_WITH_ID + projectId, null);
 		}
-		if (!pipelineRepository.findById(pipelineId).isPresent()) {
+		if (!pipelineRepository.existsById(pipelineId)) {
 			logger.warn("addProjectPipeline: failed on pipeline ID {}", pipelineId);
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
 			return new ErrorTransport(HttpServletResponse.SC_BAD_REQUEST, NO_ENTRY_WITH_ID + pipelineId, null);
@@ -0,0 +1,118 @@
+/*-
+ * ===============LICENSE_START=======================================================
+ * Acumos
+ * ===================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property & Tech Mahindra. All rights reserved.
+ * ===================================================================================
+ * This Acumos software file is distributed by AT&T and Tech Mahindra
+ * under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ===============LICENSE_END=========================================================
+ */
+
+package org.acumos.cds.domain;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+/**
+ * Download and rating statistics of a solution, including the rating sum that
+ * is not part of the REST model. Maps only these columns, so a locking read
+ * joins nothing and writes leave the other solution columns alone.
+ * 
+ * Defined in the server project because it's not exposed to clients.
+ */
+@Entity
+@Table(name = MLPAbstractSolution.TABLE_NAME)
+public class MLPSolutionStats implements Serializable {
+
+	private static final long serialVersionUID = -4283146651620937528L;
+
+	@Id
+	@Column(name = "SOLUTION_ID", nullable = false, updatable = false, columnDefinition = "CHAR(36)")
+	private String solutionId;
+
+	@Column(name = "DOWNLOAD_COUNT", columnDefinition = "INT")
+	private Long downloadCount;
+
+	@Column(name = "LAST_DOWNLOAD", columnDefinition = "TIMESTAMP")
+	private Instant lastDownload;
+
+	@Column(name = "RATING_COUNT", columnDefinition = "INT")
+	private Long ratingCount;
+
+	@Column(name = "RATING_SUM", columnDefinition = "INT")
+	private Long ratingSum;
+
+	@Column(name = "RATING_AVG_TENTHS", columnDefinition = "INT")
+	private Long ratingAverageTenths;
+
+	public String getSolutionId() {
+		return solutionId;
+	}
+
+	public void setSolutionId(String solutionId) {
+		this.solutionId = solutionId;
+	}
+
+	public Long getDownloadCount() {
+		return downloadCount;
+	}
+
+	public void setDownloadCount(Long downloadCount) {
+		this.downloadCount = downloadCount;
+	}
+
+	public Instant getLastDownload() {
+		return lastDownload;
+	}
+
+	public void setLastDownload(Instant lastDownload) {
+		this.lastDownload = lastDownload;
+	}
+
+	public Long getRatingCount() {
+		return ratingCount;
+	}
+
+	public void setRatingCount(Long ratingCount) {
+		this.ratingCount = ratingCount;
+	}
+
+	public Long getRatingSum() {
+		return ratingSum;
+	}
+
+	public void setRatingSum(Long ratingSum) {
+		this.ratingSum = ratingSum;
+	}
+
+	public Long getRatingAverageTenths() {
+		return ratingAverageTenths;
+	}
+
+	public void setRatingAverageTenths(Long ratingAverageTenths) {
+		this.ratingAverageTenths = ratingAverageTenths;
+	}
+
+	@Override
+	public String toString() {
+		return this.getClass().getName() + "[solutionId=" + solutionId + ", downloadCount=" + downloadCount
+				+ ", lastDownload=" + lastDownload + ", ratingCount=" + ratingCount + ", ratingSum=" + ratingSum
+				+ ", ratingAverageTenths=" + ratingAverageTenths + "]";
+	}
+
+}
@@ -0,0 +1,42 @@
+/*-
+ * ===============LICENSE_START=======================================================
+ * Acumos
+ * ===================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property & Tech Mahindra. All rights reserved.
+ * ===================================================================================
+ * This Acumos software file is distributed by AT&T and Tech Mahindra
+ * under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ===============LICENSE_END=========================================================
+ */
+
+package org.acumos.cds.domain;
+
+import java.io.Serializable;
+
+import javax.persistence.Entity;
+import javax.persistence.Table;
+
+/**
+ * User entity without picture and tags. Inherits all simple field mappings from
+ * the abstract superclass. Used for pages of users and for login, where fetching
+ * every user's picture and tags would multiply the size of the response.
+ * 
+ * Defined in the server project because it's not exposed to clients; they
+ * receive it as an MLPUser with no picture and no tags.
+ */
+@Entity
+@Table(name = MLPAbstractUser.TABLE_NAME)
+public class MLPUserSummary extends MLPAbstractUser implements Serializable {
+
+	private static final long serialVersionUID = -3283716425117926434L;
+
+}
@@ -20,8 +20,11 @@
 
 package org.acumos.cds.repository;
 
+import javax.persistence.QueryHint;
+
 import org.acumos.cds.domain.MLPPeerCatAccMap;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
 
@@ -29,7 +32,8 @@ public interface PeerCatAccMapRepository extends CrudRepository<MLPPeerCatAccMap
 
 	/**
 	 * Gets IDs for catalogs with access specially granted to the peer. These are
-	 * expected to be restricted.
+	 * expected to be restricted. Results are held in the query cache until a
+	 * peer-catalog access mapping is written.
 	 * 
 	 * @param peerId
 	 *                   Peer ID
@@ -37,6 +41,7 @@ public interface PeerCatAccMapRepository extends CrudRepository<MLPPeerCatAccMap
 	 */
 	@Query(value = "select m.catalogId FROM MLPPeerCatAccMap m " //
 			+ " WHERE m.peerId = :peerId")
+	@QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
 	Iterable<String> findCatalogIdsByPeerId(@Param("peerId") String peerId);
 
 }
@@ -20,14 +20,18 @@
 
 package org.acumos.cds.repository;
 
+import javax.persistence.QueryHint;
+
 import org.acumos.cds.domain.MLPRoleFunction;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
 
 public interface RoleFunctionRepository extends CrudRepository<MLPRoleFunction, String> {
 
 	/**
-	 * Finds all functions for the specified role.
+	 * Finds all functions for the specified role. Results are held in the query
+	 * cache until a role function is written.
 	 *
 	 * Generated by Spring magic.
 	 * 
@@ -35,6 +39,7 @@ public interface RoleFunctionRepository extends CrudRepository<MLPRoleFunction,
 	 *                   Role ID
 	 * @return Functions mapped to the specified role.
 	 */
+	@QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
 	Iterable<MLPRoleFunction> findByRoleId(@Param("roleId") String roleId);
 
 }
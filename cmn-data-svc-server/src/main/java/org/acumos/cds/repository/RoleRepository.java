@@ -20,15 +20,19 @@
 
 package org.acumos.cds.repository;
 
+import javax.persistence.QueryHint;
+
 import org.acumos.cds.domain.MLPRole;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.data.repository.query.Param;
 
 public interface RoleRepository extends PagingAndSortingRepository<MLPRole, String> {
 
 	/**
-	 * Finds all roles for the specified userId.
+	 * Finds all roles for the specified userId. Results are held in the query
+	 * cache until a role or user-role mapping is written.
 	 * 
 	 * @param userId
 	 *                   User ID
@@ -37,6 +41,7 @@ public interface RoleRepository extends PagingAndSortingRepository<MLPRole, Stri
 	@Query(value = "select r from MLPRole r, MLPUserRoleMap m" //
 			+ " where r.roleId =  m.roleId " //
 			+ " and m.userId = :userId")
+	@QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
 	Iterable<MLPRole> findByUser(@Param("userId") String userId);
 
 }
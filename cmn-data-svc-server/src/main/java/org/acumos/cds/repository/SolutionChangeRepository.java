@@ -0,0 +1,50 @@
+/*-
+ * ===============LICENSE_START=======================================================
+ * Acumos
+ * ===================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property & Tech Mahindra. All rights reserved.
+ * ===================================================================================
+ * This Acumos software file is distributed by AT&T and Tech Mahindra
+ * under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ===============LICENSE_END=========================================================
+ */
+
+package org.acumos.cds.repository;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.acumos.cds.domain.MLPSolutionChange;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+
+public interface SolutionChangeRepository extends CrudRepository<MLPSolutionChange, Long> {
+
+	/**
+	 * Gets change log entries after the specified sequence number that were
+	 * created before the specified point in time, in sequence order.
+	 * 
+	 * @param since
+	 *                        Sequence number; only larger numbers match
+	 * @param before
+	 *                        Point in time; only earlier entries match
+	 * @param pageRequest
+	 *                        Limits the number of entries; sort is ignored
+	 * @return List of MLPSolutionChange
+	 */
+	@Query("FROM MLPSolutionChange WHERE sequence > :since AND created < :before ORDER BY sequence")
+	List<MLPSolutionChange> findChangesSince(@Param("since") Long since, @Param("before") Instant before,
+			Pageable pageRequest);
+
+}
@@ -20,6 +20,8 @@
 
 package org.acumos.cds.repository;
 
+import java.time.Instant;
+
 import javax.transaction.Transactional;
 
 import org.acumos.cds.domain.MLPSolution;
@@ -53,38 +55,35 @@ public interface SolutionRepository extends JpaRepository<MLPSolution, String>,
 	void incrementViewCount(@Param("solutionId") String solutionId);
 
 	/**
-	 * Updates the solution download count. Needed because updates are blocked on
-	 * this field in the entity.
+	 * Adds to the solution view count, with special handling for the first time.
+	 * Used to write buffered views; needed because updates are blocked on this
+	 * field in the entity.
 	 * 
 	 * @param solutionId
 	 *                       Solution ID
+	 * @param views
+	 *                       Number of views to add
 	 */
 	@Modifying
 	@Transactional
-	@Query(value = "UPDATE MLPSolution s SET s.downloadCount = "//
-			+ " (SELECT COUNT(solutionId) FROM MLPSolutionDownload WHERE solutionId = :solutionId) " //
+	@Query(value = "UPDATE MLPSolution s SET s.viewCount = "//
+			+ " CASE WHEN s.viewCount is null THEN :views ELSE (s.viewCount + :views) END" //
 			+ " WHERE s.solutionId = :solutionId")
-	void updateDownloadCount(@Param("solutionId") String solutionId);
+	void addViewCount(@Param("solutionId") String solutionId, @Param("views") long views);
 
 	/**
-	 * Updates the solution rating statistics.
+	 * Sets the solution modified time. Used when a change to a mapped row, such as
+	 * a tag, alters the solution without touching the solution row.
 	 * 
 	 * @param solutionId
-	 *                                Solution ID
-	 * @param ratingAverageTenths
-	 *                                Average in tenths; for example an average
-	 *                                value of 3.5 should be sent as 35L; null is
-	 *                                acceptable
-	 * @param ratingCount
-	 *                                Count of ratings; null is acceptable
+	 *                       Solution ID
+	 * @param modified
+	 *                       Modified time
 	 */
 	@Modifying
 	@Transactional
-	@Query(value = "UPDATE MLPSolution s SET s.ratingCount = :ratingCount, "//
-			+ " s.ratingAverageTenths = :ratingAverageTenths "//
-			+ " WHERE s.solutionId = :solutionId")
-	void updateRating(@Param("solutionId") String solutionId, @Param("ratingAverageTenths") Long ratingAverageTenths,
-			@Param("ratingCount") Long ratingCount);
+	@Query(value = "UPDATE MLPSolution s SET s.modified = :modified WHERE s.solutionId = :solutionId")
+	void updateModified(@Param("solutionId") String solutionId, @Param("modified") Instant modified);
 
 	/**
 	 * Finds solutions using a LIKE query on the text column NAME.
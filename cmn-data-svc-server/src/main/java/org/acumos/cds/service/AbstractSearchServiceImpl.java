@@ -23,13 +23,31 @@
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 import javax.persistence.EntityManager;
+import javax.persistence.Tuple;
+import javax.persistence.TypedQuery;
+import javax.persistence.criteria.CommonAbstractCriteria;
 import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
+import javax.persistence.metamodel.EntityType;
+import javax.persistence.metamodel.SingularAttribute;
 
+import org.acumos.cds.CountMode;
 import org.acumos.cds.domain.MLPDomainModel;
+import org.acumos.cds.transport.RestPageResponse;
+import org.acumos.cds.util.KeysetCursor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 
 /**
@@ -40,6 +58,9 @@ public abstract class AbstractSearchServiceImpl {
 	@Autowired
 	protected EntityManager entityManager;
 
+	@Value("${cds.search.count.estimate-pages:10}")
+	private int estimatePages;
+
 	/**
 	 * Builds a list of sort orders suitable for supplying to the orderBy clause of
 	 * a query.
@@ -65,4 +86,241 @@ protected List<javax.persistence.criteria.Order> buildOrderList(CriteriaBuilder
 		}
 		return jpaOrderList;
 	}
+
+	/**
+	 * Gets one page of entities that match a predicate. The total count of
+	 * elements is computed as requested by the count mode. In exact mode a count
+	 * query runs before the page is fetched. In none mode no count query runs; one extra row is fetched to
+	 * learn whether another page follows. In estimate mode a query fetches only
+	 * the IDs of a bounded number of rows starting at the page offset.
+	 * 
+	 * @param <T>
+	 *                             Entity type
+	 * @param entityClass
+	 *                             Entity class
+	 * @param predicateBuilder
+	 *                             Builds the where-clause predicate for the
+	 *                             specified root. Invoked once per query because
+	 *                             JPA criteria objects cannot be shared.
+	 * @param distinct
+	 *                             If true, coalesce duplicate rows due to joins
+	 * @param pageable
+	 *                             Page and sort criteria
+	 * @param countMode
+	 *                             How to compute the total count of elements
+	 * @return Page of entities
+	 */
+	protected <T extends MLPDomainModel> Page<T> findPage(Class<T> entityClass,
+			Function<Root<T>, Predicate> predicateBuilder, boolean distinct, Pageable pageable, CountMode countMode) {
+		return findPage(entityClass, (query, from) -> predicateBuilder.apply(from), distinct, pageable, countMode);
+	}
+
+	/**
+	 * Gets one page of entities that match a predicate that may use subqueries.
+	 * Otherwise the same as
+	 * {@link #findPage(Class, Function, boolean, Pageable, CountMode)}.
+	 * 
+	 * @param <T>
+	 *                             Entity type
+	 * @param entityClass
+	 *                             Entity class
+	 * @param predicateBuilder
+	 *                             Builds the where-clause predicate for the
+	 *                             specified query and root; the query is needed to
+	 *                             create subqueries.
+	 * @param distinct
+	 *                             If true, coalesce duplicate rows due to joins
+	 * @param pageable
+	 *                             Page and sort criteria
+	 * @param countMode
+	 *                             How to compute the total count of elements
+	 * @return Page of entities
+	 */
+	protected <T extends MLPDomainModel> Page<T> findPage(Class<T> entityClass,
+			BiFunction<CommonAbstractCriteria, Root<T>, Predicate> predicateBuilder, boolean distinct,
+			Pageable pageable, CountMode countMode) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+		long count = 0;
+		if (countMode == CountMode.EXACT) {
+			CriteriaQuery<Long> countQueryDef = cb.createQuery(Long.class);
+			countQueryDef.distinct(distinct);
+			Root<T> countFrom = countQueryDef.from(entityClass);
+			countQueryDef.select(cb.count(countFrom));
+			countQueryDef.where(predicateBuilder.apply(countQueryDef, countFrom));
+			count = entityManager.createQuery(countQueryDef).getSingleResult();
+			if (count == 0)
+				return new PageImpl<>(new ArrayList<>(), pageable, count);
+		} else if (countMode == CountMode.ESTIMATE) {
+			EntityType<T> entityType = entityManager.getMetamodel().entity(entityClass);
+			SingularAttribute<? super T, ?> idAttribute = entityType.getId(entityType.getIdType().getJavaType());
+			CriteriaQuery<Object> idQueryDef = cb.createQuery(Object.class);
+			idQueryDef.distinct(distinct);
+			Root<T> idFrom = idQueryDef.from(entityClass);
+			idQueryDef.select(idFrom.get(idAttribute));
+			idQueryDef.where(predicateBuilder.apply(idQueryDef, idFrom));
+			TypedQuery<Object> idQuery = entityManager.createQuery(idQueryDef);
+			idQuery.setFirstResult((int) pageable.getOffset());
+			idQuery.setMaxResults(getEstimateLimit(pageable));
+			count = idQuery.getResultList().size();
+			if (count == 0)
+				return buildUncountedPage(new ArrayList<>(), pageable, countMode, 0);
+		}
+
+		CriteriaQuery<T> rootQueryDef = cb.createQuery(entityClass);
+		rootQueryDef.distinct(distinct);
+		Root<T> fromRoot = rootQueryDef.from(entityClass);
+		rootQueryDef.select(fromRoot);
+		rootQueryDef.where(predicateBuilder.apply(rootQueryDef, fromRoot));
+		if (pageable.getSort() != null && !pageable.getSort().isEmpty())
+			rootQueryDef.orderBy(buildOrderList(cb, fromRoot, pageable.getSort()));
+		TypedQuery<T> itemQuery = entityManager.createQuery(rootQueryDef);
+		itemQuery.setFirstResult((int) pageable.getOffset());
+		itemQuery.setMaxResults(pageable.getPageSize() + (countMode == CountMode.NONE ? 1 : 0));
+		List<T> queryResult = itemQuery.getResultList();
+		if (countMode == CountMode.EXACT)
+			return new PageImpl<>(queryResult, pageable, count);
+		if (countMode == CountMode.NONE)
+			count = queryResult.size();
+		return buildUncountedPage(queryResult, pageable, countMode, (int) count);
+	}
+
+	/**
+	 * Gets the maximum number of rows to examine when estimating a total count.
+	 * 
+	 * @param pageable
+	 *                     Page criteria
+	 * @return Configured number of pages times the page size, but always more
+	 *         than one page
+	 */
+	protected int getEstimateLimit(Pageable pageable) {
+		return Math.max(pageable.getPageSize() + 1, pageable.getPageSize() * estimatePages);
+	}
+
+	/**
+	 * Builds a page whose total count was not computed exactly.
+	 * 
+	 * @param <T>
+	 *                       Element type
+	 * @param items
+	 *                       Elements starting at the page offset, possibly more
+	 *                       than one page; the excess is discarded
+	 * @param pageable
+	 *                       Page and sort criteria
+	 * @param countMode
+	 *                       Count mode to report
+	 * @param rowsAhead
+	 *                       Number of rows found starting at the page offset
+	 * @return Page with a total of offset plus rows found, and with the has-next
+	 *         flag set if more rows were found than fit on the page
+	 */
+	protected <T> RestPageResponse<T> buildUncountedPage(List<T> items, Pageable pageable, CountMode countMode,
+			int rowsAhead) {
+		boolean hasNext = rowsAhead > pageable.getPageSize();
+		if (items.size() > pageable.getPageSize())
+			items = new ArrayList<>(items.subList(0, pageable.getPageSize()));
+		RestPageResponse<T> page = new RestPageResponse<>(items, pageable, pageable.getOffset() + rowsAhead);
+		page.setSort(pageable.getSort());
+		page.setCountMode(countMode);
+		page.setHasNext(hasNext);
+		return page;
+	}
+
+	/**
+	 * Gets one page of entities using keyset pagination, also known as the seek
+	 * method. Instead of making the database skip and discard the rows on all
+	 * previous pages, the query restricts the result to rows that sort after the
+	 * last row of the previous page, as identified by the continuation token. The
+	 * cost of a page therefore does not depend on its depth. No count query is
+	 * run; the total in the result only shows whether another page follows.
+	 * 
+	 * @param <T>
+	 *                         Entity type
+	 * @param entityClass
+	 *                         Entity class; must have a single ID attribute of
+	 *                         type String
+	 * @param continuation
+	 *                         Token from the previous page; null or empty to get
+	 *                         the first page
+	 * @param pageable
+	 *                         Page size and sort criteria. The page number is
+	 *                         ignored. At most one sort property is accepted,
+	 *                         which must be a mandatory String, Instant or number
+	 *                         attribute; ID is used if none is specified. The sort
+	 *                         is ignored if a continuation token is supplied.
+	 * @return Page of entities with a continuation token if more are available
+	 * @throws IllegalArgumentException
+	 *                                      If the token or sort criteria cannot be
+	 *                                      used
+	 */
+	protected <T> RestPageResponse<T> findPageAfterCursor(Class<T> entityClass, String continuation,
+			Pageable pageable) {
+		EntityType<T> entityType = entityManager.getMetamodel().entity(entityClass);
+		SingularAttribute<? super T, String> idAttribute = entityType.getId(String.class);
+		KeysetCursor cursor;
+		if (continuation != null && !continuation.isEmpty()) {
+			cursor = KeysetCursor.decode(continuation);
+			if (!entityType.getName().equals(cursor.getEntityName()))
+				throw new IllegalArgumentException("Continuation token is for a different entity type");
+		} else {
+			List<Sort.Order> sortOrders = new ArrayList<>();
+			pageable.getSort().forEach(sortOrders::add);
+			if (sortOrders.size() > 1)
+				throw new IllegalArgumentException("Cursor mode supports at most one sort property");
+			Sort.Order sortOrder = sortOrders.isEmpty() ? Sort.Order.asc(idAttribute.getName()) : sortOrders.get(0);
+			cursor = new KeysetCursor(entityType.getName(), sortOrder.getProperty(), sortOrder.isAscending(), null,
+					null);
+		}
+		SingularAttribute<? super T, ?> sortAttribute = entityType.getSingularAttribute(cursor.getProperty());
+		boolean sortById = sortAttribute.getName().equals(idAttribute.getName());
+		if (!sortById && (sortAttribute.isOptional() || !KeysetCursor.isSupportedType(sortAttribute.getJavaType())))
+			throw new IllegalArgumentException("Cursor mode cannot sort on property " + cursor.getProperty());
+
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Tuple> queryDef = cb.createTupleQuery();
+		Root<T> from = queryDef.from(entityClass);
+		Path<String> idPath = from.get(idAttribute);
+		Path<?> sortPath = from.get(sortAttribute);
+		queryDef.multiselect(from, sortPath, idPath);
+		if (cursor.getLastId() != null) {
+			// Emulates the row-value comparison (sortKey, id) > (:lastValue, :lastId)
+			Predicate idAfter = seekPredicate(cb, idPath, cursor.getLastId(), cursor.isAscending());
+			if (sortById) {
+				queryDef.where(idAfter);
+			} else {
+				Comparable<?> lastValue = cursor.getLastValue(sortAttribute.getJavaType());
+				queryDef.where(cb.or(seekPredicate(cb, sortPath, lastValue, cursor.isAscending()),
+						cb.and(cb.equal(sortPath, lastValue), idAfter)));
+			}
+		}
+		List<javax.persistence.criteria.Order> orders = new ArrayList<>();
+		orders.add(cursor.isAscending() ? cb.asc(sortPath) : cb.desc(sortPath));
+		if (!sortById)
+			orders.add(cursor.isAscending() ? cb.asc(idPath) : cb.desc(idPath));
+		queryDef.orderBy(orders);
+		// Fetch one extra row to learn whether another page follows
+		List<Tuple> rows = entityManager.createQuery(queryDef).setMaxResults(pageable.getPageSize() + 1)
+				.getResultList();
+		boolean hasNext = rows.size() > pageable.getPageSize();
+		if (hasNext)
+			rows = rows.subList(0, pageable.getPageSize());
+		List<T> items = new ArrayList<>();
+		for (Tuple t : rows)
+			items.add(entityClass.cast(t.get(0)));
+
+		Sort sort = Sort.by(cursor.isAscending() ? Sort.Direction.ASC : Sort.Direction.DESC, cursor.getProperty());
+		RestPageResponse<T> page = new RestPageResponse<>(items, PageRequest.of(0, pageable.getPageSize(), sort),
+				items.size() + (hasNext ? 1 : 0));
+		page.setSort(sort);
+		if (hasNext) {
+			Tuple last = rows.get(rows.size() - 1);
+			page.setContinuation(cursor.next(last.get(1), last.get(2, String.class)).encode());
+		}
+		return page;
+	}
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private static Predicate seekPredicate(CriteriaBuilder cb, Path path, Comparable value, boolean ascending) {
+		return ascending ? cb.greaterThan(path, value) : cb.lessThan(path, value);
+	}
 }
@@ -20,7 +20,9 @@
 
 package org.acumos.cds.service;
 
+import org.acumos.cds.CountMode;
 import org.acumos.cds.domain.MLPArtifact;
+import org.acumos.cds.transport.RestPageResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -45,9 +47,25 @@ public interface ArtifactSearchService {
 	 *                             otherwise the query is a conjunction ("and").
 	 * @param pageable
 	 *                             Page and sort criteria
+	 * @param countMode
+	 *                             How to compute the total count of elements
 	 * @return Page of instances, which may be empty.
 	 */
 	Page<MLPArtifact> findArtifacts(String artifactTypeCode, String name, String uri, String version, String userId,
-			boolean isOr, Pageable pageable);
+			boolean isOr, Pageable pageable, CountMode countMode);
+
+	/**
+	 * Gets a page of artifacts using keyset pagination.
+	 * 
+	 * @param continuation
+	 *                         Token from the previous page; null or empty to get
+	 *                         the first page
+	 * @param pageable
+	 *                         Page size and at most one sort criterion
+	 * @return Page of instances with a continuation token if more are available
+	 * @see org.acumos.cds.client.ICommonDataServiceRestClient#getArtifactsByCursor(String,
+	 *      org.acumos.cds.transport.RestPageRequest)
+	 */
+	RestPageResponse<MLPArtifact> findArtifactsAfterCursor(String continuation, Pageable pageable);
 
 }
@@ -24,18 +24,17 @@
 import java.util.ArrayList;
 import java.util.List;
 
-import javax.persistence.TypedQuery;
 import javax.persistence.criteria.CriteriaBuilder;
-import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
 
+import org.acumos.cds.CountMode;
 import org.acumos.cds.domain.MLPArtifact;
 import org.acumos.cds.domain.MLPArtifact_;
+import org.acumos.cds.transport.RestPageResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -79,38 +78,17 @@ private Predicate createArtifactPredicate(Root<MLPArtifact> from, String artifac
 	 */
 	@Override
 	public Page<MLPArtifact> findArtifacts(String artifactTypeCode, String name, String uri, String version,
-			String userId, boolean isOr, Pageable pageable) {
+			String userId, boolean isOr, Pageable pageable, CountMode countMode) {
 
-		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
-
-		// Count rows available
-		CriteriaQuery<Long> countQueryDef = cb.createQuery(Long.class);
-		countQueryDef.distinct(true);
-		Root<MLPArtifact> countFrom = countQueryDef.from(MLPArtifact.class);
-		countQueryDef.select(cb.count(countFrom));
-		countQueryDef.where(createArtifactPredicate(countFrom, artifactTypeCode, name, uri, version, userId, isOr));
-		TypedQuery<Long> countQuery = entityManager.createQuery(countQueryDef);
-		Long count = countQuery.getSingleResult();
-		logger.debug("findArtifacts: count {}", count);
-		if (count == 0)
-			return new PageImpl<>(new ArrayList<>(), pageable, count);
-
-		// Get one page of rows
-		CriteriaQuery<MLPArtifact> rootQueryDef = cb.createQuery(MLPArtifact.class);
-		// Coalesce any duplicates due to joins
-		rootQueryDef.distinct(true);
-		Root<MLPArtifact> fromRoot = rootQueryDef.from(MLPArtifact.class);
-		rootQueryDef.select(fromRoot);
-		rootQueryDef.where(createArtifactPredicate(fromRoot, artifactTypeCode, name, uri, version, userId, isOr));
-		if (pageable.getSort() != null && !pageable.getSort().isEmpty())
-			rootQueryDef.orderBy(buildOrderList(cb, fromRoot, pageable.getSort()));
-		TypedQuery<MLPArtifact> itemQuery = entityManager.createQuery(rootQueryDef);
-		itemQuery.setFirstResult(pageable.getPageNumber() * pageable.getPageSize());
-		itemQuery.setMaxResults(pageable.getPageSize());
-		List<MLPArtifact> queryResult = itemQuery.getResultList();
-		logger.debug("findArtifacts: result size {}", queryResult.size());
+		return findPage(MLPArtifact.class, from -> createArtifactPredicate(from, artifactTypeCode, name, uri, version,
+				userId, isOr), true, pageable, countMode);
+	}
 
-		return new PageImpl<>(queryResult, pageable, count);
+	@Override
+	public RestPageResponse<MLPArtifact> findArtifactsAfterCursor(String continuation, Pageable pageable) {
+		RestPageResponse<MLPArtifact> result = findPageAfterCursor(MLPArtifact.class, continuation, pageable);
+		logger.debug("findArtifactsAfterCursor: result size {}", result.getNumberOfElements());
+		return result;
 	}
 
 }
@@ -0,0 +1,138 @@
+/*-
+ * ===============LICENSE_START=======================================================
+ * Acumos
+ * ===================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property & Tech Mahindra. All rights reserved.
+ * ===================================================================================
+ * This Acumos software file is distributed by AT&T and Tech Mahindra
+ * under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ===============LICENSE_END=========================================================
+ */
+
+package org.acumos.cds.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Blob;
+import java.sql.SQLException;
+
+/**
+ * Reads and writes large binary columns as JDBC streams, so that pictures and
+ * site content pass between the database and the HTTP connection without
+ * being held whole in memory. Writes bypass Hibernate and set the modified
+ * time directly.
+ */
+public interface BlobStreamService {
+
+	/**
+	 * Receives a binary value while the connection that read it is open.
+	 */
+	@FunctionalInterface
+	interface BlobHandler {
+
+		/**
+		 * @param blob
+		 *                     Binary value; null if the column is null
+		 * @param mimeType
+		 *                     Media type stored with the value; null if none
+		 * @throws IOException
+		 *                          On failure to write the value
+		 * @throws SQLException
+		 *                          On failure to read the value
+		 */
+		void handle(Blob blob, String mimeType) throws IOException, SQLException;
+	}
+
+	/**
+	 * Passes the picture of a solution to the handler.
+	 * 
+	 * @param solutionId
+	 *                       Solution ID
+	 * @param handler
+	 *                       Receives the picture
+	 * @return False if the solution was not found, otherwise true.
+	 * @throws IOException
+	 *                         If the handler fails to write the value
+	 */
+	boolean readSolutionPicture(String solutionId, BlobHandler handler) throws IOException;
+
+	/**
+	 * Replaces the picture of a solution.
+	 * 
+	 * @param solutionId
+	 *                       Solution ID
+	 * @param picture
+	 *                       Stream with the new picture; null to remove it
+	 * @param length
+	 *                       Number of bytes to read from the stream; negative to
+	 *                       read to the end
+	 * @return False if the solution was not found, otherwise true.
+	 */
+	boolean writeSolutionPicture(String solutionId, InputStream picture, long length);
+
+	/**
+	 * Passes the picture of a user to the handler.
+	 * 
+	 * @param userId
+	 *                    User ID
+	 * @param handler
+	 *                    Receives the picture
+	 * @return False if the user was not found, otherwise true.
+	 * @throws IOException
+	 *                         If the handler fails to write the value
+	 */
+	boolean readUserPicture(String userId, BlobHandler handler) throws IOException;
+
+	/**
+	 * Replaces the picture of a user.
+	 * 
+	 * @param userId
+	 *                    User ID
+	 * @param picture
+	 *                    Stream with the new picture; null to remove it
+	 * @param length
+	 *                    Number of bytes to read from the stream; negative to
+	 *                    read to the end
+	 * @return False if the user was not found, otherwise true.
+	 */
+	boolean writeUserPicture(String userId, InputStream picture, long length);
+
+	/**
+	 * Passes the value and media type of a site content entry to the handler.
+	 * 
+	 * @param contentKey
+	 *                       Content key
+	 * @param handler
+	 *                       Receives the value
+	 * @return False if the key was not found, otherwise true.
+	 * @throws IOException
+	 *                         If the handler fails to write the value
+	 */
+	boolean readSiteContent(String contentKey, BlobHandler handler) throws IOException;
+
+	/**
+	 * Creates a site content entry or replaces its value and media type.
+	 * 
+	 * @param contentKey
+	 *                       Content key
+	 * @param mimeType
+	 *                       Media type of the value
+	 * @param value
+	 *                       Stream with the value
+	 * @param length
+	 *                       Number of bytes to read from the stream; negative to
+	 *                       read to the end
+	 * @return True if the entry was created, false if it was replaced.
+	 */
+	boolean writeSiteContent(String contentKey, String mimeType, InputStream value, long length);
+
+}
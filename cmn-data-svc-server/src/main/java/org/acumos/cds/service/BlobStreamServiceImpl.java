@@ -0,0 +1,245 @@
+/*-
+ * ===============LICENSE_START=======================================================
+ * Acumos
+ * ===================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property & Tech Mahindra. All rights reserved.
+ * ===================================================================================
+ * This Acumos software file is distributed by AT&T and Tech Mahindra
+ * under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ===============LICENSE_END=========================================================
+ */
+
+package org.acumos.cds.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.sql.Blob;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+
+import javax.persistence.Cache;
+import javax.persistence.EntityManager;
+
+import org.acumos.cds.domain.MLPUser;
+import org.acumos.cds.domain.MLPUserSummary;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Runs plain JDBC statements on the connection of the current Hibernate
+ * session, so they join the Spring-managed transaction. Derby LOB locators are
+ * only valid until the transaction ends, so the handler runs inside it.
+ */
+@Service("blobStreamService")
+@Transactional
+public class BlobStreamServiceImpl implements BlobStreamService {
+
+	private static final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+	@Autowired
+	private EntityManager entityManager;
+	@Autowired
+	private SolutionChangeNotifier solutionChangeNotifier;
+
+	/**
+	 * Runs a query for one row with a LOB in the first column and optionally a
+	 * media type in the second, and passes them to the handler.
+	 */
+	private boolean read(String sql, String id, BlobHandler handler) throws IOException {
+		try {
+			return entityManager.unwrap(Session.class).doReturningWork(conn -> {
+				try (PreparedStatement ps = conn.prepareStatement(sql)) {
+					ps.setString(1, id);
+					try (ResultSet rs = ps.executeQuery()) {
+						if (!rs.next())
+							return false;
+						Blob blob = rs.getBlob(1);
+						String mimeType = rs.getMetaData().getColumnCount() > 1 ? rs.getString(2) : null;
+						try {
+							handler.handle(blob, mimeType);
+						} catch (IOException ex) {
+							throw new UncheckedIOException(ex);
+						} finally {
+							if (blob != null)
+								blob.free();
+						}
+						return true;
+					}
+				}
+			});
+		} catch (UncheckedIOException ex) {
+			throw ex.getCause();
+		}
+	}
+
+	/**
+	 * Runs an update with the stream as the first parameter, the modified time as
+	 * the second, and the ID as the third.
+	 * 
+	 * @return Number of rows updated
+	 */
+	private int write(String sql, InputStream in, long length, String id) {
+		return entityManager.unwrap(Session.class).doReturningWork(conn -> {
+			try (PreparedStatement ps = conn.prepareStatement(sql)) {
+				if (in == null)
+					ps.setNull(1, Types.BLOB);
+				else if (length < 0)
+					ps.setBinaryStream(1, in);
+				else
+					ps.setBinaryStream(1, in, length);
+				ps.setTimestamp(2, Timestamp.from(Instant.now()));
+				ps.setString(3, id);
+				return ps.executeUpdate();
+			}
+		});
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public boolean readSolutionPicture(String solutionId, BlobHandler handler) throws IOException {
+		return read("SELECT PICTURE FROM C_SOLUTION WHERE SOLUTION_ID = ?", solutionId, handler);
+	}
+
+	@Override
+	public boolean writeSolutionPicture(String solutionId, InputStream picture, long length) {
+		logger.debug("writeSolutionPicture: ID {} length {}", solutionId, length);
+		if (write("UPDATE C_SOLUTION SET PICTURE = ?, MODIFIED_DATE = ? WHERE SOLUTION_ID = ?", picture, length,
+				solutionId) == 0)
+			return false;
+		// Hibernate does not see the update; the search cache and index hold the
+		// modified time
+		solutionChangeNotifier.solutionChanged(entityManager, solutionId);
+		return true;
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public boolean readUserPicture(String userId, BlobHandler handler) throws IOException {
+		return read("SELECT PICTURE FROM C_USER WHERE USER_ID = ?", userId, handler);
+	}
+
+	@Override
+	public boolean writeUserPicture(String userId, InputStream picture, long length) {
+		logger.debug("writeUserPicture: ID {} length {}", userId, length);
+		if (write("UPDATE C_USER SET PICTURE = ?, MODIFIED_DATE = ? WHERE USER_ID = ?", picture, length,
+				userId) == 0)
+			return false;
+		// Hibernate does not see the update, so drop any cached copy that holds
+		// the old modified time
+		Cache cache = entityManager.getEntityManagerFactory().getCache();
+		cache.evict(MLPUser.class, userId);
+		cache.evict(MLPUserSummary.class, userId);
+		return true;
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public boolean readSiteContent(String contentKey, BlobHandler handler) throws IOException {
+		return read("SELECT CONTENT_VAL, MIME_TYPE FROM C_SITE_CONTENT WHERE CONTENT_KEY = ?", contentKey, handler);
+	}
+
+	/**
+	 * Sets the modified time of a site content entry, which also takes the row
+	 * lock.
+	 * 
+	 * @return Number of rows updated
+	 */
+	private static int touchSiteContent(Connection conn, String contentKey, Timestamp now) throws SQLException {
+		try (PreparedStatement ps = conn
+				.prepareStatement("UPDATE C_SITE_CONTENT SET MODIFIED_DATE = ? WHERE CONTENT_KEY = ?")) {
+			ps.setTimestamp(1, now);
+			ps.setString(2, contentKey);
+			return ps.executeUpdate();
+		}
+	}
+
+	/**
+	 * Locks the site content entry, or creates it with an empty value if it does
+	 * not exist. A writer that loses the race to create the entry rolls back its
+	 * insert and locks the winner's row instead, which waits for the winner to
+	 * commit. The existence check is a plain read, because a locking read of a
+	 * missing row takes a gap lock on which concurrent creators deadlock.
+	 * 
+	 * @return True if the entry was created
+	 */
+	private static boolean lockOrCreateSiteContent(Connection conn, String contentKey, String mimeType,
+			Timestamp now) throws SQLException {
+		boolean exists;
+		try (PreparedStatement ps = conn.prepareStatement("SELECT 1 FROM C_SITE_CONTENT WHERE CONTENT_KEY = ?")) {
+			ps.setString(1, contentKey);
+			try (ResultSet rs = ps.executeQuery()) {
+				exists = rs.next();
+			}
+		}
+		if (exists && touchSiteContent(conn, contentKey, now) > 0)
+			return false;
+		Savepoint savepoint = conn.setSavepoint();
+		try (PreparedStatement ps = conn.prepareStatement("INSERT INTO C_SITE_CONTENT "
+				+ "(CONTENT_KEY, CONTENT_VAL, MIME_TYPE, CREATED_DATE, MODIFIED_DATE) VALUES (?, ?, ?, ?, ?)")) {
+			ps.setString(1, contentKey);
+			ps.setBytes(2, new byte[0]);
+			ps.setString(3, mimeType);
+			ps.setTimestamp(4, now);
+			ps.setTimestamp(5, now);
+			ps.executeUpdate();
+			conn.releaseSavepoint(savepoint);
+			return true;
+		} catch (SQLException ex) {
+			// SQL state class 23 is an integrity constraint violation
+			if (ex.getSQLState() == null || !ex.getSQLState().startsWith("23"))
+				throw ex;
+			logger.debug("lockOrCreateSiteContent: key {} created concurrently", contentKey);
+			conn.rollback(savepoint);
+		}
+		if (touchSiteContent(conn, contentKey, now) == 0)
+			throw new IllegalStateException("Site content was deleted concurrently: " + contentKey);
+		return false;
+	}
+
+	@Override
+	public boolean writeSiteContent(String contentKey, String mimeType, InputStream value, long length) {
+		if (mimeType == null || value == null)
+			throw new IllegalArgumentException("Null not permitted");
+		logger.debug("writeSiteContent: key {} length {}", contentKey, length);
+		return entityManager.unwrap(Session.class).doReturningWork(conn -> {
+			Timestamp now = Timestamp.from(Instant.now());
+			// A stream can be read only once, so the row must exist and be locked
+			// before the statement that reads it
+			boolean created = lockOrCreateSiteContent(conn, contentKey, mimeType, now);
+			try (PreparedStatement ps = conn.prepareStatement("UPDATE C_SITE_CONTENT "
+					+ "SET CONTENT_VAL = ?, MIME_TYPE = ?, MODIFIED_DATE = ? WHERE CONTENT_KEY = ?")) {
+				if (length < 0)
+					ps.setBinaryStream(1, value);
+				else
+					ps.setBinaryStream(1, value, length);
+				ps.setString(2, mimeType);
+				ps.setTimestamp(3, now);
+				ps.setString(4, contentKey);
+				ps.executeUpdate();
+			}
+			return created;
+		});
+	}
+
+}
@@ -0,0 +1,41 @@
+/*-
+ * ===============LICENSE_START=======================================================
+ * Acumos
+ * ===================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property & Tech Mahindra. All rights reserved.
+ * ===================================================================================
+ * This Acumos software file is distributed by AT&T and Tech Mahindra
+ * under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ===============LICENSE_END=========================================================
+ */
+
+package org.acumos.cds.service;
+
+import java.util.List;
+
+import org.acumos.cds.transport.CacheStatsTransport;
+
+/**
+ * Reports on the Hibernate second-level cache, which holds read-mostly
+ * reference entities and the results of selected repository queries.
+ */
+public interface EntityCacheService {
+
+	/**
+	 * Gets usage statistics of every cache region plus a summary of the query
+	 * cache. Counts are zero if Hibernate statistics are disabled.
+	 * 
+	 * @return List of statistics, one per region, ordered by name
+	 */
+	List<CacheStatsTransport> getStats();
+
+}
@@ -0,0 +1,69 @@
+/*-
+ * ===============LICENSE_START=======================================================
+ * Acumos
+ * ===================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property & Tech Mahindra. All rights reserved.
+ * ===================================================================================
+ * This Acumos software file is distributed by AT&T and Tech Mahindra
+ * under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ===============LICENSE_END=========================================================
+ */
+
+package org.acumos.cds.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.acumos.cds.transport.CacheStatsTransport;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+@Service("entityCacheService")
+public class EntityCacheServiceImpl implements EntityCacheService {
+
+	/** Name of the entry that sums all query cache regions */
+	public static final String QUERY_CACHE_NAME = "query-cache";
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Override
+	public List<CacheStatsTransport> getStats() {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		List<CacheStatsTransport> result = new ArrayList<>();
+		String[] regionNames = statistics.getSecondLevelCacheRegionNames();
+		Arrays.sort(regionNames);
+		for (String regionName : regionNames) {
+			CacheRegionStatistics region = statistics.getCacheRegionStatistics(regionName);
+			if (region == null)
+				continue;
+			CacheStatsTransport stats = new CacheStatsTransport(regionName);
+			stats.setHitCount(region.getHitCount());
+			stats.setMissCount(region.getMissCount());
+			// Not every provider counts entries
+			stats.setSize(Math.max(0, region.getElementCountInMemory()));
+			result.add(stats);
+		}
+		CacheStatsTransport queries = new CacheStatsTransport(QUERY_CACHE_NAME);
+		queries.setHitCount(statistics.getQueryCacheHitCount());
+		queries.setMissCount(statistics.getQueryCacheMissCount());
+		result.add(queries);
+		return result;
+	}
+
+}
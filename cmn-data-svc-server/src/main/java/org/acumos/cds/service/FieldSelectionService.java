@@ -0,0 +1,57 @@
+/*-
+ * ===============LICENSE_START=======================================================
+ * Acumos
+ * ===================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property & Tech Mahindra. All rights reserved.
+ * ===================================================================================
+ * This Acumos software file is distributed by AT&T and Tech Mahindra
+ * under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ===============LICENSE_END=========================================================
+ */
+
+package org.acumos.cds.service;
+
+import java.util.Map;
+
+import org.acumos.cds.domain.MLPDomainModel;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Reads pages of entities limited to the fields a client names, so that list
+ * views select and send only the columns they show.
+ */
+public interface FieldSelectionService {
+
+	/**
+	 * Gets a page of entities as maps of the specified fields. The ID is always
+	 * included. A simple field is selected as a column of the page query; a
+	 * collection field such as solution tags is read for the whole page with one
+	 * more query. Binary fields cannot be selected.
+	 * 
+	 * @param entityClass
+	 *                        Entity class
+	 * @param fields
+	 *                        Names of entity fields
+	 * @param pageable
+	 *                        Page and sort criteria
+	 * @param <T>
+	 *                        Entity type
+	 * @return Page of maps from field name to value, ID first
+	 * @throws IllegalArgumentException
+	 *                                      if a name is not a field of the entity
+	 *                                      or names a binary field
+	 */
+	<T extends MLPDomainModel> Page<Map<String, Object>> findAll(Class<T> entityClass, String[] fields,
+			Pageable pageable);
+
+}
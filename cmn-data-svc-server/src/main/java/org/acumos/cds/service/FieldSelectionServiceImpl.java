@@ -0,0 +1,121 @@
+/*-
+ * ===============LICENSE_START=======================================================
+ * Acumos
+ * ===================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property & Tech Mahindra. All rights reserved.
+ * ===================================================================================
+ * This Acumos software file is distributed by AT&T and Tech Mahindra
+ * under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ===============LICENSE_END=========================================================
+ */
+
+package org.acumos.cds.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.persistence.Tuple;
+import javax.persistence.TypedQuery;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Selection;
+import javax.persistence.metamodel.Attribute;
+import javax.persistence.metamodel.EntityType;
+import javax.persistence.metamodel.PluralAttribute;
+import javax.persistence.metamodel.SingularAttribute;
+
+import org.acumos.cds.domain.MLPDomainModel;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service("fieldSelectionService")
+@Transactional(readOnly = true)
+public class FieldSelectionServiceImpl extends AbstractSearchServiceImpl implements FieldSelectionService {
+
+	@Override
+	public <T extends MLPDomainModel> Page<Map<String, Object>> findAll(Class<T> entityClass, String[] fields,
+			Pageable pageable) {
+		EntityType<T> entityType = entityManager.getMetamodel().entity(entityClass);
+		SingularAttribute<? super T, ?> idAttribute = entityType.getId(entityType.getIdType().getJavaType());
+		Set<String> columns = new LinkedHashSet<>();
+		columns.add(idAttribute.getName());
+		List<PluralAttribute<? super T, ?, ?>> collections = new ArrayList<>();
+		for (String field : fields) {
+			Attribute<? super T, ?> attribute;
+			try {
+				attribute = entityType.getAttribute(field);
+			} catch (IllegalArgumentException ex) {
+				throw new IllegalArgumentException("Unexpected field " + field, ex);
+			}
+			if (attribute.getJavaType().isArray())
+				throw new IllegalArgumentException("Binary field " + field + " cannot be selected");
+			if (attribute instanceof PluralAttribute)
+				collections.add((PluralAttribute<? super T, ?, ?>) attribute);
+			else if (attribute.getPersistentAttributeType() == Attribute.PersistentAttributeType.BASIC)
+				columns.add(field);
+			else
+				throw new IllegalArgumentException("Unexpected field " + field);
+		}
+
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Long> countQueryDef = cb.createQuery(Long.class);
+		countQueryDef.select(cb.count(countQueryDef.from(entityClass)));
+		long count = entityManager.createQuery(countQueryDef).getSingleResult();
+		if (count == 0)
+			return new PageImpl<>(new ArrayList<>(), pageable, count);
+
+		CriteriaQuery<Tuple> rowQueryDef = cb.createTupleQuery();
+		Root<T> from = rowQueryDef.from(entityClass);
+		List<Selection<?>> selections = new ArrayList<>();
+		for (String column : columns)
+			selections.add(from.get(column).alias(column));
+		rowQueryDef.multiselect(selections);
+		if (pageable.getSort() != null && !pageable.getSort().isEmpty())
+			rowQueryDef.orderBy(buildOrderList(cb, from, pageable.getSort()));
+		TypedQuery<Tuple> rowQuery = entityManager.createQuery(rowQueryDef);
+		rowQuery.setFirstResult((int) pageable.getOffset());
+		rowQuery.setMaxResults(pageable.getPageSize());
+		Map<Object, Map<String, Object>> rows = new LinkedHashMap<>();
+		for (Tuple tuple : rowQuery.getResultList()) {
+			Map<String, Object> row = new LinkedHashMap<>();
+			for (String column : columns)
+				row.put(column, tuple.get(column));
+			rows.put(tuple.get(idAttribute.getName()), row);
+		}
+
+		for (PluralAttribute<? super T, ?, ?> collection : collections) {
+			for (Map<String, Object> row : rows.values())
+				row.put(collection.getName(), new ArrayList<>());
+			if (rows.isEmpty())
+				continue;
+			CriteriaQuery<Tuple> elementQueryDef = cb.createTupleQuery();
+			Root<T> owner = elementQueryDef.from(entityClass);
+			elementQueryDef.multiselect(owner.get(idAttribute), owner.join(collection.getName()));
+			elementQueryDef.where(owner.get(idAttribute).in(rows.keySet()));
+			for (Tuple tuple : entityManager.createQuery(elementQueryDef).getResultList()) {
+				@SuppressWarnings("unchecked")
+				List<Object> elements = (List<Object>) rows.get(tuple.get(0)).get(collection.getName());
+				elements.add(tuple.get(1));
+			}
+		}
+		return new PageImpl<>(new ArrayList<>(rows.values()), pageable, count);
+	}
+
+}
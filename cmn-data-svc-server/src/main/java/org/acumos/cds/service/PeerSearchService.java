@@ -20,6 +20,7 @@
 
 package org.acumos.cds.service;
 
+import org.acumos.cds.CountMode;
 import org.acumos.cds.domain.MLPPeer;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -49,9 +50,11 @@ public interface PeerSearchService {
 	 *                        the query is a conjunction ("and").
 	 * @param pageable
 	 *                        Page and sort criteria
+	 * @param countMode
+	 *                        How to compute the total count of elements
 	 * @return Page of instances, which may be empty.
 	 */
 	Page<MLPPeer> findPeers(String name, String subjectName, String apiUrl, String webUrl, String contact1,
-			String statusCode, Boolean self, boolean isOr, Pageable pageable);
+			String statusCode, Boolean self, boolean isOr, Pageable pageable, CountMode countMode);
 
 }
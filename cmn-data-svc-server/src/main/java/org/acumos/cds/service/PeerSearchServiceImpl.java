@@ -24,18 +24,16 @@
 import java.util.ArrayList;
 import java.util.List;
 
-import javax.persistence.TypedQuery;
 import javax.persistence.criteria.CriteriaBuilder;
-import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
 
+import org.acumos.cds.CountMode;
 import org.acumos.cds.domain.MLPPeer;
 import org.acumos.cds.domain.MLPPeer_;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -86,40 +84,10 @@ private Predicate createPeerPredicate(Root<MLPPeer> from, String name, String su
 	 */
 	@Override
 	public Page<MLPPeer> findPeers(String name, String subjectName, String apiUrl, String webUrl, String contact1,
-			String statusCode, Boolean self, boolean isOr, Pageable pageable) {
+			String statusCode, Boolean self, boolean isOr, Pageable pageable, CountMode countMode) {
 
-		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
-
-		// Count rows available
-		CriteriaQuery<Long> countQueryDef = cb.createQuery(Long.class);
-		countQueryDef.distinct(true);
-		Root<MLPPeer> countFrom = countQueryDef.from(MLPPeer.class);
-		countQueryDef.select(cb.count(countFrom));
-		countQueryDef.where(
-				createPeerPredicate(countFrom, name, subjectName, apiUrl, webUrl, contact1, statusCode, self, isOr));
-		TypedQuery<Long> countQuery = entityManager.createQuery(countQueryDef);
-		Long count = countQuery.getSingleResult();
-		logger.debug("findPeers: count {}", count);
-		if (count == 0)
-			return new PageImpl<>(new ArrayList<>(), pageable, count);
-
-		// Get one page of rows
-		CriteriaQuery<MLPPeer> rootQueryDef = cb.createQuery(MLPPeer.class);
-		// Coalesce any duplicates due to joins
-		rootQueryDef.distinct(true);
-		Root<MLPPeer> fromRoot = rootQueryDef.from(MLPPeer.class);
-		rootQueryDef.select(fromRoot);
-		rootQueryDef.where(
-				createPeerPredicate(countFrom, name, subjectName, apiUrl, webUrl, contact1, statusCode, self, isOr));
-		if (pageable.getSort() != null && !pageable.getSort().isEmpty())
-			rootQueryDef.orderBy(buildOrderList(cb, fromRoot, pageable.getSort()));
-		TypedQuery<MLPPeer> itemQuery = entityManager.createQuery(rootQueryDef);
-		itemQuery.setFirstResult(pageable.getPageNumber() * pageable.getPageSize());
-		itemQuery.setMaxResults(pageable.getPageSize());
-		List<MLPPeer> queryResult = itemQuery.getResultList();
-		logger.debug("findPeers: result size {}", queryResult.size());
-
-		return new PageImpl<>(queryResult, pageable, count);
+		return findPage(MLPPeer.class, from -> createPeerPredicate(from, name, subjectName, apiUrl, webUrl, contact1,
+				statusCode, self, isOr), true, pageable, countMode);
 	}
 
 }
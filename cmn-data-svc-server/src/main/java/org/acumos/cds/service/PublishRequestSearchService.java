@@ -20,6 +20,7 @@
 
 package org.acumos.cds.service;
 
+import org.acumos.cds.CountMode;
 import org.acumos.cds.domain.MLPPublishRequest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -45,9 +46,11 @@ public interface PublishRequestSearchService {
 	 *                          otherwise the query is a conjunction ("and").
 	 * @param pageable
 	 *                          Page and sort criteria
+	 * @param countMode
+	 *                          How to compute the total count of elements
 	 * @return Page of instances, which may be empty.
 	 */
 	Page<MLPPublishRequest> findPublishRequests(String solutionId, String revisionId, String requestUserId,
-			String reviewUserId, String statusCode, boolean isOr, Pageable pageable);
+			String reviewUserId, String statusCode, boolean isOr, Pageable pageable, CountMode countMode);
 
 }
@@ -24,18 +24,16 @@
 import java.util.ArrayList;
 import java.util.List;
 
-import javax.persistence.TypedQuery;
 import javax.persistence.criteria.CriteriaBuilder;
-import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
 
+import org.acumos.cds.CountMode;
 import org.acumos.cds.domain.MLPPublishRequest;
 import org.acumos.cds.domain.MLPPublishRequest_;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -84,40 +82,10 @@ private Predicate createPubReqPredicate(Root<MLPPublishRequest> from, String sol
 	 */
 	@Override
 	public Page<MLPPublishRequest> findPublishRequests(String solutionId, String revisionId, String requestUserId,
-			String reviewUserId, String statusCode, boolean isOr, Pageable pageable) {
+			String reviewUserId, String statusCode, boolean isOr, Pageable pageable, CountMode countMode) {
 
-		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
-
-		// Count rows available
-		CriteriaQuery<Long> countQueryDef = cb.createQuery(Long.class);
-		countQueryDef.distinct(true);
-		Root<MLPPublishRequest> countFrom = countQueryDef.from(MLPPublishRequest.class);
-		countQueryDef.select(cb.count(countFrom));
-		countQueryDef.where(createPubReqPredicate(countFrom, solutionId, revisionId, requestUserId, reviewUserId,
-				statusCode, isOr));
-		TypedQuery<Long> countQuery = entityManager.createQuery(countQueryDef);
-		Long count = countQuery.getSingleResult();
-		logger.debug("findPublishRequests: count {}", count);
-		if (count == 0)
-			return new PageImpl<>(new ArrayList<>(), pageable, count);
-
-		// Get one page of rows
-		CriteriaQuery<MLPPublishRequest> rootQueryDef = cb.createQuery(MLPPublishRequest.class);
-		// Coalesce any duplicates due to joins
-		rootQueryDef.distinct(true);
-		Root<MLPPublishRequest> fromRoot = rootQueryDef.from(MLPPublishRequest.class);
-		rootQueryDef.select(fromRoot);
-		rootQueryDef.where(createPubReqPredicate(countFrom, solutionId, revisionId, requestUserId, reviewUserId,
-				statusCode, isOr));
-		if (pageable.getSort() != null && !pageable.getSort().isEmpty())
-			rootQueryDef.orderBy(buildOrderList(cb, fromRoot, pageable.getSort()));
-		TypedQuery<MLPPublishRequest> itemQuery = entityManager.createQuery(rootQueryDef);
-		itemQuery.setFirstResult(pageable.getPageNumber() * pageable.getPageSize());
-		itemQuery.setMaxResults(pageable.getPageSize());
-		List<MLPPublishRequest> queryResult = itemQuery.getResultList();
-		logger.debug("findPublishRequests: result size {}", queryResult.size());
-
-		return new PageImpl<>(queryResult, pageable, count);
+		return findPage(MLPPublishRequest.class, from -> createPubReqPredicate(from, solutionId, revisionId,
+				requestUserId, reviewUserId, statusCode, isOr), true, pageable, countMode);
 	}
 
 }
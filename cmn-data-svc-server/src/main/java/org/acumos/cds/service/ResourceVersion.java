@@ -0,0 +1,74 @@
+/*-
+ * ===============LICENSE_START=======================================================
+ * Acumos
+ * ===================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property & Tech Mahindra. All rights reserved.
+ * ===================================================================================
+ * This Acumos software file is distributed by AT&T and Tech Mahindra
+ * under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ===============LICENSE_END=========================================================
+ */
+
+package org.acumos.cds.service;
+
+import java.time.Instant;
+import java.util.Objects;
+
+import org.springframework.util.DigestUtils;
+
+/**
+ * Validators for one resource: an entity tag that changes whenever the
+ * representation changes, and optionally the last-modified time. Used to
+ * answer conditional GET requests without loading the resource.
+ */
+public final class ResourceVersion {
+
+	private final String eTag;
+	private final Instant lastModified;
+
+	/**
+	 * Builds a version from the resource ID and the values that determine its
+	 * representation.
+	 * 
+	 * @param lastModified
+	 *                         Last-modified time; null if it does not account for
+	 *                         every change to the representation
+	 * @param id
+	 *                         Resource ID
+	 * @param parts
+	 *                         Values that change when the representation changes,
+	 *                         such as the modified time and counters; may
+	 *                         contain nulls
+	 */
+	public ResourceVersion(Instant lastModified, String id, Object... parts) {
+		StringBuilder sb = new StringBuilder(id);
+		for (Object part : parts)
+			sb.append('|').append(Objects.toString(part));
+		this.eTag = "\"" + DigestUtils.md5DigestAsHex(sb.toString().getBytes()) + "\"";
+		this.lastModified = lastModified;
+	}
+
+	/**
+	 * @return Strong entity tag in quotes
+	 */
+	public String getETag() {
+		return eTag;
+	}
+
+	/**
+	 * @return Last-modified time; null if only the entity tag can be used
+	 */
+	public Instant getLastModified() {
+		return lastModified;
+	}
+
+}
@@ -0,0 +1,85 @@
+/*-
+ * ===============LICENSE_START=======================================================
+ * Acumos
+ * ===================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property & Tech Mahindra. All rights reserved.
+ * ===================================================================================
+ * This Acumos software file is distributed by AT&T and Tech Mahindra
+ * under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ===============LICENSE_END=========================================================
+ */
+
+package org.acumos.cds.service;
+
+/**
+ * Computes validators for entities served by single-item GET endpoints. Each
+ * method reads only the scalar columns that determine the representation, never
+ * LOB columns, so a client with a current copy can be answered 304 Not
+ * Modified cheaply. No validators are offered for an entity modified within
+ * the configured settle interval.
+ */
+public interface ResourceVersionService {
+
+	/**
+	 * Gets the version of a solution. Besides the modified time, which tag
+	 * changes also advance, this accounts for the counters in the solution row
+	 * that bulk updates maintain and for views buffered in memory. No
+	 * last-modified time is offered because view counts are not timestamped.
+	 * 
+	 * @param solutionId
+	 *                       Solution ID
+	 * @return Version; null if the ID is not found or the entity changed too
+	 *         recently to be validated
+	 */
+	ResourceVersion getSolutionVersion(String solutionId);
+
+	/**
+	 * Gets the version of a solution picture.
+	 * 
+	 * @param solutionId
+	 *                       Solution ID
+	 * @return Version; null if the ID is not found or the entity changed too
+	 *         recently to be validated
+	 */
+	ResourceVersion getSolutionPictureVersion(String solutionId);
+
+	/**
+	 * Gets the version of a solution revision.
+	 * 
+	 * @param revisionId
+	 *                       Revision ID
+	 * @return Version; null if the ID is not found or the entity changed too
+	 *         recently to be validated
+	 */
+	ResourceVersion getSolutionRevisionVersion(String revisionId);
+
+	/**
+	 * Gets the version of a user picture.
+	 * 
+	 * @param userId
+	 *                   User ID
+	 * @return Version; null if the ID is not found or the entity changed too
+	 *         recently to be validated
+	 */
+	ResourceVersion getUserPictureVersion(String userId);
+
+	/**
+	 * Gets the version of a site content entry.
+	 * 
+	 * @param contentKey
+	 *                       Content key
+	 * @return Version; null if the key is not found or the entity changed too
+	 *         recently to be validated
+	 */
+	ResourceVersion getSiteContentVersion(String contentKey);
+
+}
@@ -0,0 +1,115 @@
+/*-
+ * ===============LICENSE_START=======================================================
+ * Acumos
+ * ===================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property & Tech Mahindra. All rights reserved.
+ * ===================================================================================
+ * This Acumos software file is distributed by AT&T and Tech Mahindra
+ * under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ===============LICENSE_END=========================================================
+ */
+
+package org.acumos.cds.service;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.persistence.EntityManager;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service("resourceVersionService")
+@Transactional(readOnly = true)
+public class ResourceVersionServiceImpl implements ResourceVersionService {
+
+	@Value("${cds.http.validator.settle-ms:2000}")
+	private long settleMillis;
+
+	@Autowired
+	private EntityManager entityManager;
+	@Autowired
+	private SolutionViewCountService solutionViewCountService;
+
+	/**
+	 * Modified times have a resolution of one second in MySQL, so an entity
+	 * modified very recently may change again without a new modified time.
+	 * Withholding validators until the time is safely in the past keeps clients
+	 * from caching a representation that cannot be told apart from the next one.
+	 * 
+	 * @return True if validators may be issued for an entity with this modified
+	 *         time
+	 */
+	private boolean isSettled(Instant modified) {
+		return modified != null && modified.isBefore(Instant.now().minusMillis(settleMillis));
+	}
+
+	/**
+	 * Runs a query for one row of scalar values.
+	 * 
+	 * @return The row; null if none was found
+	 */
+	private Object[] findRow(String jpql, String id) {
+		List<Object[]> rows = entityManager.createQuery(jpql, Object[].class).setParameter("id", id)
+				.setMaxResults(1).getResultList();
+		return rows.isEmpty() ? null : rows.get(0);
+	}
+
+	/**
+	 * Runs a query for the modified time of one row.
+	 * 
+	 * @return Version with the modified time as last-modified; null if no row was
+	 *         found or it was modified too recently
+	 */
+	private ResourceVersion findModified(String jpql, String id) {
+		List<Instant> rows = entityManager.createQuery(jpql, Instant.class).setParameter("id", id)
+				.setMaxResults(1).getResultList();
+		if (rows.isEmpty() || !isSettled(rows.get(0)))
+			return null;
+		return new ResourceVersion(rows.get(0), id, rows.get(0));
+	}
+
+	@Override
+	public ResourceVersion getSolutionVersion(String solutionId) {
+		Object[] row = findRow("SELECT s.modified, s.viewCount, s.downloadCount, s.lastDownload, s.ratingCount, " //
+				+ " s.ratingAverageTenths FROM MLPSolution s WHERE s.solutionId = :id", solutionId);
+		if (row == null || !isSettled((Instant) row[0]))
+			return null;
+		Object[] parts = Arrays.copyOf(row, row.length + 1);
+		parts[row.length] = solutionViewCountService.getPending(solutionId);
+		return new ResourceVersion(null, solutionId, parts);
+	}
+
+	@Override
+	public ResourceVersion getSolutionPictureVersion(String solutionId) {
+		return findModified("SELECT s.modified FROM MLPSolution s WHERE s.solutionId = :id", solutionId);
+	}
+
+	@Override
+	public ResourceVersion getSolutionRevisionVersion(String revisionId) {
+		return findModified("SELECT r.modified FROM MLPSolutionRevision r WHERE r.revisionId = :id", revisionId);
+	}
+
+	@Override
+	public ResourceVersion getUserPictureVersion(String userId) {
+		return findModified("SELECT u.modified FROM MLPUserSummary u WHERE u.userId = :id", userId);
+	}
+
+	@Override
+	public ResourceVersion getSiteContentVersion(String contentKey) {
+		return findModified("SELECT c.modified FROM MLPSiteContent c WHERE c.contentKey = :id", contentKey);
+	}
+
+}
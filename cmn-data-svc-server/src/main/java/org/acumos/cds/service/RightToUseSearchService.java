@@ -20,6 +20,7 @@
 
 package org.acumos.cds.service;
 
+import org.acumos.cds.CountMode;
 import org.acumos.cds.domain.MLPRightToUse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -39,8 +40,10 @@ public interface RightToUseSearchService {
 	 *                       the query is a conjunction ("and").
 	 * @param pageable
 	 *                       Page and sort criteria
+	 * @param countMode
+	 *                       How to compute the total count of elements
 	 * @return Page of instances, which may be empty.
 	 */
-	Page<MLPRightToUse> findRtus(String solutionId, Boolean site, boolean isOr, Pageable pageable);
+	Page<MLPRightToUse> findRtus(String solutionId, Boolean site, boolean isOr, Pageable pageable, CountMode countMode);
 
 }
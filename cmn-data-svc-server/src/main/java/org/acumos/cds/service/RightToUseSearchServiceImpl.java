@@ -24,18 +24,16 @@
 import java.util.ArrayList;
 import java.util.List;
 
-import javax.persistence.TypedQuery;
 import javax.persistence.criteria.CriteriaBuilder;
-import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
 
+import org.acumos.cds.CountMode;
 import org.acumos.cds.domain.MLPRightToUse;
 import org.acumos.cds.domain.MLPRightToUse_;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -74,37 +72,10 @@ private Predicate createRtuPredicate(Root<MLPRightToUse> from, String solutionId
 	 * Use JPA in Spring-Boot version 2.1
 	 */
 	@Override
-	public Page<MLPRightToUse> findRtus(String solutionId, Boolean site, boolean isOr, Pageable pageable) {
+	public Page<MLPRightToUse> findRtus(String solutionId, Boolean site, boolean isOr, Pageable pageable,
+			CountMode countMode) {
 
-		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
-
-		// Count rows available
-		CriteriaQuery<Long> countQueryDef = cb.createQuery(Long.class);
-		countQueryDef.distinct(true);
-		Root<MLPRightToUse> countFrom = countQueryDef.from(MLPRightToUse.class);
-		countQueryDef.select(cb.count(countFrom));
-		countQueryDef.where(createRtuPredicate(countFrom, solutionId, site, isOr));
-		TypedQuery<Long> countQuery = entityManager.createQuery(countQueryDef);
-		Long count = countQuery.getSingleResult();
-		logger.debug("findRtus: count {}", count);
-		if (count == 0)
-			return new PageImpl<>(new ArrayList<>(), pageable, count);
-
-		// Get one page of rows
-		CriteriaQuery<MLPRightToUse> rootQueryDef = cb.createQuery(MLPRightToUse.class);
-		// Coalesce any duplicates due to joins
-		rootQueryDef.distinct(true);
-		Root<MLPRightToUse> fromRoot = rootQueryDef.from(MLPRightToUse.class);
-		rootQueryDef.select(fromRoot);
-		rootQueryDef.where(createRtuPredicate(countFrom, solutionId, site, isOr));
-		if (pageable.getSort() != null && !pageable.getSort().isEmpty())
-			rootQueryDef.orderBy(buildOrderList(cb, fromRoot, pageable.getSort()));
-		TypedQuery<MLPRightToUse> itemQuery = entityManager.createQuery(rootQueryDef);
-		itemQuery.setFirstResult(pageable.getPageNumber() * pageable.getPageSize());
-		itemQuery.setMaxResults(pageable.getPageSize());
-		List<MLPRightToUse> queryResult = itemQuery.getResultList();
-		logger.debug("findRtus: result size {}", queryResult.size());
-
-		return new PageImpl<>(queryResult, pageable, count);
+		return findPage(MLPRightToUse.class, from -> createRtuPredicate(from, solutionId, site, isOr), true, pageable,
+				countMode);
 	}
 }
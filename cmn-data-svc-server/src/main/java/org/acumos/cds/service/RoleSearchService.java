@@ -20,6 +20,7 @@
 
 package org.acumos.cds.service;
 
+import org.acumos.cds.CountMode;
 import org.acumos.cds.domain.MLPRole;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -31,16 +32,18 @@ public interface RoleSearchService {
 	 * on the isOr parameter; case is ignored in all String matches.
 	 * 
 	 * @param name
-	 *                     Role name; ignored if null
+	 *                      Role name; ignored if null
 	 * @param active
-	 *                     Active flag; ignored if null
+	 *                      Active flag; ignored if null
 	 * @param isOr
-	 *                     If true, the query is a disjunction ("or"); otherwise the
-	 *                     query is a conjunction ("and").
+	 *                      If true, the query is a disjunction ("or"); otherwise the
+	 *                      query is a conjunction ("and").
 	 * @param pageable
-	 *                     Page and sort criteria
+	 *                      Page and sort criteria
+	 * @param countMode
+	 *                      How to compute the total count of elements
 	 * @return Page of instances, which may be empty.
 	 */
-	Page<MLPRole> findRoles(String name, Boolean active, boolean isOr, Pageable pageable);
+	Page<MLPRole> findRoles(String name, Boolean active, boolean isOr, Pageable pageable, CountMode countMode);
 
 }
@@ -24,18 +24,16 @@
 import java.util.ArrayList;
 import java.util.List;
 
-import javax.persistence.TypedQuery;
 import javax.persistence.criteria.CriteriaBuilder;
-import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
 
+import org.acumos.cds.CountMode;
 import org.acumos.cds.domain.MLPRole;
 import org.acumos.cds.domain.MLPRole_;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -74,37 +72,9 @@ private Predicate createRolePredicate(Root<MLPRole> from, String name, Boolean a
 	 * Use JPA in Spring-Boot version 2.1
 	 */
 	@Override
-	public Page<MLPRole> findRoles(String name, Boolean active, boolean isOr, Pageable pageable) {
+	public Page<MLPRole> findRoles(String name, Boolean active, boolean isOr, Pageable pageable, CountMode countMode) {
 
-		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
-
-		// Count rows available
-		CriteriaQuery<Long> countQueryDef = cb.createQuery(Long.class);
-		countQueryDef.distinct(true);
-		Root<MLPRole> countFrom = countQueryDef.from(MLPRole.class);
-		countQueryDef.select(cb.count(countFrom));
-		countQueryDef.where(createRolePredicate(countFrom, name, active, isOr));
-		TypedQuery<Long> countQuery = entityManager.createQuery(countQueryDef);
-		Long count = countQuery.getSingleResult();
-		logger.debug("findRoles: count {}", count);
-		if (count == 0)
-			return new PageImpl<>(new ArrayList<>(), pageable, count);
-
-		// Get one page of rows
-		CriteriaQuery<MLPRole> rootQueryDef = cb.createQuery(MLPRole.class);
-		// Coalesce any duplicates due to joins
-		rootQueryDef.distinct(true);
-		Root<MLPRole> fromRoot = rootQueryDef.from(MLPRole.class);
-		rootQueryDef.select(fromRoot);
-		rootQueryDef.where(createRolePredicate(countFrom, name, active, isOr));
-		if (pageable.getSort() != null && !pageable.getSort().isEmpty())
-			rootQueryDef.orderBy(buildOrderList(cb, fromRoot, pageable.getSort()));
-		TypedQuery<MLPRole> itemQuery = entityManager.createQuery(rootQueryDef);
-		itemQuery.setFirstResult(pageable.getPageNumber() * pageable.getPageSize());
-		itemQuery.setMaxResults(pageable.getPageSize());
-		List<MLPRole> queryResult = itemQuery.getResultList();
-		logger.debug("findRoles: result size {}", queryResult.size());
-
-		return new PageImpl<>(queryResult, pageable, count);
+		return findPage(MLPRole.class, from -> createRolePredicate(from, name, active, isOr), true, pageable,
+				countMode);
 	}
 }
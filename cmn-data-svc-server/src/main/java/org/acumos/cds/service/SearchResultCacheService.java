@@ -0,0 +1,116 @@
+/*-
+ * ===============LICENSE_START=======================================================
+ * Acumos
+ * ===================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property & Tech Mahindra. All rights reserved.
+ * ===================================================================================
+ * This Acumos software file is distributed by AT&T and Tech Mahindra
+ * under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ===============LICENSE_END=========================================================
+ */
+
+package org.acumos.cds.service;
+
+import java.util.function.Supplier;
+
+import org.acumos.cds.CountMode;
+import org.acumos.cds.transport.CacheStatsTransport;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Caches the results of solution searches, keyed by the search method, the
+ * normalized parameter values and the page request.
+ */
+public interface SearchResultCacheService {
+
+	/**
+	 * Tests whether a solution is in the result of a search.
+	 */
+	@FunctionalInterface
+	interface SolutionMatcher {
+
+		/**
+		 * @param solutionId
+		 *                       Solution ID
+		 * @param current
+		 *                       True to test the solution as it is now; false to
+		 *                       test it as it was before the change that is being
+		 *                       reported, if possible
+		 * @return True if the solution matches the conditions of the search
+		 */
+		boolean matches(String solutionId, boolean current);
+	}
+
+	/**
+	 * Answers the cached result of the search if present and current, otherwise
+	 * runs the search and caches the result. String arrays in the parameters are
+	 * treated as sets, so the order of their elements and the difference between
+	 * null and empty do not matter. Every change to any solution discards the
+	 * result.
+	 * 
+	 * @param <T>
+	 *                     Result type
+	 * @param method
+	 *                     Name of the search method
+	 * @param pageable
+	 *                     Page and sort info; null is permitted
+	 * @param countMode
+	 *                     How the search computes the total count of elements;
+	 *                     ignored if pageable is null
+	 * @param params
+	 *                     Search parameters; elements may be null
+	 * @param search
+	 *                     Runs the search
+	 * @return Search result
+	 */
+	<T> T get(String method, Pageable pageable, CountMode countMode, Object[] params, Supplier<T> search);
+
+	/**
+	 * Same as {@link #get(String, Pageable, CountMode, Object[], Supplier)}, but
+	 * a change to a solution discards the result only if the solution is in it,
+	 * or the matcher finds that the solution matches the search before or after
+	 * the change.
+	 * 
+	 * @param <T>
+	 *                     Result type
+	 * @param method
+	 *                     Name of the search method
+	 * @param pageable
+	 *                     Page and sort info; null is permitted
+	 * @param countMode
+	 *                     How the search computes the total count of elements;
+	 *                     ignored if pageable is null
+	 * @param params
+	 *                     Search parameters; elements may be null
+	 * @param matcher
+	 *                     Tests whether a solution matches the search; null
+	 *                     means any change may change the result
+	 * @param search
+	 *                     Runs the search
+	 * @return Search result
+	 */
+	<T> T get(String method, Pageable pageable, CountMode countMode, Object[] params, SolutionMatcher matcher,
+			Supplier<T> search);
+
+	/**
+	 * Discards all cached results.
+	 */
+	void invalidateAll();
+
+	/**
+	 * Gets usage statistics.
+	 * 
+	 * @return Statistics
+	 */
+	CacheStatsTransport getStats();
+
+}
@@ -0,0 +1,396 @@
+/*-
+ * ===============LICENSE_START=======================================================
+ * Acumos
+ * ===================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property & Tech Mahindra. All rights reserved.
+ * ===================================================================================
+ * This Acumos software file is distributed by AT&T and Tech Mahindra
+ * under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ===============LICENSE_END=========================================================
+ */
+
+package org.acumos.cds.service;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.acumos.cds.CountMode;
+import org.acumos.cds.domain.MLPSolution;
+import org.acumos.cds.transport.CacheStatsTransport;
+import org.acumos.cds.transport.FacetCountTransport;
+import org.acumos.cds.transport.RestPageResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+/**
+ * Keeps search results in memory in least-recently-used order, bounded by a
+ * total weight. A page of results weighs one more than the number of items in
+ * it, and a set of facet counts weighs one more than a tenth of the number of
+ * values, so the bound approximates the number of solutions held. Solutions
+ * are cached as copies, so no entity instance is shared between requests.
+ * 
+ * <P>
+ * Each entry records the IDs of the solutions in it. When
+ * {@link SolutionChangeNotifier} reports a committed change to a solution,
+ * every page and count of a search whose entries hold the solution, or whose
+ * matcher finds that the solution matched the search before the change, is
+ * discarded at once. Whether the solution matches a search after the change
+ * can only be known once the change is re-read, so that test is made by the
+ * next request for a cached result. Entries without a matcher are discarded by
+ * every change. A change to a revision description is applied to the solution
+ * that owns the revision in the solution index, or discards all entries if the
+ * owner is not known. A search that was running when a change committed does
+ * not store its result. Changes made by other instances of this server, and
+ * counts such as views and downloads that are updated in bulk, are not
+ * reported; entries expire after the configured maximum age to pick those up.
+ */
+@Service("searchResultCacheService")
+public class SearchResultCacheServiceImpl implements SearchResultCacheService, SolutionChangeListener {
+
+	private static final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+	/**
+	 * Total weight of all entries; zero disables the cache.
+	 */
+	@Value("${cds.search.cache.max-weight:10000}")
+	private long maxWeight;
+
+	@Value("${cds.search.cache.max-age-sec:60}")
+	private long maxAgeSec;
+
+	@Autowired
+	private SolutionIndexService solutionIndexService;
+
+	// These are guarded by this
+	private final Map<List<Object>, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+	private long weight = 0;
+	private long generation = 0;
+	// Changed solutions not yet tested against the matchers as they are now; the
+	// change count is the number of reports, the checked count the number tested
+	private final Set<String> uncheckedSolutionIds = new HashSet<>();
+	private long changeCount = 0;
+	private long checkedCount = 0;
+
+	// Serializes the requests that test changed solutions; not held by others
+	private final Object checkMutex = new Object();
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+	private final LongAdder invalidations = new LongAdder();
+
+	private static class Entry {
+		private final Object value;
+		private final int weight;
+		private final long expiresMillis;
+		// Key of the search without the page request, shared by all its pages
+		private final List<Object> searchKey;
+		private final Set<String> solutionIds;
+		private final SolutionMatcher matcher;
+
+		Entry(Object value, int weight, long expiresMillis, List<Object> searchKey, Set<String> solutionIds,
+				SolutionMatcher matcher) {
+			this.value = value;
+			this.weight = weight;
+			this.expiresMillis = expiresMillis;
+			this.searchKey = searchKey;
+			this.solutionIds = solutionIds;
+			this.matcher = matcher;
+		}
+	}
+
+	/*
+	 * Builds a key from the parameters. Arrays become sorted lists, or null if
+	 * empty. Pages are built differently for each count mode.
+	 */
+	private static List<Object> buildKey(String method, Pageable pageable, CountMode countMode, Object[] params) {
+		List<Object> key = new ArrayList<>();
+		key.add(method);
+		for (Object p : params) {
+			if (p instanceof String[]) {
+				String[] values = (String[]) p;
+				if (values.length == 0) {
+					key.add(null);
+				} else {
+					String[] sorted = values.clone();
+					Arrays.sort(sorted, Comparator.nullsFirst(Comparator.naturalOrder()));
+					key.add(Arrays.asList(sorted));
+				}
+			} else {
+				key.add(p);
+			}
+		}
+		if (pageable != null && pageable.isPaged()) {
+			key.add(pageable.getPageNumber());
+			key.add(pageable.getPageSize());
+		}
+		if (pageable != null) {
+			key.add(pageable.getSort().toString());
+			key.add(countMode);
+		}
+		return key;
+	}
+
+	/*
+	 * Estimates the memory held by a result.
+	 */
+	private static int weigh(Object value) {
+		if (value instanceof Page)
+			return ((Page<?>) value).getNumberOfElements() + 1;
+		if (value instanceof FacetCountTransport) {
+			FacetCountTransport f = (FacetCountTransport) value;
+			return 1 + (f.getModelTypeCounts().size() + f.getToolkitTypeCounts().size()
+					+ f.getAccessTypeCounts().size() + f.getTagCounts().size() + f.getCatalogCounts().size()) / 10;
+		}
+		return 1;
+	}
+
+	/*
+	 * Gets the IDs of the solutions in a result.
+	 */
+	private static Set<String> getSolutionIds(Object value) {
+		if (!(value instanceof Page))
+			return Collections.emptySet();
+		Set<String> ids = new HashSet<>();
+		for (Object item : (Page<?>) value)
+			if (item instanceof MLPSolution)
+				ids.add(((MLPSolution) item).getSolutionId());
+		return ids;
+	}
+
+	/*
+	 * Copies a page of solutions, so the cache holds no instance that was read
+	 * in a session or that is handed to a caller. Other results are immutable
+	 * once built and are returned as they are.
+	 */
+	private static Object copySolutions(Object value) {
+		if (!(value instanceof Page))
+			return value;
+		Page<?> page = (Page<?>) value;
+		List<Object> content = new ArrayList<>();
+		for (Object item : page) {
+			if (!(item instanceof MLPSolution))
+				return value;
+			MLPSolution copy = new MLPSolution((MLPSolution) item);
+			copy.setTags(new HashSet<>(((MLPSolution) item).getTags()));
+			content.add(copy);
+		}
+		if (!(page instanceof RestPageResponse))
+			return new PageImpl<>(content, page.getPageable(), page.getTotalElements());
+		RestPageResponse<?> response = (RestPageResponse<?>) page;
+		RestPageResponse<Object> copy = new RestPageResponse<>(content, page.getPageable(), page.getTotalElements());
+		copy.setSort(response.getSort());
+		copy.setContinuation(response.getContinuation());
+		copy.setCountMode(response.getCountMode());
+		copy.setHasNext(response.hasNext());
+		return copy;
+	}
+
+	@Override
+	public <T> T get(String method, Pageable pageable, CountMode countMode, Object[] params, Supplier<T> search) {
+		return get(method, pageable, countMode, params, null, search);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T> T get(String method, Pageable pageable, CountMode countMode, Object[] params, SolutionMatcher matcher,
+			Supplier<T> search) {
+		if (maxWeight <= 0)
+			return search.get();
+		checkChanges();
+		List<Object> key = buildKey(method, pageable, countMode, params);
+		long startGeneration;
+		synchronized (this) {
+			Entry entry = entries.get(key);
+			if (entry != null && entry.expiresMillis > System.currentTimeMillis()) {
+				hits.increment();
+				return (T) copySolutions(entry.value);
+			}
+			if (entry != null) {
+				entries.remove(key);
+				weight -= entry.weight;
+			}
+			startGeneration = generation;
+		}
+		misses.increment();
+		// Search without holding the lock
+		T value = search.get();
+		int valueWeight = weigh(value);
+		Object copy = copySolutions(value);
+		synchronized (this) {
+			// Discard the result if a change committed during the search
+			if (startGeneration == generation && valueWeight <= maxWeight) {
+				Entry old = entries.put(key, new Entry(copy, valueWeight,
+						System.currentTimeMillis() + maxAgeSec * 1000, buildKey(method, null, null, params),
+						getSolutionIds(copy), matcher));
+				if (old != null)
+					weight -= old.weight;
+				weight += valueWeight;
+				Iterator<Entry> iter = entries.values().iterator();
+				while (weight > maxWeight && iter.hasNext()) {
+					weight -= iter.next().weight;
+					iter.remove();
+					evictions.increment();
+				}
+			}
+		}
+		return value;
+	}
+
+	/*
+	 * Answers whether the solution may be in the result of the entry; a matcher
+	 * that fails is taken to match.
+	 */
+	private static boolean mayMatch(Entry entry, String solutionId, boolean current) {
+		if (entry.matcher == null || entry.solutionIds.contains(solutionId))
+			return true;
+		try {
+			return entry.matcher.matches(solutionId, current);
+		} catch (RuntimeException ex) {
+			logger.warn("mayMatch: matcher failed: {}", ex.toString());
+			return true;
+		}
+	}
+
+	/*
+	 * Discards all pages and counts of the searches. Must hold the lock.
+	 */
+	private void discardSearches(Set<List<Object>> searchKeys) {
+		if (searchKeys.isEmpty())
+			return;
+		int discarded = 0;
+		Iterator<Entry> iter = entries.values().iterator();
+		while (iter.hasNext()) {
+			Entry entry = iter.next();
+			if (searchKeys.contains(entry.searchKey)) {
+				weight -= entry.weight;
+				iter.remove();
+				++discarded;
+			}
+		}
+		logger.debug("discardSearches: discarded {} entries of {} searches", discarded, searchKeys.size());
+	}
+
+	/*
+	 * Tests the solutions changed since the last test against the matchers of
+	 * the entries, with the solutions as they are now. The matchers may read the
+	 * database, so this runs without holding the lock; concurrent requests wait
+	 * for the test to finish, so none is answered with a result that a reported
+	 * change has made stale.
+	 */
+	private void checkChanges() {
+		long wanted;
+		synchronized (this) {
+			wanted = changeCount;
+			if (wanted <= checkedCount)
+				return;
+		}
+		synchronized (checkMutex) {
+			long target;
+			Set<String> solutionIds;
+			List<Entry> candidates = new ArrayList<>();
+			synchronized (this) {
+				if (checkedCount >= wanted)
+					return;
+				target = changeCount;
+				solutionIds = new HashSet<>(uncheckedSolutionIds);
+				uncheckedSolutionIds.clear();
+				for (Entry entry : entries.values())
+					if (entry.matcher != null)
+						candidates.add(entry);
+			}
+			Set<List<Object>> searchKeys = new HashSet<>();
+			for (Entry entry : candidates)
+				for (String solutionId : solutionIds)
+					if (!searchKeys.contains(entry.searchKey) && mayMatch(entry, solutionId, true))
+						searchKeys.add(entry.searchKey);
+			synchronized (this) {
+				discardSearches(searchKeys);
+				checkedCount = target;
+			}
+		}
+	}
+
+	@Override
+	public synchronized void invalidateAll() {
+		++generation;
+		invalidations.increment();
+		uncheckedSolutionIds.clear();
+		checkedCount = changeCount;
+		if (!entries.isEmpty()) {
+			logger.debug("invalidateAll: discarding {} entries", entries.size());
+			entries.clear();
+			weight = 0;
+		}
+	}
+
+	/*
+	 * Discards the searches that hold the solution or matched it before the
+	 * change, and queues the solution to be tested against the others once the
+	 * change can be read.
+	 */
+	@Override
+	public synchronized void solutionChanged(String solutionId) {
+		++generation;
+		invalidations.increment();
+		Set<List<Object>> searchKeys = new HashSet<>();
+		for (Entry entry : entries.values())
+			if (!searchKeys.contains(entry.searchKey) && mayMatch(entry, solutionId, false))
+				searchKeys.add(entry.searchKey);
+		discardSearches(searchKeys);
+		uncheckedSolutionIds.add(solutionId);
+		++changeCount;
+	}
+
+	@Override
+	public void revisionChanged(String revisionId) {
+		String solutionId = solutionIndexService.isEnabled() ? solutionIndexService.getRevisionSolutionId(revisionId)
+				: null;
+		if (solutionId == null)
+			invalidateAll();
+		else
+			solutionChanged(solutionId);
+	}
+
+	@Override
+	public CacheStatsTransport getStats() {
+		CacheStatsTransport stats = new CacheStatsTransport("solution-search");
+		stats.setHitCount(hits.sum());
+		stats.setMissCount(misses.sum());
+		stats.setEvictionCount(evictions.sum());
+		stats.setInvalidationCount(invalidations.sum());
+		stats.setMaxWeight(maxWeight);
+		synchronized (this) {
+			stats.setSize(entries.size());
+			stats.setWeight(weight);
+		}
+		return stats;
+	}
+
+}
@@ -0,0 +1,49 @@
+/*-
+ * ===============LICENSE_START=======================================================
+ * Acumos
+ * ===================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property & Tech Mahindra. All rights reserved.
+ * ===================================================================================
+ * This Acumos software file is distributed by AT&T and Tech Mahindra
+ * under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ===============LICENSE_END=========================================================
+ */
+
+package org.acumos.cds.service;
+
+/**
+ * Receives notice of committed changes to solutions and to the entities that
+ * searches use to find solutions. Spring beans that implement this interface
+ * are registered automatically by {@link SolutionChangeNotifier}. Methods are
+ * called after the transaction that made the change commits, on the thread that
+ * committed it, so implementations must be quick and thread safe.
+ */
+public interface SolutionChangeListener {
+
+	/**
+	 * Reports a change to a solution, or to a tag, catalog or user-access
+	 * mapping of the solution.
+	 * 
+	 * @param solutionId
+	 *                       Solution ID
+	 */
+	void solutionChanged(String solutionId);
+
+	/**
+	 * Reports a change to a revision or to one of its descriptions.
+	 * 
+	 * @param revisionId
+	 *                       Revision ID
+	 */
+	void revisionChanged(String revisionId);
+
+}
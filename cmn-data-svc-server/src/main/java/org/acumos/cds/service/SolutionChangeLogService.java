@@ -0,0 +1,46 @@
+/*-
+ * ===============LICENSE_START=======================================================
+ * Acumos
+ * ===================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property & Tech Mahindra. All rights reserved.
+ * ===================================================================================
+ * This Acumos software file is distributed by AT&T and Tech Mahindra
+ * under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ===============LICENSE_END=========================================================
+ */
+
+package org.acumos.cds.service;
+
+import org.acumos.cds.transport.SolutionChangeTransport;
+
+/**
+ * Reads the solution change log, which is written by
+ * {@link SolutionChangeRecorder}.
+ */
+public interface SolutionChangeLogService {
+
+	/**
+	 * Gets the IDs of solutions that changed after the specified sequence number.
+	 * Entries younger than the configured settle interval are withheld, because a
+	 * transaction that took a lower sequence number may not have committed yet.
+	 * 
+	 * @param since
+	 *                  Sequence number of the last change already seen
+	 * @param limit
+	 *                  Maximum number of log entries to read; reduced to the
+	 *                  configured maximum if larger
+	 * @return Distinct solution IDs ordered by latest change, the last sequence
+	 *         number read, and whether more entries remain
+	 */
+	SolutionChangeTransport getChangesSince(long since, int limit);
+
+}
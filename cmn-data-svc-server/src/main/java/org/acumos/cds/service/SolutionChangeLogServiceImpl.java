@@ -0,0 +1,73 @@
+/*-
+ * ===============LICENSE_START=======================================================
+ * Acumos
+ * ===================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property & Tech Mahindra. All rights reserved.
+ * ===================================================================================
+ * This Acumos software file is distributed by AT&T and Tech Mahindra
+ * under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ===============LICENSE_END=========================================================
+ */
+
+package org.acumos.cds.service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.acumos.cds.domain.MLPSolutionChange;
+import org.acumos.cds.repository.SolutionChangeRepository;
+import org.acumos.cds.transport.SolutionChangeTransport;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+@Service("solutionChangeLogService")
+public class SolutionChangeLogServiceImpl implements SolutionChangeLogService {
+
+	@Value("${cds.solution.change-log.settle-ms:2000}")
+	private long settleMillis;
+
+	@Value("${cds.solution.change-log.max-limit:10000}")
+	private int maxLimit;
+
+	@Autowired
+	private SolutionChangeRepository solutionChangeRepository;
+
+	@Override
+	public SolutionChangeTransport getChangesSince(long since, int limit) {
+		if (limit < 1)
+			throw new IllegalArgumentException("Limit must be positive");
+		// The client resumes from the last sequence, so a smaller batch is safe
+		limit = Math.min(limit, maxLimit);
+		Instant before = Instant.now().minusMillis(settleMillis);
+		// Fetch one extra entry to learn whether more remain
+		List<MLPSolutionChange> changes = solutionChangeRepository.findChangesSince(since, before,
+				PageRequest.of(0, limit + 1));
+		boolean more = changes.size() > limit;
+		if (more)
+			changes = changes.subList(0, limit);
+		// Order by latest change: move each repeated ID to the end
+		Set<String> solutionIds = new LinkedHashSet<>();
+		long lastSequence = since;
+		for (MLPSolutionChange change : changes) {
+			solutionIds.remove(change.getSolutionId());
+			solutionIds.add(change.getSolutionId());
+			lastSequence = change.getSequence();
+		}
+		return new SolutionChangeTransport(new ArrayList<>(solutionIds), lastSequence, more);
+	}
+
+}
@@ -0,0 +1,217 @@
+/*-
+ * ===============LICENSE_START=======================================================
+ * Acumos
+ * ===================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property & Tech Mahindra. All rights reserved.
+ * ===================================================================================
+ * This Acumos software file is distributed by AT&T and Tech Mahindra
+ * under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ===============LICENSE_END=========================================================
+ */
+
+package org.acumos.cds.service;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import javax.annotation.PostConstruct;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+
+import org.acumos.cds.domain.MLPCatSolMap;
+import org.acumos.cds.domain.MLPRevisionDescription;
+import org.acumos.cds.domain.MLPSolTagMap;
+import org.acumos.cds.domain.MLPSolUserAccMap;
+import org.acumos.cds.domain.MLPSolution;
+import org.acumos.cds.domain.MLPSolutionRevision;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.engine.spi.ActionQueue;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.AbstractCollectionEvent;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCollectionRecreateEvent;
+import org.hibernate.event.spi.PostCollectionRecreateEventListener;
+import org.hibernate.event.spi.PostCollectionRemoveEvent;
+import org.hibernate.event.spi.PostCollectionRemoveEventListener;
+import org.hibernate.event.spi.PostCollectionUpdateEvent;
+import org.hibernate.event.spi.PostCollectionUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Registers a Hibernate event listener that reports every committed change to
+ * a solution, revision, revision description, solution-tag mapping,
+ * catalog-solution mapping or solution-user access mapping to all
+ * {@link SolutionChangeListener} beans. Changes are reported after the
+ * transaction commits; reporting earlier would let a concurrent search re-read
+ * the old state and cache it as new. Bulk JPQL updates, deletes and plain JDBC
+ * statements bypass the Hibernate event system; code that runs them must report
+ * the change with {@link #solutionChanged(EntityManager, String)}.
+ */
+@Component
+public class SolutionChangeNotifier {
+
+	private static final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired(required = false)
+	private List<SolutionChangeListener> listeners = new ArrayList<>();
+
+	@PostConstruct
+	public void registerEventListener() {
+		if (listeners.isEmpty()) {
+			logger.info("registerEventListener: no solution change listeners");
+			return;
+		}
+		SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+		EventListenerRegistry registry = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+		ChangeEventListener listener = new ChangeEventListener(listeners);
+		registry.appendListeners(EventType.POST_INSERT, listener);
+		registry.appendListeners(EventType.POST_UPDATE, listener);
+		registry.appendListeners(EventType.POST_DELETE, listener);
+		registry.appendListeners(EventType.POST_COLLECTION_RECREATE, listener);
+		registry.appendListeners(EventType.POST_COLLECTION_UPDATE, listener);
+		registry.appendListeners(EventType.POST_COLLECTION_REMOVE, listener);
+		logger.info("registerEventListener: notifying {} listeners", listeners.size());
+	}
+
+	/**
+	 * Reports a change to a solution that was made without Hibernate, such as a
+	 * plain JDBC update. The listeners are called after the current transaction
+	 * commits.
+	 * 
+	 * @param entityManager
+	 *                          Entity manager joined to the current transaction
+	 * @param solutionId
+	 *                          Solution ID
+	 */
+	public void solutionChanged(EntityManager entityManager, String solutionId) {
+		notifyAfterCommit(entityManager.unwrap(SessionImplementor.class).getActionQueue(), listeners,
+				l -> l.solutionChanged(solutionId));
+	}
+
+	/*
+	 * Calls the listeners when the transaction of the action queue completes
+	 * successfully.
+	 */
+	private static void notifyAfterCommit(ActionQueue actionQueue, List<SolutionChangeListener> listeners,
+			Consumer<SolutionChangeListener> action) {
+		actionQueue.registerProcess((AfterTransactionCompletionProcess) (success, s) -> {
+			if (success)
+				listeners.forEach(action);
+		});
+	}
+
+	/**
+	 * Translates Hibernate entity and collection events into calls on the
+	 * listeners, deferred until the transaction completes successfully.
+	 */
+	private static class ChangeEventListener implements PostInsertEventListener, PostUpdateEventListener,
+			PostDeleteEventListener, PostCollectionRecreateEventListener, PostCollectionUpdateEventListener,
+			PostCollectionRemoveEventListener {
+
+		private static final long serialVersionUID = 5395622364427412846L;
+
+		private final transient List<SolutionChangeListener> listeners;
+
+		ChangeEventListener(List<SolutionChangeListener> listeners) {
+			this.listeners = listeners;
+		}
+
+		private void onChange(EventSource session, Object entity) {
+			final Consumer<SolutionChangeListener> action;
+			if (entity instanceof MLPSolution) {
+				final String solutionId = ((MLPSolution) entity).getSolutionId();
+				action = l -> l.solutionChanged(solutionId);
+			} else if (entity instanceof MLPSolutionRevision) {
+				// The revision may have moved from another solution
+				final String revisionId = ((MLPSolutionRevision) entity).getRevisionId();
+				final String solutionId = ((MLPSolutionRevision) entity).getSolutionId();
+				action = l -> {
+					l.revisionChanged(revisionId);
+					l.solutionChanged(solutionId);
+				};
+			} else if (entity instanceof MLPRevisionDescription) {
+				final String revisionId = ((MLPRevisionDescription) entity).getRevisionId();
+				action = l -> l.revisionChanged(revisionId);
+			} else if (entity instanceof MLPSolTagMap) {
+				final String solutionId = ((MLPSolTagMap) entity).getSolutionId();
+				action = l -> l.solutionChanged(solutionId);
+			} else if (entity instanceof MLPCatSolMap) {
+				final String solutionId = ((MLPCatSolMap) entity).getSolutionId();
+				action = l -> l.solutionChanged(solutionId);
+			} else if (entity instanceof MLPSolUserAccMap) {
+				final String solutionId = ((MLPSolUserAccMap) entity).getSolutionId();
+				action = l -> l.solutionChanged(solutionId);
+			} else {
+				return;
+			}
+			notifyAfterCommit(session.getActionQueue(), listeners, action);
+		}
+
+		private void onCollectionChange(AbstractCollectionEvent event) {
+			onChange(event.getSession(), event.getAffectedOwnerOrNull());
+		}
+
+		@Override
+		public void onPostInsert(PostInsertEvent event) {
+			onChange(event.getSession(), event.getEntity());
+		}
+
+		@Override
+		public void onPostUpdate(PostUpdateEvent event) {
+			onChange(event.getSession(), event.getEntity());
+		}
+
+		@Override
+		public void onPostDelete(PostDeleteEvent event) {
+			onChange(event.getSession(), event.getEntity());
+		}
+
+		@Override
+		public void onPostRecreateCollection(PostCollectionRecreateEvent event) {
+			onCollectionChange(event);
+		}
+
+		@Override
+		public void onPostUpdateCollection(PostCollectionUpdateEvent event) {
+			onCollectionChange(event);
+		}
+
+		@Override
+		public void onPostRemoveCollection(PostCollectionRemoveEvent event) {
+			onCollectionChange(event);
+		}
+
+		@Override
+		public boolean requiresPostCommitHanding(EntityPersister persister) {
+			return false;
+		}
+	}
+
+}
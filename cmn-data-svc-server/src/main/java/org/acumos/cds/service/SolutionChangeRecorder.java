@@ -0,0 +1,222 @@
+/*-
+ * ===============LICENSE_START=======================================================
+ * Acumos
+ * ===================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property & Tech Mahindra. All rights reserved.
+ * ===================================================================================
+ * This Acumos software file is distributed by AT&T and Tech Mahindra
+ * under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ===============LICENSE_END=========================================================
+ */
+
+package org.acumos.cds.service;
+
+import java.lang.invoke.MethodHandles;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.PostConstruct;
+import javax.persistence.EntityManagerFactory;
+
+import org.acumos.cds.domain.MLPArtifact;
+import org.acumos.cds.domain.MLPDocument;
+import org.acumos.cds.domain.MLPRevisionDescription;
+import org.acumos.cds.domain.MLPSolRevArtMap;
+import org.acumos.cds.domain.MLPSolRevDocMap;
+import org.acumos.cds.domain.MLPSolTagMap;
+import org.acumos.cds.domain.MLPSolution;
+import org.acumos.cds.domain.MLPSolutionChange;
+import org.acumos.cds.domain.MLPSolutionRevision;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.AbstractCollectionEvent;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCollectionRecreateEvent;
+import org.hibernate.event.spi.PostCollectionRecreateEventListener;
+import org.hibernate.event.spi.PostCollectionRemoveEvent;
+import org.hibernate.event.spi.PostCollectionRemoveEventListener;
+import org.hibernate.event.spi.PostCollectionUpdateEvent;
+import org.hibernate.event.spi.PostCollectionUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Registers a Hibernate event listener that appends entries to the solution
+ * change log. Changes to solutions, revisions, revision descriptions, tags,
+ * artifacts and documents are collected per session and resolved to solution
+ * IDs just before the transaction commits; one entry per affected solution is
+ * then written in the same transaction, so the log cannot disagree with the
+ * data. Bulk JPQL updates and deletes bypass the Hibernate event system and
+ * are not logged.
+ */
+@Component
+public class SolutionChangeRecorder {
+
+	private static final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@PostConstruct
+	public void registerEventListener() {
+		SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+		EventListenerRegistry registry = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+		ChangeLogEventListener listener = new ChangeLogEventListener();
+		registry.appendListeners(EventType.POST_INSERT, listener);
+		registry.appendListeners(EventType.POST_UPDATE, listener);
+		registry.appendListeners(EventType.POST_DELETE, listener);
+		registry.appendListeners(EventType.POST_COLLECTION_RECREATE, listener);
+		registry.appendListeners(EventType.POST_COLLECTION_UPDATE, listener);
+		registry.appendListeners(EventType.POST_COLLECTION_REMOVE, listener);
+		logger.info("registerEventListener: recording solution changes");
+	}
+
+	/**
+	 * IDs of entities changed in one transaction.
+	 */
+	private static class PendingChanges {
+
+		private final Set<String> solutionIds = new HashSet<>();
+		private final Set<String> revisionIds = new HashSet<>();
+		private final Set<String> artifactIds = new HashSet<>();
+		private final Set<String> documentIds = new HashSet<>();
+
+		/**
+		 * Resolves the changed IDs to solution IDs and writes one log entry per
+		 * solution. Runs after the session was flushed for the commit, so it must
+		 * flush again.
+		 */
+		void write(SessionImplementor session) {
+			if (!revisionIds.isEmpty())
+				solutionIds.addAll(session
+						.createQuery("SELECT r.solutionId FROM MLPSolutionRevision r WHERE r.revisionId IN :ids",
+								String.class)
+						.setParameterList("ids", revisionIds).getResultList());
+			if (!artifactIds.isEmpty())
+				solutionIds.addAll(session
+						.createQuery("SELECT DISTINCT r.solutionId FROM MLPSolutionRevision r, MLPSolRevArtMap m "
+								+ "WHERE r.revisionId = m.revisionId AND m.artifactId IN :ids", String.class)
+						.setParameterList("ids", artifactIds).getResultList());
+			if (!documentIds.isEmpty())
+				solutionIds.addAll(session
+						.createQuery("SELECT DISTINCT r.solutionId FROM MLPSolutionRevision r, MLPSolRevDocMap m "
+								+ "WHERE r.revisionId = m.revisionId AND m.documentId IN :ids", String.class)
+						.setParameterList("ids", documentIds).getResultList());
+			if (solutionIds.isEmpty())
+				return;
+			for (String solutionId : solutionIds)
+				session.persist(new MLPSolutionChange(solutionId));
+			session.flush();
+			logger.debug("write: logged changes to solutions {}", solutionIds);
+		}
+	}
+
+	/**
+	 * Collects IDs from Hibernate entity and collection events.
+	 */
+	private static class ChangeLogEventListener implements PostInsertEventListener, PostUpdateEventListener,
+			PostDeleteEventListener, PostCollectionRecreateEventListener, PostCollectionUpdateEventListener,
+			PostCollectionRemoveEventListener {
+
+		private static final long serialVersionUID = -4300938510436291573L;
+
+		// Sessions are not shared by threads, but this listener is
+		private final transient Map<EventSource, PendingChanges> pendingBySession = new ConcurrentHashMap<>();
+
+		private PendingChanges getPendingChanges(EventSource session) {
+			return pendingBySession.computeIfAbsent(session, s -> {
+				PendingChanges pending = new PendingChanges();
+				s.getActionQueue().registerProcess((BeforeTransactionCompletionProcess) pending::write);
+				// Also runs on rollback, when the before-completion process does not
+				s.getActionQueue().registerProcess(
+						(AfterTransactionCompletionProcess) (success, si) -> pendingBySession.remove(s));
+				return pending;
+			});
+		}
+
+		private void onChange(EventSource session, Object entity) {
+			if (entity instanceof MLPSolution) {
+				getPendingChanges(session).solutionIds.add(((MLPSolution) entity).getSolutionId());
+			} else if (entity instanceof MLPSolutionRevision) {
+				// Use the solution ID directly, the revision may be deleted
+				getPendingChanges(session).solutionIds.add(((MLPSolutionRevision) entity).getSolutionId());
+			} else if (entity instanceof MLPSolTagMap) {
+				getPendingChanges(session).solutionIds.add(((MLPSolTagMap) entity).getSolutionId());
+			} else if (entity instanceof MLPRevisionDescription) {
+				getPendingChanges(session).revisionIds.add(((MLPRevisionDescription) entity).getRevisionId());
+			} else if (entity instanceof MLPSolRevArtMap) {
+				getPendingChanges(session).revisionIds.add(((MLPSolRevArtMap) entity).getRevisionId());
+			} else if (entity instanceof MLPSolRevDocMap) {
+				getPendingChanges(session).revisionIds.add(((MLPSolRevDocMap) entity).getRevisionId());
+			} else if (entity instanceof MLPArtifact) {
+				getPendingChanges(session).artifactIds.add(((MLPArtifact) entity).getArtifactId());
+			} else if (entity instanceof MLPDocument) {
+				getPendingChanges(session).documentIds.add(((MLPDocument) entity).getDocumentId());
+			}
+		}
+
+		private void onCollectionChange(AbstractCollectionEvent event) {
+			onChange(event.getSession(), event.getAffectedOwnerOrNull());
+		}
+
+		@Override
+		public void onPostInsert(PostInsertEvent event) {
+			onChange(event.getSession(), event.getEntity());
+		}
+
+		@Override
+		public void onPostUpdate(PostUpdateEvent event) {
+			onChange(event.getSession(), event.getEntity());
+		}
+
+		@Override
+		public void onPostDelete(PostDeleteEvent event) {
+			onChange(event.getSession(), event.getEntity());
+		}
+
+		@Override
+		public void onPostRecreateCollection(PostCollectionRecreateEvent event) {
+			onCollectionChange(event);
+		}
+
+		@Override
+		public void onPostUpdateCollection(PostCollectionUpdateEvent event) {
+			onCollectionChange(event);
+		}
+
+		@Override
+		public void onPostRemoveCollection(PostCollectionRemoveEvent event) {
+			onCollectionChange(event);
+		}
+
+		@Override
+		public boolean requiresPostCommitHanding(EntityPersister persister) {
+			return false;
+		}
+	}
+
+}
@@ -0,0 +1,50 @@
+/*-
+ * ===============LICENSE_START=======================================================
+ * Acumos
+ * ===================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property & Tech Mahindra. All rights reserved.
+ * ===================================================================================
+ * This Acumos software file is distributed by AT&T and Tech Mahindra
+ * under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ===============LICENSE_END=========================================================
+ */
+
+package org.acumos.cds.service;
+
+import java.util.Set;
+
+import org.acumos.cds.SolutionDetailPart;
+import org.acumos.cds.transport.SolutionDetailTransport;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Assembles a solution with the related entities needed to show it. Each
+ * requested part is read with one query for all revisions of the solution, so
+ * the number of queries does not grow with the number of revisions.
+ */
+public interface SolutionDetailService {
+
+	/**
+	 * Gets the solution detail.
+	 * 
+	 * @param solutionId
+	 *                        Solution ID
+	 * @param include
+	 *                        Parts to read in addition to the solution
+	 * @param ratingsPage
+	 *                        Page of ratings to read if ratings are included
+	 * @return Solution detail; null if the solution is not found
+	 */
+	SolutionDetailTransport getSolutionDetail(String solutionId, Set<SolutionDetailPart> include,
+			Pageable ratingsPage);
+
+}
@@ -0,0 +1,139 @@
+/*-
+ * ===============LICENSE_START=======================================================
+ * Acumos
+ * ===================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property & Tech Mahindra. All rights reserved.
+ * ===================================================================================
+ * This Acumos software file is distributed by AT&T and Tech Mahindra
+ * under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ===============LICENSE_END=========================================================
+ */
+
+package org.acumos.cds.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javax.persistence.EntityManager;
+
+import org.acumos.cds.SolutionDetailPart;
+import org.acumos.cds.domain.MLPArtifact;
+import org.acumos.cds.domain.MLPDocument;
+import org.acumos.cds.domain.MLPRevisionDescription;
+import org.acumos.cds.domain.MLPSolution;
+import org.acumos.cds.domain.MLPSolutionRating;
+import org.acumos.cds.domain.MLPSolutionRevision;
+import org.acumos.cds.repository.SolutionRatingRepository;
+import org.acumos.cds.repository.SolutionRepository;
+import org.acumos.cds.transport.RestPageResponse;
+import org.acumos.cds.transport.RevisionDetailTransport;
+import org.acumos.cds.transport.SolutionDetailTransport;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service("solutionDetailService")
+@Transactional(readOnly = true)
+public class SolutionDetailServiceImpl implements SolutionDetailService {
+
+	@Autowired
+	private EntityManager entityManager;
+	@Autowired
+	private SolutionRepository solutionRepository;
+	@Autowired
+	private SolutionRatingRepository solutionRatingRepository;
+
+	@Override
+	public SolutionDetailTransport getSolutionDetail(String solutionId, Set<SolutionDetailPart> include,
+			Pageable ratingsPage) {
+		Optional<MLPSolution> solution = solutionRepository.findById(solutionId);
+		if (!solution.isPresent())
+			return null;
+		SolutionDetailTransport detail = new SolutionDetailTransport(solution.get());
+		boolean artifacts = include.contains(SolutionDetailPart.ARTIFACTS);
+		boolean descriptions = include.contains(SolutionDetailPart.DESCRIPTIONS);
+		boolean documents = include.contains(SolutionDetailPart.DOCUMENTS);
+		if (artifacts || descriptions || documents || include.contains(SolutionDetailPart.REVISIONS))
+			detail.setRevisions(getRevisions(solutionId, artifacts, descriptions, documents));
+		if (include.contains(SolutionDetailPart.RATINGS)) {
+			Page<MLPSolutionRating> ratings = solutionRatingRepository.findBySolutionId(solutionId, ratingsPage);
+			detail.setRatings(new RestPageResponse<>(ratings.getContent(), ratingsPage, ratings.getTotalElements()));
+		}
+		if (include.contains(SolutionDetailPart.PICTURE)) {
+			Long count = entityManager.createQuery("SELECT COUNT(p) FROM MLPSolutionPicture p " //
+					+ " WHERE p.solutionId = :solutionId AND p.picture IS NOT NULL", Long.class)
+					.setParameter("solutionId", solutionId).getSingleResult();
+			detail.setHasPicture(count > 0);
+		}
+		return detail;
+	}
+
+	/**
+	 * Reads the revisions of a solution, then each requested part for all of them
+	 * at once, joining through the map tables by revision ID.
+	 */
+	private List<RevisionDetailTransport> getRevisions(String solutionId, boolean artifacts, boolean descriptions,
+			boolean documents) {
+		List<MLPSolutionRevision> revisions = entityManager
+				.createQuery("SELECT r FROM MLPSolutionRevision r WHERE r.solutionId = :solutionId " //
+						+ " ORDER BY r.created, r.revisionId", MLPSolutionRevision.class)
+				.setParameter("solutionId", solutionId).getResultList();
+		Map<String, RevisionDetailTransport> byId = new LinkedHashMap<>();
+		for (MLPSolutionRevision revision : revisions) {
+			RevisionDetailTransport detail = new RevisionDetailTransport(revision);
+			if (artifacts)
+				detail.setArtifacts(new ArrayList<>());
+			if (descriptions)
+				detail.setDescriptions(new ArrayList<>());
+			if (documents)
+				detail.setDocuments(new TreeMap<>());
+			byId.put(revision.getRevisionId(), detail);
+		}
+		if (byId.isEmpty())
+			return new ArrayList<>();
+		if (artifacts) {
+			List<Object[]> rows = entityManager
+					.createQuery("SELECT m.revisionId, a FROM MLPSolRevArtMap m, MLPArtifact a " //
+							+ " WHERE a.artifactId = m.artifactId AND m.revisionId IN :revisionIds " //
+							+ " ORDER BY a.created, a.artifactId", Object[].class) //
+					.setParameter("revisionIds", byId.keySet()).getResultList();
+			for (Object[] row : rows)
+				byId.get(row[0]).getArtifacts().add((MLPArtifact) row[1]);
+		}
+		if (descriptions) {
+			List<MLPRevisionDescription> rows = entityManager.createQuery("SELECT d FROM MLPRevisionDescription d " //
+					+ " WHERE d.revisionId IN :revisionIds ORDER BY d.accessTypeCode", MLPRevisionDescription.class)
+					.setParameter("revisionIds", byId.keySet()).getResultList();
+			for (MLPRevisionDescription row : rows)
+				byId.get(row.getRevisionId()).getDescriptions().add(row);
+		}
+		if (documents) {
+			List<Object[]> rows = entityManager
+					.createQuery("SELECT m.revisionId, m.accessTypeCode, d FROM MLPSolRevDocMap m, MLPDocument d " //
+							+ " WHERE d.documentId = m.documentId AND m.revisionId IN :revisionIds " //
+							+ " ORDER BY d.created, d.documentId", Object[].class) //
+					.setParameter("revisionIds", byId.keySet()).getResultList();
+			for (Object[] row : rows)
+				byId.get(row[0]).getDocuments().computeIfAbsent((String) row[1], k -> new ArrayList<>())
+						.add((MLPDocument) row[2]);
+		}
+		return new ArrayList<>(byId.values());
+	}
+
+}
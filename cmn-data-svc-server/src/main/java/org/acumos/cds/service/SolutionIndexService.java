@@ -0,0 +1,181 @@
+/*-
+ * ===============LICENSE_START=======================================================
+ * Acumos
+ * ===================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property & Tech Mahindra. All rights reserved.
+ * ===================================================================================
+ * This Acumos software file is distributed by AT&T and Tech Mahindra
+ * under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ===============LICENSE_END=========================================================
+ */
+
+package org.acumos.cds.service;
+
+import java.util.List;
+
+import org.acumos.cds.transport.FacetCountTransport;
+import org.acumos.cds.transport.SuggestionTransport;
+
+/**
+ * Maintains an in-memory inverted index over the text fields of solutions,
+ * revisions and revision descriptions, plus the attributes used to filter
+ * keyword searches. Answers keyword and tag queries without running LIKE
+ * comparisons in the database.
+ */
+public interface SolutionIndexService {
+
+	/**
+	 * Answers whether the index is enabled by configuration and has been built.
+	 * 
+	 * @return True if searches should use the index, false if they should query
+	 *         the database.
+	 */
+	boolean isEnabled();
+
+	/**
+	 * Finds active or inactive solutions that match the keywords and filters. All
+	 * parameters except active may be null or empty, which means no restriction.
+	 * A solution matches the keywords if every keyword is a prefix of a word in
+	 * the solution name, revision authors, revision publisher or revision
+	 * descriptions, or if any keyword exactly matches the solution ID or a
+	 * revision ID. Unlike the LIKE comparisons of the database search, a keyword
+	 * does not match inside a word; e.g., "net" matches "Network" and
+	 * "neural-net" but not "ResNet".
+	 * 
+	 * @param keywords
+	 *                            Keywords
+	 * @param active
+	 *                            Active status
+	 * @param userIds
+	 *                            User IDs
+	 * @param modelTypeCodes
+	 *                            Model type codes
+	 * @param accessTypeCodes
+	 *                            Access type codes; matches if any revision has
+	 *                            one of these
+	 * @param allTags
+	 *                            Tags that ALL must match
+	 * @param anyTags
+	 *                            Tags that ANY must match
+	 * @param catalogIds
+	 *                            Catalog IDs that ANY must match
+	 * @return List of solution IDs, ordered by descending relevance if keywords
+	 *         were supplied, otherwise by ID.
+	 */
+	List<String> findSolutionIds(String[] keywords, boolean active, String[] userIds, String[] modelTypeCodes,
+			String[] accessTypeCodes, String[] allTags, String[] anyTags, String[] catalogIds);
+
+	/**
+	 * Counts the solutions that match the keywords and filters per model type,
+	 * toolkit type, access type, tag and catalog. Parameters are treated exactly
+	 * as in {@link #findSolutionIds}.
+	 * 
+	 * @param keywords
+	 *                            Keywords
+	 * @param active
+	 *                            Active status
+	 * @param userIds
+	 *                            User IDs
+	 * @param modelTypeCodes
+	 *                            Model type codes
+	 * @param accessTypeCodes
+	 *                            Access type codes
+	 * @param allTags
+	 *                            Tags that ALL must match
+	 * @param anyTags
+	 *                            Tags that ANY must match
+	 * @param catalogIds
+	 *                            Catalog IDs that ANY must match
+	 * @return Total and per-value counts of matching solutions
+	 */
+	FacetCountTransport countFacets(String[] keywords, boolean active, String[] userIds, String[] modelTypeCodes,
+			String[] accessTypeCodes, String[] allTags, String[] anyTags, String[] catalogIds);
+
+	/**
+	 * Answers whether one solution matches the keywords and filters, which are
+	 * treated exactly as in {@link #findSolutionIds}.
+	 * 
+	 * @param solutionId
+	 *                            Solution ID
+	 * @param current
+	 *                            True to re-index changed solutions first; false
+	 *                            to answer from the index as it is, which may not
+	 *                            reflect changes reported recently
+	 * @param keywords
+	 *                            Keywords
+	 * @param active
+	 *                            Active status
+	 * @param userIds
+	 *                            User IDs
+	 * @param modelTypeCodes
+	 *                            Model type codes
+	 * @param accessTypeCodes
+	 *                            Access type codes
+	 * @param allTags
+	 *                            Tags that ALL must match
+	 * @param anyTags
+	 *                            Tags that ANY must match
+	 * @param catalogIds
+	 *                            Catalog IDs that ANY must match
+	 * @return True if the solution is in the result of the search
+	 */
+	boolean matches(String solutionId, boolean current, String[] keywords, boolean active, String[] userIds,
+			String[] modelTypeCodes, String[] accessTypeCodes, String[] allTags, String[] anyTags,
+			String[] catalogIds);
+
+	/**
+	 * Gets the ID of the solution that owns a revision, as last indexed.
+	 * 
+	 * @param revisionId
+	 *                       Revision ID
+	 * @return Solution ID; null if the revision is not in the index
+	 */
+	String getRevisionSolutionId(String revisionId);
+
+	/**
+	 * Gets autocomplete suggestions from the names, tags and revision authors of
+	 * active solutions. A suggestion matches if its text, or any word in it
+	 * through the end of the text, starts with the term ignoring case.
+	 * 
+	 * @param term
+	 *                  Prefix to complete
+	 * @param limit
+	 *                  Maximum number of suggestions
+	 * @return List of suggestions ordered by descending count of solutions, then
+	 *         by text
+	 */
+	List<SuggestionTransport> suggest(String term, int limit);
+
+	/**
+	 * Marks a solution for re-indexing by the next search.
+	 * 
+	 * @param solutionId
+	 *                       Solution ID
+	 */
+	void invalidateSolution(String solutionId);
+
+	/**
+	 * Marks the solution that owns a revision for re-indexing by the next
+	 * search.
+	 * 
+	 * @param revisionId
+	 *                       Revision ID
+	 */
+	void invalidateRevision(String revisionId);
+
+	/**
+	 * Marks the index for a rebuild from the database, which runs in the
+	 * background; searches use the current index until it is done.
+	 */
+	void invalidateAll();
+
+}
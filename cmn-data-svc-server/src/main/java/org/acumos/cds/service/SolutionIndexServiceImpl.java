@@ -0,0 +1,951 @@
+/*-
+ * ===============LICENSE_START=======================================================
+ * Acumos
+ * ===================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property & Tech Mahindra. All rights reserved.
+ * ===================================================================================
+ * This Acumos software file is distributed by AT&T and Tech Mahindra
+ * under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ===============LICENSE_END=========================================================
+ */
+
+package org.acumos.cds.service;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+
+import org.acumos.cds.domain.MLPCatSolMap;
+import org.acumos.cds.domain.MLPRevisionDescription;
+import org.acumos.cds.domain.MLPSolution;
+import org.acumos.cds.domain.MLPSolutionRevision;
+import org.acumos.cds.domain.MLPTag;
+import org.acumos.cds.transport.AuthorTransport;
+import org.acumos.cds.transport.FacetCountTransport;
+import org.acumos.cds.transport.SuggestionTransport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Keeps an inverted index in memory that maps each word in the indexed text
+ * fields to the solutions that contain it, weighted by field. Keywords are
+ * matched as word prefixes, which answers nearly every query that the LIKE
+ * comparisons answered, and results are ranked by a TF-IDF style score.
+ * 
+ * <P>
+ * Each indexed solution is also assigned a small integer ordinal. For every
+ * value of the filter attributes (user, model type, toolkit type, access type,
+ * tag and catalog) the index keeps a bitmap of the ordinals of solutions with
+ * that value, so filters are evaluated as unions and intersections of bitmaps
+ * instead of correlated subqueries.
+ * 
+ * <P>
+ * The index also keeps the names, tags and revision authors of active
+ * solutions in a sorted map keyed by every word-start suffix of the lower-case
+ * text, so autocomplete suggestions are a range scan of that map.
+ * 
+ * <P>
+ * The index is built from the database at startup. The
+ * {@link SolutionChangeNotifier} reports every committed change to a solution
+ * or its revisions, descriptions, tags and catalog memberships, and those
+ * solutions are marked for re-indexing. The next search re-reads them in the
+ * session of its caller, without holding the lock, and then takes the write
+ * lock only to swap them into the index; so a search sees every change that
+ * was committed before it started. The notifier cannot see changes committed
+ * by other instances of this server, so a scheduled task rebuilds the whole
+ * index periodically. The rebuild fills a new index in the background and
+ * swaps it in, so searches are not held up by it. Searches never build the
+ * index; until the first build succeeds, the index reports itself as not
+ * enabled and searches query the database.
+ */
+@Service("solutionIndexService")
+public class SolutionIndexServiceImpl implements SolutionIndexService, SolutionChangeListener {
+
+	private static final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+	// Relative weights of the indexed fields
+	private static final float NAME_WEIGHT = 4f;
+	private static final float PEOPLE_WEIGHT = 2f;
+	private static final float DESCRIPTION_WEIGHT = 1f;
+	// Outranks any text match
+	private static final float ID_MATCH_SCORE = 1000f;
+	// Limits the length of IN lists
+	private static final int BATCH_SIZE = 500;
+
+	@Value("${cds.search.index.enabled:true}")
+	private boolean enabled;
+
+	// The rebuild runs on a scheduler thread in an entity manager of its own;
+	// changes are read in the entity manager of the search
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+	@Autowired
+	private EntityManager entityManager;
+
+	// Guards the contents of the index; a rebuild swaps in a new one
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	private volatile Index index;
+	// Solutions re-indexed while a rebuild runs, which are re-indexed again
+	// in the new index; null when no rebuild runs. Guarded by the lock.
+	private Set<String> changedDuringRebuild;
+
+	// These are written by the event listener without the lock. The count is
+	// incremented after an ID is added, and the applied count is the count seen
+	// before the last drain of the sets, so a search compares the two to learn
+	// whether changes committed before it started are still pending.
+	private final Set<String> dirtySolutionIds = ConcurrentHashMap.newKeySet();
+	private final Set<String> dirtyRevisionIds = ConcurrentHashMap.newKeySet();
+	private final AtomicLong changeCount = new AtomicLong();
+	private volatile long appliedCount;
+	// Serializes the searches that apply changes; not held by other searches
+	private final Object applyMutex = new Object();
+	private volatile boolean rebuildRequired = true;
+
+	/**
+	 * Attributes of one solution as stored in the index.
+	 */
+	private static class IndexedSolution {
+		private boolean active;
+		private String name;
+		private String userId;
+		private String modelTypeCode;
+		private String toolkitTypeCode;
+		private final Set<String> revisionIds = new HashSet<>();
+		private final Set<String> accessTypeCodes = new HashSet<>();
+		private final Set<String> tags = new HashSet<>();
+		private final Set<String> catalogIds = new HashSet<>();
+		private final Set<String> authorNames = new HashSet<>();
+		private final Map<String, Float> terms = new HashMap<>();
+
+		private void addText(String text, float weight) {
+			for (String term : tokenize(text))
+				terms.merge(term, weight, Float::sum);
+		}
+	}
+
+	/**
+	 * Contents of the index. A rebuild fills a new instance while searches
+	 * continue to use the current one, then swaps it in.
+	 */
+	private static class Index {
+		private final Map<String, IndexedSolution> documents = new HashMap<>();
+		private final NavigableMap<String, Map<String, Float>> postings = new TreeMap<>();
+		private final Map<String, String> revisionOwners = new HashMap<>();
+		private final Map<String, Integer> ordinals = new HashMap<>();
+		private final List<String> ordinalIds = new ArrayList<>();
+		// Solutions that are active, and that have at least one revision
+		private final BitSet activeBits = new BitSet();
+		private final BitSet revisedBits = new BitSet();
+		// Maps of attribute value to bitmap of solution ordinals
+		private final Map<String, BitSet> userBits = new HashMap<>();
+		private final Map<String, BitSet> modelTypeBits = new HashMap<>();
+		private final Map<String, BitSet> toolkitTypeBits = new HashMap<>();
+		private final Map<String, BitSet> accessTypeBits = new HashMap<>();
+		private final Map<String, BitSet> tagBits = new HashMap<>();
+		private final Map<String, BitSet> catalogBits = new HashMap<>();
+		// Maps each word-start suffix of suggestion text, in lower case, to the
+		// suggestions with that suffix and the number of active solutions with each
+		private final NavigableMap<String, Map<Suggestion, Integer>> suggestions = new TreeMap<>();
+
+		/*
+		 * Computes scores of solutions that match the keywords. Must hold the lock.
+		 * 
+		 * @return Map of solution ID to score; null if the keywords have no words.
+		 */
+		private Map<String, Float> scoreKeywords(String[] keywords) {
+			Map<String, Float> textScores = null;
+			Set<String> idMatches = new HashSet<>();
+			for (String kw : keywords) {
+				if (kw == null)
+					throw new IllegalArgumentException("Null not permitted in keyword list");
+				// Also match on IDs, but exact only
+				if (documents.containsKey(kw))
+					idMatches.add(kw);
+				if (revisionOwners.containsKey(kw))
+					idMatches.add(revisionOwners.get(kw));
+				List<String> words = tokenize(kw);
+				if (words.isEmpty())
+					continue;
+				// A solution matches a keyword if it matches every word in the keyword
+				Map<String, Float> kwScores = null;
+				for (String word : words) {
+					Map<String, Float> wordScores = scoreWord(word);
+					kwScores = intersectScores(kwScores, wordScores);
+				}
+				// A solution must match every keyword
+				textScores = intersectScores(textScores, kwScores);
+			}
+			if (textScores == null && idMatches.isEmpty())
+				return null;
+			Map<String, Float> scores = textScores == null ? new HashMap<>() : textScores;
+			for (String id : idMatches)
+				scores.merge(id, ID_MATCH_SCORE, Float::sum);
+			return scores;
+		}
+
+
+		/*
+		 * Scores solutions that have a term which starts with the specified word. Must
+		 * hold the lock.
+		 */
+		private Map<String, Float> scoreWord(String word) {
+			Map<String, Float> scores = new HashMap<>();
+			double documentCount = documents.size();
+			for (Map<String, Float> posting : postings.subMap(word, true, word + Character.MAX_VALUE, false).values()) {
+				float idf = (float) Math.log(1 + documentCount / posting.size());
+				for (Map.Entry<String, Float> entry : posting.entrySet())
+					scores.merge(entry.getKey(), entry.getValue() * idf, Math::max);
+			}
+			return scores;
+		}
+
+
+		/*
+		 * Computes the bitmap of solutions that pass the filters. Must hold the lock.
+		 */
+		private BitSet filter(boolean active, String[] userIds, String[] modelTypeCodes, String[] accessTypeCodes,
+				String[] allTags, String[] anyTags, String[] catalogIds) {
+			// A solution should ALWAYS have revisions.
+			BitSet result = (BitSet) revisedBits.clone();
+			if (active)
+				result.and(activeBits);
+			else
+				result.andNot(activeBits);
+			retainAny(result, userBits, userIds);
+			retainAny(result, modelTypeBits, modelTypeCodes);
+			retainAny(result, accessTypeBits, accessTypeCodes);
+			retainAll(result, tagBits, allTags);
+			retainAny(result, tagBits, anyTags);
+			retainAny(result, catalogBits, catalogIds);
+			return result;
+		}
+
+
+		/*
+		 * Answers whether one solution is selected by the keywords and filters, as
+		 * scoreKeywords and filter would select it, without scoring or filtering the
+		 * other solutions. Must hold the lock.
+		 */
+		private boolean matches(String solutionId, String[] keywords, boolean active, String[] userIds,
+				String[] modelTypeCodes, String[] accessTypeCodes, String[] allTags, String[] anyTags,
+				String[] catalogIds) {
+			IndexedSolution doc = documents.get(solutionId);
+			if (doc == null || doc.revisionIds.isEmpty() || doc.active != active)
+				return false;
+			if (!containsAny(Collections.singleton(doc.userId), userIds)
+					|| !containsAny(Collections.singleton(doc.modelTypeCode), modelTypeCodes)
+					|| !containsAny(doc.accessTypeCodes, accessTypeCodes) || !containsAll(doc.tags, allTags)
+					|| !containsAny(doc.tags, anyTags) || !containsAny(doc.catalogIds, catalogIds))
+				return false;
+			if (keywords == null || keywords.length == 0)
+				return true;
+			boolean hasWords = false;
+			boolean textMatch = true;
+			boolean anyIdMatch = false;
+			boolean idMatch = false;
+			for (String kw : keywords) {
+				if (kw == null)
+					throw new IllegalArgumentException("Null not permitted in keyword list");
+				if (documents.containsKey(kw) || revisionOwners.containsKey(kw)) {
+					anyIdMatch = true;
+					idMatch |= kw.equals(solutionId) || doc.revisionIds.contains(kw);
+				}
+				for (String word : tokenize(kw)) {
+					hasWords = true;
+					textMatch &= doc.terms.keySet().stream().anyMatch(term -> term.startsWith(word));
+				}
+			}
+			if (idMatch)
+				return true;
+			// Keywords without words select only the ID matches, if there are any
+			return hasWords ? textMatch : !anyIdMatch;
+		}
+
+
+		private void addDocument(String solutionId, IndexedSolution doc) {
+			documents.put(solutionId, doc);
+			for (String revisionId : doc.revisionIds)
+				revisionOwners.put(revisionId, solutionId);
+			for (Map.Entry<String, Float> term : doc.terms.entrySet())
+				postings.computeIfAbsent(term.getKey(), k -> new HashMap<>()).put(solutionId, term.getValue());
+			// A re-indexed solution keeps its ordinal; only a rebuild reassigns them
+			int ordinal = ordinals.computeIfAbsent(solutionId, k -> {
+				ordinalIds.add(k);
+				return ordinalIds.size() - 1;
+			});
+			activeBits.set(ordinal, doc.active);
+			revisedBits.set(ordinal, !doc.revisionIds.isEmpty());
+			setBit(userBits, doc.userId, ordinal);
+			setBit(modelTypeBits, doc.modelTypeCode, ordinal);
+			setBit(toolkitTypeBits, doc.toolkitTypeCode, ordinal);
+			for (String code : doc.accessTypeCodes)
+				setBit(accessTypeBits, code, ordinal);
+			for (String tag : doc.tags)
+				setBit(tagBits, tag, ordinal);
+			for (String catalogId : doc.catalogIds)
+				setBit(catalogBits, catalogId, ordinal);
+			if (doc.active)
+				for (Suggestion suggestion : getSuggestions(doc))
+					for (String key : getSuggestionKeys(suggestion.text))
+						suggestions.computeIfAbsent(key, k -> new HashMap<>()).merge(suggestion, 1, Integer::sum);
+		}
+
+
+		private void removeDocument(String solutionId) {
+			IndexedSolution doc = documents.remove(solutionId);
+			if (doc == null)
+				return;
+			for (String revisionId : doc.revisionIds)
+				revisionOwners.remove(revisionId);
+			int ordinal = ordinals.get(solutionId);
+			activeBits.clear(ordinal);
+			revisedBits.clear(ordinal);
+			clearBit(userBits, doc.userId, ordinal);
+			clearBit(modelTypeBits, doc.modelTypeCode, ordinal);
+			clearBit(toolkitTypeBits, doc.toolkitTypeCode, ordinal);
+			for (String code : doc.accessTypeCodes)
+				clearBit(accessTypeBits, code, ordinal);
+			for (String tag : doc.tags)
+				clearBit(tagBits, tag, ordinal);
+			for (String catalogId : doc.catalogIds)
+				clearBit(catalogBits, catalogId, ordinal);
+			if (doc.active)
+				for (Suggestion suggestion : getSuggestions(doc))
+					for (String key : getSuggestionKeys(suggestion.text)) {
+						Map<Suggestion, Integer> entries = suggestions.get(key);
+						if (entries != null && entries.merge(suggestion, -1, Integer::sum) == 0) {
+							entries.remove(suggestion);
+							if (entries.isEmpty())
+								suggestions.remove(key);
+						}
+					}
+			for (String term : doc.terms.keySet()) {
+				Map<String, Float> posting = postings.get(term);
+				if (posting != null) {
+					posting.remove(solutionId);
+					if (posting.isEmpty())
+						postings.remove(term);
+				}
+			}
+		}
+
+	}
+
+	/**
+	 * Text offered by autocomplete, with its source.
+	 */
+	private static final class Suggestion {
+		private final SuggestionTransport.Type type;
+		private final String text;
+
+		private Suggestion(SuggestionTransport.Type type, String text) {
+			this.type = type;
+			this.text = text;
+		}
+
+		@Override
+		public boolean equals(Object that) {
+			if (!(that instanceof Suggestion))
+				return false;
+			Suggestion thatObj = (Suggestion) that;
+			return type == thatObj.type && text.equals(thatObj.text);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(type, text);
+		}
+	}
+
+	/**
+	 * Splits text into lower-case words at every character that is neither letter
+	 * nor digit.
+	 * 
+	 * @param text
+	 *                 Text to split; null is permitted
+	 * @return List of words, possibly empty
+	 */
+	static List<String> tokenize(String text) {
+		List<String> words = new ArrayList<>();
+		if (text == null)
+			return words;
+		for (String w : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+			if (!w.isEmpty())
+				words.add(w);
+		return words;
+	}
+
+	/**
+	 * Builds the index when the application context starts. A failure here is
+	 * logged and the build is retried in the background.
+	 */
+	@EventListener(ContextRefreshedEvent.class)
+	public void buildIndex() {
+		if (!enabled)
+			return;
+		try {
+			rebuild(false);
+		} catch (RuntimeException ex) {
+			logger.warn("buildIndex failed", ex);
+		}
+	}
+
+	@Override
+	public boolean isEnabled() {
+		return enabled && index != null;
+	}
+
+	@Override
+	public void invalidateSolution(String solutionId) {
+		if (solutionId != null) {
+			dirtySolutionIds.add(solutionId);
+			changeCount.incrementAndGet();
+		}
+	}
+
+	@Override
+	public void invalidateRevision(String revisionId) {
+		if (revisionId != null) {
+			dirtyRevisionIds.add(revisionId);
+			changeCount.incrementAndGet();
+		}
+	}
+
+	@Override
+	public void solutionChanged(String solutionId) {
+		if (enabled)
+			invalidateSolution(solutionId);
+	}
+
+	@Override
+	public void revisionChanged(String revisionId) {
+		if (enabled)
+			invalidateRevision(revisionId);
+	}
+
+	@Override
+	public void invalidateAll() {
+		rebuildRequired = true;
+	}
+
+	@Override
+	public List<String> findSolutionIds(String[] keywords, boolean active, String[] userIds, String[] modelTypeCodes,
+			String[] accessTypeCodes, String[] allTags, String[] anyTags, String[] catalogIds) {
+		if (!enabled)
+			throw new IllegalStateException("Solution index is disabled");
+		refresh();
+		lock.readLock().lock();
+		try {
+			BitSet matches = index.filter(active, userIds, modelTypeCodes, accessTypeCodes, allTags, anyTags,
+					catalogIds);
+			Map<String, Float> scores = (keywords != null && keywords.length > 0) ? index.scoreKeywords(keywords)
+					: null;
+			List<String> result = new ArrayList<>();
+			if (scores == null) {
+				for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1))
+					result.add(index.ordinalIds.get(i));
+				Collections.sort(result);
+			} else {
+				for (String id : scores.keySet()) {
+					Integer ordinal = index.ordinals.get(id);
+					if (ordinal != null && matches.get(ordinal))
+						result.add(id);
+				}
+				final Map<String, Float> finalScores = scores;
+				result.sort(Comparator.comparing((String id) -> finalScores.get(id)).reversed()
+						.thenComparing(Comparator.naturalOrder()));
+			}
+			logger.debug("findSolutionIds: filter matches {}, result {}", matches.cardinality(), result.size());
+			return result;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	@Override
+	public boolean matches(String solutionId, boolean current, String[] keywords, boolean active,
+			String[] userIds, String[] modelTypeCodes, String[] accessTypeCodes, String[] allTags, String[] anyTags,
+			String[] catalogIds) {
+		if (!enabled)
+			throw new IllegalStateException("Solution index is disabled");
+		if (current)
+			refresh();
+		else if (index == null)
+			throw new IllegalStateException("Solution index is not built");
+		lock.readLock().lock();
+		try {
+			return index.matches(solutionId, keywords, active, userIds, modelTypeCodes, accessTypeCodes, allTags,
+					anyTags, catalogIds);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	@Override
+	public String getRevisionSolutionId(String revisionId) {
+		lock.readLock().lock();
+		try {
+			return index == null ? null : index.revisionOwners.get(revisionId);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	@Override
+	public List<SuggestionTransport> suggest(String term, int limit) {
+		if (!enabled)
+			throw new IllegalStateException("Solution index is disabled");
+		if (term == null)
+			throw new IllegalArgumentException("Null not permitted");
+		if (limit < 1)
+			throw new IllegalArgumentException("Limit must be positive");
+		String prefix = term.trim().toLowerCase(Locale.ROOT);
+		List<SuggestionTransport> result = new ArrayList<>();
+		if (prefix.isEmpty())
+			return result;
+		refresh();
+		lock.readLock().lock();
+		try {
+			// A suggestion with several matching words appears under each
+			Map<Suggestion, Integer> matches = new HashMap<>();
+			for (Map<Suggestion, Integer> entries : index.suggestions
+					.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values())
+				matches.putAll(entries);
+			for (Map.Entry<Suggestion, Integer> entry : matches.entrySet())
+				result.add(new SuggestionTransport(entry.getKey().text, entry.getKey().type, entry.getValue()));
+		} finally {
+			lock.readLock().unlock();
+		}
+		result.sort(Comparator.comparingLong(SuggestionTransport::getCount).reversed()
+				.thenComparing(SuggestionTransport::getText).thenComparing(SuggestionTransport::getType));
+		return result.size() > limit ? new ArrayList<>(result.subList(0, limit)) : result;
+	}
+
+	@Override
+	public FacetCountTransport countFacets(String[] keywords, boolean active, String[] userIds,
+			String[] modelTypeCodes, String[] accessTypeCodes, String[] allTags, String[] anyTags,
+			String[] catalogIds) {
+		if (!enabled)
+			throw new IllegalStateException("Solution index is disabled");
+		refresh();
+		lock.readLock().lock();
+		try {
+			BitSet matches = index.filter(active, userIds, modelTypeCodes, accessTypeCodes, allTags, anyTags,
+					catalogIds);
+			Map<String, Float> scores = (keywords != null && keywords.length > 0) ? index.scoreKeywords(keywords)
+					: null;
+			if (scores != null) {
+				BitSet scored = new BitSet();
+				for (String id : scores.keySet()) {
+					Integer ordinal = index.ordinals.get(id);
+					if (ordinal != null)
+						scored.set(ordinal);
+				}
+				matches.and(scored);
+			}
+			FacetCountTransport facets = new FacetCountTransport();
+			facets.setTotal(matches.cardinality());
+			countValues(matches, index.modelTypeBits, facets.getModelTypeCounts());
+			countValues(matches, index.toolkitTypeBits, facets.getToolkitTypeCounts());
+			countValues(matches, index.accessTypeBits, facets.getAccessTypeCounts());
+			countValues(matches, index.tagBits, facets.getTagCounts());
+			countValues(matches, index.catalogBits, facets.getCatalogCounts());
+			logger.debug("countFacets: total {}", facets.getTotal());
+			return facets;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/*
+	 * Counts the matching solutions in each bitmap, skipping the null value and
+	 * values with no matches.
+	 */
+	private static void countValues(BitSet matches, Map<String, BitSet> bitmaps, Map<String, Long> counts) {
+		for (Map.Entry<String, BitSet> entry : bitmaps.entrySet()) {
+			if (entry.getKey() == null)
+				continue;
+			BitSet bits = (BitSet) entry.getValue().clone();
+			bits.and(matches);
+			int count = bits.cardinality();
+			if (count > 0)
+				counts.put(entry.getKey(), (long) count);
+		}
+	}
+
+	/*
+	 * Keeps only the solutions present in both maps, summing the scores.
+	 */
+	private static Map<String, Float> intersectScores(Map<String, Float> left, Map<String, Float> right) {
+		if (left == null)
+			return right;
+		left.keySet().retainAll(right.keySet());
+		left.replaceAll((id, score) -> score + right.get(id));
+		return left;
+	}
+
+	/*
+	 * Keeps only the solutions that have at least one of the values. Does nothing
+	 * if the values are null or empty.
+	 */
+	private static void retainAny(BitSet result, Map<String, BitSet> bitmaps, String[] values) {
+		if (values == null || values.length == 0)
+			return;
+		BitSet union = new BitSet();
+		for (String v : values) {
+			BitSet bits = bitmaps.get(v);
+			if (bits != null)
+				union.or(bits);
+		}
+		result.and(union);
+	}
+
+	/*
+	 * Answers whether the set has at least one of the values, or the values are
+	 * null or empty; the test of one solution by retainAny.
+	 */
+	private static boolean containsAny(Set<String> set, String[] values) {
+		if (values == null || values.length == 0)
+			return true;
+		for (String v : values)
+			if (set.contains(v))
+				return true;
+		return false;
+	}
+
+	/*
+	 * Answers whether the set has all of the values; the test of one solution by
+	 * retainAll.
+	 */
+	private static boolean containsAll(Set<String> set, String[] values) {
+		return values == null || set.containsAll(Arrays.asList(values));
+	}
+
+	/*
+	 * Keeps only the solutions that have all of the values. Does nothing if the
+	 * values are null or empty.
+	 */
+	private static void retainAll(BitSet result, Map<String, BitSet> bitmaps, String[] values) {
+		if (values == null)
+			return;
+		for (String v : values) {
+			BitSet bits = bitmaps.get(v);
+			if (bits == null) {
+				result.clear();
+				return;
+			}
+			result.and(bits);
+		}
+	}
+
+	/*
+	 * Brings the index up to date with the changes committed before this call.
+	 * Fails if the index has not been built.
+	 */
+	private void refresh() {
+		if (index == null)
+			throw new IllegalStateException("Solution index is not built");
+		long wanted = changeCount.get();
+		if (wanted > appliedCount)
+			applyChanges(wanted);
+	}
+
+	/**
+	 * Rebuilds the index periodically to pick up changes made by other instances
+	 * of this server. Searches use the current index until the new one is ready.
+	 */
+	@Scheduled(initialDelayString = "${cds.search.index.rebuild-ms:900000}", //
+			fixedDelayString = "${cds.search.index.rebuild-ms:900000}")
+	public void rebuildIndex() {
+		if (!enabled)
+			return;
+		try {
+			rebuild(false);
+		} catch (RuntimeException ex) {
+			logger.warn("rebuildIndex failed", ex);
+		}
+	}
+
+	/**
+	 * Builds the index if the build at startup failed, or rebuilds it if it was
+	 * discarded, without waiting for the periodic rebuild.
+	 */
+	@Scheduled(initialDelayString = "${cds.search.index.retry-ms:10000}", //
+			fixedDelayString = "${cds.search.index.retry-ms:10000}")
+	public void rebuildIndexIfRequired() {
+		if (!enabled)
+			return;
+		try {
+			rebuild(true);
+		} catch (RuntimeException ex) {
+			logger.warn("rebuildIndexIfRequired failed", ex);
+		}
+	}
+
+	/*
+	 * Reads every solution into a new index without holding the lock, then swaps
+	 * it in. Solutions re-indexed meanwhile may have been read before the change,
+	 * so they are marked again for the new index. Builds are serialized.
+	 */
+	private synchronized void rebuild(boolean onlyIfRequired) {
+		if (onlyIfRequired && !rebuildRequired && index != null)
+			return;
+		long startMs = System.currentTimeMillis();
+		lock.writeLock().lock();
+		try {
+			rebuildRequired = false;
+			changedDuringRebuild = new HashSet<>();
+		} finally {
+			lock.writeLock().unlock();
+		}
+		Index fresh = new Index();
+		boolean loaded = false;
+		try {
+			EntityManager em = entityManagerFactory.createEntityManager();
+			try {
+				List<String> ids = em.createQuery("SELECT s.solutionId FROM MLPSolution s", String.class)
+						.getResultList();
+				for (int i = 0; i < ids.size(); i += BATCH_SIZE) {
+					for (Map.Entry<String, IndexedSolution> entry : readSolutions(em,
+							ids.subList(i, Math.min(i + BATCH_SIZE, ids.size()))).entrySet())
+						fresh.addDocument(entry.getKey(), entry.getValue());
+					// Don't let the entity manager accumulate entities across batches
+					em.clear();
+				}
+			} finally {
+				em.close();
+			}
+			loaded = true;
+		} finally {
+			lock.writeLock().lock();
+			try {
+				if (loaded)
+					index = fresh;
+				else
+					rebuildRequired = true;
+				for (String id : changedDuringRebuild)
+					invalidateSolution(id);
+				changedDuringRebuild = null;
+			} finally {
+				lock.writeLock().unlock();
+			}
+		}
+		logger.info("rebuild: indexed {} solutions, {} terms in {} msec", fresh.documents.size(),
+				fresh.postings.size(), System.currentTimeMillis() - startMs);
+	}
+
+	private static Set<String> drain(Set<String> set) {
+		Set<String> drained = new HashSet<>();
+		Iterator<String> iter = set.iterator();
+		while (iter.hasNext()) {
+			drained.add(iter.next());
+			iter.remove();
+		}
+		return drained;
+	}
+
+	/*
+	 * Re-reads the solutions that were marked by the event listener in the
+	 * session of the caller, then swaps them into the index under the write
+	 * lock. Appliers are serialized, so a search that finds changes pending waits
+	 * for the search that is applying them. If reading fails, the solutions stay
+	 * marked.
+	 */
+	private void applyChanges(long wanted) {
+		synchronized (applyMutex) {
+			if (appliedCount >= wanted)
+				return;
+			long target = changeCount.get();
+			Set<String> solutionIds = drain(dirtySolutionIds);
+			Set<String> revisionIds = drain(dirtyRevisionIds);
+			Map<String, IndexedSolution> docs = new HashMap<>();
+			List<String> ids;
+			try {
+				// Only appliers change the index in use, so it can be read here
+				// without the lock
+				List<String> unknownRevisionIds = new ArrayList<>();
+				for (String revisionId : revisionIds) {
+					String owner = index.revisionOwners.get(revisionId);
+					if (owner == null)
+						unknownRevisionIds.add(revisionId);
+					else
+						solutionIds.add(owner);
+				}
+				for (int i = 0; i < unknownRevisionIds.size(); i += BATCH_SIZE)
+					solutionIds.addAll(entityManager
+							.createQuery("SELECT r.solutionId FROM MLPSolutionRevision r WHERE r.revisionId IN :ids",
+									String.class)
+							.setParameter("ids",
+									unknownRevisionIds.subList(i, Math.min(i + BATCH_SIZE, unknownRevisionIds.size())))
+							.getResultList());
+				ids = new ArrayList<>(solutionIds);
+				for (int i = 0; i < ids.size(); i += BATCH_SIZE)
+					docs.putAll(readSolutions(entityManager, ids.subList(i, Math.min(i + BATCH_SIZE, ids.size()))));
+			} catch (RuntimeException ex) {
+				dirtySolutionIds.addAll(solutionIds);
+				dirtyRevisionIds.addAll(revisionIds);
+				throw ex;
+			}
+			lock.writeLock().lock();
+			try {
+				for (String id : ids)
+					index.removeDocument(id);
+				for (Map.Entry<String, IndexedSolution> entry : docs.entrySet())
+					index.addDocument(entry.getKey(), entry.getValue());
+				if (changedDuringRebuild != null)
+					changedDuringRebuild.addAll(ids);
+			} finally {
+				lock.writeLock().unlock();
+			}
+			appliedCount = target;
+			logger.debug("applyChanges: re-indexed {} solutions", ids.size());
+		}
+	}
+
+	/*
+	 * Reads the specified solutions with their revisions, descriptions and catalog
+	 * memberships using one query per entity type.
+	 * 
+	 * @return Map of solution ID to indexed attributes; solutions that do not
+	 * exist are omitted
+	 */
+	private Map<String, IndexedSolution> readSolutions(EntityManager em, List<String> solutionIds) {
+		Map<String, IndexedSolution> docs = new HashMap<>();
+		List<MLPSolution> solutions = em.createQuery(
+				"SELECT DISTINCT s FROM MLPSolution s LEFT JOIN FETCH s.tags WHERE s.solutionId IN :ids",
+				MLPSolution.class).setParameter("ids", solutionIds).getResultList();
+		for (MLPSolution s : solutions) {
+			IndexedSolution doc = new IndexedSolution();
+			doc.active = s.isActive();
+			doc.name = s.getName();
+			doc.userId = s.getUserId();
+			doc.modelTypeCode = s.getModelTypeCode();
+			doc.toolkitTypeCode = s.getToolkitTypeCode();
+			doc.addText(s.getName(), NAME_WEIGHT);
+			for (MLPTag t : s.getTags())
+				doc.tags.add(t.getTag());
+			docs.put(s.getSolutionId(), doc);
+		}
+		if (docs.isEmpty())
+			return docs;
+
+		Map<String, IndexedSolution> revisionDocs = new HashMap<>();
+		List<MLPSolutionRevision> revisions = em
+				.createQuery("SELECT r FROM MLPSolutionRevision r WHERE r.solutionId IN :ids",
+						MLPSolutionRevision.class)
+				.setParameter("ids", docs.keySet()).getResultList();
+		for (MLPSolutionRevision r : revisions) {
+			IndexedSolution doc = docs.get(r.getSolutionId());
+			doc.revisionIds.add(r.getRevisionId());
+			doc.accessTypeCodes.add(r.getAccessTypeCode());
+			doc.addText(r.getPublisher(), PEOPLE_WEIGHT);
+			for (AuthorTransport a : r.getAuthors()) {
+				doc.addText(a.getName(), PEOPLE_WEIGHT);
+				if (a.getName() != null)
+					doc.authorNames.add(a.getName());
+				doc.addText(a.getContact(), PEOPLE_WEIGHT);
+			}
+			revisionDocs.put(r.getRevisionId(), doc);
+		}
+
+		List<String> revisionIds = new ArrayList<>(revisionDocs.keySet());
+		for (int i = 0; i < revisionIds.size(); i += BATCH_SIZE) {
+			List<MLPRevisionDescription> descriptions = em
+					.createQuery("SELECT d FROM MLPRevisionDescription d WHERE d.revisionId IN :ids",
+							MLPRevisionDescription.class)
+					.setParameter("ids", revisionIds.subList(i, Math.min(i + BATCH_SIZE, revisionIds.size())))
+					.getResultList();
+			for (MLPRevisionDescription d : descriptions)
+				revisionDocs.get(d.getRevisionId()).addText(d.getDescription(), DESCRIPTION_WEIGHT);
+		}
+
+		List<MLPCatSolMap> catalogMaps = em
+				.createQuery("SELECT m FROM MLPCatSolMap m WHERE m.solutionId IN :ids", MLPCatSolMap.class)
+				.setParameter("ids", docs.keySet()).getResultList();
+		for (MLPCatSolMap m : catalogMaps)
+			docs.get(m.getSolutionId()).catalogIds.add(m.getCatalogId());
+
+		return docs;
+	}
+
+	/*
+	 * Gets the autocomplete text of a solution, omitting blank values.
+	 */
+	private static Set<Suggestion> getSuggestions(IndexedSolution doc) {
+		Set<Suggestion> result = new HashSet<>();
+		addSuggestion(result, SuggestionTransport.Type.NAME, doc.name);
+		for (String tag : doc.tags)
+			addSuggestion(result, SuggestionTransport.Type.TAG, tag);
+		for (String author : doc.authorNames)
+			addSuggestion(result, SuggestionTransport.Type.AUTHOR, author);
+		return result;
+	}
+
+	private static void addSuggestion(Set<Suggestion> result, SuggestionTransport.Type type, String text) {
+		if (text != null && !text.trim().isEmpty())
+			result.add(new Suggestion(type, text.trim()));
+	}
+
+	/*
+	 * Gets the lower-case text plus every suffix that starts at a word, so a term
+	 * can match the start of any word.
+	 */
+	static Set<String> getSuggestionKeys(String text) {
+		String lower = text.toLowerCase(Locale.ROOT);
+		Set<String> keys = new HashSet<>();
+		keys.add(lower);
+		for (int i = 1; i < lower.length(); ++i)
+			if (Character.isLetterOrDigit(lower.charAt(i)) && !Character.isLetterOrDigit(lower.charAt(i - 1)))
+				keys.add(lower.substring(i));
+		return keys;
+	}
+
+	private static void setBit(Map<String, BitSet> bitmaps, String value, int ordinal) {
+		bitmaps.computeIfAbsent(value, k -> new BitSet()).set(ordinal);
+	}
+
+	private static void clearBit(Map<String, BitSet> bitmaps, String value, int ordinal) {
+		BitSet bits = bitmaps.get(value);
+		if (bits != null) {
+			bits.clear(ordinal);
+			if (bits.isEmpty())
+				bitmaps.remove(value);
+		}
+	}
+
+}
@@ -0,0 +1,78 @@
+/*-
+ * ===============LICENSE_START=======================================================
+ * Acumos
+ * ===================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property & Tech Mahindra. All rights reserved.
+ * ===================================================================================
+ * This Acumos software file is distributed by AT&T and Tech Mahindra
+ * under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ===============LICENSE_END=========================================================
+ */
+package org.acumos.cds.service;
+
+import org.acumos.cds.transport.PurgeTaskTransport;
+
+/**
+ * Deletes solutions and revisions with everything that depends on them. Child
+ * rows are removed with set-based bulk deletes in a single transaction, and
+ * artifacts and documents that no other revision uses are found with one
+ * anti-join each. Solutions and revisions themselves are removed as entities,
+ * so the change log and the search caches learn of the delete.
+ */
+public interface SolutionPurgeService {
+
+	/**
+	 * Deletes a solution, its revisions and dependent rows, and the artifacts and
+	 * documents used only by those revisions.
+	 * 
+	 * @param solutionId
+	 *                       Solution ID
+	 * @throws IllegalArgumentException
+	 *                                      if the solution is not found
+	 */
+	void purgeSolution(String solutionId);
+
+	/**
+	 * Deletes a revision and dependent rows, and the artifacts and documents used
+	 * only by that revision.
+	 * 
+	 * @param revisionId
+	 *                       Revision ID
+	 * @throws IllegalArgumentException
+	 *                                      if the revision is not found
+	 */
+	void purgeRevision(String revisionId);
+
+	/**
+	 * Queues a solution delete to run in the background and returns immediately.
+	 * Deletes run one at a time in the order queued. Queued deletes are lost if
+	 * the server stops.
+	 * 
+	 * @param solutionId
+	 *                       Solution ID
+	 * @return Task with status started
+	 * @throws IllegalArgumentException
+	 *                                      if the solution is not found
+	 */
+	PurgeTaskTransport purgeSolutionAsync(String solutionId);
+
+	/**
+	 * Gets the state of a background solution delete. Only the most recent tasks
+	 * are remembered.
+	 * 
+	 * @param taskId
+	 *                   Task ID
+	 * @return Task; null if the ID is not known
+	 */
+	PurgeTaskTransport getPurgeTask(String taskId);
+
+}
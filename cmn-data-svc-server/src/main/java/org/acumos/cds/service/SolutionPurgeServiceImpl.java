@@ -0,0 +1,231 @@
+/*-
+ * ===============LICENSE_START=======================================================
+ * Acumos
+ * ===================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property & Tech Mahindra. All rights reserved.
+ * ===================================================================================
+ * This Acumos software file is distributed by AT&T and Tech Mahindra
+ * under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ===============LICENSE_END=========================================================
+ */
+package org.acumos.cds.service;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import javax.annotation.PreDestroy;
+import javax.persistence.EntityManager;
+
+import org.acumos.cds.domain.MLPSolution;
+import org.acumos.cds.domain.MLPSolutionRevision;
+import org.acumos.cds.repository.SolutionRepository;
+import org.acumos.cds.transport.PurgeTaskTransport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service("solutionPurgeService")
+public class SolutionPurgeServiceImpl implements SolutionPurgeService {
+
+	private static final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+	/**
+	 * Rows that depend on a solution and not on its revisions, except tasks and
+	 * deployments, which also depend on a revision.
+	 */
+	private static final String[] SOLUTION_CHILD_DELETES = { //
+			"DELETE FROM MLPCatSolMap m WHERE m.solutionId = :id", //
+			"DELETE FROM MLPCompSolMap m WHERE m.parentId = :id OR m.childId = :id", //
+			"DELETE FROM MLPSolutionDeployment d WHERE d.solutionId = :id", //
+			"DELETE FROM MLPSolutionDownload d WHERE d.solutionId = :id", //
+			"DELETE FROM MLPSolutionFavorite f WHERE f.solutionId = :id", //
+			"DELETE FROM MLPSolutionRating r WHERE r.solutionId = :id", //
+			"DELETE FROM MLPSolGrpMemMap m WHERE m.solutionId = :id", //
+			"DELETE FROM MLPSolTagMap m WHERE m.solutionId = :id", //
+			"DELETE FROM MLPSolUserAccMap m WHERE m.solutionId = :id", //
+			"DELETE FROM MLPTask t WHERE t.solutionId = :id" };
+
+	/**
+	 * Rows that depend on a revision.
+	 */
+	private static final String[] REVISION_CHILD_DELETES = { //
+			"DELETE FROM MLPSolRevArtMap m WHERE m.revisionId IN :ids", //
+			"DELETE FROM MLPRevisionDescription d WHERE d.revisionId IN :ids", //
+			"DELETE FROM MLPSolRevDocMap m WHERE m.revisionId IN :ids" };
+
+	private static final String STATUS_STARTED = "ST";
+	private static final String STATUS_SUCCEEDED = "SU";
+	private static final String STATUS_FAILED = "FA";
+	private static final int MAX_TASKS = 1000;
+
+	@Autowired
+	private EntityManager entityManager;
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+	@Autowired
+	private SolutionRepository solutionRepository;
+
+	// One thread, so background deletes do not compete for locks
+	private final ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+			new LinkedBlockingQueue<>(), r -> {
+				Thread thread = new Thread(r, "solution-purge");
+				thread.setDaemon(true);
+				return thread;
+			});
+
+	// Most recent tasks by ID; the eldest are forgotten
+	private final Map<String, PurgeTaskTransport> tasks = Collections
+			.synchronizedMap(new LinkedHashMap<String, PurgeTaskTransport>() {
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<String, PurgeTaskTransport> eldest) {
+					return size() > MAX_TASKS;
+				}
+			});
+
+	/**
+	 * Deletes the rows that depend on the revisions, the revisions, and the
+	 * artifacts and documents that no remaining revision uses.
+	 */
+	private void deleteRevisions(List<MLPSolutionRevision> revisions) {
+		if (revisions.isEmpty())
+			return;
+		List<String> revisionIds = revisions.stream().map(MLPSolutionRevision::getRevisionId)
+				.collect(Collectors.toList());
+		List<String> artifactIds = entityManager
+				.createQuery("SELECT DISTINCT m.artifactId FROM MLPSolRevArtMap m WHERE m.revisionId IN :ids",
+						String.class)
+				.setParameter("ids", revisionIds).getResultList();
+		List<String> documentIds = entityManager
+				.createQuery("SELECT DISTINCT m.documentId FROM MLPSolRevDocMap m WHERE m.revisionId IN :ids",
+						String.class)
+				.setParameter("ids", revisionIds).getResultList();
+		for (String jpql : REVISION_CHILD_DELETES)
+			entityManager.createQuery(jpql).setParameter("ids", revisionIds).executeUpdate();
+		// As entities, so listeners see the delete
+		for (MLPSolutionRevision revision : revisions)
+			entityManager.remove(revision);
+		List<String> orphanArtifactIds = findOrphans("SELECT a.artifactId FROM MLPArtifact a " //
+				+ " WHERE a.artifactId IN :ids AND NOT EXISTS " //
+				+ " (SELECT m.artifactId FROM MLPSolRevArtMap m WHERE m.artifactId = a.artifactId)", artifactIds);
+		if (!orphanArtifactIds.isEmpty()) {
+			entityManager.createQuery("DELETE FROM MLPSolutionDownload d WHERE d.artifactId IN :ids")
+					.setParameter("ids", orphanArtifactIds).executeUpdate();
+			entityManager.createQuery("DELETE FROM MLPArtifact a WHERE a.artifactId IN :ids")
+					.setParameter("ids", orphanArtifactIds).executeUpdate();
+		}
+		List<String> orphanDocumentIds = findOrphans("SELECT d.documentId FROM MLPDocument d " //
+				+ " WHERE d.documentId IN :ids AND NOT EXISTS " //
+				+ " (SELECT m.documentId FROM MLPSolRevDocMap m WHERE m.documentId = d.documentId)", documentIds);
+		if (!orphanDocumentIds.isEmpty())
+			entityManager.createQuery("DELETE FROM MLPDocument d WHERE d.documentId IN :ids")
+					.setParameter("ids", orphanDocumentIds).executeUpdate();
+		logger.debug("deleteRevisions: revisions {}, artifacts {}, documents {}", revisionIds, orphanArtifactIds,
+				orphanDocumentIds);
+	}
+
+	/**
+	 * Runs an anti-join that selects the IDs no longer in use.
+	 */
+	private List<String> findOrphans(String jpql, Collection<String> ids) {
+		if (ids.isEmpty())
+			return Collections.emptyList();
+		return entityManager.createQuery(jpql, String.class).setParameter("ids", ids).getResultList();
+	}
+
+	private void deleteSolution(String solutionId) {
+		MLPSolution solution = entityManager.find(MLPSolution.class, solutionId);
+		if (solution == null)
+			throw new IllegalArgumentException("Failed to find solution " + solutionId);
+		for (String jpql : SOLUTION_CHILD_DELETES)
+			entityManager.createQuery(jpql).setParameter("id", solutionId).executeUpdate();
+		deleteRevisions(entityManager
+				.createQuery("SELECT r FROM MLPSolutionRevision r WHERE r.solutionId = :id", MLPSolutionRevision.class)
+				.setParameter("id", solutionId).getResultList());
+		entityManager.remove(solution);
+	}
+
+	@Override
+	@Transactional
+	public void purgeSolution(String solutionId) {
+		deleteSolution(solutionId);
+	}
+
+	@Override
+	@Transactional
+	public void purgeRevision(String revisionId) {
+		MLPSolutionRevision revision = entityManager.find(MLPSolutionRevision.class, revisionId);
+		if (revision == null)
+			throw new IllegalArgumentException("Failed to find revision " + revisionId);
+		deleteRevisions(Collections.singletonList(revision));
+	}
+
+	@Override
+	public PurgeTaskTransport purgeSolutionAsync(String solutionId) {
+		if (!solutionRepository.existsById(solutionId))
+			throw new IllegalArgumentException("Failed to find solution " + solutionId);
+		final String taskId = UUID.randomUUID().toString();
+		PurgeTaskTransport started = new PurgeTaskTransport(taskId, solutionId, STATUS_STARTED, null);
+		tasks.put(taskId, started);
+		executor.execute(() -> {
+			try {
+				new TransactionTemplate(transactionManager).execute(status -> {
+					deleteSolution(solutionId);
+					return null;
+				});
+				tasks.put(taskId, new PurgeTaskTransport(taskId, solutionId, STATUS_SUCCEEDED, null));
+				logger.info("purgeSolutionAsync: task {} deleted solution {}", taskId, solutionId);
+			} catch (RuntimeException ex) {
+				tasks.put(taskId, new PurgeTaskTransport(taskId, solutionId, STATUS_FAILED, ex.toString()));
+				logger.warn("purgeSolutionAsync: task {} failed to delete solution {}: {}", taskId, solutionId,
+						ex.toString());
+			}
+		});
+		return started;
+	}
+
+	@Override
+	public PurgeTaskTransport getPurgeTask(String taskId) {
+		return tasks.get(taskId);
+	}
+
+	/**
+	 * Drops queued deletes and waits briefly for a running delete to finish, while
+	 * the data source is still open.
+	 */
+	@PreDestroy
+	public void shutdown() throws InterruptedException {
+		List<Runnable> dropped = new ArrayList<>();
+		executor.getQueue().drainTo(dropped);
+		if (!dropped.isEmpty())
+			logger.warn("shutdown: dropped {} queued solution deletes", dropped.size());
+		executor.shutdown();
+		if (!executor.awaitTermination(30, TimeUnit.SECONDS))
+			logger.warn("shutdown: solution delete still running");
+	}
+
+}
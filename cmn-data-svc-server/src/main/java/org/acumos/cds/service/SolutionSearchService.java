@@ -21,9 +21,14 @@
 package org.acumos.cds.service;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.Map;
 
+import org.acumos.cds.CountMode;
 import org.acumos.cds.domain.MLPSolution;
+import org.acumos.cds.transport.FacetCountTransport;
+import org.acumos.cds.transport.RestPageResponse;
+import org.acumos.cds.transport.SuggestionTransport;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -54,12 +59,14 @@ public interface SolutionSearchService {
 	 *                            true for or, false for and
 	 * @param pageable
 	 *                            Page and sort info
+	 * @param countMode
+	 *                            How to compute the total count of elements
 	 * @return Page of solutions
 	 * @see org.acumos.cds.client.ICommonDataServiceRestClient#searchSolutions(Map,
 	 *      boolean, org.acumos.cds.transport.RestPageRequest)
 	 */
 	Page<MLPSolution> searchSolutions(String name, Boolean active, String userId, String sourceId, String modelTypeCode,
-			String toolkitTypeCode, String origin, boolean isOr, Pageable pageable);
+			String toolkitTypeCode, String origin, boolean isOr, Pageable pageable, CountMode countMode);
 
 	/**
 	 * Searches for solutions, multiple values per field
@@ -84,6 +91,8 @@ Page<MLPSolution> searchSolutions(String name, Boolean active, String userId, St
 	 *                                publishers
 	 * @param pageable
 	 *                                Page and sort info
+	 * @param countMode
+	 *                                How to compute the total count of elements
 	 * @return Page of solutions
 	 * @see org.acumos.cds.client.ICommonDataServiceRestClient#findPortalSolutions(String[],
 	 *      String[], boolean, String[], String[], String[], String[], String[],
@@ -91,7 +100,7 @@ Page<MLPSolution> searchSolutions(String name, Boolean active, String userId, St
 	 */
 	Page<MLPSolution> findPortalSolutions(String[] nameKeywords, String[] descriptionKeywords, boolean active,
 			String[] userIds, String[] modelTypeCodes, String[] accessTypeCodes, String[] tags, String[] authorKeywords,
-			String[] publisherKeywords, Pageable pageable);
+			String[] publisherKeywords, Pageable pageable, CountMode countMode);
 
 	/**
 	 * Searches for solutions, multiple values per field, enhanced for keywords and
@@ -115,6 +124,8 @@ Page<MLPSolution> findPortalSolutions(String[] nameKeywords, String[] descriptio
 	 *                            Catalog IDs
 	 * @param pageable
 	 *                            Page and sort info
+	 * @param countMode
+	 *                            How to compute the total count of elements
 	 * @return Page of solutions
 	 * @see org.acumos.cds.client.ICommonDataServiceRestClient#findPortalSolutionsByKwAndTags(String[],
 	 *      boolean, String[], String[], String[], String[], String[], String[],
@@ -122,7 +133,76 @@ Page<MLPSolution> findPortalSolutions(String[] nameKeywords, String[] descriptio
 	 */
 	Page<MLPSolution> findPortalSolutionsByKwAndTags(String[] keywords, boolean active, String[] userIds,
 			String[] modelTypeCodes, String[] accessTypeCodes, String[] allTags, String[] anyTags, String[] catalogIds,
-			Pageable pageable);
+			Pageable pageable, CountMode countMode);
+
+	/**
+	 * Gets a test of whether a solution matches the conditions of the
+	 * keyword-and-tag search, so cached results of the search can be discarded
+	 * only when a changed solution is or was in them.
+	 * 
+	 * @param keywords
+	 *                            Keywords
+	 * @param active
+	 *                            Active status
+	 * @param userIds
+	 *                            User IDs
+	 * @param modelTypeCodes
+	 *                            Model type codes
+	 * @param accessTypeCodes
+	 *                            Access type codes
+	 * @param allTags
+	 *                            Tags that ALL must match
+	 * @param anyTags
+	 *                            Tags that ANY must match
+	 * @param catalogIds
+	 *                            Catalog IDs
+	 * @return Matcher; null if the solution index is not available to test the
+	 *         conditions in memory
+	 */
+	SearchResultCacheService.SolutionMatcher getKwAndTagsMatcher(String[] keywords, boolean active,
+			String[] userIds, String[] modelTypeCodes, String[] accessTypeCodes, String[] allTags, String[] anyTags,
+			String[] catalogIds);
+
+	/**
+	 * Counts solutions per facet value, using the same conditions as the
+	 * keyword-and-tag search
+	 * 
+	 * @param keywords
+	 *                            Keywords
+	 * @param active
+	 *                            Active status
+	 * @param userIds
+	 *                            User IDs
+	 * @param modelTypeCodes
+	 *                            Model type codes
+	 * @param accessTypeCodes
+	 *                            Access type codes
+	 * @param allTags
+	 *                            Tags that ALL must match
+	 * @param anyTags
+	 *                            Tags that ANY must match
+	 * @param catalogIds
+	 *                            Catalog IDs
+	 * @return Facet counts
+	 * @see org.acumos.cds.client.ICommonDataServiceRestClient#findPortalSolutionFacets(String[],
+	 *      boolean, String[], String[], String[], String[], String[], String[])
+	 */
+	FacetCountTransport findPortalSolutionFacets(String[] keywords, boolean active, String[] userIds,
+			String[] modelTypeCodes, String[] accessTypeCodes, String[] allTags, String[] anyTags,
+			String[] catalogIds);
+
+	/**
+	 * Gets autocomplete suggestions for the solution search box.
+	 * 
+	 * @param term
+	 *                  Prefix to complete
+	 * @param limit
+	 *                  Maximum number of suggestions
+	 * @return List of suggestions, most common first
+	 * @see org.acumos.cds.client.ICommonDataServiceRestClient#getSolutionSuggestions(String,
+	 *      int)
+	 */
+	List<SuggestionTransport> getSuggestions(String term, int limit);
 
 	/**
 	 * Searches for solutions editable by one user.
@@ -143,13 +223,16 @@ Page<MLPSolution> findPortalSolutionsByKwAndTags(String[] keywords, boolean acti
 	 *                                Tags that ANY must match
 	 * @param pageable
 	 *                                Page and sort info
+	 * @param countMode
+	 *                                How to compute the total count of elements
 	 * @return Page of solutions
 	 * @see org.acumos.cds.client.ICommonDataServiceRestClient#findUserSolutions(String[],
 	 *      String[], boolean, String, String[], String[], String[],
 	 *      org.acumos.cds.transport.RestPageRequest)
 	 */
 	public Page<MLPSolution> findUserSolutions(String[] nameKeywords, String[] descriptionKeywords, boolean active,
-			String userId, String[] modelTypeCodes, String[] accessTypeCodes, String[] tags, Pageable pageable);
+			String userId, String[] modelTypeCodes, String[] accessTypeCodes, String[] tags, Pageable pageable,
+			CountMode countMode);
 
 	/**
 	 * Searches for solutions modified after a specified point in time. Primarily
@@ -163,11 +246,27 @@ public Page<MLPSolution> findUserSolutions(String[] nameKeywords, String[] descr
 	 *                            Point in time
 	 * @param pageable
 	 *                            Page and sort info
+	 * @param countMode
+	 *                            How to compute the total count of elements
 	 * @return Page of matches
 	 * @see org.acumos.cds.client.ICommonDataServiceRestClient#findSolutionsByDate(boolean,
 	 *      String[], Instant, org.acumos.cds.transport.RestPageRequest)
 	 */
 	Page<MLPSolution> findSolutionsByModifiedDate(boolean active, String[] accessTypeCodes, Instant modifiedTs,
-			Pageable pageable);
+			Pageable pageable, CountMode countMode);
+
+	/**
+	 * Gets a page of solutions using keyset pagination.
+	 * 
+	 * @param continuation
+	 *                         Token from the previous page; null or empty to get
+	 *                         the first page
+	 * @param pageable
+	 *                         Page size and at most one sort criterion
+	 * @return Page of instances with a continuation token if more are available
+	 * @see org.acumos.cds.client.ICommonDataServiceRestClient#getSolutionsByCursor(String,
+	 *      org.acumos.cds.transport.RestPageRequest)
+	 */
+	RestPageResponse<MLPSolution> findSolutionsAfterCursor(String continuation, Pageable pageable);
 
 }
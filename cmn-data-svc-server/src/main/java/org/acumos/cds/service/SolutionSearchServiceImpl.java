@@ -23,53 +23,60 @@
 import java.lang.invoke.MethodHandles;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.BiFunction;
 
-import javax.persistence.EntityManagerFactory;
+import javax.persistence.Tuple;
 import javax.persistence.TypedQuery;
+import javax.persistence.criteria.CommonAbstractCriteria;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.Join;
 import javax.persistence.criteria.JoinType;
+import javax.persistence.criteria.Path;
 import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Selection;
+import javax.persistence.criteria.Subquery;
 
+import org.acumos.cds.CountMode;
 import org.acumos.cds.domain.MLPArtifactFOM;
 import org.acumos.cds.domain.MLPArtifactFOM_;
-import org.acumos.cds.domain.MLPCatalog_;
+import org.acumos.cds.domain.MLPCatSolMap;
+import org.acumos.cds.domain.MLPCatSolMap_;
 import org.acumos.cds.domain.MLPDocument;
 import org.acumos.cds.domain.MLPDocument_;
 import org.acumos.cds.domain.MLPRevisionDescription;
 import org.acumos.cds.domain.MLPRevisionDescription_;
+import org.acumos.cds.domain.MLPSolTagMap;
+import org.acumos.cds.domain.MLPSolTagMap_;
 import org.acumos.cds.domain.MLPSolution;
 import org.acumos.cds.domain.MLPSolutionFOM;
 import org.acumos.cds.domain.MLPSolutionFOM_;
+import org.acumos.cds.domain.MLPSolutionRevision;
 import org.acumos.cds.domain.MLPSolutionRevisionFOM;
 import org.acumos.cds.domain.MLPSolutionRevisionFOM_;
+import org.acumos.cds.domain.MLPSolutionRevision_;
 import org.acumos.cds.domain.MLPSolution_;
 import org.acumos.cds.domain.MLPTag;
 import org.acumos.cds.domain.MLPTag_;
 import org.acumos.cds.domain.MLPUser;
 import org.acumos.cds.domain.MLPUser_;
-import org.hibernate.AssertionFailure;
-import org.hibernate.Criteria;
+import org.acumos.cds.transport.FacetCountTransport;
+import org.acumos.cds.transport.RestPageResponse;
+import org.acumos.cds.transport.SuggestionTransport;
 import org.hibernate.Hibernate;
-import org.hibernate.Session;
-import org.hibernate.SessionFactory;
-import org.hibernate.criterion.Criterion;
-import org.hibernate.criterion.DetachedCriteria;
-import org.hibernate.criterion.Disjunction;
-import org.hibernate.criterion.Junction;
-import org.hibernate.criterion.Order;
-import org.hibernate.criterion.Projections;
-import org.hibernate.criterion.Restrictions;
-import org.hibernate.criterion.Subqueries;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
@@ -104,9 +111,11 @@
  * Many of the queries here check properties of the solution AND associated
  * entities especially revisions. The queries require an inner join and yield a
  * large cross product that Hibernate will coalesce. Because of the joins it's
- * unsafe to apply limit (pagination) parameters at the database. Therefore the
- * approach taken here is to fetch the full result from the database then
- * reduces the result size in the method, which is inefficient.
+ * unsafe to apply limit (pagination) parameters to a query that fetches
+ * entities. Therefore most queries here run in two phases: first select a
+ * distinct, ordered page of solution IDs with limit parameters applied at the
+ * database, plus a count of distinct IDs; then fetch only the solutions with
+ * those IDs.
  *
  * Using the JPA (instead of the deprecated Hibernate Criteria API) makes the
  * code incredibly verbose.
@@ -117,94 +126,10 @@ public class SolutionSearchServiceImpl extends AbstractSearchServiceImpl impleme
 
 	private static final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
 
-	private final String revAlias = "revs";
-	private final String userAlias = "usr";
-	private final String descsAlias = "descs";
 	private final String solutionId = "solutionId";
-	// Aliases used in subquery for required tags
-	private final String solAlias = "sol";
-	private final String subqAlias = "subsol";
-	private final String tagsFieldAlias = "t";
-	private final String tagValueField = tagsFieldAlias + ".tag";
 
 	@Autowired
-	private EntityManagerFactory entityManagerFactory;
-
-	/**
-	 * Gets the session factory from the entity manager factory. Factored out for
-	 * convenience of subclasses.
-	 * 
-	 * @return SessionFactory
-	 */
-	private SessionFactory getSessionFactory() {
-		return entityManagerFactory.unwrap(SessionFactory.class);
-	}
-
-	/**
-	 * Builds a disjunction ("OR") criterion to check if field value occurs in the
-	 * list, with special handling ("isNull") for null.
-	 * 
-	 * @param fieldName
-	 *                      POJO field name
-	 * @param values
-	 *                      Set of values; null is permitted
-	 * @return Criterion
-	 */
-	private Criterion buildEqualsListCriterion(String fieldName, Object[] values) {
-		Junction junction = Restrictions.disjunction();
-		for (Object v : values) {
-			if (v == null)
-				junction.add(Restrictions.isNull(fieldName));
-			else
-				junction.add(Restrictions.eq(fieldName, v));
-		}
-		return junction;
-	}
-
-	/**
-	 * Builds a criterion to check approximate match of values in the list; null is
-	 * not permitted.
-	 * 
-	 * @param fieldName
-	 *                      POJO field name
-	 * @param values
-	 *                      String values; null is forbidden
-	 * @param isOr
-	 *                      If true, treat the query as a disjunction; else as a
-	 *                      conjunction.
-	 * @return Criterion
-	 */
-	private Criterion buildLikeListCriterion(String fieldName, String[] values, boolean isOr) {
-		Junction junction = isOr ? Restrictions.disjunction() : Restrictions.conjunction();
-		for (String v : values) {
-			if (v == null)
-				throw new IllegalArgumentException("Null not permitted in value list");
-			else
-				junction.add(Restrictions.like(fieldName, '%' + v + '%'));
-		}
-		return junction;
-	}
-
-	/**
-	 * Adds sort criteria to the criteria.
-	 * 
-	 * @param criteria
-	 *                     Criteria
-	 * @param pageable
-	 *                     Pageable
-	 */
-	protected void applySortCriteria(Criteria criteria, Pageable pageable) {
-		Iterator<Sort.Order> orderIter = pageable.getSort().iterator();
-		while (orderIter.hasNext()) {
-			Sort.Order sortOrder = orderIter.next();
-			Order order;
-			if (sortOrder.isAscending())
-				order = Order.asc(sortOrder.getProperty());
-			else
-				order = Order.desc(sortOrder.getProperty());
-			criteria.addOrder(order);
-		}
-	}
+	private SolutionIndexService solutionIndexService;
 
 	/*
 	 * Uses type-safe JPA methods to create a predicate that compares field values
@@ -251,95 +176,186 @@ private Predicate createFindSolutionsPredicate(Root<MLPSolution> from, String na
 	 * Unfortunately the solution entity has very few properties that are worth
 	 * searching, so this is largely worthless.
 	 * 
-	 * Calls the create-predicate method twice, once to form the count query and
-	 * once to form the fetch query. Might not be necessary but the JPA remains
-	 * black magic.
+	 * Calls the create-predicate method once per query. Might not be necessary but
+	 * the JPA remains black magic.
 	 */
 	@Override
 	public Page<MLPSolution> searchSolutions(String name, Boolean active, String userId, String sourceId,
-			String modelTypeCode, String toolkitTypeCode, String origin, boolean isOr, Pageable pageable) {
-
-		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
-
-		// Count rows available
-		CriteriaQuery<Long> countQueryDef = cb.createQuery(Long.class);
-		Root<MLPSolution> countFrom = countQueryDef.from(MLPSolution.class);
-		countQueryDef.select(cb.count(countFrom));
-		countQueryDef.where(createFindSolutionsPredicate(countFrom, name, active, userId, sourceId, modelTypeCode,
-				toolkitTypeCode, origin, isOr));
-		TypedQuery<Long> countQuery = entityManager.createQuery(countQueryDef);
-		Long count = countQuery.getSingleResult();
-		logger.debug("findSolutions: count {}", count);
-		if (count == 0)
-			return new PageImpl<>(new ArrayList<>(), pageable, count);
+			String modelTypeCode, String toolkitTypeCode, String origin, boolean isOr, Pageable pageable,
+			CountMode countMode) {
 
-		// Get one page of rows
-		CriteriaQuery<MLPSolution> rootQueryDef = cb.createQuery(MLPSolution.class);
-		Root<MLPSolution> fromRoot = rootQueryDef.from(MLPSolution.class);
-		rootQueryDef.select(fromRoot);
-		rootQueryDef.where(createFindSolutionsPredicate(countFrom, name, active, userId, sourceId, modelTypeCode,
-				toolkitTypeCode, origin, isOr));
-		if (pageable.getSort() != null && !pageable.getSort().isEmpty())
-			rootQueryDef.orderBy(buildOrderList(cb, fromRoot, pageable.getSort()));
-		TypedQuery<MLPSolution> itemQuery = entityManager.createQuery(rootQueryDef);
-		itemQuery.setFirstResult(pageable.getPageNumber() * pageable.getPageSize());
-		itemQuery.setMaxResults(pageable.getPageSize());
-		List<MLPSolution> queryResult = itemQuery.getResultList();
+		// Not distinct; the predicate has no joins
+		Page<MLPSolution> page = findPage(MLPSolution.class, from -> createFindSolutionsPredicate(from, name, active,
+				userId, sourceId, modelTypeCode, toolkitTypeCode, origin, isOr), false, pageable, countMode);
 		// Deal with lazy initialization
-		for (MLPSolution s : queryResult)
+		for (MLPSolution s : page.getContent())
 			Hibernate.initialize(s.getTags());
-		logger.debug("findSolutions: result size {}", queryResult.size());
-		return new PageImpl<>(queryResult, pageable, count);
+		logger.debug("findSolutions: result size {}", page.getNumberOfElements());
+		return page;
 	}
 
 	/**
-	 * Converts list of MLPSolutionFOM to page of MLPSolution
-	 * 
-	 * @param foms
-	 *                     List of MLPSolutionFOM
+	 * Runs a two-phase query on the solution FOM entity. The first phase counts
+	 * the distinct matching solutions, unless the client asked for no count or an
+	 * estimate, then fetches one page of distinct solution IDs with the limit and
+	 * offset applied by the database. Without a count the ID query looks ahead
+	 * past the page to learn whether another page follows. The second phase
+	 * fetches only the solutions in that page. Heap use and latency depend on the
+	 * page size, not on the number of matches or the width of the cross product
+	 * that results from joins on child entities.
+	 *
+	 * @param predicateBuilder
+	 *                             Builds the where-clause predicate for the
+	 *                             specified root. Invoked once per query because
+	 *                             JPA criteria objects cannot be shared.
 	 * @param pageable
-	 *                     Page request
+	 *                             Page and sort criteria
+	 * @param countMode
+	 *                             How to compute the total count of elements
 	 * @return Page of MLPSolution
 	 */
-	private PageImpl<MLPSolution> buildSolutionPage(List<MLPSolutionFOM> foms, Pageable pageable) {
-		// Get a page of FOM solutions and convert each to plain solution
-		List<MLPSolution> items = new ArrayList<>();
-		long lastItemInPage = pageable.getOffset() + pageable.getPageSize();
-		long limit = lastItemInPage < foms.size() ? lastItemInPage : foms.size();
-		for (long i = pageable.getOffset(); i < limit; ++i) {
-			Object o = foms.get((int) i);
-			if (o instanceof MLPSolutionFOM) {
-				MLPSolution s = ((MLPSolutionFOM) o).toMLPSolution();
-				// Deal with lazy initialization
-				Hibernate.initialize(s.getTags());
-				items.add(s);
+	private Page<MLPSolution> runTwoPhaseSolutionQuery(
+			BiFunction<CriteriaBuilder, Root<MLPSolutionFOM>, Predicate> predicateBuilder, Pageable pageable,
+			CountMode countMode) {
+
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+		// Phase 1a: count distinct solutions if the client wants an exact total
+		long count = 0;
+		if (countMode == CountMode.EXACT) {
+			CriteriaQuery<Long> countQueryDef = cb.createQuery(Long.class);
+			Root<MLPSolutionFOM> countFrom = countQueryDef.from(MLPSolutionFOM.class);
+			countQueryDef.select(cb.countDistinct(countFrom));
+			countQueryDef.where(predicateBuilder.apply(cb, countFrom));
+			count = entityManager.createQuery(countQueryDef).getSingleResult();
+			if (count == 0 || count <= pageable.getOffset())
+				return new PageImpl<>(new ArrayList<>(), pageable, count);
+		}
+
+		// Phase 1b: get one page of distinct IDs. The sort fields must appear in the
+		// select list of a distinct query; they are single-valued on the solution
+		// so they do not change the distinct result.
+		CriteriaQuery<Tuple> idQueryDef = cb.createTupleQuery();
+		Root<MLPSolutionFOM> idFrom = idQueryDef.from(MLPSolutionFOM.class);
+		Path<String> idPath = idFrom.get(MLPSolutionFOM_.SOLUTION_ID);
+		List<Selection<?>> selections = new ArrayList<>();
+		selections.add(idPath);
+		List<javax.persistence.criteria.Order> orders = new ArrayList<>();
+		Iterator<Sort.Order> sortIter = pageable.getSort().iterator();
+		while (sortIter.hasNext()) {
+			Sort.Order sortOrder = sortIter.next();
+			if (solutionId.equals(sortOrder.getProperty())) {
+				orders.add(sortOrder.isAscending() ? cb.asc(idPath) : cb.desc(idPath));
 			} else {
-				throw new AssertionFailure("Unexpected type: " + o.getClass().getName());
+				Path<Object> sortPath = idFrom.get(sortOrder.getProperty());
+				selections.add(sortPath);
+				orders.add(sortOrder.isAscending() ? cb.asc(sortPath) : cb.desc(sortPath));
 			}
 		}
-		return new PageImpl<>(items, pageable, foms.size());
+		// Add order on a unique field. Without this the pagination
+		// can yield odd results; e.g., request 10 items but only get 8.
+		if (pageable.getSort().getOrderFor(solutionId) == null)
+			orders.add(cb.asc(idPath));
+		idQueryDef.multiselect(selections);
+		idQueryDef.distinct(true);
+		idQueryDef.where(predicateBuilder.apply(cb, idFrom));
+		idQueryDef.orderBy(orders);
+		TypedQuery<Tuple> idQuery = entityManager.createQuery(idQueryDef);
+		idQuery.setFirstResult((int) pageable.getOffset());
+		// Without a count, look ahead past the page; IDs are cheap to fetch
+		if (countMode == CountMode.EXACT)
+			idQuery.setMaxResults(pageable.getPageSize());
+		else if (countMode == CountMode.NONE)
+			idQuery.setMaxResults(pageable.getPageSize() + 1);
+		else
+			idQuery.setMaxResults(getEstimateLimit(pageable));
+		List<String> ids = new ArrayList<>();
+		for (Tuple t : idQuery.getResultList())
+			ids.add(t.get(0, String.class));
+		if (countMode != CountMode.EXACT) {
+			List<String> pageIds = ids.size() > pageable.getPageSize() ? ids.subList(0, pageable.getPageSize())
+					: ids;
+			List<MLPSolution> items = pageIds.isEmpty() ? new ArrayList<>() : fetchSolutionsInOrder(pageIds);
+			return buildUncountedPage(items, pageable, countMode, ids.size());
+		}
+		if (ids.isEmpty())
+			return new PageImpl<>(new ArrayList<>(), pageable, count);
+
+		// Phase 2: fetch only the solutions in the page
+		return new PageImpl<>(fetchSolutionsInOrder(ids), pageable, count);
 	}
 
-	/*
-	 * Early attempt at providing a method for users to find solutions in the
-	 * marketplace.
-	 *
-	 * This implementation is awkward due to the requirement to perform LIKE queries
-	 * on certain fields.
+	/**
+	 * Fetches the solutions with the specified IDs. A solution deleted since its
+	 * ID was found is skipped and marked for re-indexing.
+	 * 
+	 * @param ids
+	 *                List of solution IDs
+	 * @return List of solutions in the same order as the IDs
 	 */
-	@Override
-	public Page<MLPSolution> findPortalSolutions(String[] nameKeywords, String[] descKeywords, boolean active,
-			String[] userIds, String[] modelTypeCodes, String[] accessTypeCodes, String[] tags, String[] authorKeywords,
-			String[] publisherKeywords, Pageable pageable) {
+	private List<MLPSolution> fetchSolutionsInOrder(List<String> ids) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<MLPSolution> solQueryDef = cb.createQuery(MLPSolution.class);
+		Root<MLPSolution> solFrom = solQueryDef.from(MLPSolution.class);
+		solQueryDef.select(solFrom);
+		solQueryDef.where(solFrom.<String>get(MLPSolution_.SOLUTION_ID).in(ids));
+		Map<String, MLPSolution> solMap = new HashMap<>();
+		for (MLPSolution s : entityManager.createQuery(solQueryDef).getResultList())
+			solMap.put(s.getSolutionId(), s);
+		// Restore the requested order
+		List<MLPSolution> items = new ArrayList<>();
+		for (String id : ids) {
+			MLPSolution s = solMap.get(id);
+			if (s == null) {
+				logger.warn("fetchSolutionsInOrder: skipping missing solution {}", id);
+				if (solutionIndexService.isEnabled())
+					solutionIndexService.invalidateSolution(id);
+				continue;
+			}
+			// Deal with lazy initialization
+			Hibernate.initialize(s.getTags());
+			items.add(s);
+		}
+		return items;
+	}
 
-		// build the query using FOM class to access child attributes
+	/**
+	 * Gets one page of solution IDs sorted on properties of the solution entity.
+	 * The database sorts and limits the rows, so only the IDs in the page are
+	 * returned, whatever the number of IDs.
+	 * 
+	 * @param ids
+	 *                     List of solution IDs
+	 * @param pageable
+	 *                     Page and sort criteria
+	 * @return List of solution IDs in the page, sorted
+	 */
+	private List<String> findSortedIdPage(List<String> ids, Pageable pageable) {
 		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
-		CriteriaQuery<MLPSolutionFOM> rootQueryDef = cb.createQuery(MLPSolutionFOM.class);
-		Root<MLPSolutionFOM> solutionFom = rootQueryDef.from(MLPSolutionFOM.class);
-		rootQueryDef.select(solutionFom);
-		rootQueryDef.distinct(true);
-		if (pageable.getSort() != null && !pageable.getSort().isEmpty())
-			rootQueryDef.orderBy(buildOrderList(cb, solutionFom, pageable.getSort()));
+		CriteriaQuery<String> queryDef = cb.createQuery(String.class);
+		Root<MLPSolution> from = queryDef.from(MLPSolution.class);
+		Path<String> idPath = from.get(MLPSolution_.SOLUTION_ID);
+		List<javax.persistence.criteria.Order> orders = new ArrayList<>();
+		for (Sort.Order sortOrder : pageable.getSort())
+			orders.add(sortOrder.isAscending() ? cb.asc(from.get(sortOrder.getProperty()))
+					: cb.desc(from.get(sortOrder.getProperty())));
+		// Add order on a unique field for stable pagination
+		if (pageable.getSort().getOrderFor(solutionId) == null)
+			orders.add(cb.asc(idPath));
+		queryDef.select(idPath);
+		queryDef.where(idPath.in(ids));
+		queryDef.orderBy(orders);
+		return entityManager.createQuery(queryDef).setFirstResult((int) pageable.getOffset())
+				.setMaxResults(pageable.getPageSize()).getResultList();
+	}
+
+	/*
+	 * Builds the predicate for the portal search. Joins only on the child
+	 * entities that are needed to evaluate the specified parameters.
+	 */
+	private Predicate createPortalSolutionsPredicate(CriteriaBuilder cb, Root<MLPSolutionFOM> solutionFom,
+			String[] nameKeywords, String[] descKeywords, boolean active, String[] userIds, String[] modelTypeCodes,
+			String[] accessTypeCodes, String[] tags, String[] authorKeywords, String[] publisherKeywords) {
 
 		List<Predicate> predicates = new ArrayList<>();
 		// Active is a required parameter
@@ -360,7 +376,9 @@ public Page<MLPSolution> findPortalSolutions(String[] nameKeywords, String[] des
 		}
 
 		if ((accessTypeCodes != null && accessTypeCodes.length > 0) //
-				|| (descKeywords != null && descKeywords.length > 0)) {
+				|| (descKeywords != null && descKeywords.length > 0)
+				|| (authorKeywords != null && authorKeywords.length > 0)
+				|| (publisherKeywords != null && publisherKeywords.length > 0)) {
 			// revisions are optional, even tho a solution without them is useless
 			Join<MLPSolutionFOM, MLPSolutionRevisionFOM> revisionFom = solutionFom.join(MLPSolutionFOM_.revisions);
 
@@ -414,28 +432,35 @@ public Page<MLPSolution> findPortalSolutions(String[] nameKeywords, String[] des
 
 		Predicate[] predArray = new Predicate[predicates.size()];
 		predicates.toArray(predArray);
-		rootQueryDef.where(cb.and(predArray));
-
-		TypedQuery<MLPSolutionFOM> typedQuery = entityManager.createQuery(rootQueryDef);
-		List<MLPSolutionFOM> foms = typedQuery.getResultList();
-		if (foms.isEmpty() || foms.size() < pageable.getOffset())
-			return new PageImpl<>(new ArrayList<>(), pageable, 0);
-		logger.info("findPortalSolutions: result size {}", foms.size());
-		return buildSolutionPage(foms, pageable);
+		return cb.and(predArray);
 	}
 
+	/*
+	 * Early attempt at providing a method for users to find solutions in the
+	 * marketplace.
+	 *
+	 * This implementation is awkward due to the requirement to perform LIKE queries
+	 * on certain fields.
+	 */
 	@Override
-	public Page<MLPSolution> findUserSolutions(String[] nameKeywords, String[] descKeywords, boolean active,
-			String userId, String[] modelTypeCodes, String[] accessTypeCodes, String[] tags, Pageable pageable) {
+	public Page<MLPSolution> findPortalSolutions(String[] nameKeywords, String[] descKeywords, boolean active,
+			String[] userIds, String[] modelTypeCodes, String[] accessTypeCodes, String[] tags, String[] authorKeywords,
+			String[] publisherKeywords, Pageable pageable, CountMode countMode) {
+		Page<MLPSolution> result = runTwoPhaseSolutionQuery(
+				(cb, solutionFom) -> createPortalSolutionsPredicate(cb, solutionFom, nameKeywords, descKeywords, active,
+						userIds, modelTypeCodes, accessTypeCodes, tags, authorKeywords, publisherKeywords),
+				pageable, countMode);
+		logger.info("findPortalSolutions: result total {}", result.getTotalElements());
+		return result;
+	}
 
-		// build the query using FOM class to access child attributes
-		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
-		CriteriaQuery<MLPSolutionFOM> rootQueryDef = cb.createQuery(MLPSolutionFOM.class);
-		Root<MLPSolutionFOM> solutionFom = rootQueryDef.from(MLPSolutionFOM.class);
-		rootQueryDef.select(solutionFom);
-		rootQueryDef.distinct(true);
-		if (pageable.getSort() != null && !pageable.getSort().isEmpty())
-			rootQueryDef.orderBy(buildOrderList(cb, solutionFom, pageable.getSort()));
+	/*
+	 * Builds the predicate for the user search. Joins only on the child entities
+	 * that are needed to evaluate the specified parameters.
+	 */
+	private Predicate createUserSolutionsPredicate(CriteriaBuilder cb, Root<MLPSolutionFOM> solutionFom,
+			String[] nameKeywords, String[] descKeywords, boolean active, String userId, String[] modelTypeCodes,
+			String[] accessTypeCodes, String[] tags) {
 
 		List<Predicate> predicates = new ArrayList<>();
 		// Active is a required parameter
@@ -497,28 +522,26 @@ public Page<MLPSolution> findUserSolutions(String[] nameKeywords, String[] descK
 
 		Predicate[] predArray = new Predicate[predicates.size()];
 		predicates.toArray(predArray);
-		rootQueryDef.where(cb.and(predArray));
-
-		TypedQuery<MLPSolutionFOM> typedQuery = entityManager.createQuery(rootQueryDef);
-		List<MLPSolutionFOM> foms = typedQuery.getResultList();
-		if (foms.isEmpty() || foms.size() < pageable.getOffset())
-			return new PageImpl<>(new ArrayList<>(), pageable, 0);
-		logger.info("findUserSolutions: result size {}", foms.size());
-		return buildSolutionPage(foms, pageable);
+		return cb.and(predArray);
 	}
 
 	@Override
-	public Page<MLPSolution> findSolutionsByModifiedDate(boolean active, String[] accessTypeCodes, Instant modifiedTs,
-			Pageable pageable) {
+	public Page<MLPSolution> findUserSolutions(String[] nameKeywords, String[] descKeywords, boolean active,
+			String userId, String[] modelTypeCodes, String[] accessTypeCodes, String[] tags, Pageable pageable,
+			CountMode countMode) {
+		Page<MLPSolution> result = runTwoPhaseSolutionQuery(
+				(cb, solutionFom) -> createUserSolutionsPredicate(cb, solutionFom, nameKeywords, descKeywords, active,
+						userId, modelTypeCodes, accessTypeCodes, tags),
+				pageable, countMode);
+		logger.info("findUserSolutions: result total {}", result.getTotalElements());
+		return result;
+	}
 
-		// build the query using FOM class to access child attributes
-		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
-		CriteriaQuery<MLPSolutionFOM> rootQueryDef = cb.createQuery(MLPSolutionFOM.class);
-		Root<MLPSolutionFOM> solutionFom = rootQueryDef.from(MLPSolutionFOM.class);
-		rootQueryDef.select(solutionFom);
-		rootQueryDef.distinct(true);
-		if (pageable.getSort() != null && !pageable.getSort().isEmpty())
-			rootQueryDef.orderBy(buildOrderList(cb, solutionFom, pageable.getSort()));
+	/*
+	 * Builds the predicate for the modified-date search.
+	 */
+	private Predicate createModifiedDatePredicate(CriteriaBuilder cb, Root<MLPSolutionFOM> solutionFom,
+			boolean active, String[] accessTypeCodes, Instant modifiedTs) {
 
 		List<Predicate> predicates = new ArrayList<>();
 		// Active is a required parameter
@@ -547,131 +570,302 @@ public Page<MLPSolution> findSolutionsByModifiedDate(boolean active, String[] ac
 			predicates.add(p);
 		}
 
-		TypedQuery<MLPSolutionFOM> typedQuery = entityManager.createQuery(rootQueryDef);
-		List<MLPSolutionFOM> foms = typedQuery.getResultList();
-		if (foms.isEmpty() || foms.size() < pageable.getOffset())
-			return new PageImpl<>(new ArrayList<>(), pageable, 0);
-		logger.info("findSolutionsByModifiedDate: result size {}", foms.size());
-		return buildSolutionPage(foms, pageable);
+		Predicate[] predArray = new Predicate[predicates.size()];
+		predicates.toArray(predArray);
+		return cb.and(predArray);
 	}
 
-	/**
-	 * Runs a Hibernate Criteria-type query on the SolutionFOM entity. Returns a
-	 * page after converting the resulting FOM solution objects to plain solution
-	 * objects.
-	 * 
-	 * @param criteria
-	 *                     Criteria to evaluate
-	 * @param pageable
-	 *                     Page and sort criteria
-	 * @return Page of MLPSolution
+	@Override
+	public Page<MLPSolution> findSolutionsByModifiedDate(boolean active, String[] accessTypeCodes, Instant modifiedTs,
+			Pageable pageable, CountMode countMode) {
+		Page<MLPSolution> result = runTwoPhaseSolutionQuery(
+				(cb, solutionFom) -> createModifiedDatePredicate(cb, solutionFom, active, accessTypeCodes, modifiedTs),
+				pageable, countMode);
+		logger.info("findSolutionsByModifiedDate: result total {}", result.getTotalElements());
+		return result;
+	}
+
+	/*
+	 * Answers keyword and tag queries from the solution index, then fetches only
+	 * the solutions in the requested page. Results are ranked by relevance unless
+	 * the page request specifies a sort.
 	 */
-	@SuppressWarnings("rawtypes")
-	private Page<MLPSolution> runSolutionFomQuery(Criteria criteria, Pageable pageable) {
+	@Override
+	public Page<MLPSolution> findPortalSolutionsByKwAndTags(String[] keywords, boolean active, String[] userIds,
+			String[] modelTypeCode, String[] accessTypeCode, String[] allTags, String[] anyTags, String[] catalogIds,
+			Pageable pageable, CountMode countMode) {
+
+		if (!solutionIndexService.isEnabled())
+			return findPortalSolutionsByKwAndTagsInDatabase(keywords, active, userIds, modelTypeCode, accessTypeCode,
+					allTags, anyTags, catalogIds, pageable, countMode);
+
+		List<String> ids = solutionIndexService.findSolutionIds(keywords, active, userIds, modelTypeCode,
+				accessTypeCode, allTags, anyTags, catalogIds);
+		logger.debug("findPortalSolutionsByKwAndTags: result total {}", ids.size());
+		int fromIndex = (int) Math.min(pageable.getOffset(), ids.size());
+		int toIndex = Math.min(fromIndex + pageable.getPageSize(), ids.size());
+		List<String> pageIds = ids.subList(fromIndex, toIndex);
+		if (pageable.getSort().isSorted() && !pageIds.isEmpty())
+			pageIds = findSortedIdPage(ids, pageable);
+		List<MLPSolution> items = pageIds.isEmpty() ? new ArrayList<>() : fetchSolutionsInOrder(pageIds);
+		// Solutions deleted since the index was updated are not counted
+		int total = ids.size() - (pageIds.size() - items.size());
+		if (countMode == CountMode.EXACT)
+			return new PageImpl<>(items, pageable, total);
+		// The index finds every match, but report no more rows ahead than the
+		// database path would have found
+		int limit = countMode == CountMode.NONE ? pageable.getPageSize() + 1 : getEstimateLimit(pageable);
+		return buildUncountedPage(items, pageable, countMode, Math.min(total - fromIndex, limit));
+	}
+
+	/*
+	 * Low-rent version of full-text search. Provides flexible treatment of tags.
+	 * Used only if the solution index is disabled. Every condition on a child
+	 * entity is an EXISTS subquery, so the root query has no joins, yields each
+	 * solution at most once, and can be limited to one page by the database.
+	 */
+	private Page<MLPSolution> findPortalSolutionsByKwAndTagsInDatabase(String[] keywords, boolean active,
+			String[] userIds, String[] modelTypeCode, String[] accessTypeCode, String[] allTags, String[] anyTags,
+			String[] catalogIds, Pageable pageable, CountMode countMode) {
 
-		// Include user's sort request
-		if (pageable.getSort() != null)
-			applySortCriteria(criteria, pageable);
 		// Add order on a unique field. Without this the pagination
 		// can yield odd results; e.g., request 10 items but only get 8.
-		criteria.addOrder(Order.asc(solutionId));
-		// Hibernate should coalesce the results, yielding only solutions
-		criteria.setResultTransformer(Criteria.DISTINCT_ROOT_ENTITY);
+		Sort sort = pageable.getSort();
+		if (sort.getOrderFor(solutionId) == null)
+			sort = sort.and(Sort.by(solutionId));
+		Pageable stablePageable = pageable.isPaged()
+				? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort)
+				: pageable;
+		Page<MLPSolution> result = findPage(MLPSolution.class,
+				(query, sol) -> createKwAndTagsPredicate(query, sol, keywords, active, userIds, modelTypeCode,
+						accessTypeCode, allTags, anyTags, catalogIds),
+				false, stablePageable, countMode);
+		// Deal with lazy initialization
+		for (MLPSolution s : result.getContent())
+			Hibernate.initialize(s.getTags());
+		logger.debug("findPortalSolutionsByKwAndTags: result size={}", result.getNumberOfElements());
+		return result;
+	}
 
-		// Getting the complete result could be brutally expensive.
-		List foms = criteria.list();
-		if (foms.isEmpty() || foms.size() < pageable.getOffset())
-			return new PageImpl<>(new ArrayList<>(), pageable, 0);
+	/*
+	 * Builds the predicate for the keyword and tag search on the solution entity.
+	 * The keywords must all appear in the name of the solution, or all in the
+	 * authors or the publisher of one revision; or a keyword must equal the
+	 * solution ID or a revision ID. A revision that matches the keywords must
+	 * also match the access type codes. A solution without revisions never
+	 * matches.
+	 */
+	private Predicate createKwAndTagsPredicate(CommonAbstractCriteria query, Root<MLPSolution> sol,
+			String[] keywords, boolean active, String[] userIds, String[] modelTypeCode, String[] accessTypeCode,
+			String[] allTags, String[] anyTags, String[] catalogIds) {
 
-		// Get a page of FOM solutions and convert each to plain solution
-		List<MLPSolution> items = new ArrayList<>();
-		long lastItemInPage = pageable.getOffset() + pageable.getPageSize();
-		long limit = lastItemInPage < foms.size() ? lastItemInPage : foms.size();
-		for (long i = pageable.getOffset(); i < limit; ++i) {
-			Object o = foms.get((int) i);
-			if (o instanceof MLPSolutionFOM) {
-				MLPSolution s = ((MLPSolutionFOM) o).toMLPSolution();
-				// Deal with lazy initialization
-				Hibernate.initialize(s.getTags());
-				items.add(s);
-			} else {
-				throw new AssertionFailure("Unexpected type: " + o.getClass().getName());
-			}
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		Path<String> solIdPath = sol.get(MLPSolution_.SOLUTION_ID);
+		List<Predicate> predicates = new ArrayList<>();
+		predicates.add(active ? cb.isTrue(sol.<Boolean>get(MLPSolution_.ACTIVE))
+				: cb.isFalse(sol.<Boolean>get(MLPSolution_.ACTIVE)));
+		if (modelTypeCode != null && modelTypeCode.length > 0)
+			predicates.add(createEqualsListPredicate(cb, sol.get(MLPSolution_.MODEL_TYPE_CODE), modelTypeCode));
+		if (userIds != null && userIds.length > 0)
+			predicates.add(sol.get(MLPSolution_.USER_ID).in((Object[]) userIds));
+
+		// A solution should ALWAYS have revisions.
+		Subquery<String> revQuery = query.subquery(String.class);
+		Root<MLPSolutionRevision> rev = revQuery.from(MLPSolutionRevision.class);
+		List<Predicate> revPredicates = new ArrayList<>();
+		revPredicates.add(cb.equal(rev.get(MLPSolutionRevision_.SOLUTION_ID), solIdPath));
+		if (keywords != null && keywords.length > 0) {
+			revPredicates.add(cb.or(createLikeAllPredicate(cb, sol.get(MLPSolution_.NAME), keywords),
+					createLikeAllPredicate(cb, rev.get(MLPSolutionRevision_.AUTHORS), keywords),
+					createLikeAllPredicate(cb, rev.get(MLPSolutionRevision_.PUBLISHER), keywords),
+					// Also match on IDs, but exact only
+					createEqualsListPredicate(cb, solIdPath, keywords),
+					createEqualsListPredicate(cb, rev.get(MLPSolutionRevision_.REVISION_ID), keywords)));
+		}
+		if (accessTypeCode != null && accessTypeCode.length > 0)
+			revPredicates.add(
+					createEqualsListPredicate(cb, rev.get(MLPSolutionRevision_.ACCESS_TYPE_CODE), accessTypeCode));
+		revQuery.select(rev.get(MLPSolutionRevision_.REVISION_ID)).where(cb.and(toArray(revPredicates)));
+		predicates.add(cb.exists(revQuery));
+
+		if (allTags != null && allTags.length > 0) {
+			// One subquery per tag
+			for (String tag : allTags)
+				predicates.add(cb.exists(createTagSubquery(query, cb, solIdPath, new String[] { tag })));
+		}
+		if (anyTags != null && anyTags.length > 0)
+			predicates.add(cb.exists(createTagSubquery(query, cb, solIdPath, anyTags)));
+		if (catalogIds != null && catalogIds.length > 0) {
+			Subquery<String> catQuery = query.subquery(String.class);
+			Root<MLPCatSolMap> catMap = catQuery.from(MLPCatSolMap.class);
+			catQuery.select(catMap.get(MLPCatSolMap_.CATALOG_ID)).where(
+					cb.equal(catMap.get(MLPCatSolMap_.SOLUTION_ID), solIdPath),
+					catMap.get(MLPCatSolMap_.CATALOG_ID).in((Object[]) catalogIds));
+			predicates.add(cb.exists(catQuery));
 		}
+		return cb.and(toArray(predicates));
+	}
 
-		return new PageImpl<>(items, pageable, foms.size());
+	/*
+	 * Builds a subquery that selects the solution's mappings to any of the tags.
+	 */
+	private Subquery<String> createTagSubquery(CommonAbstractCriteria query, CriteriaBuilder cb,
+			Path<String> solIdPath, String[] tags) {
+		Subquery<String> tagQuery = query.subquery(String.class);
+		Root<MLPSolTagMap> tagMap = tagQuery.from(MLPSolTagMap.class);
+		tagQuery.select(tagMap.get(MLPSolTagMap_.TAG)).where(cb.equal(tagMap.get(MLPSolTagMap_.SOLUTION_ID), solIdPath),
+				tagMap.get(MLPSolTagMap_.TAG).in((Object[]) tags));
+		return tagQuery;
 	}
 
 	/*
-	 * Low-rent version of full-text search. Provides flexible treatment of tags.
+	 * Builds a disjunction to check if the value occurs in the list, with special
+	 * handling (is null) for null.
 	 */
+	private static Predicate createEqualsListPredicate(CriteriaBuilder cb, Path<?> path, Object[] values) {
+		List<Predicate> predicates = new ArrayList<>();
+		for (Object v : values)
+			predicates.add(v == null ? cb.isNull(path) : cb.equal(path, v));
+		return cb.or(toArray(predicates));
+	}
+
+	/*
+	 * Builds a conjunction to check if every value occurs in the field; null is
+	 * not permitted.
+	 */
+	private static Predicate createLikeAllPredicate(CriteriaBuilder cb, Path<String> path, String[] values) {
+		List<Predicate> predicates = new ArrayList<>();
+		for (String v : values) {
+			if (v == null)
+				throw new IllegalArgumentException("Null not permitted in value list");
+			predicates.add(cb.like(path, '%' + v + '%'));
+		}
+		return cb.and(toArray(predicates));
+	}
+
+	private static Predicate[] toArray(List<Predicate> predicates) {
+		return predicates.toArray(new Predicate[predicates.size()]);
+	}
+
 	@Override
-	public Page<MLPSolution> findPortalSolutionsByKwAndTags(String[] keywords, boolean active, String[] userIds,
-			String[] modelTypeCode, String[] accessTypeCode, String[] allTags, String[] anyTags, String[] catalogIds,
-			Pageable pageable) {
-
-		try (Session session = getSessionFactory().openSession()) {
-			// build the query using FOM to access child attributes
-			@SuppressWarnings("deprecation")
-			Criteria criteria = session.createCriteria(MLPSolutionFOM.class, solAlias);
-			criteria.add(Restrictions.eq("active", active));
-			// A solution should ALWAYS have revisions.
-			criteria.createAlias(MLPSolutionFOM_.REVISIONS, revAlias);
-			// Descriptions are optional, so must use outer join
-			if (keywords != null && keywords.length > 0) {
-				criteria.createAlias(revAlias + "." + MLPSolutionRevisionFOM_.DESCRIPTIONS, descsAlias,
-						org.hibernate.sql.JoinType.LEFT_OUTER_JOIN);
-				Disjunction keywordDisjunction = Restrictions.disjunction();
-				keywordDisjunction.add(buildLikeListCriterion(MLPSolutionFOM_.NAME, keywords, false));
-				keywordDisjunction
-						.add(buildLikeListCriterion(revAlias + "." + MLPSolutionRevisionFOM_.AUTHORS, keywords, false));
-				keywordDisjunction.add(
-						buildLikeListCriterion(revAlias + "." + MLPSolutionRevisionFOM_.PUBLISHER, keywords, false));
-				// Also match on IDs, but exact only
-				keywordDisjunction.add(buildEqualsListCriterion(MLPSolutionFOM_.SOLUTION_ID, keywords));
-				keywordDisjunction
-						.add(buildEqualsListCriterion(revAlias + "." + MLPSolutionRevisionFOM_.REVISION_ID, keywords));
-				criteria.add(keywordDisjunction);
-			}
-			if (modelTypeCode != null && modelTypeCode.length > 0)
-				criteria.add(buildEqualsListCriterion(MLPSolutionFOM_.MODEL_TYPE_CODE, modelTypeCode));
-			if (accessTypeCode != null && accessTypeCode.length > 0)
-				criteria.add(buildEqualsListCriterion(revAlias + "." + MLPSolutionRevisionFOM_.ACCESS_TYPE_CODE,
-						accessTypeCode));
-			if (userIds != null && userIds.length > 0) {
-				criteria.createAlias("user", userAlias);
-				criteria.add(Restrictions.in(userAlias + "." + MLPUser_.USER_ID, (Object[]) userIds));
-			}
-			if (allTags != null && allTags.length > 0) {
-				// https://stackoverflow.com/questions/51992269/hibernate-java-criteria-query-for-instances-with-multiple-collection-members-lik
-				DetachedCriteria allTagsQuery = DetachedCriteria.forClass(MLPSolutionFOM.class, subqAlias)
-						.add(Restrictions.eqProperty(subqAlias + ".id", solAlias + ".id")) //
-						.createAlias("tags", tagsFieldAlias) //
-						.add(Restrictions.in(tagValueField, (Object[]) allTags)) //
-						.setProjection(Projections.count(tagValueField));
-				criteria.add(Subqueries.eq((long) allTags.length, allTagsQuery));
-			}
-			if (anyTags != null && anyTags.length > 0) {
-				final String subq2Alias = "subsol2";
-				final String tag2Alias = "anytag";
-				final String tag2ValueField = tag2Alias + ".tag";
-				DetachedCriteria anyTagsQuery = DetachedCriteria.forClass(MLPSolutionFOM.class, subq2Alias)
-						.add(Restrictions.eqProperty(subq2Alias + ".id", solAlias + ".id")) //
-						.createAlias("tags", tag2Alias) //
-						.add(Restrictions.in(tag2ValueField, (Object[]) anyTags))
-						.setProjection(Projections.count(tag2ValueField));
-				criteria.add(Subqueries.lt(0L, anyTagsQuery));
-			}
-			if (catalogIds != null && catalogIds.length > 0) {
-				final String catAlias = "ctlg";
-				// Use inner join here
-				criteria.createAlias(MLPSolutionFOM_.CATALOGS, catAlias);
-				criteria.add(Restrictions.in(catAlias + "." + MLPCatalog_.CATALOG_ID, (Object[]) catalogIds));
-			}
-			Page<MLPSolution> result = runSolutionFomQuery(criteria, pageable);
-			logger.debug("findPortalSolutionsByKwAndTags: result size={}", result.getNumberOfElements());
-			return result;
+	public SearchResultCacheService.SolutionMatcher getKwAndTagsMatcher(String[] keywords, boolean active,
+			String[] userIds, String[] modelTypeCodes, String[] accessTypeCodes, String[] allTags, String[] anyTags,
+			String[] catalogIds) {
+		if (!solutionIndexService.isEnabled())
+			return null;
+		return (solutionId, current) -> solutionIndexService.matches(solutionId, current, keywords, active, userIds,
+				modelTypeCodes, accessTypeCodes, allTags, anyTags, catalogIds);
+	}
+
+	/*
+	 * Answers from the solution index if enabled. Otherwise counts the matching
+	 * solutions, then counts facet values with one grouped query per facet. Each
+	 * grouped query selects the matching solutions with a subquery that uses the
+	 * same predicate as the keyword and tag search.
+	 */
+	@Override
+	public FacetCountTransport findPortalSolutionFacets(String[] keywords, boolean active, String[] userIds,
+			String[] modelTypeCode, String[] accessTypeCode, String[] allTags, String[] anyTags,
+			String[] catalogIds) {
+
+		if (solutionIndexService.isEnabled())
+			return solutionIndexService.countFacets(keywords, active, userIds, modelTypeCode, accessTypeCode,
+					allTags, anyTags, catalogIds);
+
+		BiFunction<CommonAbstractCriteria, Root<MLPSolution>, Predicate> predicateBuilder = (query,
+				sol) -> createKwAndTagsPredicate(query, sol, keywords, active, userIds, modelTypeCode, accessTypeCode,
+						allTags, anyTags, catalogIds);
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Long> countQueryDef = cb.createQuery(Long.class);
+		Root<MLPSolution> sol = countQueryDef.from(MLPSolution.class);
+		countQueryDef.select(cb.count(sol));
+		countQueryDef.where(predicateBuilder.apply(countQueryDef, sol));
+		FacetCountTransport facets = new FacetCountTransport();
+		facets.setTotal(entityManager.createQuery(countQueryDef).getSingleResult());
+		if (facets.getTotal() > 0) {
+			addFacetCounts(facets.getModelTypeCounts(), MLPSolution.class, MLPSolution_.MODEL_TYPE_CODE, false,
+					predicateBuilder);
+			addFacetCounts(facets.getToolkitTypeCounts(), MLPSolution.class, MLPSolution_.TOOLKIT_TYPE_CODE, false,
+					predicateBuilder);
+			addFacetCounts(facets.getAccessTypeCounts(), MLPSolutionRevision.class,
+					MLPSolutionRevision_.ACCESS_TYPE_CODE, true, predicateBuilder);
+			addFacetCounts(facets.getTagCounts(), MLPSolTagMap.class, MLPSolTagMap_.TAG, false, predicateBuilder);
+			addFacetCounts(facets.getCatalogCounts(), MLPCatSolMap.class, MLPCatSolMap_.CATALOG_ID, false,
+					predicateBuilder);
 		}
+		logger.debug("findPortalSolutionFacets: total {}", facets.getTotal());
+		return facets;
+	}
+
+	/*
+	 * Answers from the solution index if enabled. Otherwise matches the start of
+	 * active solution names and tags with prefix LIKE queries; revision authors
+	 * are stored as one serialized column and are not suggested.
+	 */
+	@Override
+	public List<SuggestionTransport> getSuggestions(String term, int limit) {
+		if (solutionIndexService.isEnabled())
+			return solutionIndexService.suggest(term, limit);
+		if (term == null)
+			throw new IllegalArgumentException("Null not permitted");
+		if (limit < 1)
+			throw new IllegalArgumentException("Limit must be positive");
+		List<SuggestionTransport> result = new ArrayList<>();
+		String prefix = term.trim().toLowerCase(Locale.ROOT);
+		if (prefix.isEmpty())
+			return result;
+		addSuggestions(result, SuggestionTransport.Type.NAME,
+				"SELECT s.name, COUNT(s) FROM MLPSolution s WHERE s.active = TRUE AND LOWER(s.name) LIKE :prefix"
+						+ " GROUP BY s.name ORDER BY COUNT(s) DESC, s.name",
+				prefix, limit);
+		addSuggestions(result, SuggestionTransport.Type.TAG,
+				"SELECT m.tag, COUNT(m) FROM MLPSolTagMap m, MLPSolution s WHERE m.solutionId = s.solutionId"
+						+ " AND s.active = TRUE AND LOWER(m.tag) LIKE :prefix"
+						+ " GROUP BY m.tag ORDER BY COUNT(m) DESC, m.tag",
+				prefix, limit);
+		result.sort(Comparator.comparingLong(SuggestionTransport::getCount).reversed()
+				.thenComparing(SuggestionTransport::getText).thenComparing(SuggestionTransport::getType));
+		return result.size() > limit ? new ArrayList<>(result.subList(0, limit)) : result;
+	}
+
+	private void addSuggestions(List<SuggestionTransport> result, SuggestionTransport.Type type, String jpql,
+			String prefix, int limit) {
+		List<Object[]> rows = entityManager.createQuery(jpql, Object[].class).setParameter("prefix", prefix + "%")
+				.setMaxResults(limit).getResultList();
+		for (Object[] row : rows)
+			result.add(new SuggestionTransport((String) row[0], type, (Long) row[1]));
+	}
+
+	/*
+	 * Counts the rows of an entity with a solution ID attribute per value of
+	 * another attribute, over the solutions that match the predicate, and puts
+	 * the counts in the map, skipping the null value.
+	 */
+	private <T> void addFacetCounts(Map<String, Long> counts, Class<T> entityClass, String valueAttribute,
+			boolean countDistinctSolutions,
+			BiFunction<CommonAbstractCriteria, Root<MLPSolution>, Predicate> predicateBuilder) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Tuple> queryDef = cb.createTupleQuery();
+		Root<T> from = queryDef.from(entityClass);
+		Path<String> valuePath = from.get(valueAttribute);
+		Path<String> idPath = from.get(solutionId);
+		Subquery<String> matchQuery = queryDef.subquery(String.class);
+		Root<MLPSolution> sol = matchQuery.from(MLPSolution.class);
+		matchQuery.select(sol.get(MLPSolution_.SOLUTION_ID));
+		matchQuery.where(predicateBuilder.apply(matchQuery, sol));
+		queryDef.multiselect(valuePath, countDistinctSolutions ? cb.countDistinct(idPath) : cb.count(from));
+		queryDef.where(idPath.in(matchQuery));
+		queryDef.groupBy(valuePath);
+		for (Tuple t : entityManager.createQuery(queryDef).getResultList())
+			if (t.get(0) != null)
+				counts.put(t.get(0, String.class), t.get(1, Long.class));
+	}
+
+	@Override
+	public RestPageResponse<MLPSolution> findSolutionsAfterCursor(String continuation, Pageable pageable) {
+		RestPageResponse<MLPSolution> result = findPageAfterCursor(MLPSolution.class, continuation, pageable);
+		logger.debug("findSolutionsAfterCursor: result size {}", result.getNumberOfElements());
+		return result;
 	}
 
 }
@@ -0,0 +1,89 @@
+/*-
+ * ===============LICENSE_START=======================================================
+ * Acumos
+ * ===================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property & Tech Mahindra. All rights reserved.
+ * ===================================================================================
+ * This Acumos software file is distributed by AT&T and Tech Mahindra
+ * under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ===============LICENSE_END=========================================================
+ */
+package org.acumos.cds.service;
+
+import org.acumos.cds.domain.MLPSolutionDownload;
+import org.acumos.cds.domain.MLPSolutionRating;
+
+/**
+ * Maintains the download and rating statistics stored with each solution.
+ * Every change applies a delta to the statistics in the transaction that
+ * writes the download or rating row, so the cost of a change does not grow
+ * with the number of rows. A periodic job recomputes the statistics from the
+ * rows and repairs any that have drifted; e.g., after downloads are deleted
+ * with an artifact.
+ */
+public interface SolutionStatsService {
+
+	/**
+	 * Saves a new download and adds it to the solution statistics.
+	 * 
+	 * @param download
+	 *                     Download to save
+	 * @return Saved download
+	 * @throws IllegalArgumentException
+	 *                                      if the solution is not found
+	 */
+	MLPSolutionDownload createDownload(MLPSolutionDownload download);
+
+	/**
+	 * Deletes a download and removes it from the solution download count. The
+	 * last-download time is left for the periodic job to repair, because finding
+	 * the previous download requires reading all of them.
+	 * 
+	 * @param downloadId
+	 *                       Download ID
+	 * @throws IllegalArgumentException
+	 *                                      if the download is not found
+	 */
+	void deleteDownload(Long downloadId);
+
+	/**
+	 * Saves a new or changed rating and updates the solution rating statistics.
+	 * 
+	 * @param rating
+	 *                   Rating to save
+	 * @return Saved rating
+	 * @throws IllegalArgumentException
+	 *                                      if the solution is not found
+	 */
+	MLPSolutionRating saveRating(MLPSolutionRating rating);
+
+	/**
+	 * Deletes a rating and updates the solution rating statistics.
+	 * 
+	 * @param solutionId
+	 *                       Solution ID
+	 * @param userId
+	 *                       User ID
+	 * @throws IllegalArgumentException
+	 *                                      if the rating is not found
+	 */
+	void deleteRating(String solutionId, String userId);
+
+	/**
+	 * Recomputes the statistics of every solution from the download and rating
+	 * rows and repairs those that differ from the stored values.
+	 * 
+	 * @return Number of solutions repaired
+	 */
+	int reconcile();
+
+}
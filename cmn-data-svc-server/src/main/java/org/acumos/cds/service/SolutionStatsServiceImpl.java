@@ -0,0 +1,275 @@
+/*-
+ * ===============LICENSE_START=======================================================
+ * Acumos
+ * ===================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property & Tech Mahindra. All rights reserved.
+ * ===================================================================================
+ * This Acumos software file is distributed by AT&T and Tech Mahindra
+ * under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ===============LICENSE_END=========================================================
+ */
+package org.acumos.cds.service;
+
+import java.lang.invoke.MethodHandles;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import javax.persistence.EntityManager;
+import javax.persistence.LockModeType;
+
+import org.acumos.cds.domain.MLPSolutionDownload;
+import org.acumos.cds.domain.MLPSolutionRating;
+import org.acumos.cds.domain.MLPSolutionRating.SolutionRatingPK;
+import org.acumos.cds.domain.MLPSolutionStats;
+import org.acumos.cds.repository.SolutionDownloadRepository;
+import org.acumos.cds.repository.SolutionRatingRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service("solutionStatsService")
+public class SolutionStatsServiceImpl implements SolutionStatsService {
+
+	private static final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+	private static final String STORED_STATS_QUERY = "SELECT s.solutionId, s.downloadCount, s.lastDownload, " //
+			+ " s.ratingCount, s.ratingSum, s.ratingAverageTenths FROM MLPSolutionStats s";
+
+	@Autowired
+	private EntityManager entityManager;
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+	@Autowired
+	private SolutionDownloadRepository solutionDownloadRepository;
+	@Autowired
+	private SolutionRatingRepository solutionRatingRepository;
+
+	/**
+	 * Statistics of one solution, as stored or as computed from the rows.
+	 */
+	private static class Stats {
+		private long downloadCount;
+		private Instant lastDownload;
+		private long ratingCount;
+		private long ratingSum;
+		private Long ratingAverageTenths;
+
+		private Stats(Object downloadCount, Object lastDownload, Object ratingCount, Object ratingSum,
+				Object ratingAverageTenths) {
+			this.downloadCount = toLong(downloadCount);
+			this.lastDownload = (Instant) lastDownload;
+			this.ratingCount = toLong(ratingCount);
+			this.ratingSum = toLong(ratingSum);
+			this.ratingAverageTenths = ratingAverageTenths == null ? null : toLong(ratingAverageTenths);
+		}
+
+		/**
+		 * Nulls and zeros are equivalent, and the average is ignored when there are
+		 * no ratings, because new solutions are stored with zeros.
+		 */
+		private boolean sameAs(Stats that) {
+			return downloadCount == that.downloadCount && Objects.equals(lastDownload, that.lastDownload)
+					&& ratingCount == that.ratingCount && ratingSum == that.ratingSum
+					&& (ratingCount == 0 || Objects.equals(ratingAverageTenths, that.ratingAverageTenths));
+		}
+	}
+
+	/**
+	 * @return Value; 0 if null
+	 */
+	private static long toLong(Object value) {
+		return value == null ? 0 : ((Number) value).longValue();
+	}
+
+	/**
+	 * @return Average in tenths; null if there are no ratings
+	 */
+	private static Long averageTenths(long sum, long count) {
+		return count > 0 ? Math.round(10.0 * sum / count) : null;
+	}
+
+	/**
+	 * Reads the statistics of the solution with a locking read. The lock must be
+	 * taken before a download or rating row is written, because the foreign-key
+	 * check on that row takes a shared lock on the solution row, and two
+	 * transactions that both hold the shared lock deadlock when both try to
+	 * update the solution. The stats entity maps no associations, so the locking
+	 * read joins nothing.
+	 * 
+	 * @param solutionId
+	 *                       Solution ID
+	 * @return Managed entity; changes are written at commit
+	 * @throws IllegalArgumentException
+	 *                                      if the solution is not found
+	 */
+	private MLPSolutionStats lockStats(String solutionId) {
+		MLPSolutionStats stats = entityManager.find(MLPSolutionStats.class, solutionId,
+				LockModeType.PESSIMISTIC_WRITE);
+		if (stats == null)
+			throw new IllegalArgumentException("Failed to find solution " + solutionId);
+		return stats;
+	}
+
+	/**
+	 * @return Statistics of the entity
+	 */
+	private static Stats storedStats(MLPSolutionStats stats) {
+		return new Stats(stats.getDownloadCount(), stats.getLastDownload(), stats.getRatingCount(),
+				stats.getRatingSum(), stats.getRatingAverageTenths());
+	}
+
+	/**
+	 * @param row
+	 *                Row from {@link #STORED_STATS_QUERY}
+	 */
+	private static Stats storedStats(Object[] row) {
+		return new Stats(row[1], row[2], row[3], row[4], row[5]);
+	}
+
+	/**
+	 * @return Statistics with the average computed from the sum and count
+	 */
+	private static Stats countedStats(Object downloadCount, Object lastDownload, Object ratingCount,
+			Object ratingSum) {
+		return new Stats(downloadCount, lastDownload, ratingCount, ratingSum,
+				averageTenths(toLong(ratingSum), toLong(ratingCount)));
+	}
+
+	/**
+	 * Computes the statistics of one solution from the download and rating rows.
+	 */
+	private Stats countStats(String solutionId) {
+		Object[] downloads = entityManager.createQuery(
+				"SELECT COUNT(d), MAX(d.downloadDate) FROM MLPSolutionDownload d WHERE d.solutionId = :id",
+				Object[].class).setParameter("id", solutionId).getSingleResult();
+		Object[] ratings = entityManager
+				.createQuery("SELECT COUNT(r), SUM(r.rating) FROM MLPSolutionRating r WHERE r.solutionId = :id",
+						Object[].class)
+				.setParameter("id", solutionId).getSingleResult();
+		return countedStats(downloads[0], downloads[1], ratings[0], ratings[1]);
+	}
+
+	/**
+	 * Sets the rating statistics; no ratings are stored as nulls.
+	 */
+	private static void setRatingStats(MLPSolutionStats stats, long sum, long count) {
+		stats.setRatingSum(count > 0 ? sum : null);
+		stats.setRatingCount(count > 0 ? count : null);
+		stats.setRatingAverageTenths(averageTenths(sum, count));
+	}
+
+	@Override
+	@Transactional
+	public MLPSolutionDownload createDownload(MLPSolutionDownload download) {
+		MLPSolutionStats locked = lockStats(download.getSolutionId());
+		Stats stats = storedStats(locked);
+		MLPSolutionDownload result = solutionDownloadRepository.save(download);
+		if (stats.lastDownload == null || !stats.lastDownload.isAfter(result.getDownloadDate()))
+			locked.setLastDownload(result.getDownloadDate());
+		locked.setDownloadCount(stats.downloadCount + 1);
+		return result;
+	}
+
+	@Override
+	@Transactional
+	public void deleteDownload(Long downloadId) {
+		MLPSolutionDownload download = solutionDownloadRepository.findById(downloadId)
+				.orElseThrow(() -> new IllegalArgumentException("Failed to find download " + downloadId));
+		MLPSolutionStats locked = lockStats(download.getSolutionId());
+		solutionDownloadRepository.delete(download);
+		locked.setDownloadCount(Math.max(0, storedStats(locked).downloadCount - 1));
+	}
+
+	@Override
+	@Transactional
+	public MLPSolutionRating saveRating(MLPSolutionRating rating) {
+		MLPSolutionStats locked = lockStats(rating.getSolutionId());
+		Stats stats = storedStats(locked);
+		SolutionRatingPK pk = new SolutionRatingPK(rating.getSolutionId(), rating.getUserId());
+		// Read the old value before the save, which may change the same instance
+		Integer oldRating = solutionRatingRepository.findById(pk).map(MLPSolutionRating::getRating).orElse(null);
+		MLPSolutionRating result = solutionRatingRepository.save(rating);
+		// Validate now, not at commit
+		entityManager.flush();
+		long sum = stats.ratingSum - (oldRating == null ? 0 : oldRating) + result.getRating();
+		long count = stats.ratingCount + (oldRating == null ? 1 : 0);
+		setRatingStats(locked, sum, count);
+		return result;
+	}
+
+	@Override
+	@Transactional
+	public void deleteRating(String solutionId, String userId) {
+		MLPSolutionStats locked = lockStats(solutionId);
+		Stats stats = storedStats(locked);
+		SolutionRatingPK pk = new SolutionRatingPK(solutionId, userId);
+		MLPSolutionRating rating = solutionRatingRepository.findById(pk)
+				.orElseThrow(() -> new IllegalArgumentException("Failed to find rating " + pk));
+		solutionRatingRepository.delete(rating);
+		setRatingStats(locked, stats.ratingSum - rating.getRating(), Math.max(0, stats.ratingCount - 1));
+	}
+
+	@Override
+	@Scheduled(initialDelayString = "${cds.solution.stats.reconcile-ms:86400000}", //
+			fixedDelayString = "${cds.solution.stats.reconcile-ms:86400000}")
+	public synchronized int reconcile() {
+		// Scan without locks; solutions that appear to differ are checked again
+		// under lock, because the scans may straddle a concurrent change
+		Map<String, Object[]> downloads = new HashMap<>();
+		for (Object[] row : entityManager.createQuery(
+				"SELECT d.solutionId, COUNT(d), MAX(d.downloadDate) FROM MLPSolutionDownload d GROUP BY d.solutionId",
+				Object[].class).getResultList())
+			downloads.put((String) row[0], row);
+		Map<String, Object[]> ratings = new HashMap<>();
+		for (Object[] row : entityManager.createQuery(
+				"SELECT r.solutionId, COUNT(r), SUM(r.rating) FROM MLPSolutionRating r GROUP BY r.solutionId",
+				Object[].class).getResultList())
+			ratings.put((String) row[0], row);
+		List<Object[]> stored = entityManager.createQuery(STORED_STATS_QUERY, Object[].class).getResultList();
+		int repaired = 0;
+		for (Object[] row : stored) {
+			String solutionId = (String) row[0];
+			Object[] d = downloads.getOrDefault(solutionId, new Object[3]);
+			Object[] r = ratings.getOrDefault(solutionId, new Object[3]);
+			if (storedStats(row).sameAs(countedStats(d[1], d[2], r[1], r[2])))
+				continue;
+			try {
+				Boolean changed = new TransactionTemplate(transactionManager).execute(status -> {
+					MLPSolutionStats locked = lockStats(solutionId);
+					Stats counted = countStats(solutionId);
+					if (storedStats(locked).sameAs(counted))
+						return false;
+					logger.warn("reconcile: repairing stats of solution {}", solutionId);
+					locked.setDownloadCount(counted.downloadCount);
+					locked.setLastDownload(counted.lastDownload);
+					setRatingStats(locked, counted.ratingSum, counted.ratingCount);
+					return true;
+				});
+				if (Boolean.TRUE.equals(changed))
+					++repaired;
+			} catch (RuntimeException ex) {
+				logger.warn("reconcile: failed to repair solution {}: {}", solutionId, ex.toString());
+			}
+		}
+		logger.info("reconcile: checked {} solutions, repaired {}", stored.size(), repaired);
+		return repaired;
+	}
+
+}
@@ -0,0 +1,64 @@
+/*-
+ * ===============LICENSE_START=======================================================
+ * Acumos
+ * ===================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property & Tech Mahindra. All rights reserved.
+ * ===================================================================================
+ * This Acumos software file is distributed by AT&T and Tech Mahindra
+ * under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ===============LICENSE_END=========================================================
+ */
+
+package org.acumos.cds.service;
+
+/**
+ * Buffers solution views in memory and adds them to the view counts in the
+ * database periodically, so that popular solutions do not serialize on the row
+ * lock taken by an update per view. Counts in the database trail the views
+ * received by at most the flush interval; they are exact once flushed.
+ */
+public interface SolutionViewCountService {
+
+	/**
+	 * Records a view of the solution. Checks that the solution exists only if no
+	 * views of it are buffered.
+	 * 
+	 * @param solutionId
+	 *                       Solution ID
+	 * @return True if the view was recorded, false if the solution does not
+	 *         exist.
+	 */
+	boolean increment(String solutionId);
+
+	/**
+	 * Gets the number of views of the solution not yet written to the database.
+	 * 
+	 * @param solutionId
+	 *                       Solution ID
+	 * @return Number of buffered views
+	 */
+	long getPending(String solutionId);
+
+	/**
+	 * Gets the number of views of all solutions not yet written to the database.
+	 * 
+	 * @return Number of buffered views
+	 */
+	long getPending();
+
+	/**
+	 * Writes buffered views to the database, one update per solution in a single
+	 * transaction. Views are kept in the buffer if the transaction fails.
+	 */
+	void flush();
+
+}
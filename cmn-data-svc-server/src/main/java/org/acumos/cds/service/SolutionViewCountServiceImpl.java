@@ -0,0 +1,145 @@
+/*-
+ * ===============LICENSE_START=======================================================
+ * Acumos
+ * ===================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property & Tech Mahindra. All rights reserved.
+ * ===================================================================================
+ * This Acumos software file is distributed by AT&T and Tech Mahindra
+ * under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ===============LICENSE_END=========================================================
+ */
+
+package org.acumos.cds.service;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.PreDestroy;
+
+import org.acumos.cds.repository.SolutionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service("solutionViewCountService")
+public class SolutionViewCountServiceImpl implements SolutionViewCountService {
+
+	private static final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+	/**
+	 * Views of one solution. The adder is never reset, because a reset can lose a
+	 * concurrent increment; instead the flusher remembers how many views it has
+	 * written.
+	 */
+	private static class ViewCounter {
+		private final LongAdder views = new LongAdder();
+		private volatile long flushed;
+	}
+
+	/**
+	 * Holds an entry per solution with views not yet written. The flusher removes
+	 * an entry once all of its views are written. Increments and removal both
+	 * run under the map's lock on the entry, so no view can land on a removed
+	 * counter.
+	 */
+	private final ConcurrentMap<String, ViewCounter> counters = new ConcurrentHashMap<>();
+
+	@Autowired
+	private SolutionRepository solutionRepository;
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Override
+	public boolean increment(String solutionId) {
+		// A buffered view proves the solution exists; the update command doesn't
+		// fail on an invalid ID, so check the others
+		if (!counters.containsKey(solutionId) && !solutionRepository.existsById(solutionId))
+			return false;
+		counters.compute(solutionId, (id, counter) -> {
+			ViewCounter c = counter == null ? new ViewCounter() : counter;
+			c.views.increment();
+			return c;
+		});
+		return true;
+	}
+
+	@Override
+	public long getPending(String solutionId) {
+		ViewCounter counter = counters.get(solutionId);
+		return counter == null ? 0 : counter.views.sum() - counter.flushed;
+	}
+
+	@Override
+	public long getPending() {
+		long pending = 0;
+		for (ViewCounter counter : counters.values())
+			pending += counter.views.sum() - counter.flushed;
+		return pending;
+	}
+
+	@Override
+	@Scheduled(fixedDelayString = "${cds.solution.view-count.flush-ms:5000}")
+	public synchronized void flush() {
+		// Sorted by ID so that servers sharing a database lock rows in one order
+		Map<String, Long> totals = new TreeMap<>();
+		for (Map.Entry<String, ViewCounter> entry : counters.entrySet()) {
+			long total = entry.getValue().views.sum();
+			if (total > entry.getValue().flushed)
+				totals.put(entry.getKey(), total);
+		}
+		if (totals.isEmpty())
+			return;
+		try {
+			new TransactionTemplate(transactionManager).execute(status -> {
+				for (Map.Entry<String, Long> entry : totals.entrySet()) {
+					long views = entry.getValue() - counters.get(entry.getKey()).flushed;
+					// Most solutions receive a single view per flush interval
+					if (views == 1)
+						solutionRepository.incrementViewCount(entry.getKey());
+					else
+						solutionRepository.addViewCount(entry.getKey(), views);
+				}
+				return null;
+			});
+			for (Map.Entry<String, Long> entry : totals.entrySet()) {
+				long total = entry.getValue();
+				// Drop the counter if no view arrived since the totals were taken
+				counters.computeIfPresent(entry.getKey(), (id, counter) -> {
+					counter.flushed = total;
+					return counter.views.sum() == total ? null : counter;
+				});
+			}
+			logger.debug("flush: updated view counts of {} solutions", totals.size());
+		} catch (RuntimeException ex) {
+			logger.warn("flush: failed to update view counts of {} solutions, will retry: {}", totals.size(),
+					ex.toString());
+		}
+	}
+
+	/**
+	 * Writes buffered views before the server stops.
+	 */
+	@PreDestroy
+	public void flushOnShutdown() {
+		logger.info("flushOnShutdown: pending views {}", getPending());
+		flush();
+	}
+
+}
@@ -20,6 +20,7 @@
 
 package org.acumos.cds.service;
 
+import org.acumos.cds.CountMode;
 import org.acumos.cds.domain.MLPTaskStepResult;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -41,9 +42,11 @@ public interface StepResultSearchService {
 	 *                       the query is a conjunction ("and").
 	 * @param pageable
 	 *                       Page and sort criteria
+	 * @param countMode
+	 *                       How to compute the total count of elements
 	 * @return Page of instances, which may be empty.
 	 */
 	Page<MLPTaskStepResult> findStepResults(Long taskId, String name, String statusCode, boolean isOr,
-			Pageable pageable);
+			Pageable pageable, CountMode countMode);
 
 }
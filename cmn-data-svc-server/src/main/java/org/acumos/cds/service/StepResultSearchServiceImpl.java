@@ -24,18 +24,16 @@
 import java.util.ArrayList;
 import java.util.List;
 
-import javax.persistence.TypedQuery;
 import javax.persistence.criteria.CriteriaBuilder;
-import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
 
+import org.acumos.cds.CountMode;
 import org.acumos.cds.domain.MLPTaskStepResult;
 import org.acumos.cds.domain.MLPTaskStepResult_;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -75,38 +73,10 @@ private Predicate createStepResultPredicate(Root<MLPTaskStepResult> from, Long t
 	 */
 	@Override
 	public Page<MLPTaskStepResult> findStepResults(Long taskId, String name, String statusCode, boolean isOr,
-			Pageable pageable) {
+			Pageable pageable, CountMode countMode) {
 
-		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
-
-		// Count rows available
-		CriteriaQuery<Long> countQueryDef = cb.createQuery(Long.class);
-		countQueryDef.distinct(true);
-		Root<MLPTaskStepResult> countFrom = countQueryDef.from(MLPTaskStepResult.class);
-		countQueryDef.select(cb.count(countFrom));
-		countQueryDef.where(createStepResultPredicate(countFrom, taskId, name, statusCode, isOr));
-		TypedQuery<Long> countQuery = entityManager.createQuery(countQueryDef);
-		Long count = countQuery.getSingleResult();
-		logger.debug("findStepResults: count {}", count);
-		if (count == 0)
-			return new PageImpl<>(new ArrayList<>(), pageable, count);
-
-		// Get one page of rows
-		CriteriaQuery<MLPTaskStepResult> rootQueryDef = cb.createQuery(MLPTaskStepResult.class);
-		// Coalesce any duplicates due to joins
-		rootQueryDef.distinct(true);
-		Root<MLPTaskStepResult> fromRoot = rootQueryDef.from(MLPTaskStepResult.class);
-		rootQueryDef.select(fromRoot);
-		rootQueryDef.where(createStepResultPredicate(countFrom, taskId, name, statusCode, isOr));
-		if (pageable.getSort() != null && !pageable.getSort().isEmpty())
-			rootQueryDef.orderBy(buildOrderList(cb, fromRoot, pageable.getSort()));
-		TypedQuery<MLPTaskStepResult> itemQuery = entityManager.createQuery(rootQueryDef);
-		itemQuery.setFirstResult(pageable.getPageNumber() * pageable.getPageSize());
-		itemQuery.setMaxResults(pageable.getPageSize());
-		List<MLPTaskStepResult> queryResult = itemQuery.getResultList();
-		logger.debug("findStepResults: result size {}", queryResult.size());
-
-		return new PageImpl<>(queryResult, pageable, count);
+		return findPage(MLPTaskStepResult.class, from -> createStepResultPredicate(from, taskId, name, statusCode,
+				isOr), true, pageable, countMode);
 	}
 
 }
@@ -20,6 +20,7 @@
 
 package org.acumos.cds.service;
 
+import org.acumos.cds.CountMode;
 import org.acumos.cds.domain.MLPTask;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -51,9 +52,12 @@ public interface TaskSearchService {
 	 *                       the query is a conjunction ("and").
 	 * @param pageable
 	 *                       Page and sort criteria
+	 * @param countMode
+	 *                       How to compute the total count of elements
 	 * @return Page of instances, which may be empty.
 	 */
 	Page<MLPTask> findTasks(Long taskId, String taskCode, String name, String statusCode, String userId,
-			String trackingId, String solutionId, String revisionId, boolean isOr, Pageable pageable);
+			String trackingId, String solutionId, String revisionId, boolean isOr, Pageable pageable,
+			CountMode countMode);
 
 }
@@ -24,18 +24,16 @@
 import java.util.ArrayList;
 import java.util.List;
 
-import javax.persistence.TypedQuery;
 import javax.persistence.criteria.CriteriaBuilder;
-import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
 
+import org.acumos.cds.CountMode;
 import org.acumos.cds.domain.MLPTask;
 import org.acumos.cds.domain.MLPTask_;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -84,40 +82,11 @@ private Predicate createTaskPredicate(Root<MLPTask> from, Long taskId, String ta
 	 */
 	@Override
 	public Page<MLPTask> findTasks(Long taskId, String taskCode, String name, String statusCode, String userId,
-			String trackingId, String solutionId, String revisionId, boolean isOr, Pageable pageable) {
+			String trackingId, String solutionId, String revisionId, boolean isOr, Pageable pageable,
+			CountMode countMode) {
 
-		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
-
-		// Count rows available
-		CriteriaQuery<Long> countQueryDef = cb.createQuery(Long.class);
-		countQueryDef.distinct(true);
-		Root<MLPTask> countFrom = countQueryDef.from(MLPTask.class);
-		countQueryDef.select(cb.count(countFrom));
-		countQueryDef.where(createTaskPredicate(countFrom, taskId, taskCode, name, statusCode, userId, trackingId,
-				solutionId, revisionId, isOr));
-		TypedQuery<Long> countQuery = entityManager.createQuery(countQueryDef);
-		Long count = countQuery.getSingleResult();
-		logger.debug("findTasks: count {}", count);
-		if (count == 0)
-			return new PageImpl<>(new ArrayList<>(), pageable, count);
-
-		// Get one page of rows
-		CriteriaQuery<MLPTask> rootQueryDef = cb.createQuery(MLPTask.class);
-		// Coalesce any duplicates due to joins
-		rootQueryDef.distinct(true);
-		Root<MLPTask> fromRoot = rootQueryDef.from(MLPTask.class);
-		rootQueryDef.select(fromRoot);
-		rootQueryDef.where(createTaskPredicate(countFrom, taskId, taskCode, name, statusCode, userId, trackingId,
-				solutionId, revisionId, isOr));
-		if (pageable.getSort() != null && !pageable.getSort().isEmpty())
-			rootQueryDef.orderBy(buildOrderList(cb, fromRoot, pageable.getSort()));
-		TypedQuery<MLPTask> itemQuery = entityManager.createQuery(rootQueryDef);
-		itemQuery.setFirstResult(pageable.getPageNumber() * pageable.getPageSize());
-		itemQuery.setMaxResults(pageable.getPageSize());
-		List<MLPTask> queryResult = itemQuery.getResultList();
-		logger.debug("findTasks: result size {}", queryResult.size());
-
-		return new PageImpl<>(queryResult, pageable, count);
+		return findPage(MLPTask.class, from -> createTaskPredicate(from, taskId, taskCode, name, statusCode, userId,
+				trackingId, solutionId, revisionId, isOr), true, pageable, countMode);
 	}
 
 }
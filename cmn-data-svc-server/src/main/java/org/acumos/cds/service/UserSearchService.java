@@ -20,7 +20,9 @@
 
 package org.acumos.cds.service;
 
-import org.acumos.cds.domain.MLPUser;
+import org.acumos.cds.CountMode;
+import org.acumos.cds.domain.MLPUserSummary;
+import org.acumos.cds.transport.RestPageResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -49,9 +51,25 @@ public interface UserSearchService {
 	 *                       the query is a conjunction ("and").
 	 * @param pageable
 	 *                       Page and sort criteria
+	 * @param countMode
+	 *                       How to compute the total count of elements
 	 * @return Page of instances, which may be empty.
 	 */
-	Page<MLPUser> findUsers(String firstName, String middleName, String lastName, String orgName, String email,
-			String loginName, Boolean active, boolean isOr, Pageable pageable);
+	Page<MLPUserSummary> findUsers(String firstName, String middleName, String lastName, String orgName,
+			String email, String loginName, Boolean active, boolean isOr, Pageable pageable, CountMode countMode);
+
+	/**
+	 * Gets a page of users using keyset pagination.
+	 * 
+	 * @param continuation
+	 *                         Token from the previous page; null or empty to get
+	 *                         the first page
+	 * @param pageable
+	 *                         Page size and at most one sort criterion
+	 * @return Page of instances with a continuation token if more are available
+	 * @see org.acumos.cds.client.ICommonDataServiceRestClient#getUsersByCursor(String,
+	 *      org.acumos.cds.transport.RestPageRequest)
+	 */
+	RestPageResponse<MLPUserSummary> findUsersAfterCursor(String continuation, Pageable pageable);
 
 }
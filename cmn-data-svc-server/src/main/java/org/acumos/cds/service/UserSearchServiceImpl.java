@@ -24,18 +24,17 @@
 import java.util.ArrayList;
 import java.util.List;
 
-import javax.persistence.TypedQuery;
 import javax.persistence.criteria.CriteriaBuilder;
-import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
 
-import org.acumos.cds.domain.MLPUser;
-import org.acumos.cds.domain.MLPUser_;
+import org.acumos.cds.CountMode;
+import org.acumos.cds.domain.MLPAbstractUser_;
+import org.acumos.cds.domain.MLPUserSummary;
+import org.acumos.cds.transport.RestPageResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -52,26 +51,26 @@ public class UserSearchServiceImpl extends AbstractSearchServiceImpl implements
 	 * 
 	 * @return Predicate
 	 */
-	private Predicate createUserPredicate(Root<MLPUser> from, String firstName, String middleName, String lastName,
-			String orgName, String email, String loginName, Boolean active, boolean isOr) {
+	private Predicate createUserPredicate(Root<MLPUserSummary> from, String firstName, String middleName,
+			String lastName, String orgName, String email, String loginName, Boolean active, boolean isOr) {
 
 		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
 		List<Predicate> predicates = new ArrayList<>();
 		if (firstName != null && !firstName.isEmpty())
-			predicates.add(cb.equal(cb.lower(from.<String>get(MLPUser_.firstName)), firstName.toLowerCase()));
+			predicates.add(cb.equal(cb.lower(from.<String>get(MLPAbstractUser_.firstName)), firstName.toLowerCase()));
 		if (middleName != null && !middleName.isEmpty())
-			predicates.add(cb.equal(cb.lower(from.<String>get(MLPUser_.middleName)), middleName.toLowerCase()));
+			predicates.add(cb.equal(cb.lower(from.<String>get(MLPAbstractUser_.middleName)), middleName.toLowerCase()));
 		if (lastName != null && !lastName.isEmpty())
-			predicates.add(cb.equal(cb.lower(from.<String>get(MLPUser_.lastName)), lastName.toLowerCase()));
+			predicates.add(cb.equal(cb.lower(from.<String>get(MLPAbstractUser_.lastName)), lastName.toLowerCase()));
 		if (orgName != null && !orgName.isEmpty())
-			predicates.add(cb.equal(cb.lower(from.<String>get(MLPUser_.orgName)), orgName.toLowerCase()));
+			predicates.add(cb.equal(cb.lower(from.<String>get(MLPAbstractUser_.orgName)), orgName.toLowerCase()));
 		if (email != null && !email.isEmpty())
-			predicates.add(cb.equal(cb.lower(from.<String>get(MLPUser_.email)), email.toLowerCase()));
+			predicates.add(cb.equal(cb.lower(from.<String>get(MLPAbstractUser_.email)), email.toLowerCase()));
 		if (loginName != null && !loginName.isEmpty())
-			predicates.add(cb.equal(cb.lower(from.<String>get(MLPUser_.loginName)), loginName.toLowerCase()));
+			predicates.add(cb.equal(cb.lower(from.<String>get(MLPAbstractUser_.loginName)), loginName.toLowerCase()));
 		if (active != null) {
-			Predicate activePredicate = active ? cb.isTrue(from.<Boolean>get(MLPUser_.active))
-					: cb.isFalse(from.<Boolean>get(MLPUser_.active));
+			Predicate activePredicate = active ? cb.isTrue(from.<Boolean>get(MLPAbstractUser_.active))
+					: cb.isFalse(from.<Boolean>get(MLPAbstractUser_.active));
 			predicates.add(activePredicate);
 		}
 		if (predicates.isEmpty())
@@ -85,41 +84,18 @@ private Predicate createUserPredicate(Root<MLPUser> from, String firstName, Stri
 	 * Use JPA in Spring-Boot version 2.1
 	 */
 	@Override
-	public Page<MLPUser> findUsers(String firstName, String middleName, String lastName, String orgName, String email,
-			String loginName, Boolean active, boolean isOr, Pageable pageable) {
+	public Page<MLPUserSummary> findUsers(String firstName, String middleName, String lastName, String orgName,
+			String email, String loginName, Boolean active, boolean isOr, Pageable pageable, CountMode countMode) {
 
-		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
-
-		// Count rows available
-		CriteriaQuery<Long> countQueryDef = cb.createQuery(Long.class);
-		countQueryDef.distinct(true);
-		Root<MLPUser> countFrom = countQueryDef.from(MLPUser.class);
-		countQueryDef.select(cb.count(countFrom));
-		countQueryDef.where(createUserPredicate(countFrom, firstName, middleName, lastName, orgName, email, loginName,
-				active, isOr));
-		TypedQuery<Long> countQuery = entityManager.createQuery(countQueryDef);
-		Long count = countQuery.getSingleResult();
-		logger.debug("findRoles: count {}", count);
-		if (count == 0)
-			return new PageImpl<>(new ArrayList<>(), pageable, count);
-
-		// Get one page of rows
-		CriteriaQuery<MLPUser> rootQueryDef = cb.createQuery(MLPUser.class);
-		// Coalesce any duplicates due to joins
-		rootQueryDef.distinct(true);
-		Root<MLPUser> fromRoot = rootQueryDef.from(MLPUser.class);
-		rootQueryDef.select(fromRoot);
-		rootQueryDef.where(createUserPredicate(countFrom, firstName, middleName, lastName, orgName, email, loginName,
-				active, isOr));
-		if (pageable.getSort() != null && !pageable.getSort().isEmpty())
-			rootQueryDef.orderBy(buildOrderList(cb, fromRoot, pageable.getSort()));
-		TypedQuery<MLPUser> itemQuery = entityManager.createQuery(rootQueryDef);
-		itemQuery.setFirstResult(pageable.getPageNumber() * pageable.getPageSize());
-		itemQuery.setMaxResults(pageable.getPageSize());
-		List<MLPUser> queryResult = itemQuery.getResultList();
-		logger.debug("findRoles: result size {}", queryResult.size());
+		return findPage(MLPUserSummary.class, from -> createUserPredicate(from, firstName, middleName, lastName, orgName,
+				email, loginName, active, isOr), true, pageable, countMode);
+	}
 
-		return new PageImpl<>(queryResult, pageable, count);
+	@Override
+	public RestPageResponse<MLPUserSummary> findUsersAfterCursor(String continuation, Pageable pageable) {
+		RestPageResponse<MLPUserSummary> result = findPageAfterCursor(MLPUserSummary.class, continuation, pageable);
+		logger.debug("findUsersAfterCursor: result size {}", result.getNumberOfElements());
+		return result;
 	}
 
 }
@@ -20,6 +20,7 @@
 
 package org.acumos.cds.service;
 
+import org.acumos.cds.CountMode;
 import org.acumos.cds.domain.MLPAbstractWorkbenchArtifact;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -52,10 +53,12 @@ public interface WorkbenchArtifactSearchService {
 	 *                          otherwise the query is a conjunction ("and").
 	 * @param pageable
 	 *                          Page and sort criteria
+	 * @param countMode
+	 *                          How to compute the total count of elements
 	 * @return Page of instances, which may be empty.
 	 */
 	Page<MLPAbstractWorkbenchArtifact> findWorkbenchArtifacts(Class<? extends MLPAbstractWorkbenchArtifact> clazz,
 			String name, Boolean active, String userId, String version, String serviceStatus, String repositoryUrl,
-			String serviceUrl, boolean isOr, Pageable pageable);
+			String serviceUrl, boolean isOr, Pageable pageable, CountMode countMode);
 
 }
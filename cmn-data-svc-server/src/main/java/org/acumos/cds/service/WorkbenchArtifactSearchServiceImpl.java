@@ -24,19 +24,17 @@
 import java.util.ArrayList;
 import java.util.List;
 
-import javax.persistence.TypedQuery;
 import javax.persistence.criteria.CriteriaBuilder;
-import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
 
+import org.acumos.cds.CountMode;
 import org.acumos.cds.domain.MLPAbstractWorkbenchArtifact;
 import org.acumos.cds.domain.MLPAbstractWorkbenchArtifact_;
 import org.acumos.cds.domain.MLPNotebook_;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -94,44 +92,14 @@ private Predicate createArtifactPredicate(Root<? extends MLPAbstractWorkbenchArt
 	/*
 	 * Use JPA in Spring-Boot version 2.1
 	 */
-	@SuppressWarnings({ "rawtypes", "unchecked" })
+	@SuppressWarnings("unchecked")
 	public Page<MLPAbstractWorkbenchArtifact> findWorkbenchArtifacts(
 			Class<? extends MLPAbstractWorkbenchArtifact> clazz, String name, Boolean active, String userId,
 			String version, String serviceStatus, String repositoryUrl, String serviceUrl, boolean isOr,
-			Pageable pageable) {
+			Pageable pageable, CountMode countMode) {
 
-		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
-
-		// Count rows available
-		CriteriaQuery<Long> countQueryDef = cb.createQuery(Long.class);
-		countQueryDef.distinct(true);
-		Root<? extends MLPAbstractWorkbenchArtifact> countFrom = countQueryDef.from(clazz);
-		countQueryDef.select(cb.count(countFrom));
-		countQueryDef.where(createArtifactPredicate(countFrom, name, active, userId, version, serviceStatus,
-				repositoryUrl, serviceUrl, isOr));
-		TypedQuery<Long> countQuery = entityManager.createQuery(countQueryDef);
-		Long count = countQuery.getSingleResult();
-		logger.debug("findArtifacts: count {}", count);
-		if (count == 0)
-			return new PageImpl<>(new ArrayList<>(), pageable, count);
-
-		// Get one page of rows
-		CriteriaQuery rootQueryDef = cb.createQuery(clazz);
-		// Coalesce any duplicates due to joins
-		rootQueryDef.distinct(true);
-		Root fromRoot = rootQueryDef.from(clazz);
-		rootQueryDef.select(fromRoot);
-		rootQueryDef.where(createArtifactPredicate(countFrom, name, active, userId, version, serviceStatus,
-				repositoryUrl, serviceUrl, isOr));
-		if (pageable.getSort() != null && !pageable.getSort().isEmpty())
-			rootQueryDef.orderBy(buildOrderList(cb, fromRoot, pageable.getSort()));
-		TypedQuery<MLPAbstractWorkbenchArtifact> itemQuery = entityManager.createQuery(rootQueryDef);
-		itemQuery.setFirstResult(pageable.getPageNumber() * pageable.getPageSize());
-		itemQuery.setMaxResults(pageable.getPageSize());
-		List<MLPAbstractWorkbenchArtifact> queryResult = itemQuery.getResultList();
-		logger.debug("findArtifacts: result size {}", queryResult.size());
-
-		return new PageImpl<>(queryResult, pageable, count);
+		return findPage((Class<MLPAbstractWorkbenchArtifact>) clazz, from -> createArtifactPredicate(from, name, active,
+				userId, version, serviceStatus, repositoryUrl, serviceUrl, isOr), true, pageable, countMode);
 	}
 
 }
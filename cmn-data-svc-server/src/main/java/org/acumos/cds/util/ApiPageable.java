@@ -42,6 +42,9 @@
 		@ApiImplicitParam(name = "sort", allowMultiple = true, dataType = "string", paramType = "query", //
 				value = "Sorting criteria in the format: property(,asc|desc). " //
 						+ "Default sort order is ascending. " //
-						+ "Multiple sort criteria are supported.") })
+						+ "Multiple sort criteria are supported."),
+		@ApiImplicitParam(name = "_cm", dataType = "string", paramType = "query", //
+				value = "Count mode for search results: EXACT (default), ESTIMATE or NONE. " //
+						+ "Ignored by endpoints that are not searches.") })
 public @interface ApiPageable {
 }
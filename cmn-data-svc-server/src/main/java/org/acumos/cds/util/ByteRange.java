@@ -0,0 +1,109 @@
+/*-
+ * ===============LICENSE_START=======================================================
+ * Acumos
+ * ===================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property & Tech Mahindra. All rights reserved.
+ * ===================================================================================
+ * This Acumos software file is distributed by AT&T and Tech Mahindra
+ * under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ===============LICENSE_END=========================================================
+ */
+
+package org.acumos.cds.util;
+
+/**
+ * One byte range requested by an HTTP Range header, resolved against the
+ * length of the representation. Only single ranges are supported; a request
+ * for several ranges is answered in full, which RFC 7233 allows.
+ */
+public final class ByteRange {
+
+	private static final String BYTES_UNIT = "bytes=";
+
+	private final long first;
+	private final long last;
+	private final long length;
+
+	private ByteRange(long first, long last, long length) {
+		this.first = first;
+		this.last = last;
+		this.length = length;
+	}
+
+	/**
+	 * Parses a Range header value.
+	 * 
+	 * @param header
+	 *                   Header value like "bytes=0-499", "bytes=500-" or
+	 *                   "bytes=-500"
+	 * @param length
+	 *                   Length of the representation in bytes
+	 * @return Range; null if the header is missing, malformed or asks for more
+	 *         than one range, and should be ignored
+	 */
+	public static ByteRange parse(String header, long length) {
+		if (header == null || !header.startsWith(BYTES_UNIT))
+			return null;
+		String spec = header.substring(BYTES_UNIT.length()).trim();
+		int dash = spec.indexOf('-');
+		if (dash < 0 || spec.indexOf(',') >= 0)
+			return null;
+		try {
+			String firstPart = spec.substring(0, dash).trim();
+			String lastPart = spec.substring(dash + 1).trim();
+			if (firstPart.isEmpty()) {
+				// Suffix range: the final N bytes
+				long suffix = Long.parseLong(lastPart);
+				if (suffix <= 0)
+					return new ByteRange(length, length - 1, length);
+				return new ByteRange(Math.max(0, length - suffix), length - 1, length);
+			}
+			long first = Long.parseLong(firstPart);
+			long last = lastPart.isEmpty() ? length - 1 : Math.min(Long.parseLong(lastPart), length - 1);
+			if (first < 0 || (!lastPart.isEmpty() && Long.parseLong(lastPart) < first))
+				return null;
+			return new ByteRange(first, last, length);
+		} catch (NumberFormatException ex) {
+			return null;
+		}
+	}
+
+	/**
+	 * @return True if the range overlaps the representation; otherwise the request
+	 *         must be answered with status 416.
+	 */
+	public boolean isSatisfiable() {
+		return first < length && first <= last;
+	}
+
+	/**
+	 * @return Offset of the first byte, starting from zero
+	 */
+	public long getFirst() {
+		return first;
+	}
+
+	/**
+	 * @return Number of bytes in the range
+	 */
+	public long getCount() {
+		return last - first + 1;
+	}
+
+	/**
+	 * @return Value for the Content-Range header of a partial response
+	 */
+	public String getContentRange() {
+		return "bytes " + first + "-" + last + "/" + length;
+	}
+
+}
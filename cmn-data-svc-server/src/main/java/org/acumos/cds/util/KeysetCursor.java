@@ -0,0 +1,172 @@
+/*-
+ * ===============LICENSE_START=======================================================
+ * Acumos
+ * ===================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property & Tech Mahindra. All rights reserved.
+ * ===================================================================================
+ * This Acumos software file is distributed by AT&T and Tech Mahindra
+ * under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ===============LICENSE_END=========================================================
+ */
+
+package org.acumos.cds.util;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Identifies a position in a sorted result for keyset pagination: the entity
+ * type, the sort property and direction, and the sort-key and ID values of the
+ * last row on the previous page. Serialized as an opaque, URL-safe token.
+ */
+public final class KeysetCursor {
+
+	private static final ObjectMapper mapper = new ObjectMapper();
+
+	private final String entityName;
+	private final String property;
+	private final boolean ascending;
+	private final String lastValue;
+	private final String lastId;
+
+	/**
+	 * Builds a cursor.
+	 * 
+	 * @param entityName
+	 *                       Entity name
+	 * @param property
+	 *                       Sort property
+	 * @param ascending
+	 *                       Sort direction
+	 * @param lastValue
+	 *                       Sort-key value of the last row on the previous page as
+	 *                       a string; null before the first page
+	 * @param lastId
+	 *                       ID of the last row on the previous page; null before
+	 *                       the first page
+	 */
+	public KeysetCursor(String entityName, String property, boolean ascending, String lastValue, String lastId) {
+		this.entityName = entityName;
+		this.property = property;
+		this.ascending = ascending;
+		this.lastValue = lastValue;
+		this.lastId = lastId;
+	}
+
+	/**
+	 * Parses a token created by {@link #encode()}.
+	 * 
+	 * @param token
+	 *                  Continuation token
+	 * @return KeysetCursor
+	 * @throws IllegalArgumentException
+	 *                                      If the token is not valid
+	 */
+	public static KeysetCursor decode(String token) {
+		try {
+			String[] fields = mapper.readValue(Base64.getUrlDecoder().decode(token), String[].class);
+			if (fields.length != 5 || fields[0] == null || fields[1] == null || fields[4] == null)
+				throw new IllegalArgumentException("Malformed continuation token");
+			return new KeysetCursor(fields[0], fields[1], Boolean.parseBoolean(fields[2]), fields[3], fields[4]);
+		} catch (IOException | IllegalArgumentException ex) {
+			throw new IllegalArgumentException("Invalid continuation token", ex);
+		}
+	}
+
+	/**
+	 * Serializes this cursor.
+	 * 
+	 * @return URL-safe continuation token
+	 */
+	public String encode() {
+		String[] fields = { entityName, property, Boolean.toString(ascending), lastValue, lastId };
+		try {
+			return Base64.getUrlEncoder().withoutPadding()
+					.encodeToString(mapper.writeValueAsString(fields).getBytes(StandardCharsets.UTF_8));
+		} catch (IOException ex) {
+			throw new IllegalStateException("Failed to encode cursor", ex);
+		}
+	}
+
+	/**
+	 * Builds a cursor at the specified row, with the same entity and sort as this
+	 * cursor.
+	 * 
+	 * @param value
+	 *                  Sort-key value of the row
+	 * @param id
+	 *                  ID of the row
+	 * @return New cursor
+	 */
+	public KeysetCursor next(Object value, String id) {
+		return new KeysetCursor(entityName, property, ascending, value == null ? null : value.toString(), id);
+	}
+
+	/**
+	 * Converts the last sort-key value to the specified type.
+	 * 
+	 * @param type
+	 *                 One of String, Instant, Long or Integer
+	 * @return Converted value
+	 * @throws IllegalArgumentException
+	 *                                      If the type is not supported or the
+	 *                                      value cannot be converted
+	 */
+	public Comparable<?> getLastValue(Class<?> type) {
+		try {
+			if (String.class.equals(type))
+				return lastValue;
+			else if (Instant.class.equals(type))
+				return Instant.parse(lastValue);
+			else if (Long.class.equals(type) || long.class.equals(type))
+				return Long.valueOf(lastValue);
+			else if (Integer.class.equals(type) || int.class.equals(type))
+				return Integer.valueOf(lastValue);
+		} catch (RuntimeException ex) {
+			throw new IllegalArgumentException("Invalid continuation token value", ex);
+		}
+		throw new IllegalArgumentException("Unsupported sort property type: " + type.getName());
+	}
+
+	/**
+	 * Answers whether the type is supported as a sort key.
+	 * 
+	 * @param type
+	 *                 Class
+	 * @return True if a value of this type can be carried in a cursor
+	 */
+	public static boolean isSupportedType(Class<?> type) {
+		return String.class.equals(type) || Instant.class.equals(type) || Long.class.equals(type)
+				|| long.class.equals(type) || Integer.class.equals(type) || int.class.equals(type);
+	}
+
+	public String getEntityName() {
+		return entityName;
+	}
+
+	public String getProperty() {
+		return property;
+	}
+
+	public boolean isAscending() {
+		return ascending;
+	}
+
+	public String getLastId() {
+		return lastId;
+	}
+
+}
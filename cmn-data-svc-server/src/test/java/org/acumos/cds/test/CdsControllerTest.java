@@ -20,18 +20,32 @@
 
 package org.acumos.cds.test;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.lang.invoke.MethodHandles;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
+import org.acumos.cds.CCDSConstants;
 import org.acumos.cds.CodeNameType;
+import org.acumos.cds.CountMode;
+import org.acumos.cds.SolutionDetailPart;
+import org.acumos.cds.client.CommonDataServiceAsyncRestClientImpl;
 import org.acumos.cds.client.CommonDataServiceRestClientImpl;
+import org.acumos.cds.client.SolutionChangeFeed;
 import org.acumos.cds.client.ICommonDataServiceRestClient;
 import org.acumos.cds.domain.MLPArtifact;
 import org.acumos.cds.domain.MLPCatalog;
@@ -71,9 +85,16 @@
 import org.acumos.cds.domain.MLPUserNotifPref;
 import org.acumos.cds.domain.MLPUserNotification;
 import org.acumos.cds.transport.AuthorTransport;
+import org.acumos.cds.transport.BatchTransport;
+import org.acumos.cds.transport.CacheStatsTransport;
+import org.acumos.cds.transport.FacetCountTransport;
+import org.acumos.cds.transport.PurgeTaskTransport;
 import org.acumos.cds.transport.RestPageRequest;
 import org.acumos.cds.transport.RestPageResponse;
+import org.acumos.cds.transport.RevisionDetailTransport;
+import org.acumos.cds.transport.SolutionDetailTransport;
 import org.acumos.cds.transport.SuccessTransport;
+import org.acumos.cds.transport.SuggestionTransport;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -84,16 +105,28 @@
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
 import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.support.BasicAuthenticationInterceptor;
 import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.util.StreamUtils;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.RestTemplate;
 
 /**
  * Tests server controller classes by sending in requests with the client. The
  * server is launched with a Derby in-memory database.
  */
 @RunWith(SpringRunner.class)
-@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT, properties = { "cds.solution.change-log.settle-ms=0",
+		"cds.http.validator.settle-ms=100", "cds.solution.view-count.flush-ms=3600000",
+		"spring.jpa.properties.hibernate.generate_statistics=true",
+		"spring.jpa.properties.hibernate.session_factory.statement_inspector=org.acumos.cds.test.SqlStatementRecorder" })
 public class CdsControllerTest {
 
 	private static final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
@@ -336,7 +369,9 @@ public void createSolutionWithArtifacts() throws Exception {
 			MLPUser loggedIn = client.loginUser(loginName, loginPass);
 			Assert.assertNotNull(loggedIn);
 			logger.info("Logged in successfully, password expires {}", loggedIn.getLoginPassExpire());
-			Assert.assertArrayEquals(fakePicture, loggedIn.getPicture());
+			// Login answers a lean user; the picture is fetched separately
+			Assert.assertNull(loggedIn.getPicture());
+			Assert.assertArrayEquals(fakePicture, client.getUserPicture(cu.getUserId()));
 
 			MLPUser apiUser = client.loginApiUser(loginName, apiToken);
 			Assert.assertNotNull(apiUser);
@@ -653,12 +688,14 @@ public void createSolutionWithArtifacts() throws Exception {
 			long solCountTrans = client.getSolutionCount();
 			Assert.assertNotEquals(0, solCountTrans);
 
-			// Increment view count
+			// Increment view count; the long flush interval keeps the view pending
 			Long before = cs.getViewCount();
+			long pendingBefore = client.getPendingSolutionViewCount();
 			logger.info("Incrementing solution view count");
 			client.incrementSolutionViewCount(cs.getSolutionId());
 			MLPSolution after = client.getSolution(cs.getSolutionId());
 			Assert.assertNotEquals(before, after.getViewCount());
+			Assert.assertEquals(pendingBefore + 1, client.getPendingSolutionViewCount());
 
 			// add and drop tags
 			logger.info("Tagging solutions");
@@ -698,6 +735,18 @@ public void createSolutionWithArtifacts() throws Exception {
 			Assert.assertNotNull(page);
 			Assert.assertNotEquals(0, page.getTotalElements());
 
+			logger.info("Walking all solutions with a cursor");
+			Set<String> cursorIds = new HashSet<>();
+			String continuation = null;
+			do {
+				RestPageResponse<MLPSolution> cursorPage = client.getSolutionsByCursor(continuation,
+						new RestPageRequest(0, 2, "name"));
+				for (MLPSolution sol : cursorPage.getContent())
+					Assert.assertTrue(cursorIds.add(sol.getSolutionId()));
+				continuation = cursorPage.getContinuation();
+			} while (continuation != null);
+			Assert.assertTrue(cursorIds.contains(cs.getSolutionId()));
+
 			cs.setOrigin("some origin");
 			client.updateSolution(cs);
 			logger.info("Fetching back updated solution");
@@ -844,6 +893,19 @@ public void createSolutionWithArtifacts() throws Exception {
 					new RestPageRequest());
 			Assert.assertFalse(coverSolList.hasContent());
 
+			logger.info("Querying for active solutions without counting");
+			RestPageRequest uncounted = new RestPageRequest(0, 1, "name");
+			uncounted.setCountMode(CountMode.NONE);
+			RestPageResponse<MLPSolution> uncountedPage = client.searchSolutions(activePb, false, uncounted);
+			Assert.assertEquals(CountMode.NONE, uncountedPage.getCountMode());
+			Assert.assertEquals(1, uncountedPage.getNumberOfElements());
+			Assert.assertEquals(activePbPage.getTotalElements() > 1, uncountedPage.hasNext());
+			uncounted.setCountMode(CountMode.ESTIMATE);
+			RestPageResponse<MLPSolution> estimatedPage = client.searchSolutions(activePb, false, uncounted);
+			Assert.assertEquals(CountMode.ESTIMATE, estimatedPage.getCountMode());
+			// Look-ahead covers all the active solutions so the estimate is exact
+			Assert.assertEquals(activePbPage.getTotalElements(), estimatedPage.getTotalElements());
+
 			// Portal dynamic search
 			logger.info("Querying for any solutions via flexible i/f");
 			RestPageResponse<MLPSolution> portalAnyMatches = client.findPortalSolutions(null, null, true, null, null,
@@ -907,6 +969,31 @@ public void createSolutionWithArtifacts() throws Exception {
 			Assert.assertNotNull(noCtlgSearchResult);
 			Assert.assertEquals(0, noCtlgSearchResult.getNumberOfElements());
 
+			logger.info("Counting facets of solutions by tag");
+			FacetCountTransport facets = client.findPortalSolutionFacets(null, true, null, null, null, allTags,
+					anyTags, catalogId);
+			Assert.assertNotNull(facets);
+			Assert.assertEquals(allAnyTagsSearchResult.getTotalElements(), facets.getTotal());
+			Assert.assertEquals(Long.valueOf(facets.getTotal()), facets.getTagCounts().get(tagName1));
+			Assert.assertFalse(facets.getModelTypeCounts().isEmpty());
+
+			logger.info("Getting suggestions for tag and name prefixes");
+			List<SuggestionTransport> suggestions = client.getSolutionSuggestions(tagName1.substring(0, 6), 10);
+			Assert.assertTrue(suggestions.stream().anyMatch(
+					sg -> sg.getType() == SuggestionTransport.Type.TAG && tagName1.equals(sg.getText())));
+			// Matches the start of any word, ignoring case
+			suggestions = client.getSolutionSuggestions("NAM", 10);
+			Assert.assertTrue(suggestions.stream().anyMatch(
+					sg -> sg.getType() == SuggestionTransport.Type.NAME && "solution name".equals(sg.getText())));
+			Assert.assertEquals(1, client.getSolutionSuggestions("NAM", 1).size());
+
+			logger.info("Checking the search cache answers a repeated query");
+			CacheStatsTransport statsBefore = client.getSolutionSearchCacheStats();
+			Assert.assertNotNull(statsBefore);
+			client.findPortalSolutionFacets(null, true, null, null, null, allTags, anyTags, catalogId);
+			CacheStatsTransport statsAfter = client.getSolutionSearchCacheStats();
+			Assert.assertEquals(statsBefore.getHitCount() + 1, statsAfter.getHitCount());
+
 			// Check this finds solutions by shared-with-user ID
 			logger.info("Querying for user solutions via flexible i/f");
 			RestPageResponse<MLPSolution> userSols = client.findUserSolutions(null, null, true,
@@ -937,6 +1024,19 @@ public void createSolutionWithArtifacts() throws Exception {
 			Assert.assertNotEquals(0, sld.getNumberOfElements());
 			logger.info("Found solutions by date: " + sld.getContent().size());
 
+			logger.info("Following the solution change log");
+			SolutionChangeFeed changeFeed = new SolutionChangeFeed(client, 0, 2);
+			Assert.assertTrue(changeFeed.poll().contains(cs.getSolutionId()));
+			long lastSequence = changeFeed.getLastSequence();
+			Assert.assertNotEquals(0, lastSequence);
+			Assert.assertTrue(changeFeed.poll().isEmpty());
+			Assert.assertEquals(lastSequence, changeFeed.getLastSequence());
+			MLPSolution changedSol = client.getSolution(cs.getSolutionId());
+			changedSol.setName("changed name");
+			client.updateSolution(changedSol);
+			Assert.assertEquals(Collections.singleton(cs.getSolutionId()), changeFeed.poll());
+			Assert.assertTrue(changeFeed.getLastSequence() > lastSequence);
+
 			// Create Solution Rating
 			logger.info("Creating solution rating");
 			MLPSolutionRating ur = new MLPSolutionRating();
@@ -961,8 +1061,8 @@ public void createSolutionWithArtifacts() throws Exception {
 
 			// check the average rating
 			MLPSolution solWithRating = client.getSolution(cs.getSolutionId());
-			Assert.assertNotNull(solWithRating.getRatingAverageTenths());
-			Assert.assertTrue(solWithRating.getRatingAverageTenths() > 0);
+			Assert.assertEquals(Long.valueOf(1), solWithRating.getRatingCount());
+			Assert.assertEquals(Long.valueOf(50), solWithRating.getRatingAverageTenths());
 			logger.info("Computed solution rating average: {}", solWithRating.getRatingAverageTenths());
 
 			// Create Solution download
@@ -980,6 +1080,7 @@ public void createSolutionWithArtifacts() throws Exception {
 			Assert.assertNotNull(solWithDownloads);
 			Long downloadCount = solWithDownloads.getDownloadCount();
 			Assert.assertEquals(new Long(1), downloadCount);
+			Assert.assertEquals(sd.getDownloadDate(), solWithDownloads.getLastDownload());
 			logger.info("Solution download count is {}", solWithDownloads.getDownloadCount());
 
 			// Attempt to update the download count, which is blocked
@@ -1175,6 +1276,12 @@ public void testRoleAndFunctions() throws Exception {
 			MLPRole res = client.getRole(cr.getRoleId());
 			Assert.assertNotNull(res.getRoleId());
 			logger.info("Retrieved role {}", res);
+			// The second read is answered by the entity cache
+			client.getRole(cr.getRoleId());
+			CacheStatsTransport roleCacheStats = client.getEntityCacheStats().stream()
+					.filter(st -> MLPRole.class.getName().equals(st.getName())).findFirst().orElse(null);
+			Assert.assertNotNull(roleCacheStats);
+			Assert.assertNotEquals(0, roleCacheStats.getHitCount());
 
 			List<MLPRoleFunction> fetchedRoleFns = client.getRoleFunctions(cr.getRoleId());
 			Assert.assertNotNull(fetchedRoleFns);
@@ -1666,6 +1773,27 @@ public void testSiteContent() throws Exception {
 		logger.info("Created site config {}", content);
 		content = client.getSiteContent(key);
 		Assert.assertNotNull(content);
+		// Validators are sent after the validator settle interval
+		Thread.sleep(200);
+		RestTemplate restTemplate = new RestTemplate();
+		restTemplate.getInterceptors().add(new BasicAuthenticationInterceptor(userName, password));
+		String contentUrl = new URL("http", hostname, port,
+				contextPath + "/" + CCDSConstants.SITE_PATH + "/" + CCDSConstants.CONTENT_PATH + "/" + key).toString();
+		ResponseEntity<MLPSiteContent> full = restTemplate.getForEntity(contentUrl, MLPSiteContent.class);
+		Assert.assertNotNull(full.getHeaders().getETag());
+		Assert.assertNotEquals(-1, full.getHeaders().getLastModified());
+		HttpHeaders conditional = new HttpHeaders();
+		conditional.setIfNoneMatch(full.getHeaders().getETag());
+		ResponseEntity<MLPSiteContent> notModified = restTemplate.exchange(contentUrl, HttpMethod.GET,
+				new HttpEntity<Void>(conditional), MLPSiteContent.class);
+		Assert.assertEquals(HttpStatus.NOT_MODIFIED, notModified.getStatusCode());
+		Assert.assertNull(notModified.getBody());
+		// The client does not keep site content, so each read gets a fresh copy
+		Assert.assertArrayEquals(bytes, client.getSiteContent(key).getContentValue());
+		MLPSiteContent validated = client.getSiteContent(key);
+		Assert.assertArrayEquals(bytes, validated.getContentValue());
+		validated.setMimeType("changed by caller");
+		Assert.assertEquals("application/octet-stream", client.getSiteContent(key).getMimeType());
 		RestPageResponse<MLPSiteContent> contents = client.getSiteContents(new RestPageRequest(0, 10));
 		Assert.assertNotEquals(0, contents.getTotalElements());
 
@@ -1677,6 +1805,7 @@ public void testSiteContent() throws Exception {
 		}
 		content.setContentValue(new byte[0]);
 		client.updateSiteContent(content);
+		Assert.assertEquals(0, client.getSiteContent(key).getContentValue().length);
 		try {
 			content.setContentValue(null);
 			client.updateSiteContent(content);
@@ -2789,6 +2918,557 @@ public void testWorkbenchArtifacts() throws Exception {
 		client.deleteUser(cu.getUserId());
 	}
 
+	@Test
+	public void testExistenceChecks() throws Exception {
+		MLPUser cu = new MLPUser("existuser", "existuser@abc.com", true);
+		cu.setPicture(new byte[1000]);
+		cu = client.createUser(cu);
+		MLPSolution cs = client.createSolution(new MLPSolution("exist sol", cu.getUserId(), true));
+		MLPNotification no = new MLPNotification("exist title", "LO", Instant.now(),
+				Instant.now().plusSeconds(60));
+		no = client.createNotification(no);
+		MLPSiteConfig sc = new MLPSiteConfig("existKey", "{ \"exists\" : true }");
+		sc.setUserId(cu.getUserId());
+
+		// Checks that the user exists must not read the user's picture
+		SqlStatementRecorder.start();
+		MLPSolutionRating sr = client.createSolutionRating(new MLPSolutionRating(cs.getSolutionId(), cu.getUserId(), 3));
+		client.addSolutionUserAccess(cs.getSolutionId(), cu.getUserId());
+		client.addUserToNotification(no.getNotificationId(), cu.getUserId());
+		client.createSiteConfig(sc);
+		List<String> statements = SqlStatementRecorder.stop();
+		Assert.assertFalse(statements.isEmpty());
+		for (String sql : statements)
+			Assert.assertFalse(sql, sql.toUpperCase().contains("PICTURE"));
+
+		client.deleteSiteConfig(sc.getConfigKey());
+		client.dropUserFromNotification(no.getNotificationId(), cu.getUserId());
+		client.deleteNotification(no.getNotificationId());
+		client.dropSolutionUserAccess(cs.getSolutionId(), cu.getUserId());
+		client.deleteSolutionRating(sr);
+		client.deleteSolution(cs.getSolutionId());
+		client.deleteUser(cu.getUserId());
+	}
+
+	@Test
+	public void testUserPicture() throws Exception {
+		final String loginPass = "picture_user_pass";
+		MLPUser cu = new MLPUser("pictureuser", "pictureuser@abc.com", true);
+		cu.setLoginHash(loginPass);
+		cu.setPicture(new byte[100000]);
+		cu = client.createUser(cu);
+		client.addUserTag(cu.getUserId(), "picturetag");
+
+		// Neither pages of users nor login may read pictures or tags
+		SqlStatementRecorder.start();
+		RestPageResponse<MLPUser> users = client.getUsers(new RestPageRequest(0, 100));
+		RestPageResponse<MLPUser> liked = client.findUsersBySearchTerm("pictureuser", new RestPageRequest(0, 100));
+		Map<String, Object> queryParameters = new HashMap<>();
+		queryParameters.put("loginName", "pictureuser");
+		RestPageResponse<MLPUser> found = client.searchUsers(queryParameters, false, new RestPageRequest(0, 100));
+		MLPUser loggedIn = client.loginUser(cu.getLoginName(), loginPass);
+		List<String> statements = SqlStatementRecorder.stop();
+		Assert.assertFalse(statements.isEmpty());
+		for (String sql : statements) {
+			Assert.assertFalse(sql, sql.toUpperCase().contains("PICTURE"));
+			Assert.assertFalse(sql, sql.toUpperCase().contains("C_USER_TAG_MAP"));
+		}
+		Assert.assertNotEquals(0, users.getNumberOfElements());
+		for (MLPUser u : users)
+			Assert.assertNull(u.getPicture());
+		Assert.assertEquals(1, liked.getNumberOfElements());
+		Assert.assertEquals(1, found.getNumberOfElements());
+		Assert.assertNull(loggedIn.getPicture());
+		Assert.assertTrue(loggedIn.getTags().isEmpty());
+
+		// The single-user read still has both
+		MLPUser fetched = client.getUser(cu.getUserId());
+		Assert.assertEquals(100000, fetched.getPicture().length);
+		Assert.assertFalse(fetched.getTags().isEmpty());
+
+		// An update built from a lean user keeps the picture and tags
+		MLPUser lean = found.getContent().get(0);
+		lean.setFirstName("Pictured");
+		client.updateUser(lean);
+		fetched = client.getUser(cu.getUserId());
+		Assert.assertEquals("Pictured", fetched.getFirstName());
+		Assert.assertEquals(100000, client.getUserPicture(cu.getUserId()).length);
+		Assert.assertFalse(fetched.getTags().isEmpty());
+
+		client.saveUserPicture(cu.getUserId(), new byte[] { 1, 2, 3 });
+		Assert.assertArrayEquals(new byte[] { 1, 2, 3 }, client.getUserPicture(cu.getUserId()));
+		client.saveUserPicture(cu.getUserId(), null);
+		Assert.assertNull(client.getUserPicture(cu.getUserId()));
+		Assert.assertNull(client.getUserPicture("bogus"));
+		try {
+			client.saveUserPicture("bogus", new byte[] { 1 });
+			throw new Exception("Unexpected success");
+		} catch (HttpStatusCodeException ex) {
+			logger.info("Save picture of missing user failed as expected: {}", ex.getResponseBodyAsString());
+		}
+
+		client.dropUserTag(cu.getUserId(), "picturetag");
+		client.deleteTag(new MLPTag("picturetag"));
+		client.deleteUser(cu.getUserId());
+	}
+
+	@Test
+	public void testStreamedValues() throws Exception {
+		MLPUser cu = client.createUser(new MLPUser("streamuser", "streamuser@abc.com", true));
+		MLPSolution cs = new MLPSolution("streamed", cu.getUserId(), true);
+		cs = client.createSolution(cs);
+		byte[] image = new byte[100000];
+		new Random().nextBytes(image);
+
+		// Round trip of a solution picture, with and without a known length
+		client.saveSolutionPicture(cs.getSolutionId(), new ByteArrayInputStream(image), image.length);
+		try (InputStream in = client.getSolutionPictureStream(cs.getSolutionId())) {
+			Assert.assertArrayEquals(image, StreamUtils.copyToByteArray(in));
+		}
+		Assert.assertArrayEquals(image, client.getSolutionPicture(cs.getSolutionId()));
+		client.saveUserPicture(cu.getUserId(), new ByteArrayInputStream(image), -1);
+		try (InputStream in = client.getUserPictureStream(cu.getUserId())) {
+			Assert.assertArrayEquals(image, StreamUtils.copyToByteArray(in));
+		}
+		client.saveUserPicture(cu.getUserId(), null, 0);
+		Assert.assertNull(client.getUserPictureStream(cu.getUserId()));
+		Assert.assertNull(client.getSolutionPictureStream("bogus"));
+		try {
+			client.saveSolutionPicture("bogus", new ByteArrayInputStream(image), image.length);
+			throw new Exception("Unexpected success");
+		} catch (HttpStatusCodeException ex) {
+			logger.info("Save picture of missing solution failed as expected: {}", ex.getResponseBodyAsString());
+		}
+
+		// Site content value is created, replaced and read with its media type
+		final String key = "streamed_key";
+		byte[] text = "streamed site content".getBytes(StandardCharsets.UTF_8);
+		client.saveSiteContentValue(key, MediaType.TEXT_PLAIN_VALUE, new ByteArrayInputStream(text), text.length);
+		MLPSiteContent content = client.getSiteContent(key);
+		Assert.assertArrayEquals(text, content.getContentValue());
+		Assert.assertEquals(MediaType.TEXT_PLAIN_VALUE, content.getMimeType());
+		client.saveSiteContentValue(key, MediaType.APPLICATION_OCTET_STREAM_VALUE, new ByteArrayInputStream(image),
+				image.length);
+		try (InputStream in = client.getSiteContentValueStream(key)) {
+			Assert.assertArrayEquals(image, StreamUtils.copyToByteArray(in));
+		}
+		Assert.assertNull(client.getSiteContentValueStream("bogus"));
+
+		// Byte ranges
+		RestTemplate restTemplate = new RestTemplate();
+		restTemplate.getInterceptors().add(new BasicAuthenticationInterceptor(userName, password));
+		String picUrl = new URL("http", hostname, port, contextPath + "/" + CCDSConstants.SOLUTION_PATH + "/"
+				+ cs.getSolutionId() + "/" + CCDSConstants.PICTURE_PATH).toString();
+		HttpHeaders rangeHeaders = new HttpHeaders();
+		rangeHeaders.set(HttpHeaders.RANGE, "bytes=10-19");
+		ResponseEntity<byte[]> partial = restTemplate.exchange(picUrl, HttpMethod.GET,
+				new HttpEntity<Void>(rangeHeaders), byte[].class);
+		Assert.assertEquals(HttpStatus.PARTIAL_CONTENT, partial.getStatusCode());
+		Assert.assertEquals("bytes 10-19/" + image.length, partial.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE));
+		Assert.assertArrayEquals(Arrays.copyOfRange(image, 10, 20), partial.getBody());
+		rangeHeaders.set(HttpHeaders.RANGE, "bytes=-5");
+		partial = restTemplate.exchange(picUrl, HttpMethod.GET, new HttpEntity<Void>(rangeHeaders), byte[].class);
+		Assert.assertEquals(HttpStatus.PARTIAL_CONTENT, partial.getStatusCode());
+		Assert.assertArrayEquals(Arrays.copyOfRange(image, image.length - 5, image.length), partial.getBody());
+		rangeHeaders.set(HttpHeaders.RANGE, "bytes=" + image.length + "-");
+		try {
+			restTemplate.exchange(picUrl, HttpMethod.GET, new HttpEntity<Void>(rangeHeaders), byte[].class);
+			throw new Exception("Unexpected success");
+		} catch (HttpClientErrorException ex) {
+			Assert.assertEquals(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE, ex.getStatusCode());
+		}
+		// A range is ignored if the If-Range validator does not match
+		rangeHeaders.set(HttpHeaders.RANGE, "bytes=0-0");
+		rangeHeaders.set(HttpHeaders.IF_RANGE, "\"stale\"");
+		ResponseEntity<byte[]> whole = restTemplate.exchange(picUrl, HttpMethod.GET,
+				new HttpEntity<Void>(rangeHeaders), byte[].class);
+		Assert.assertEquals(HttpStatus.OK, whole.getStatusCode());
+		Assert.assertEquals(image.length, whole.getHeaders().getContentLength());
+
+		client.deleteSiteContent(key);
+		client.deleteSolution(cs.getSolutionId());
+		client.deleteUser(cu.getUserId());
+	}
+
+	@Test
+	public void testAsyncClient() throws Exception {
+		MLPUser cu = client.createUser(new MLPUser("asyncuser", "asyncuser@abc.com", true));
+		MLPSolution cs = client.createSolution(new MLPSolution("async solution", cu.getUserId(), true));
+		client.addSolutionTag(cs.getSolutionId(), "asynctag");
+		client.saveSolutionPicture(cs.getSolutionId(), new byte[] { 1, 2, 3 });
+		MLPSolutionRevision cr = client
+				.createSolutionRevision(new MLPSolutionRevision(cs.getSolutionId(), "1.0", cu.getUserId(), "PB"));
+		MLPRevisionDescription rd = client
+				.createRevisionDescription(new MLPRevisionDescription(cr.getRevisionId(), "PB", "async description"));
+		MLPArtifact ca = client.createArtifact(
+				new MLPArtifact("1.0", "DI", "async artifact", "http://nexus/artifact", cu.getUserId(), 1));
+		client.addSolutionRevisionArtifact(cs.getSolutionId(), cr.getRevisionId(), ca.getArtifactId());
+
+		String url = new URL("http", hostname, port, contextPath).toString();
+		try (CommonDataServiceAsyncRestClientImpl asyncClient = CommonDataServiceAsyncRestClientImpl.getInstance(url,
+				userName, password)) {
+			// Send the reads of a solution page together
+			CompletableFuture<MLPSolution> solution = asyncClient.getSolution(cs.getSolutionId());
+			CompletableFuture<List<MLPSolutionRevision>> revisions = asyncClient
+					.getSolutionRevisions(cs.getSolutionId());
+			CompletableFuture<List<MLPArtifact>> artifacts = asyncClient
+					.getSolutionRevisionArtifacts(cs.getSolutionId(), cr.getRevisionId());
+			CompletableFuture<MLPRevisionDescription> description = asyncClient
+					.getRevisionDescription(cr.getRevisionId(), "PB");
+			CompletableFuture<List<MLPTag>> tags = asyncClient.getSolutionTags(cs.getSolutionId());
+			CompletableFuture<RestPageResponse<MLPSolutionRating>> ratings = asyncClient
+					.getSolutionRatings(cs.getSolutionId(), new RestPageRequest(0, 10));
+			CompletableFuture<byte[]> picture = asyncClient.getSolutionPicture(cs.getSolutionId());
+			CompletableFuture<MLPUser> user = asyncClient.getUser(cu.getUserId());
+			CompletableFuture.allOf(solution, revisions, artifacts, description, tags, ratings, picture, user).get();
+
+			Assert.assertEquals(cs.getSolutionId(), solution.get().getSolutionId());
+			Assert.assertEquals(client.getSolutionRevisions(cs.getSolutionId()), revisions.get());
+			Assert.assertEquals(ca.getArtifactId(), artifacts.get().get(0).getArtifactId());
+			Assert.assertEquals(rd, description.get());
+			Assert.assertEquals("asynctag", tags.get().get(0).getTag());
+			Assert.assertEquals(0, ratings.get().getNumberOfElements());
+			Assert.assertArrayEquals(new byte[] { 1, 2, 3 }, picture.get());
+			Assert.assertEquals(cu.getUserId(), user.get().getUserId());
+			Assert.assertNotEquals(0L, (long) asyncClient.getSolutionCount().get());
+			Assert.assertNull(asyncClient.getSolution("bogus").get());
+			Assert.assertNull(asyncClient.getUserPicture(cu.getUserId()).get());
+		}
+
+		// Errors complete the future with the exception the synchronous client throws
+		try (CommonDataServiceAsyncRestClientImpl badClient = CommonDataServiceAsyncRestClientImpl.getInstance(url,
+				userName, "bogus")) {
+			badClient.getHealth().get();
+			throw new Exception("Unexpected success");
+		} catch (ExecutionException ex) {
+			Assert.assertTrue(ex.getCause() instanceof HttpClientErrorException);
+			Assert.assertEquals(HttpStatus.UNAUTHORIZED, ((HttpClientErrorException) ex.getCause()).getStatusCode());
+		}
+
+		client.deleteSolution(cs.getSolutionId());
+		client.deleteArtifact(ca.getArtifactId());
+		client.deleteTag(new MLPTag("asynctag"));
+		client.deleteUser(cu.getUserId());
+	}
+
+	@Test
+	public void testBatchReads() throws Exception {
+		MLPUser cu = client.createUser(new MLPUser("batchuser", "batchuser@abc.com", true));
+		MLPSolution cs1 = client.createSolution(new MLPSolution("batch solution 1", cu.getUserId(), true));
+		MLPSolution cs2 = client.createSolution(new MLPSolution("batch solution 2", cu.getUserId(), true));
+		MLPSolutionRevision cr = client
+				.createSolutionRevision(new MLPSolutionRevision(cs1.getSolutionId(), "1.0", cu.getUserId(), "PB"));
+		MLPArtifact ca1 = client.createArtifact(
+				new MLPArtifact("1.0", "DI", "batch artifact 1", "http://nexus/artifact", cu.getUserId(), 1));
+		MLPArtifact ca2 = client.createArtifact(
+				new MLPArtifact("1.0", "DI", "batch artifact 2", "http://nexus/artifact", cu.getUserId(), 1));
+		final String missing = UUID.randomUUID().toString();
+
+		// Found entities follow the order of the IDs; duplicates are answered once
+		BatchTransport<MLPSolution> solutions = client.getSolutionsById(
+				new String[] { cs2.getSolutionId(), missing, cs1.getSolutionId(), cs2.getSolutionId() });
+		Assert.assertEquals(2, solutions.getFound().size());
+		Assert.assertEquals(cs2.getSolutionId(), solutions.getFound().get(0).getSolutionId());
+		Assert.assertEquals(cs1.getSolutionId(), solutions.getFound().get(1).getSolutionId());
+		Assert.assertEquals(Arrays.asList(missing), solutions.getMissingIds());
+
+		BatchTransport<MLPSolutionRevision> revisions = client
+				.getSolutionRevisionsById(new String[] { cr.getRevisionId(), missing });
+		Assert.assertEquals(cr.getRevisionId(), revisions.getFound().get(0).getRevisionId());
+		Assert.assertEquals(Arrays.asList(missing), revisions.getMissingIds());
+
+		BatchTransport<MLPUser> users = client.getUsersById(new String[] { cu.getUserId() });
+		Assert.assertEquals(cu.getUserId(), users.getFound().get(0).getUserId());
+		Assert.assertTrue(users.getMissingIds().isEmpty());
+
+		// The artifacts are read with one statement
+		SqlStatementRecorder.start();
+		BatchTransport<MLPArtifact> artifacts = client
+				.getArtifactsById(new String[] { ca1.getArtifactId(), ca2.getArtifactId(), missing });
+		List<String> statements = SqlStatementRecorder.stop();
+		Assert.assertEquals(statements.toString(), 1, statements.size());
+		Assert.assertEquals(2, artifacts.getFound().size());
+		Assert.assertEquals(Arrays.asList(missing), artifacts.getMissingIds());
+
+		// The limit applies to distinct IDs
+		String[] tooMany = new String[101];
+		Arrays.fill(tooMany, missing);
+		Assert.assertEquals(1, client.getArtifactsById(tooMany).getMissingIds().size());
+		for (int i = 0; i < tooMany.length; ++i)
+			tooMany[i] = UUID.randomUUID().toString();
+		try {
+			client.getArtifactsById(tooMany);
+			throw new Exception("Unexpected success");
+		} catch (HttpStatusCodeException ex) {
+			Assert.assertEquals(HttpStatus.BAD_REQUEST, ex.getStatusCode());
+			logger.info("Batch read failed on too many IDs as expected: {}", ex.getResponseBodyAsString());
+		}
+
+		client.deleteArtifact(ca1.getArtifactId());
+		client.deleteArtifact(ca2.getArtifactId());
+		client.deleteSolution(cs1.getSolutionId());
+		client.deleteSolution(cs2.getSolutionId());
+		client.deleteUser(cu.getUserId());
+	}
+
+	@Test
+	public void testSolutionDetail() throws Exception {
+		MLPUser cu = client.createUser(new MLPUser("detailuser", "detailuser@abc.com", true));
+		// Two solutions that differ only in the number of revisions
+		List<MLPSolution> solutions = new ArrayList<>();
+		List<String> artifactIds = new ArrayList<>();
+		List<String> documentIds = new ArrayList<>();
+		for (int revCount : new int[] { 1, 3 }) {
+			MLPSolution cs = client.createSolution(new MLPSolution("detail solution", cu.getUserId(), true));
+			client.addSolutionTag(cs.getSolutionId(), "detailtag");
+			for (int r = 0; r < revCount; ++r) {
+				MLPSolutionRevision cr = client.createSolutionRevision(
+						new MLPSolutionRevision(cs.getSolutionId(), "1." + r, cu.getUserId(), "PB"));
+				MLPArtifact ca = client.createArtifact(
+						new MLPArtifact("1." + r, "DI", "detail artifact", "http://nexus/artifact", cu.getUserId(), 1));
+				client.addSolutionRevisionArtifact(cs.getSolutionId(), cr.getRevisionId(), ca.getArtifactId());
+				artifactIds.add(ca.getArtifactId());
+				client.createRevisionDescription(new MLPRevisionDescription(cr.getRevisionId(), "PB", "detail " + r));
+				MLPDocument cd = client
+						.createDocument(new MLPDocument("detail doc", "http://nexus/doc", 1, cu.getUserId()));
+				client.addSolutionRevisionDocument(cr.getRevisionId(), "PB", cd.getDocumentId());
+				documentIds.add(cd.getDocumentId());
+			}
+			client.createSolutionRating(new MLPSolutionRating(cs.getSolutionId(), cu.getUserId(), 4));
+			solutions.add(cs);
+		}
+		MLPSolution cs = solutions.get(1);
+		client.saveSolutionPicture(cs.getSolutionId(), new byte[] { 1, 2, 3 });
+
+		// The detail matches the separate reads
+		SolutionDetailTransport detail = client.getSolutionDetail(cs.getSolutionId(), null, new RestPageRequest(0, 10));
+		Assert.assertEquals(cs.getSolutionId(), detail.getSolution().getSolutionId());
+		Assert.assertEquals(1, detail.getSolution().getTags().size());
+		Assert.assertEquals(3, detail.getRevisions().size());
+		for (RevisionDetailTransport rd : detail.getRevisions()) {
+			String revisionId = rd.getRevision().getRevisionId();
+			Assert.assertEquals(client.getSolutionRevisionArtifacts(cs.getSolutionId(), revisionId),
+					rd.getArtifacts());
+			Assert.assertEquals(client.getRevisionDescription(revisionId, "PB"), rd.getDescriptions().get(0));
+			Assert.assertEquals(client.getSolutionRevisionDocuments(revisionId, "PB").get(0).getDocumentId(),
+					rd.getDocuments().get("PB").get(0).getDocumentId());
+		}
+		Assert.assertEquals("1.0", detail.getRevisions().get(0).getRevision().getVersion());
+		Assert.assertEquals(1, detail.getRatings().getNumberOfElements());
+		Assert.assertTrue(detail.getHasPicture());
+
+		// Parts not requested are absent
+		detail = client.getSolutionDetail(cs.getSolutionId(),
+				new SolutionDetailPart[] { SolutionDetailPart.ARTIFACTS }, null);
+		Assert.assertEquals(3, detail.getRevisions().size());
+		Assert.assertNotNull(detail.getRevisions().get(0).getArtifacts());
+		Assert.assertNull(detail.getRevisions().get(0).getDocuments());
+		Assert.assertNull(detail.getRatings());
+		Assert.assertNull(detail.getHasPicture());
+		Assert.assertNull(client.getSolutionDetail(UUID.randomUUID().toString(), null, null));
+
+		// The number of statements does not grow with the number of revisions
+		client.saveSolutionPicture(solutions.get(0).getSolutionId(), new byte[] { 1, 2, 3 });
+		List<Integer> statementCounts = new ArrayList<>();
+		for (MLPSolution sol : solutions) {
+			SqlStatementRecorder.start();
+			client.getSolutionDetail(sol.getSolutionId(), null, new RestPageRequest(0, 10));
+			statementCounts.add(SqlStatementRecorder.stop().size());
+		}
+		Assert.assertEquals(statementCounts.get(0), statementCounts.get(1));
+
+		for (MLPSolution sol : solutions)
+			client.deleteSolution(sol.getSolutionId());
+		for (String artifactId : artifactIds)
+			client.deleteArtifact(artifactId);
+		for (String documentId : documentIds)
+			client.deleteDocument(documentId);
+		client.deleteTag(new MLPTag("detailtag"));
+		client.deleteUser(cu.getUserId());
+	}
+
+	@Test
+	public void testFieldSelection() throws Exception {
+		MLPUser cu = client.createUser(new MLPUser("fieldsuser", "fieldsuser@abc.com", true));
+		MLPSolution cs = new MLPSolution("fields solution", cu.getUserId(), true);
+		cs.setMetadata("fields metadata");
+		cs = client.createSolution(cs);
+		client.addSolutionTag(cs.getSolutionId(), "fieldstag");
+		RestPageRequest pageRequest = new RestPageRequest(0, 100, "name");
+
+		// Only the named fields are read and answered
+		SqlStatementRecorder.start();
+		RestPageResponse<MLPSolution> page = client.getSolutions(pageRequest, new String[] { "name" });
+		List<String> statements = SqlStatementRecorder.stop();
+		MLPSolution found = null;
+		for (MLPSolution sol : page.getContent())
+			if (cs.getSolutionId().equals(sol.getSolutionId()))
+				found = sol;
+		Assert.assertNotNull(found);
+		Assert.assertEquals(cs.getName(), found.getName());
+		Assert.assertNull(found.getMetadata());
+		Assert.assertTrue(found.getTags().isEmpty());
+		for (String sql : statements) {
+			Assert.assertFalse(sql, sql.toUpperCase().contains("METADATA"));
+			Assert.assertFalse(sql, sql.toUpperCase().contains("C_SOL_TAG_MAP"));
+		}
+
+		// Tags are read only when named
+		page = client.getSolutions(pageRequest, new String[] { "name", "tags" });
+		for (MLPSolution sol : page.getContent())
+			if (cs.getSolutionId().equals(sol.getSolutionId()))
+				Assert.assertEquals(1, sol.getTags().size());
+
+		// All fields without a selection
+		page = client.getSolutions(pageRequest, null);
+		for (MLPSolution sol : page.getContent())
+			if (cs.getSolutionId().equals(sol.getSolutionId()))
+				Assert.assertEquals(cs.getMetadata(), sol.getMetadata());
+
+		RestPageResponse<MLPUser> users = client.getUsers(new RestPageRequest(0, 100), new String[] { "loginName", "email" });
+		Assert.assertTrue(users.getNumberOfElements() > 0);
+		for (MLPUser user : users.getContent()) {
+			Assert.assertNotNull(user.getUserId());
+			Assert.assertNull(user.getFirstName());
+		}
+		Assert.assertNotNull(client.getArtifacts(new RestPageRequest(0, 100), new String[] { "name", "uri" }));
+		Assert.assertNotNull(client.getCatalogs(new RestPageRequest(0, 100), new String[] { "name" }));
+		Assert.assertNotNull(client.getNotifications(new RestPageRequest(0, 100), new String[] { "title" }));
+
+		for (String[] fields : new String[][] { { "bogus" }, { "name", "tags", "bogus" } }) {
+			try {
+				client.getSolutions(pageRequest, fields);
+				throw new Exception("Unexpected success");
+			} catch (HttpStatusCodeException ex) {
+				logger.info("getSolutions failed on bad field as expected: {}", ex.getResponseBodyAsString());
+			}
+		}
+		try {
+			client.getUsers(new RestPageRequest(0, 100), new String[] { "loginHash" });
+			throw new Exception("Unexpected success");
+		} catch (HttpStatusCodeException ex) {
+			logger.info("getUsers failed on hash field as expected: {}", ex.getResponseBodyAsString());
+		}
+
+		client.deleteSolution(cs.getSolutionId());
+		client.deleteTag(new MLPTag("fieldstag"));
+		client.deleteUser(cu.getUserId());
+	}
+
+	@Test
+	public void testTagBatchFetch() throws Exception {
+		MLPUser cu = client.createUser(new MLPUser("batchtaguser", "batchtaguser@abc.com", true));
+		final int count = 4;
+		List<MLPSolution> solutions = new ArrayList<>();
+		List<MLPUser> users = new ArrayList<>();
+		for (int i = 0; i < count; ++i) {
+			MLPSolution cs = client.createSolution(new MLPSolution("batch tag sol " + i, cu.getUserId(), true));
+			client.addSolutionTag(cs.getSolutionId(), "batchtag" + i);
+			solutions.add(cs);
+			MLPUser au = client.createUser(new MLPUser("batchtaguser" + i, "batchtaguser" + i + "@abc.com", true));
+			client.addUserTag(au.getUserId(), "batchtag" + i);
+			users.add(au);
+		}
+		MLPSolution accessSol = solutions.get(0);
+		client.addSolutionUserAccess(accessSol.getSolutionId(), users.get(0).getUserId());
+
+		// Tags of a page of solutions are read in one statement, whatever the page size
+		Map<String, Object> queryParameters = new HashMap<>();
+		queryParameters.put("userId", cu.getUserId());
+		List<Integer> statementCounts = new ArrayList<>();
+		for (int size : new int[] { 1, count }) {
+			SqlStatementRecorder.start();
+			RestPageResponse<MLPSolution> page = client.searchSolutions(queryParameters, false,
+					new RestPageRequest(0, size));
+			List<String> statements = SqlStatementRecorder.stop();
+			Assert.assertEquals(size, page.getNumberOfElements());
+			for (MLPSolution sol : page)
+				Assert.assertEquals(1, sol.getTags().size());
+			Assert.assertEquals(1, countStatements(statements, "C_SOL_TAG_MAP"));
+			statementCounts.add(statements.size());
+		}
+		Assert.assertEquals(statementCounts.get(0), statementCounts.get(1));
+
+		// Likewise for a list of users
+		for (int i = 1; i < count; ++i)
+			client.addSolutionUserAccess(accessSol.getSolutionId(), users.get(i).getUserId());
+		SqlStatementRecorder.start();
+		List<MLPUser> accessUsers = client.getSolutionAccessUsers(accessSol.getSolutionId());
+		List<String> statements = SqlStatementRecorder.stop();
+		Assert.assertEquals(count, accessUsers.size());
+		for (MLPUser user : accessUsers)
+			Assert.assertEquals(1, user.getTags().size());
+		Assert.assertEquals(1, countStatements(statements, "C_USER_TAG_MAP"));
+
+		for (int i = 0; i < count; ++i) {
+			String userId = users.get(i).getUserId();
+			client.dropSolutionUserAccess(accessSol.getSolutionId(), userId);
+			client.dropUserTag(userId, "batchtag" + i);
+			client.deleteUser(userId);
+		}
+		for (MLPSolution sol : solutions)
+			client.deleteSolution(sol.getSolutionId());
+		for (int i = 0; i < count; ++i)
+			client.deleteTag(new MLPTag("batchtag" + i));
+		client.deleteUser(cu.getUserId());
+	}
+
+	private static int countStatements(List<String> statements, String table) {
+		int count = 0;
+		for (String sql : statements)
+			if (sql.toUpperCase().contains(table))
+				++count;
+		return count;
+	}
+
+	@Test
+	public void testPurgeSolution() throws Exception {
+		MLPUser cu = client.createUser(new MLPUser("purgeuser", "purgeuser@abc.com", true));
+		MLPSolution cs1 = client.createSolution(new MLPSolution("purge sol 1", cu.getUserId(), true));
+		MLPSolution cs2 = client.createSolution(new MLPSolution("purge sol 2", cu.getUserId(), true));
+		MLPSolutionRevision cr1 = client
+				.createSolutionRevision(new MLPSolutionRevision(cs1.getSolutionId(), "1.0", cu.getUserId(), "PB"));
+		MLPSolutionRevision cr2 = client
+				.createSolutionRevision(new MLPSolutionRevision(cs2.getSolutionId(), "1.0", cu.getUserId(), "PB"));
+		client.createRevisionDescription(new MLPRevisionDescription(cr1.getRevisionId(), "PB", "purge descr"));
+		MLPArtifact own = client.createArtifact(
+				new MLPArtifact("1.0", "DI", "own artifact", "http://nexus/own", cu.getUserId(), 1));
+		MLPArtifact shared = client.createArtifact(
+				new MLPArtifact("1.0", "DI", "shared artifact", "http://nexus/shared", cu.getUserId(), 1));
+		client.addSolutionRevisionArtifact(cs1.getSolutionId(), cr1.getRevisionId(), own.getArtifactId());
+		client.addSolutionRevisionArtifact(cs1.getSolutionId(), cr1.getRevisionId(), shared.getArtifactId());
+		client.addSolutionRevisionArtifact(cs2.getSolutionId(), cr2.getRevisionId(), shared.getArtifactId());
+		MLPDocument doc = client.createDocument(new MLPDocument("purge doc", "http://doc", 100, cu.getUserId()));
+		client.addSolutionRevisionDocument(cr1.getRevisionId(), "PB", doc.getDocumentId());
+		client.createSolutionRating(new MLPSolutionRating(cs1.getSolutionId(), cu.getUserId(), 4));
+		client.addSolutionTag(cs1.getSolutionId(), "purgetag");
+
+		// Delete in the background and poll
+		PurgeTaskTransport task = client.purgeSolution(cs1.getSolutionId());
+		Assert.assertNotNull(task.getTaskId());
+		for (int i = 0; i < 100 && "ST".equals(task.getStatusCode()); ++i) {
+			Thread.sleep(100);
+			task = client.getPurgeTask(task.getTaskId());
+		}
+		Assert.assertEquals("SU", task.getStatusCode());
+		Assert.assertNull(client.getSolution(cs1.getSolutionId()));
+		Assert.assertNull(client.getArtifact(own.getArtifactId()));
+		Assert.assertNull(client.getDocument(doc.getDocumentId()));
+		// Still used by the other solution
+		Assert.assertNotNull(client.getArtifact(shared.getArtifactId()));
+		Assert.assertNull(client.getPurgeTask("bogus"));
+		try {
+			client.purgeSolution(cs1.getSolutionId());
+			throw new Exception("Unexpected success");
+		} catch (HttpStatusCodeException ex) {
+			logger.info("Purge of missing solution failed as expected: {}", ex.getResponseBodyAsString());
+		}
+
+		client.deleteSolution(cs2.getSolutionId());
+		Assert.assertNull(client.getArtifact(shared.getArtifactId()));
+		client.deleteUser(cu.getUserId());
+	}
+
 	@Test
 	public void testErrorConditions() throws Exception {
 
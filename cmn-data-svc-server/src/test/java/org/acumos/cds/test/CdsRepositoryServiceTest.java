@@ -29,6 +29,7 @@
 import javax.validation.ConstraintViolationException;
 
 import org.acumos.cds.CodeNameType;
+import org.acumos.cds.CountMode;
 import org.acumos.cds.domain.MLPArtifact;
 import org.acumos.cds.domain.MLPCatSolMap;
 import org.acumos.cds.domain.MLPCatalog;
@@ -80,6 +81,7 @@
 import org.acumos.cds.domain.MLPUserNotifPref;
 import org.acumos.cds.domain.MLPUserNotification;
 import org.acumos.cds.domain.MLPUserRoleMap;
+import org.acumos.cds.domain.MLPUserSummary;
 import org.acumos.cds.repository.ArtifactRepository;
 import org.acumos.cds.repository.CatSolMapRepository;
 import org.acumos.cds.repository.CatalogRepository;
@@ -134,6 +136,8 @@
 import org.acumos.cds.service.PublishRequestSearchService;
 import org.acumos.cds.service.RoleSearchService;
 import org.acumos.cds.service.SolutionSearchService;
+import org.acumos.cds.service.SolutionStatsService;
+import org.acumos.cds.service.SolutionViewCountService;
 import org.acumos.cds.service.StepResultSearchService;
 import org.acumos.cds.service.UserSearchService;
 import org.acumos.cds.transport.AuthorTransport;
@@ -220,6 +224,10 @@ public class CdsRepositoryServiceTest {
 	@Autowired
 	private SolutionSearchService solutionSearchService;
 	@Autowired
+	private SolutionStatsService solutionStatsService;
+	@Autowired
+	private SolutionViewCountService solutionViewCountService;
+	@Autowired
 	private UserSearchService userSearchService;
 	@Autowired
 	private TaskStepResultRepository stepResultRepository;
@@ -320,16 +328,16 @@ public void testRepositories() throws Exception {
 			Assert.assertEquals(changedCreate, cu.getCreated());
 
 			// Fetch it back
-			Page<MLPUser> userPage = userSearchService.findUsers(firstName, null, lastName, null, null, null, null,
-					false, PageRequest.of(0, 5));
+			Page<MLPUserSummary> userPage = userSearchService.findUsers(firstName, null, lastName, null, null, null,
+					null, false, PageRequest.of(0, 5), CountMode.EXACT);
 			Assert.assertNotEquals(0, userPage.getNumberOfElements());
-			MLPUser testUser = userPage.iterator().next();
+			MLPUserSummary testUser = userPage.iterator().next();
 			logger.info("testUser is " + testUser);
 			logger.info("cu.getUserID is " + cu.getUserId());
 
 			// Test search with every argument and empty result
-			Page<MLPUser> emptySteps = userSearchService.findUsers("bogus", "bogus", "bogus", "bogus", "bogus", "bogus",
-					Boolean.TRUE, false, PageRequest.of(0, 5));
+			Page<MLPUserSummary> emptySteps = userSearchService.findUsers("bogus", "bogus", "bogus", "bogus", "bogus",
+					"bogus", Boolean.TRUE, false, PageRequest.of(0, 5), CountMode.EXACT);
 			Assert.assertTrue(emptySteps.isEmpty());
 
 			MLPNotification notif = null;
@@ -383,12 +391,12 @@ public void testRepositories() throws Exception {
 
 			// Fetch back
 			Page<MLPPeer> searchPeers = peerSearchService.findPeers(pr.getName(), null, null, null, null, null, null,
-					false, PageRequest.of(0, 5));
+					false, PageRequest.of(0, 5), CountMode.EXACT);
 			Assert.assertEquals(1, searchPeers.getNumberOfElements());
 
 			// Test search with empty result
 			Page<MLPPeer> emptyPeers = peerSearchService.findPeers("bogus", "bogus", "bogus", "bogus", "bogus", "bogus",
-					null, false, PageRequest.of(0, 5));
+					null, false, PageRequest.of(0, 5), CountMode.EXACT);
 			Assert.assertTrue(emptyPeers.isEmpty());
 
 			MLPPeerSubscription ps = new MLPPeerSubscription(pr.getPeerId(), cu.getUserId(), "FL", "PB");
@@ -418,7 +426,8 @@ public void testRepositories() throws Exception {
 			Assert.assertNotEquals(0, count);
 			logger.info("Role count: {}", count);
 
-			Page<MLPRole> searchRoles = roleSearchService.findRoles(cr2.getName(), null, false, PageRequest.of(0, 5));
+			Page<MLPRole> searchRoles = roleSearchService.findRoles(cr2.getName(), null, false, PageRequest.of(0, 5),
+					CountMode.EXACT);
 			Assert.assertEquals(1, searchRoles.getNumberOfElements());
 
 			MLPRoleFunction crf = new MLPRoleFunction();
@@ -480,12 +489,12 @@ public void testRepositories() throws Exception {
 
 			// Fetch artifact back
 			Page<MLPArtifact> searchArts = artifactSearchService.findArtifacts(null, ca.getName(), null, null, null,
-					false, PageRequest.of(0, 5));
+					false, PageRequest.of(0, 5), CountMode.EXACT);
 			Assert.assertEquals(1, searchArts.getNumberOfElements());
 
 			// Test search with empty result
 			Page<MLPArtifact> emptyArts = artifactSearchService.findArtifacts("bogus", "bogus", "bogus", "bogus",
-					"bogus", false, PageRequest.of(0, 5));
+					"bogus", false, PageRequest.of(0, 5), CountMode.EXACT);
 			Assert.assertTrue(emptyArts.isEmpty());
 
 			MLPTag solTag1 = new MLPTag("soltag1");
@@ -533,7 +542,7 @@ public void testRepositories() throws Exception {
 			// Limit to one result, which helps detect Hibernate issues
 			// of creating a cross-product when it should not
 			Page<MLPSolution> searchSols = solutionSearchService.searchSolutions(solName, null, null, null, null, null,
-					null, false, PageRequest.of(0, 5));
+					null, false, PageRequest.of(0, 5), CountMode.EXACT);
 			// Ensure a single result; had a bug with dupes due to tags
 			Assert.assertEquals(1, searchSols.getContent().size());
 			// Ensure both tags were retrieved
@@ -576,20 +585,20 @@ public void testRepositories() throws Exception {
 			String[] searchPubs = { "Data" };
 			Page<MLPSolution> portalSearchResult = solutionSearchService.findPortalSolutions(solKw, descKw, active,
 					userIds, modelTypeCodes, accTypeCodes, searchTags, searchAuths, searchPubs,
-					PageRequest.of(0, 2, Direction.ASC, "name"));
+					PageRequest.of(0, 2, Direction.ASC, "name"), CountMode.EXACT);
 			Assert.assertEquals(1, portalSearchResult.getNumberOfElements());
 			logger.info("Found portal solution total " + portalSearchResult.getTotalElements());
 
 			logger.info("Check that one tag yields multiple matches");
 			Page<MLPSolution> oneTagSearchResult = solutionSearchService.findPortalSolutions(null, null, active, null,
-					null, null, searchTags, null, null, PageRequest.of(0, 5));
+					null, null, searchTags, null, null, PageRequest.of(0, 5), CountMode.EXACT);
 			Assert.assertEquals(2, oneTagSearchResult.getNumberOfElements());
 
 			String[] ids = { cs.getSolutionId() };
 			String[] catIds = { ca1.getCatalogId() };
 			Page<MLPSolution> idSearchResult = solutionSearchService.findPortalSolutionsByKwAndTags(ids, active,
 					userIds, modelTypeCodes, accTypeCodes, searchTags, null, catIds,
-					PageRequest.of(0, 2, Direction.ASC, "name"));
+					PageRequest.of(0, 2, Direction.ASC, "name"), CountMode.EXACT);
 			Assert.assertEquals(1, idSearchResult.getNumberOfElements());
 			logger.info("Found models by id total " + idSearchResult.getTotalElements());
 
@@ -597,25 +606,60 @@ public void testRepositories() throws Exception {
 			String[] allTags = new String[] { solTag1.getTag() };
 			String[] anyTags = new String[] { solTag2.getTag(), "other" };
 			Page<MLPSolution> allAnyTagsSearchResult = solutionSearchService.findPortalSolutionsByKwAndTags(null,
-					active, userIds, modelTypeCodes, accTypeCodes, allTags, anyTags, null, PageRequest.of(0, 5));
+					active, userIds, modelTypeCodes, accTypeCodes, allTags, anyTags, null, PageRequest.of(0, 5),
+					CountMode.EXACT);
 			Assert.assertNotEquals(0, allAnyTagsSearchResult.getNumberOfElements());
 			MLPSolution taggedSol = allAnyTagsSearchResult.getContent().get(0);
 			Assert.assertTrue(taggedSol.getTags().contains(solTag1) && taggedSol.getTags().contains(solTag2));
 
+			logger.info("Check all tags follows tag changes");
+			String[] bothTags = new String[] { solTag1.getTag(), solTag2.getTag() };
+			Assert.assertEquals(1, solutionSearchService.findPortalSolutionsByKwAndTags(null, active, userIds, null,
+					null, bothTags, null, null, PageRequest.of(0, 5), CountMode.EXACT).getTotalElements());
+			MLPSolTagMap cs2Tag2 = solTagMapRepository.save(new MLPSolTagMap(cs2.getSolutionId(), solTag2.getTag()));
+			Assert.assertEquals(2, solutionSearchService.findPortalSolutionsByKwAndTags(null, active, userIds, null,
+					null, bothTags, null, null, PageRequest.of(0, 5), CountMode.EXACT).getTotalElements());
+			solTagMapRepository.delete(cs2Tag2);
+			Assert.assertEquals(1, solutionSearchService.findPortalSolutionsByKwAndTags(null, active, userIds, null,
+					null, bothTags, null, null, PageRequest.of(0, 5), CountMode.EXACT).getTotalElements());
+			String[] noSuchTag = new String[] { solTag1.getTag(), "no-such-tag" };
+			Assert.assertEquals(0, solutionSearchService.findPortalSolutionsByKwAndTags(null, active, userIds, null,
+					null, noSuchTag, null, null, PageRequest.of(0, 5), CountMode.EXACT).getTotalElements());
+
 			String[] kw = { "Big", "Data" };
 			Page<MLPSolution> kwSearchResult = solutionSearchService.findPortalSolutionsByKwAndTags(kw, active, userIds,
-					modelTypeCodes, accTypeCodes, searchTags, null, null, PageRequest.of(0, 2, Direction.ASC, "name"));
+					modelTypeCodes, accTypeCodes, searchTags, null, null, PageRequest.of(0, 2, Direction.ASC, "name"),
+					CountMode.EXACT);
 			Assert.assertNotEquals(0, kwSearchResult.getNumberOfElements());
 			logger.info("Found models by kw total " + kwSearchResult.getTotalElements());
 
+			logger.info("Check keyword prefix match on description");
+			String[] descPrefixKw = { "sill" };
+			Page<MLPSolution> descKwSearchResult = solutionSearchService.findPortalSolutionsByKwAndTags(descPrefixKw,
+					active, null, null, null, null, null, null, PageRequest.of(0, 5), CountMode.EXACT);
+			Assert.assertEquals(1, descKwSearchResult.getNumberOfElements());
+			Assert.assertEquals(cs.getSolutionId(), descKwSearchResult.getContent().get(0).getSolutionId());
+
+			logger.info("Check keyword index follows description changes");
+			String[] newDescKw = { "gander" };
+			Assert.assertEquals(0, solutionSearchService.findPortalSolutionsByKwAndTags(newDescKw, active, null, null,
+					null, null, null, null, PageRequest.of(0, 5), CountMode.EXACT).getNumberOfElements());
+			MLPRevisionDescription revDesc2 = revisionDescRepository
+					.save(new MLPRevisionDescription(rev2.getRevisionId(), "PB", "Sauce for the gander"));
+			Page<MLPSolution> newDescKwSearchResult = solutionSearchService.findPortalSolutionsByKwAndTags(newDescKw,
+					active, null, null, null, null, null, null, PageRequest.of(0, 5), CountMode.EXACT);
+			Assert.assertEquals(1, newDescKwSearchResult.getNumberOfElements());
+			Assert.assertEquals(cs2.getSolutionId(), newDescKwSearchResult.getContent().get(0).getSolutionId());
+			revisionDescRepository.delete(revDesc2);
+
 			Page<MLPSolution> userSearchResult = solutionSearchService.findUserSolutions(null, null, active,
-					cu.getUserId(), null, null, null, PageRequest.of(0, 2, Direction.ASC, "name"));
+					cu.getUserId(), null, null, null, PageRequest.of(0, 2, Direction.ASC, "name"), CountMode.EXACT);
 			Assert.assertNotEquals(0, userSearchResult.getNumberOfElements());
 			logger.info("Found models by user total " + userSearchResult.getTotalElements());
 
 			Page<MLPSolution> userKwSearchResult = solutionSearchService.findUserSolutions(solKw, descKw, active,
 					cu.getUserId(), modelTypeCodes, accTypeCodes, searchTags,
-					PageRequest.of(0, 2, Direction.ASC, "name"));
+					PageRequest.of(0, 2, Direction.ASC, "name"), CountMode.EXACT);
 			Assert.assertNotEquals(0, userKwSearchResult.getNumberOfElements());
 			logger.info("Found models by user total " + userKwSearchResult.getTotalElements());
 
@@ -674,7 +718,7 @@ public void testRepositories() throws Exception {
 			String[] accTypes = new String[] { "PR" };
 			Instant modifiedTs = Instant.now().minusSeconds(60);
 			Page<MLPSolution> solsByDate = solutionSearchService.findSolutionsByModifiedDate(true, accTypes, modifiedTs,
-					PageRequest.of(0, 5));
+					PageRequest.of(0, 5), CountMode.EXACT);
 			Assert.assertNotNull(solsByDate);
 			Assert.assertNotEquals(0, solsByDate.getNumberOfElements());
 			logger.info("Found sols by date {}", solsByDate);
@@ -690,7 +734,7 @@ public void testRepositories() throws Exception {
 			ca = artifactRepository.save(ca);
 			Assert.assertNotEquals(beforeUpdateTs, ca.getModified());
 			Page<MLPSolution> recentlyUpdated = solutionSearchService.findSolutionsByModifiedDate(true, accTypes,
-					beforeUpdateTs, PageRequest.of(0, 5));
+					beforeUpdateTs, PageRequest.of(0, 5), CountMode.EXACT);
 			Assert.assertNotNull(recentlyUpdated);
 			Assert.assertNotEquals(0, recentlyUpdated.getNumberOfElements());
 			Assert.assertTrue(recentlyUpdated.getContent().contains(cs));
@@ -724,6 +768,14 @@ public void testRepositories() throws Exception {
 					PageRequest.of(0, 5));
 			logger.info("SolutionRatingRepository list: {}", solrating);
 
+			// Rows saved directly bypass the statistics, which the job repairs
+			Assert.assertNotEquals(0, solutionStatsService.reconcile());
+			MLPSolution solWithStats = solutionRepository.findById(cs.getSolutionId()).get();
+			Assert.assertEquals(Long.valueOf(downloadCount), solWithStats.getDownloadCount());
+			Assert.assertEquals(Long.valueOf(1), solWithStats.getRatingCount());
+			Assert.assertEquals(Long.valueOf(20), solWithStats.getRatingAverageTenths());
+			Assert.assertEquals(0, solutionStatsService.reconcile());
+
 			logger.info("Creating solution tag");
 			MLPTag tag1 = new MLPTag("Java");
 			tag1 = tagRepository.save(tag1);
@@ -765,7 +817,7 @@ public void testRepositories() throws Exception {
 			String[] accessTypes = new String[] { "PR" };
 			Instant anHourAgo = Instant.now().minusSeconds(60 * 60);
 			Page<MLPSolution> solByCriteria = solutionSearchService.findSolutionsByModifiedDate(true, accessTypes,
-					anHourAgo, PageRequest.of(0, 5));
+					anHourAgo, PageRequest.of(0, 5), CountMode.EXACT);
 			logger.info("Solutions by date: {}", solByCriteria);
 			Assert.assertFalse(solByCriteria.getContent().isEmpty());
 
@@ -830,12 +882,12 @@ public void testRepositories() throws Exception {
 			logger.info("First publish request {}", optPubReq.get());
 
 			Page<MLPPublishRequest> pubReqPage = publishRequestSearchService.findPublishRequests(cs.getSolutionId(),
-					null, null, null, null, false, PageRequest.of(0, 5));
+					null, null, null, null, false, PageRequest.of(0, 5), CountMode.EXACT);
 			Assert.assertNotEquals(0, pubReqPage.getNumberOfElements());
 
 			// Test search with empty result
 			Page<MLPPublishRequest> emptyPubReqs = publishRequestSearchService.findPublishRequests("bogus", "bogus",
-					"bogus", "bogus", "bogus", false, PageRequest.of(0, 5));
+					"bogus", "bogus", "bogus", false, PageRequest.of(0, 5), CountMode.EXACT);
 			Assert.assertTrue(emptyPubReqs.isEmpty());
 
 			publishRequestRepository.deleteById(pubReq.getRequestId());
@@ -940,8 +992,8 @@ public void createSolutionWithArtifacts() throws Exception {
 
 			// Fetch it back
 			logger.info("Searching for user by exact match");
-			Page<MLPUser> userPage = userSearchService.findUsers(firstName, null, lastName, null, null, null, null,
-					false, PageRequest.of(0, 5));
+			Page<MLPUserSummary> userPage = userSearchService.findUsers(firstName, null, lastName, null, null, null,
+					null, false, PageRequest.of(0, 5), CountMode.EXACT);
 			Assert.assertEquals(1, userPage.getNumberOfElements());
 
 			MLPUserLoginProvider ulp = new MLPUserLoginProvider();
@@ -1018,6 +1070,17 @@ public void createSolutionWithArtifacts() throws Exception {
 			logger.info("Solution view count after: " + countAfter);
 			Assert.assertNotEquals(countBefore, countAfter);
 
+			// Buffered views reach the database on flush
+			Assert.assertFalse(solutionViewCountService.increment("bogus"));
+			for (int i = 0; i < 3; ++i)
+				Assert.assertTrue(solutionViewCountService.increment(cs.getSolutionId()));
+			Assert.assertTrue(solutionViewCountService.getPending() >= solutionViewCountService
+					.getPending(cs.getSolutionId()));
+			solutionViewCountService.flush();
+			Assert.assertEquals(0, solutionViewCountService.getPending(cs.getSolutionId()));
+			Assert.assertEquals(Long.valueOf(countAfter + 3),
+					solutionRepository.findById(cs.getSolutionId()).get().getViewCount());
+
 			// add tag
 			MLPSolTagMap solTagMap1 = new MLPSolTagMap(cs.getSolutionId(), tag1.getTag());
 			solTagMapRepository.save(solTagMap1);
@@ -1216,10 +1279,11 @@ public void testRoleAndFunctions() throws Exception {
 
 			logger.info("Searching for role");
 			Page<MLPRole> searchRoles = roleSearchService.findRoles(cr.getName(), Boolean.TRUE, false,
-					PageRequest.of(0, 5));
+					PageRequest.of(0, 5), CountMode.EXACT);
 			Assert.assertEquals(1, searchRoles.getNumberOfElements());
 
-			Page<MLPRole> emptyRoles = roleSearchService.findRoles("bogus", Boolean.TRUE, false, PageRequest.of(0, 5));
+			Page<MLPRole> emptyRoles = roleSearchService.findRoles("bogus", Boolean.TRUE, false, PageRequest.of(0, 5),
+					CountMode.EXACT);
 			Assert.assertTrue(emptyRoles.isEmpty());
 
 			logger.info("Assigning role to user");
@@ -1379,12 +1443,12 @@ public void testTaskStepResults() throws Exception {
 			Assert.assertTrue(steps.iterator().hasNext());
 
 			Page<MLPTaskStepResult> page = stepResultSearchService.findStepResults(null, null, statusCode, false,
-					PageRequest.of(0, 5));
+					PageRequest.of(0, 5), CountMode.EXACT);
 			Assert.assertNotEquals(0, page.getNumberOfElements());
 
 			// Test search with empty result
 			Page<MLPTaskStepResult> emptySteps = stepResultSearchService.findStepResults(0L, "bogus", "bogus", false,
-					PageRequest.of(0, 5));
+					PageRequest.of(0, 5), CountMode.EXACT);
 			Assert.assertTrue(emptySteps.isEmpty());
 
 			sr.setResult("New stack trace");
@@ -1675,37 +1739,41 @@ public void testCodeNameService() {
 	@Test
 	public void testErrorConditions() throws Exception {
 		try {
-			artifactSearchService.findArtifacts(null, null, null, null, null, false, PageRequest.of(0, 5));
+			artifactSearchService.findArtifacts(null, null, null, null, null, false, PageRequest.of(0, 5),
+					CountMode.EXACT);
 			throw new Exception("Unexpected success");
 		} catch (IllegalArgumentException ex) {
 			logger.info("Search failed on missing query as expected: {}", ex.toString());
 		}
 		try {
-			peerSearchService.findPeers(null, null, null, null, null, null, null, false, PageRequest.of(0, 5));
+			peerSearchService.findPeers(null, null, null, null, null, null, null, false, PageRequest.of(0, 5),
+					CountMode.EXACT);
 			throw new Exception("Unexpected success");
 		} catch (IllegalArgumentException ex) {
 			logger.info("Search failed on missing query as expected: {}", ex.toString());
 		}
 		try {
-			publishRequestSearchService.findPublishRequests(null, null, null, null, null, false, PageRequest.of(0, 5));
+			publishRequestSearchService.findPublishRequests(null, null, null, null, null, false, PageRequest.of(0, 5),
+					CountMode.EXACT);
 			throw new Exception("Unexpected success");
 		} catch (IllegalArgumentException ex) {
 			logger.info("Search failed on missing query as expected: {}", ex.toString());
 		}
 		try {
-			roleSearchService.findRoles(null, null, false, PageRequest.of(0, 5));
+			roleSearchService.findRoles(null, null, false, PageRequest.of(0, 5), CountMode.EXACT);
 			throw new Exception("Unexpected success");
 		} catch (IllegalArgumentException ex) {
 			logger.info("Search failed on missing query as expected: {}", ex.toString());
 		}
 		try {
-			stepResultSearchService.findStepResults(null, null, null, false, PageRequest.of(0, 5));
+			stepResultSearchService.findStepResults(null, null, null, false, PageRequest.of(0, 5), CountMode.EXACT);
 			throw new Exception("Unexpected success");
 		} catch (IllegalArgumentException ex) {
 			logger.info("Search failed on missing query as expected: {}", ex.toString());
 		}
 		try {
-			userSearchService.findUsers(null, null, null, null, null, null, null, false, PageRequest.of(0, 5));
+			userSearchService.findUsers(null, null, null, null, null, null, null, false, PageRequest.of(0, 5),
+					CountMode.EXACT);
 			throw new Exception("Unexpected success");
 		} catch (IllegalArgumentException ex) {
 			logger.info("Search failed on missing query as expected: {}", ex.toString());
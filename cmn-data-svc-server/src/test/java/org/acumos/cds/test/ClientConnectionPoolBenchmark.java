@@ -0,0 +1,169 @@
+/*-
+ * ===============LICENSE_START=======================================================
+ * Acumos
+ * ===================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property & Tech Mahindra. All rights reserved.
+ * ===================================================================================
+ * This Acumos software file is distributed by AT&T and Tech Mahindra
+ * under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ===============LICENSE_END=========================================================
+ */
+
+package org.acumos.cds.test;
+
+import java.lang.invoke.MethodHandles;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.acumos.cds.client.CommonDataServiceRestClientImpl;
+import org.acumos.cds.client.HttpClientConfig;
+import org.acumos.cds.domain.MLPSolution;
+import org.acumos.cds.domain.MLPUser;
+import org.acumos.cds.transport.RestPageRequest;
+import org.apache.http.pool.PoolStats;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.test.context.junit4.SpringRunner;
+
+/**
+ * Compares the throughput of one client instance shared by many threads, with
+ * the connection settings that HttpClientBuilder used by default (two
+ * connections per route, no timeouts) and with the default
+ * {@link HttpClientConfig}. Reports requests per second and the peak number of
+ * connections in use and of requests waiting for one. The name does not match
+ * the test pattern, so the default build skips it; run it with:
+ * 
+ * <PRE>
+ * mvn test -Dtest=ClientConnectionPoolBenchmark
+ * </PRE>
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT, properties = { "cds.search.cache.max-weight=0" })
+public class ClientConnectionPoolBenchmark {
+
+	private static final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+	private static final int SOLUTIONS = 50;
+	private static final int THREADS = 32;
+	private static final int WARMUP = 10;
+	private static final int REQUESTS_PER_THREAD = 100;
+
+	@Value("${server.servlet.context-path}")
+	private String contextPath;
+	@Value("${spring.security.user.name}")
+	private String userName;
+	@Value("${spring.security.user.password}")
+	private String password;
+	@LocalServerPort
+	private int port;
+
+	@Test
+	public void compareConnectionPools() throws Exception {
+		String url = new URL("http", "localhost", port, contextPath).toString();
+
+		HttpClientConfig legacy = new HttpClientConfig();
+		legacy.setMaxConnectionsTotal(20);
+		legacy.setMaxConnectionsPerRoute(2);
+		legacy.setKeepAliveMs(0);
+		legacy.setIdleEvictionMs(0);
+		legacy.setConnectTimeoutMs(0);
+		legacy.setConnectionRequestTimeoutMs(0);
+		legacy.setSocketTimeoutMs(0);
+		HttpClientConfig tuned = new HttpClientConfig();
+
+		try (CommonDataServiceRestClientImpl legacyClient = new CommonDataServiceRestClientImpl(url, userName,
+				password, null, legacy);
+				CommonDataServiceRestClientImpl tunedClient = new CommonDataServiceRestClientImpl(url, userName,
+						password, null, tuned)) {
+			MLPUser cu = tunedClient.createUser(new MLPUser("pool_bench_user", "poolbench@abc.com", true));
+			List<MLPSolution> solutions = new ArrayList<>();
+			for (int i = 0; i < SOLUTIONS; ++i)
+				solutions.add(tunedClient.createSolution(new MLPSolution("pool bench " + i, cu.getUserId(), true)));
+
+			long[] legacyResult = measure(legacyClient);
+			long[] tunedResult = measure(tunedClient);
+			logger.info("Default HttpClientBuilder pool: {} requests/sec, peak {} leased, peak {} pending",
+					legacyResult[0], legacyResult[1], legacyResult[2]);
+			logger.info("HttpClientConfig defaults: {} requests/sec, peak {} leased, peak {} pending", tunedResult[0],
+					tunedResult[1], tunedResult[2]);
+			Assert.assertTrue(legacyResult[1] <= legacy.getMaxConnectionsPerRoute());
+			Assert.assertTrue(tunedResult[1] > legacy.getMaxConnectionsPerRoute());
+
+			for (MLPSolution s : solutions)
+				tunedClient.deleteSolution(s.getSolutionId());
+			tunedClient.deleteUser(cu.getUserId());
+		}
+	}
+
+	/**
+	 * Sends pages of solutions from many threads at once while sampling the pool.
+	 * 
+	 * @return Array with requests per second, and peak connections leased and
+	 *         requests pending.
+	 */
+	private long[] measure(CommonDataServiceRestClientImpl client) throws Exception {
+		final RestPageRequest page = new RestPageRequest(0, 20);
+		for (int i = 0; i < WARMUP; ++i)
+			client.getSolutions(page);
+		AtomicBoolean running = new AtomicBoolean(true);
+		AtomicInteger peakLeased = new AtomicInteger();
+		AtomicInteger peakPending = new AtomicInteger();
+		Thread sampler = new Thread(() -> {
+			while (running.get()) {
+				PoolStats stats = client.getConnectionPoolStats();
+				peakLeased.accumulateAndGet(stats.getLeased(), Math::max);
+				peakPending.accumulateAndGet(stats.getPending(), Math::max);
+				try {
+					Thread.sleep(5);
+				} catch (InterruptedException ex) {
+					return;
+				}
+			}
+		});
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		List<Callable<Void>> tasks = new ArrayList<>();
+		for (int t = 0; t < THREADS; ++t)
+			tasks.add(() -> {
+				for (int i = 0; i < REQUESTS_PER_THREAD; ++i)
+					client.getSolutions(page);
+				return null;
+			});
+		sampler.start();
+		long start = System.nanoTime();
+		try {
+			for (Future<Void> f : executor.invokeAll(tasks))
+				f.get();
+		} finally {
+			running.set(false);
+			executor.shutdown();
+		}
+		long elapsed = System.nanoTime() - start;
+		sampler.join();
+		long requests = (long) THREADS * REQUESTS_PER_THREAD;
+		return new long[] { requests * 1_000_000_000L / elapsed, peakLeased.get(), peakPending.get() };
+	}
+
+}
@@ -23,6 +23,7 @@
 import java.time.Instant;
 import java.util.List;
 
+import org.acumos.cds.CountMode;
 import org.acumos.cds.domain.MLPArtifact;
 import org.acumos.cds.domain.MLPDocument;
 import org.acumos.cds.domain.MLPRevisionDescription;
@@ -175,19 +176,19 @@ public void testEntities() throws Exception {
 
 		logger.info("Querying for FOM via findPortalSolutions method");
 		Page<MLPSolution> byName = solutionSearchService.findPortalSolutions(nameKw, empty, true, empty, empty,
-				accTypes, empty, empty, empty, pageable);
+				accTypes, empty, empty, empty, pageable, CountMode.EXACT);
 		Assert.assertTrue(byName != null && byName.getNumberOfElements() > 0);
 		logger.info("Found sols by name via criteria: size {}", byName.getContent().size());
 
 		Page<MLPSolution> solsByDate = solutionSearchService.findSolutionsByModifiedDate(true, accTypes, modifiedTs,
-				pageable);
+				pageable, CountMode.EXACT);
 		Assert.assertTrue(solsByDate != null && solsByDate.getNumberOfElements() > 0);
 		logger.info("Found sols by date via criteria: size {}", solsByDate.getContent().size());
 
 		// Find by user and Hibernate constraint - user2 owns no solutions but has
 		// access
 		Page<MLPSolution> byUser = solutionSearchService.findUserSolutions(nameKw, empty, true, cu2.getUserId(), empty,
-				empty, empty, pageable);
+				empty, empty, pageable, CountMode.EXACT);
 		Assert.assertTrue(byUser != null && byUser.getNumberOfElements() > 0);
 		logger.info("Found sols by user via criteria: size {}", byUser.getContent().size());
 
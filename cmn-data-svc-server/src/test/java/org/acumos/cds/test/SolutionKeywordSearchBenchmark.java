@@ -0,0 +1,223 @@
+/*-
+ * ===============LICENSE_START=======================================================
+ * Acumos
+ * ===================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property & Tech Mahindra. All rights reserved.
+ * ===================================================================================
+ * This Acumos software file is distributed by AT&T and Tech Mahindra
+ * under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ===============LICENSE_END=========================================================
+ */
+
+package org.acumos.cds.test;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.acumos.cds.CountMode;
+import org.acumos.cds.domain.MLPRevisionDescription;
+import org.acumos.cds.domain.MLPSolution;
+import org.acumos.cds.domain.MLPSolutionFOM;
+import org.acumos.cds.domain.MLPSolutionRevision;
+import org.acumos.cds.domain.MLPTag;
+import org.acumos.cds.domain.MLPUser;
+import org.acumos.cds.repository.RevisionDescriptionRepository;
+import org.acumos.cds.repository.SolutionRepository;
+import org.acumos.cds.repository.SolutionRevisionRepository;
+import org.acumos.cds.repository.TagRepository;
+import org.acumos.cds.repository.UserRepository;
+import org.acumos.cds.service.SolutionSearchService;
+import org.hibernate.Criteria;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.criterion.DetachedCriteria;
+import org.hibernate.criterion.Order;
+import org.hibernate.criterion.Projections;
+import org.hibernate.criterion.Restrictions;
+import org.hibernate.criterion.Subqueries;
+import org.hibernate.sql.JoinType;
+import org.hibernate.stat.Statistics;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Compares the database keyword and tag search, which runs one query in the
+ * caller's transaction, with the former implementation, which opened a second
+ * Hibernate session for a Criteria query and coalesced the complete result in
+ * memory. Reports the JDBC connections acquired and the mean latency per
+ * search. The name does not match the test pattern, so the default build skips
+ * it; run it with:
+ * 
+ * <PRE>
+ * mvn test -Dtest=SolutionKeywordSearchBenchmark
+ * </PRE>
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(properties = { "cds.search.index.enabled=false", "cds.search.cache.max-weight=0",
+		"spring.jpa.properties.hibernate.generate_statistics=true" })
+public class SolutionKeywordSearchBenchmark {
+
+	private static final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+	private static final int SOLUTIONS = 400;
+	private static final int WARMUP = 20;
+	private static final int ITERATIONS = 200;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+	@Autowired
+	private SolutionSearchService solutionSearchService;
+	@Autowired
+	private RevisionDescriptionRepository descriptionRepository;
+	@Autowired
+	private SolutionRepository solutionRepository;
+	@Autowired
+	private SolutionRevisionRepository revisionRepository;
+	@Autowired
+	private TagRepository tagRepository;
+	@Autowired
+	private UserRepository userRepository;
+
+	@Test
+	public void compareKeywordSearch() throws Exception {
+		MLPUser cu = userRepository.save(new MLPUser("bench_user", "benchuser@abc.com", true));
+		MLPTag tag = tagRepository.save(new MLPTag("benchtag"));
+		List<MLPSolution> solutions = new ArrayList<>();
+		List<MLPSolutionRevision> revisions = new ArrayList<>();
+		List<MLPRevisionDescription> descriptions = new ArrayList<>();
+		for (int i = 0; i < SOLUTIONS; ++i) {
+			MLPSolution cs = new MLPSolution(String.format("bench solution %04d", i), cu.getUserId(), true);
+			if (i % 2 == 0)
+				cs.getTags().add(tag);
+			cs = solutionRepository.save(cs);
+			solutions.add(cs);
+			// Two revisions with two descriptions each widen the cross product
+			for (String version : new String[] { "1.0", "2.0" }) {
+				MLPSolutionRevision cr = revisionRepository
+						.save(new MLPSolutionRevision(cs.getSolutionId(), version, cu.getUserId(), "PB"));
+				revisions.add(cr);
+				for (String access : new String[] { "OR", "PB" })
+					descriptions.add(descriptionRepository
+							.save(new MLPRevisionDescription(cr.getRevisionId(), access, "description")));
+			}
+		}
+
+		final String[] keywords = { "bench" };
+		final String[] anyTags = { tag.getTag() };
+		final Pageable pageable = PageRequest.of(3, 10, Sort.by("name"));
+		TransactionTemplate tx = new TransactionTemplate(transactionManager);
+		tx.setReadOnly(true);
+		Supplier<List<MLPSolution>> legacy = () -> tx
+				.execute(status -> legacySearch(keywords, anyTags, pageable));
+		Supplier<List<MLPSolution>> current = () -> solutionSearchService
+				.findPortalSolutionsByKwAndTags(keywords, true, null, null, null, null, anyTags, null, pageable,
+						CountMode.EXACT)
+				.getContent();
+
+		List<MLPSolution> legacyResult = legacy.get();
+		List<MLPSolution> currentResult = current.get();
+		Assert.assertEquals(pageable.getPageSize(), currentResult.size());
+		Assert.assertEquals(ids(legacyResult), ids(currentResult));
+
+		Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		long[] legacyCost = measure(stats, legacy);
+		long[] currentCost = measure(stats, current);
+		logger.info("Legacy search: {} connections, {} statements, {} usec per search", legacyCost[0],
+				legacyCost[1], legacyCost[2]);
+		logger.info("Current search: {} connections, {} statements, {} usec per search", currentCost[0],
+				currentCost[1], currentCost[2]);
+		Assert.assertTrue(currentCost[0] < legacyCost[0]);
+
+		descriptionRepository.deleteAll(descriptions);
+		revisionRepository.deleteAll(revisions);
+		solutionRepository.deleteAll(solutions);
+		tagRepository.delete(tag);
+		userRepository.delete(cu);
+	}
+
+	/**
+	 * Runs the search repeatedly.
+	 * 
+	 * @return Array with connections acquired and statements prepared per search,
+	 *         and mean latency in microseconds.
+	 */
+	private long[] measure(Statistics stats, Supplier<List<MLPSolution>> search) {
+		for (int i = 0; i < WARMUP; ++i)
+			search.get();
+		stats.clear();
+		long start = System.nanoTime();
+		for (int i = 0; i < ITERATIONS; ++i)
+			search.get();
+		long elapsed = System.nanoTime() - start;
+		return new long[] { stats.getConnectCount() / ITERATIONS, stats.getPrepareStatementCount() / ITERATIONS,
+				elapsed / ITERATIONS / 1000 };
+	}
+
+	private static List<String> ids(List<MLPSolution> solutions) {
+		List<String> ids = new ArrayList<>();
+		for (MLPSolution s : solutions)
+			ids.add(s.getSolutionId());
+		return ids;
+	}
+
+	/**
+	 * Reproduces the former implementation for the keyword and any-tag parameters.
+	 */
+	@SuppressWarnings({ "deprecation", "rawtypes" })
+	private List<MLPSolution> legacySearch(String[] keywords, String[] anyTags, Pageable pageable) {
+		try (Session session = entityManagerFactory.unwrap(SessionFactory.class).openSession()) {
+			Criteria criteria = session.createCriteria(MLPSolutionFOM.class, "sol");
+			criteria.add(Restrictions.eq("active", true));
+			criteria.createAlias("revisions", "revs");
+			criteria.createAlias("revs.descriptions", "descs", JoinType.LEFT_OUTER_JOIN);
+			criteria.add(Restrictions.disjunction() //
+					.add(Restrictions.like("name", '%' + keywords[0] + '%')) //
+					.add(Restrictions.like("revs.authors", '%' + keywords[0] + '%')) //
+					.add(Restrictions.like("revs.publisher", '%' + keywords[0] + '%')) //
+					.add(Restrictions.eq("solutionId", keywords[0])) //
+					.add(Restrictions.eq("revs.revisionId", keywords[0])));
+			DetachedCriteria anyTagsQuery = DetachedCriteria.forClass(MLPSolutionFOM.class, "subsol2")
+					.add(Restrictions.eqProperty("subsol2.id", "sol.id")) //
+					.createAlias("tags", "anytag") //
+					.add(Restrictions.in("anytag.tag", (Object[]) anyTags))
+					.setProjection(Projections.count("anytag.tag"));
+			criteria.add(Subqueries.lt(0L, anyTagsQuery));
+			criteria.addOrder(Order.asc("name"));
+			criteria.addOrder(Order.asc("solutionId"));
+			criteria.setResultTransformer(Criteria.DISTINCT_ROOT_ENTITY);
+			List foms = criteria.list();
+			List<MLPSolution> items = new ArrayList<>();
+			long limit = Math.min(pageable.getOffset() + pageable.getPageSize(), foms.size());
+			for (long i = pageable.getOffset(); i < limit; ++i)
+				items.add(((MLPSolutionFOM) foms.get((int) i)).toMLPSolution());
+			return items;
+		}
+	}
+
+}
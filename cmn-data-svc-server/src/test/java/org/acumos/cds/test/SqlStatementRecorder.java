@@ -0,0 +1,69 @@
+/*-
+ * ===============LICENSE_START=======================================================
+ * Acumos
+ * ===================================================================================
+ * Copyright (C) 2019 AT&T Intellectual Property & Tech Mahindra. All rights reserved.
+ * ===================================================================================
+ * This Acumos software file is distributed by AT&T and Tech Mahindra
+ * under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *  
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ * This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ===============LICENSE_END=========================================================
+ */
+
+package org.acumos.cds.test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Records the SQL statements that Hibernate prepares while recording is on, so
+ * tests can check what a request reads. Hibernate creates the instance from
+ * the property hibernate.session_factory.statement_inspector, so the state is
+ * static. Statements from all threads are recorded, including the server
+ * threads that answer the client.
+ */
+public class SqlStatementRecorder implements StatementInspector {
+
+	private static final long serialVersionUID = 1L;
+
+	private static final List<String> statements = new ArrayList<>();
+	private static boolean recording;
+
+	/**
+	 * Discards statements recorded earlier and starts recording.
+	 */
+	public static synchronized void start() {
+		statements.clear();
+		recording = true;
+	}
+
+	/**
+	 * Stops recording.
+	 * 
+	 * @return Statements recorded since the last start
+	 */
+	public static synchronized List<String> stop() {
+		recording = false;
+		return new ArrayList<>(statements);
+	}
+
+	@Override
+	public String inspect(String sql) {
+		synchronized (SqlStatementRecorder.class) {
+			if (recording)
+				statements.add(sql);
+		}
+		return sql;
+	}
+
+}